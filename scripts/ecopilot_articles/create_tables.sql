@@ -9,14 +9,14 @@ CREATE TABLE IF NOT EXISTS public.articles (
     Unite VARCHAR(50),
     Type VARCHAR(100),
     Expertise VARCHAR(100),
-    Fourniture VARCHAR(50),
-    Cadence VARCHAR(50),
-    Accessoires VARCHAR(50),
+    Fourniture NUMERIC(15,4),
+    Cadence NUMERIC(15,4),
+    Accessoires NUMERIC(15,4),
     Pertes VARCHAR(10),
-    PU VARCHAR(50),
-    Prix_Cible VARCHAR(50),
-    Prix_estime VARCHAR(50),
-    Prix_consulte VARCHAR(50),
+    PU NUMERIC(15,4),
+    Prix_Cible NUMERIC(15,4),
+    Prix_estime NUMERIC(15,4),
+    Prix_consulte NUMERIC(15,4),
     Rabais VARCHAR(10),
     Commentaires TEXT,
     "user" VARCHAR(255),
@@ -29,19 +29,22 @@ CREATE TABLE IF NOT EXISTS public.articles (
 -- 2. ARTICLES_SUPPRIME TABLE (Soft-deleted articles with deleted_by field)
 CREATE TABLE IF NOT EXISTS public.articles_supprime (
     ID SERIAL PRIMARY KEY,
-    Date DATE,
+    article_id INTEGER,
+    Date DATE NOT NULL,
+    article_date DATE,
+    article_created_at TIMESTAMP,
     nom_article VARCHAR(255),
     Unite VARCHAR(50),
     Type VARCHAR(100),
     Expertise VARCHAR(100),
-    Fourniture VARCHAR(50),
-    Cadence VARCHAR(50),
-    Accessoires VARCHAR(50),
+    Fourniture NUMERIC(15,4),
+    Cadence NUMERIC(15,4),
+    Accessoires NUMERIC(15,4),
     Pertes VARCHAR(10),
-    PU VARCHAR(50),
-    Prix_Cible VARCHAR(50),
-    Prix_estime VARCHAR(50),
-    Prix_consulte VARCHAR(50),
+    PU NUMERIC(15,4),
+    Prix_Cible NUMERIC(15,4),
+    Prix_estime NUMERIC(15,4),
+    Prix_consulte NUMERIC(15,4),
     Rabais VARCHAR(10),
     Commentaires TEXT,
     "user" VARCHAR(255),
@@ -64,7 +67,7 @@ CREATE TABLE IF NOT EXISTS public.pending_articles (
     Cadence NUMERIC(10,2) DEFAULT 0.00,
     Accessoires NUMERIC(10,2) DEFAULT 0.00,
     Pertes VARCHAR(10) DEFAULT '0%',
-    PU VARCHAR(50) NOT NULL,
+    PU NUMERIC(15,4) NOT NULL,
     Prix_Cible NUMERIC(10,2) DEFAULT 0.00,
     Prix_estime NUMERIC(10,2) DEFAULT 0.00,
     Prix_consulte NUMERIC(10,2) DEFAULT 0.00,
@@ -129,6 +132,29 @@ CREATE TABLE IF NOT EXISTS public.niveau_6 (
     id_niv_5 INTEGER REFERENCES public.niveau_5(id_niveau_5)
 );
 
+-- OUTBOX_EVENTS: evenements Kafka ecrits dans la transaction, publies par OutboxRelay
+CREATE TABLE IF NOT EXISTS public.outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    aggregate_key VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255),
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    parked_at TIMESTAMP
+);
+-- Seuls les evenements en attente, hors evenements ecartes, sont lus par le relais
+DROP INDEX IF EXISTS idx_outbox_events_unsent;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unsent ON public.outbox_events (id) WHERE sent_at IS NULL AND parked_at IS NULL;
+
+-- PENDING_STATUS_COUNT: propositions par statut, mises a jour a chaque transition (recomptees au demarrage d'article-service)
+CREATE TABLE IF NOT EXISTS public.pending_status_count (
+    status VARCHAR(50) PRIMARY KEY,
+    total BIGINT NOT NULL
+);
+
 -- FOREIGN KEY CONSTRAINTS (Only for hierarchical tables - no user/fournisseur FKs)
 ALTER TABLE public.articles ADD CONSTRAINT fk_articles_niveau6 FOREIGN KEY (id_niv_6) REFERENCES public.niveau_6(id_niveau_6);
 
@@ -136,3 +162,5 @@ ALTER TABLE public.articles_supprime ADD CONSTRAINT fk_articles_supprime_niveau6
 
 ALTER TABLE public.pending_articles ADD CONSTRAINT fk_pending_articles_niveau6 FOREIGN KEY (id_niv_6) REFERENCES public.niveau_6(id_niveau_6);
 ALTER TABLE public.pending_articles ADD CONSTRAINT fk_pending_articles_approved FOREIGN KEY (approved_article_id) REFERENCES public.articles(ID);
+-- Verification de la cle a la suppression d'articles, et detachement avant archivage en lot
+CREATE INDEX IF NOT EXISTS idx_pending_articles_approved_article ON public.pending_articles (approved_article_id);
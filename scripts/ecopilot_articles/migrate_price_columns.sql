@@ -0,0 +1,153 @@
+-- Migration en ligne des colonnes de prix texte vers NUMERIC(15,4)
+--   articles / articles_supprime : fourniture, cadence, accessoires, pu, prix_cible, prix_estime, prix_consulte
+--   pending_articles             : pu
+-- pertes et rabais restent en texte (pourcentages saisis avec leur unite, ex. '5%').
+--
+-- A lancer avec psql en autocommit (COMMIT par lot, CREATE INDEX CONCURRENTLY) :
+--   psql -d ecopilot_articles -f scripts/ecopilot_articles/migrate_price_columns.sql
+--
+-- Etapes 1 a 3 sans interruption de service (l'ancienne version continue d'ecrire le texte,
+-- un trigger tient les colonnes *_num a jour). L'etape 4 ne prend qu'un verrou court par table ;
+-- deployer la nouvelle version de article-service juste apres. L'etape 5 remet NOT NULL sur
+-- pending_articles.pu si toutes les lignes ont un prix. Le script est rejouable.
+
+-- 0. Conversion : memes regles que PriceValues (espaces et euro ignores, virgule decimale).
+--    NULL si la valeur est vide, non numerique ou hors de NUMERIC(15,4).
+CREATE OR REPLACE FUNCTION public.parse_price(raw text) RETURNS numeric
+LANGUAGE plpgsql IMMUTABLE AS $$
+DECLARE
+    cleaned text := replace(translate(coalesce(raw, ''), ' ' || chr(9) || chr(160) || chr(8239) || '€', ''), ',', '.');
+    parsed numeric;
+BEGIN
+    IF cleaned !~ '^[-+]?([0-9]+(\.[0-9]*)?|\.[0-9]+)$' THEN
+        RETURN NULL;
+    END IF;
+    parsed := cleaned::numeric;
+    IF abs(parsed) >= 1e11 THEN
+        RETURN NULL;
+    END IF;
+    RETURN round(parsed, 4);
+END $$;
+
+CREATE TABLE IF NOT EXISTS public.price_migration_issues (
+    table_name  VARCHAR(64)  NOT NULL,
+    row_id      BIGINT       NOT NULL,
+    column_name VARCHAR(64)  NOT NULL,
+    raw_value   TEXT,
+    noted_at    TIMESTAMP    DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (table_name, row_id, column_name)
+);
+
+-- 1. Colonnes cibles (ajout sans reecriture de table) et trigger de synchronisation
+CREATE OR REPLACE PROCEDURE public.prepare_price_columns(tbl text, cols text[])
+LANGUAGE plpgsql AS $$
+DECLARE
+    col text;
+    assignments text := '';
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = 'public' AND table_name = tbl AND column_name = cols[1]) = 'numeric' THEN
+        RAISE NOTICE '%: deja migree', tbl;
+        RETURN;
+    END IF;
+    FOREACH col IN ARRAY cols LOOP
+        EXECUTE format('ALTER TABLE public.%I ADD COLUMN IF NOT EXISTS %I NUMERIC(15,4)', tbl, col || '_num');
+        assignments := assignments || format('NEW.%I := public.parse_price(NEW.%I); ', col || '_num', col);
+    END LOOP;
+    EXECUTE format('CREATE OR REPLACE FUNCTION public.%I() RETURNS trigger LANGUAGE plpgsql AS $f$ BEGIN %s RETURN NEW; END $f$',
+                   tbl || '_price_sync', assignments);
+    EXECUTE format('DROP TRIGGER IF EXISTS %I ON public.%I', tbl || '_price_sync', tbl);
+    EXECUTE format('CREATE TRIGGER %I BEFORE INSERT OR UPDATE ON public.%I FOR EACH ROW EXECUTE FUNCTION public.%I()',
+                   tbl || '_price_sync', tbl, tbl || '_price_sync');
+END $$;
+
+-- 2. Remplissage par lots d'ids, une transaction par lot pour ne pas bloquer les ecritures
+CREATE OR REPLACE PROCEDURE public.backfill_price_columns(tbl text, cols text[], batch_size int DEFAULT 5000)
+LANGUAGE plpgsql AS $$
+DECLARE
+    col text;
+    assignments text;
+    max_id bigint;
+    from_id bigint := 0;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = 'public' AND table_name = tbl AND column_name = cols[1] || '_num') THEN
+        RETURN;
+    END IF;
+    SELECT string_agg(format('%I = public.parse_price(%I)', c || '_num', c), ', ') INTO assignments FROM unnest(cols) c;
+    EXECUTE format('SELECT coalesce(max(id), 0) FROM public.%I', tbl) INTO max_id;
+    WHILE from_id < max_id LOOP
+        EXECUTE format('UPDATE public.%I SET %s WHERE id > $1 AND id <= $2', tbl, assignments)
+            USING from_id, from_id + batch_size;
+        from_id := from_id + batch_size;
+        COMMIT;
+    END LOOP;
+
+    -- 3. Valeurs non vides restees sans equivalent numerique
+    FOREACH col IN ARRAY cols LOOP
+        EXECUTE format('INSERT INTO public.price_migration_issues (table_name, row_id, column_name, raw_value) '
+                       'SELECT %L, id, %L, %I FROM public.%I WHERE btrim(%I) <> %L AND %I IS NULL '
+                       'ON CONFLICT DO NOTHING',
+                       tbl, col, col, tbl, col, '', col || '_num');
+    END LOOP;
+    COMMIT;
+END $$;
+
+-- 4. Bascule : l'ancienne colonne devient <col>_txt (conservee pour audit), *_num prend son nom
+CREATE OR REPLACE PROCEDURE public.swap_price_columns(tbl text, cols text[])
+LANGUAGE plpgsql AS $$
+DECLARE
+    col text;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = 'public' AND table_name = tbl AND column_name = cols[1] || '_num') THEN
+        RETURN;
+    END IF;
+    SET LOCAL lock_timeout = '5s';
+    EXECUTE format('LOCK TABLE public.%I IN ACCESS EXCLUSIVE MODE', tbl);
+    EXECUTE format('DROP TRIGGER IF EXISTS %I ON public.%I', tbl || '_price_sync', tbl);
+    EXECUTE format('DROP FUNCTION IF EXISTS public.%I()', tbl || '_price_sync');
+    FOREACH col IN ARRAY cols LOOP
+        EXECUTE format('ALTER TABLE public.%I RENAME COLUMN %I TO %I', tbl, col, col || '_txt');
+        EXECUTE format('ALTER TABLE public.%I ALTER COLUMN %I DROP NOT NULL', tbl, col || '_txt');
+        EXECUTE format('ALTER TABLE public.%I RENAME COLUMN %I TO %I', tbl, col || '_num', col);
+    END LOOP;
+    COMMIT;
+END $$;
+
+CALL public.prepare_price_columns('articles', ARRAY['fourniture', 'cadence', 'accessoires', 'pu', 'prix_cible', 'prix_estime', 'prix_consulte']);
+CALL public.prepare_price_columns('articles_supprime', ARRAY['fourniture', 'cadence', 'accessoires', 'pu', 'prix_cible', 'prix_estime', 'prix_consulte']);
+CALL public.prepare_price_columns('pending_articles', ARRAY['pu']);
+
+CALL public.backfill_price_columns('articles', ARRAY['fourniture', 'cadence', 'accessoires', 'pu', 'prix_cible', 'prix_estime', 'prix_consulte']);
+CALL public.backfill_price_columns('articles_supprime', ARRAY['fourniture', 'cadence', 'accessoires', 'pu', 'prix_cible', 'prix_estime', 'prix_consulte']);
+CALL public.backfill_price_columns('pending_articles', ARRAY['pu']);
+
+-- Rapport : a relire avant la bascule (les valeurs d'origine restent dans <col>_txt)
+SELECT table_name, column_name, count(*) AS unparseable, (array_agg(raw_value ORDER BY row_id))[1:5] AS examples
+FROM public.price_migration_issues
+GROUP BY table_name, column_name
+ORDER BY table_name, column_name;
+
+-- L'index (pu, id) suit l'ancienne colonne lors du renommage : il est reconstruit sur la nouvelle
+DROP INDEX CONCURRENTLY IF EXISTS public.idx_articles_pu_id;
+
+CALL public.swap_price_columns('articles', ARRAY['fourniture', 'cadence', 'accessoires', 'pu', 'prix_cible', 'prix_estime', 'prix_consulte']);
+CALL public.swap_price_columns('articles_supprime', ARRAY['fourniture', 'cadence', 'accessoires', 'pu', 'prix_cible', 'prix_estime', 'prix_consulte']);
+CALL public.swap_price_columns('pending_articles', ARRAY['pu']);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_articles_pu_id ON public.articles (pu, id);
+
+-- 5. pending_articles.pu etait NOT NULL (comme le mapping de PendingArticle) : la contrainte est
+--    remise une fois le remplissage verifie. Une valeur vide ou illisible laisse pu a NULL :
+--    la corriger depuis pu_txt (voir price_migration_issues) puis relancer ce bloc.
+DO $$
+DECLARE
+    missing bigint;
+BEGIN
+    SELECT count(*) INTO missing FROM public.pending_articles WHERE pu IS NULL;
+    IF missing > 0 THEN
+        RAISE EXCEPTION 'pending_articles.pu: % row(s) without a numeric price, NOT NULL not restored', missing;
+    END IF;
+    ALTER TABLE public.pending_articles ALTER COLUMN pu SET NOT NULL;
+END $$;
@@ -0,0 +1,133 @@
+-- Partitionnement de articles_supprime par mois de suppression (colonne date)
+--
+-- A lancer avec psql en autocommit (COMMIT par mois copie) :
+--   psql -d ecopilot_articles -f scripts/ecopilot_articles/partition_articles_supprime.sql
+--
+-- La copie se fait a cote de la table en service ; seule la bascule finale (rattrapage des
+-- lignes ecrites pendant la copie puis renommage) bloque les ecritures sur l'archive, le temps
+-- d'un verrou court. Le script est rejouable : une table deja partitionnee est laissee telle quelle.
+--
+-- Ensuite, article-service cree au demarrage les partitions des mois a venir
+-- (archive.partitions.months-ahead) et detache celles qui depassent
+-- archive.partitions.detach-after-months. Une partition detachee est une table ordinaire
+-- (articles_supprime_AAAA_MM) : a exporter (pg_dump -t), compacter (VACUUM FULL) ou supprimer.
+
+-- 1. Partition d'un mois, idempotente
+CREATE OR REPLACE PROCEDURE public.create_articles_supprime_partition(tbl text, month date)
+LANGUAGE plpgsql AS $$
+DECLARE
+    first_day date := date_trunc('month', month)::date;
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS public.%I PARTITION OF public.%I FOR VALUES FROM (%L) TO (%L)',
+                   'articles_supprime_' || to_char(first_day, 'YYYY_MM'), tbl,
+                   first_day, (first_day + interval '1 month')::date);
+END $$;
+
+-- 2. Detachement des partitions entierement anterieures a before
+CREATE OR REPLACE PROCEDURE public.detach_articles_supprime_partitions(before date)
+LANGUAGE plpgsql AS $$
+DECLARE
+    part text;
+BEGIN
+    FOR part IN
+        SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'public.articles_supprime'::regclass
+          AND c.relname ~ '^articles_supprime_[0-9]{4}_[0-9]{2}$'
+        ORDER BY c.relname
+    LOOP
+        IF (to_date(right(part, 7), 'YYYY_MM') + interval '1 month')::date <= before THEN
+            EXECUTE format('ALTER TABLE public.articles_supprime DETACH PARTITION public.%I', part);
+            RAISE NOTICE '% detachee', part;
+            COMMIT;
+        END IF;
+    END LOOP;
+END $$;
+
+-- 3. Conversion de la table existante
+CREATE OR REPLACE PROCEDURE public.partition_articles_supprime()
+LANGUAGE plpgsql AS $$
+DECLARE
+    month date;
+    last_month date := date_trunc('month', CURRENT_DATE)::date + 3 * interval '1 month';
+    copied_up_to bigint;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'public.articles_supprime'::regclass) THEN
+        RAISE NOTICE 'articles_supprime: deja partitionnee';
+        RETURN;
+    END IF;
+
+    -- La cle de partition entre dans la cle primaire : plus de date NULL
+    UPDATE public.articles_supprime SET date = CURRENT_DATE WHERE date IS NULL;
+    COMMIT;
+
+    DROP TABLE IF EXISTS public.articles_supprime_part;
+    CREATE TABLE public.articles_supprime_part
+        (LIKE public.articles_supprime INCLUDING DEFAULTS)
+        PARTITION BY RANGE (date);
+    ALTER TABLE public.articles_supprime_part ALTER COLUMN date SET NOT NULL;
+    ALTER TABLE public.articles_supprime_part ADD PRIMARY KEY (id, date);
+    CREATE TABLE public.articles_supprime_default PARTITION OF public.articles_supprime_part DEFAULT;
+    -- Index de la liste paginee, renommes a la bascule (les noms definitifs sont encore pris)
+    CREATE INDEX articles_supprime_part_date_id ON public.articles_supprime_part (date, id);
+    CREATE INDEX articles_supprime_part_deleted_by_date_id ON public.articles_supprime_part (deleted_by, date, id);
+    CREATE INDEX articles_supprime_part_user_id_date_id ON public.articles_supprime_part (user_id, date, id);
+
+    month := coalesce(date_trunc('month', (SELECT min(date) FROM public.articles_supprime))::date,
+                      date_trunc('month', CURRENT_DATE)::date);
+    WHILE month <= last_month LOOP
+        CALL public.create_articles_supprime_partition('articles_supprime_part', month);
+        month := (month + interval '1 month')::date;
+    END LOOP;
+    COMMIT;
+
+    -- Copie par mois, pendant que l'application continue d'ecrire dans l'ancienne table
+    copied_up_to := coalesce((SELECT max(id) FROM public.articles_supprime), 0);
+    month := date_trunc('month', (SELECT min(date) FROM public.articles_supprime))::date;
+    WHILE month IS NOT NULL AND month <= last_month LOOP
+        INSERT INTO public.articles_supprime_part
+        SELECT * FROM public.articles_supprime
+        WHERE date >= month AND date < month + interval '1 month' AND id <= copied_up_to;
+        COMMIT;
+        month := (month + interval '1 month')::date;
+    END LOOP;
+    -- Dates posterieures aux partitions creees : partition par defaut
+    INSERT INTO public.articles_supprime_part
+    SELECT * FROM public.articles_supprime
+    WHERE date >= last_month + interval '1 month' AND id <= copied_up_to;
+    COMMIT;
+
+    -- Bascule : rattrapage des ecritures faites pendant la copie (archivages et restaurations)
+    LOCK TABLE public.articles_supprime IN EXCLUSIVE MODE;
+    INSERT INTO public.articles_supprime_part
+    SELECT * FROM public.articles_supprime WHERE id > copied_up_to;
+    DELETE FROM public.articles_supprime_part p
+    WHERE NOT EXISTS (SELECT 1 FROM public.articles_supprime s WHERE s.id = p.id);
+
+    DROP INDEX IF EXISTS public.idx_articles_supprime_date_id;
+    DROP INDEX IF EXISTS public.idx_articles_supprime_deleted_by_date_id;
+    DROP INDEX IF EXISTS public.idx_articles_supprime_user_id_date_id;
+    ALTER TABLE public.articles_supprime RENAME TO articles_supprime_legacy;
+    ALTER TABLE public.articles_supprime_part RENAME TO articles_supprime;
+    ALTER INDEX public.articles_supprime_part_date_id RENAME TO idx_articles_supprime_date_id;
+    ALTER INDEX public.articles_supprime_part_deleted_by_date_id RENAME TO idx_articles_supprime_deleted_by_date_id;
+    ALTER INDEX public.articles_supprime_part_user_id_date_id RENAME TO idx_articles_supprime_user_id_date_id;
+    ALTER SEQUENCE public.articles_supprime_id_seq OWNED BY public.articles_supprime.id;
+    ALTER TABLE public.articles_supprime ADD CONSTRAINT fk_articles_supprime_niveau6_part
+        FOREIGN KEY (id_niv_6) REFERENCES public.niveau_6(id_niveau_6);
+    COMMIT;
+
+    RAISE NOTICE 'articles_supprime partitionnee ; ancienne table conservee sous articles_supprime_legacy';
+END $$;
+
+CALL public.partition_articles_supprime();
+
+-- Controle : volume par partition
+SELECT c.relname AS partition, pg_get_expr(c.relpartbound, c.oid) AS bounds, s.n_live_tup AS approx_rows
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+LEFT JOIN pg_stat_user_tables s ON s.relid = c.oid
+WHERE i.inhparent = 'public.articles_supprime'::regclass
+ORDER BY c.relname;
+
+-- Apres verification :
+--   DROP TABLE public.articles_supprime_legacy;
@@ -59,6 +59,8 @@ CREATE TABLE IF NOT EXISTS public.projet_lot (
     prix_total REAL DEFAULT 0.0,
     prix_vente REAL DEFAULT 0.0
 );
+-- Cles etrangeres lues par le chargement des details d'un projet, niveau par niveau
+CREATE INDEX IF NOT EXISTS idx_projet_lot_projet ON public.projet_lot (id_projet);
 
 -- ======================================================
 -- 4. PROJET_ARTICLE TABLE
@@ -78,6 +80,9 @@ CREATE TABLE IF NOT EXISTS public.projet_article (
     article_import VARCHAR(255),
     unite_import VARCHAR(50)
 );
+-- Projets utilisant un article du catalogue (impact d'un changement de prix)
+CREATE INDEX IF NOT EXISTS idx_projet_article_article ON public.projet_article (article);
+CREATE INDEX IF NOT EXISTS idx_projet_article_structure ON public.projet_article (structure);
 
 -- ======================================================
 -- 5. PROJET_EQUIPE TABLE
@@ -98,6 +103,7 @@ CREATE TABLE IF NOT EXISTS public.ouvrage (
     designation VARCHAR(500),
     projet_lot INTEGER
 );
+CREATE INDEX IF NOT EXISTS idx_ouvrage_projet_lot ON public.ouvrage (projet_lot);
 
 -- ======================================================
 -- 7. BLOC TABLE
@@ -112,6 +118,7 @@ CREATE TABLE IF NOT EXISTS public.bloc (
     designation VARCHAR(500),
     ouvrage INTEGER
 );
+CREATE INDEX IF NOT EXISTS idx_bloc_ouvrage ON public.bloc (ouvrage);
 
 -- ======================================================
 -- 8. STRUCTURE TABLE
@@ -122,6 +129,53 @@ CREATE TABLE IF NOT EXISTS public.structure (
     bloc INTEGER,
     action VARCHAR(100)
 );
+CREATE INDEX IF NOT EXISTS idx_structure_ouvrage ON public.structure (ouvrage);
+CREATE INDEX IF NOT EXISTS idx_structure_bloc ON public.structure (bloc);
+
+-- ======================================================
+-- 9. OUTBOX_EVENTS TABLE (evenements Kafka, publies par OutboxRelay)
+-- ======================================================
+CREATE TABLE IF NOT EXISTS public.outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    aggregate_key VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255),
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    parked_at TIMESTAMP
+);
+-- Seuls les evenements en attente, hors evenements ecartes, sont lus par le relais
+DROP INDEX IF EXISTS idx_outbox_events_unsent;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unsent ON public.outbox_events (id) WHERE sent_at IS NULL AND parked_at IS NULL;
+
+-- ======================================================
+-- 10. CATALOG READ MODEL (copie locale du catalogue d'article-service)
+-- ======================================================
+CREATE TABLE IF NOT EXISTS public.catalog_article (
+    id BIGINT PRIMARY KEY,
+    nom_article VARCHAR(255),
+    unite VARCHAR(255),
+    pu DOUBLE PRECISION,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS public.catalog_sync_state (
+    id INTEGER PRIMARY KEY,
+    snapshot_after_id BIGINT,
+    bootstrapped_at TIMESTAMP
+);
+
+-- Articles a relire aupres d'article-service, demandes par article.events
+CREATE TABLE IF NOT EXISTS public.catalog_refresh (
+    article_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    requested_at TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_catalog_refresh_requested_at ON public.catalog_refresh (requested_at);
 
 -- ======================================================
 -- FOREIGN KEY CONSTRAINTS (INTERNAL ONLY)
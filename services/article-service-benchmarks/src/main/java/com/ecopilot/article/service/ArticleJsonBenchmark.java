@@ -0,0 +1,73 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ApiResponse;
+import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.entity.Article;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Serialisation Jackson des reponses du catalogue, avec la configuration par defaut de Spring
+ * (modules java.time, dates ISO) : un article seul et une page par defaut de
+ * {@value CatalogFixtures#PAGE_SIZE} articles dans ApiResponse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleJsonBenchmark {
+
+    private static final int MASK = CatalogFixtures.ARTICLE_COUNT - 1;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageWriter;
+    private ArticleDTO[] dtos;
+    private ApiResponse<List<ArticleDTO>> page;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        HierarchySnapshot snapshot = CatalogFixtures.hierarchy();
+        Function<Article, ArticleDTO> mapper = CatalogFixtures.articleService(CatalogFixtures.hierarchyService(snapshot)).dtoMapper();
+        Article[] articles = CatalogFixtures.articles(CatalogFixtures.niveau6Ids(snapshot), true);
+        dtos = new ArticleDTO[articles.length];
+        for (int i = 0; i < articles.length; i++) {
+            dtos[i] = mapper.apply(articles[i]);
+        }
+        List<ArticleDTO> content = new ArrayList<>(List.of(dtos).subList(0, CatalogFixtures.PAGE_SIZE));
+        page = ApiResponse.<List<ArticleDTO>>builder().success(true).data(content).build();
+        pageWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(ApiResponse.class, objectMapper.getTypeFactory()
+                        .constructCollectionType(List.class, ArticleDTO.class)));
+    }
+
+    @Benchmark
+    public byte[] writeArticle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos[next++ & MASK]);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.entity.PendingArticle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Mapping entite -> ArticleDTO, tel qu'applique a chaque ligne des listes du catalogue.
+ * L'ecart entre {@code mapToDTO} et {@code mapToDTOWithoutHierarchy} est le cout de
+ * populateHierarchy ; {@code resolvePath} isole la recherche dans la photographie.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleMappingBenchmark {
+
+    private static final int MASK = CatalogFixtures.ARTICLE_COUNT - 1;
+
+    private Function<Article, ArticleDTO> mapper;
+    private Function<PendingArticle, ArticleDTO> pendingMapper;
+    private HierarchyService hierarchyService;
+    private Article[] articles;
+    private Article[] articlesWithoutNiveau6;
+    private PendingArticle[] pendingArticles;
+    private Long[] niveau6Ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        HierarchySnapshot snapshot = CatalogFixtures.hierarchy();
+        List<Long> ids = CatalogFixtures.niveau6Ids(snapshot);
+        hierarchyService = CatalogFixtures.hierarchyService(snapshot);
+        ArticleService articleService = CatalogFixtures.articleService(hierarchyService);
+        mapper = articleService.dtoMapper();
+        pendingMapper = articleService.pendingDtoMapper();
+        articles = CatalogFixtures.articles(ids, true);
+        articlesWithoutNiveau6 = CatalogFixtures.articles(ids, false);
+        pendingArticles = CatalogFixtures.pendingArticles(ids);
+        niveau6Ids = new Long[CatalogFixtures.ARTICLE_COUNT];
+        for (int i = 0; i < niveau6Ids.length; i++) {
+            niveau6Ids[i] = articles[i].getNiveau6().getId();
+        }
+    }
+
+    @Benchmark
+    public ArticleDTO mapToDTO() {
+        return mapper.apply(articles[next++ & MASK]);
+    }
+
+    @Benchmark
+    public ArticleDTO mapToDTOWithoutHierarchy() {
+        return mapper.apply(articlesWithoutNiveau6[next++ & MASK]);
+    }
+
+    @Benchmark
+    public ArticleDTO mapPendingToDTO() {
+        return pendingMapper.apply(pendingArticles[next++ & MASK]);
+    }
+
+    @Benchmark
+    public HierarchySnapshot.Path resolvePath() {
+        return hierarchyService.resolvePath(niveau6Ids[next++ & MASK]);
+    }
+}
@@ -0,0 +1,186 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.entity.Niveau6;
+import com.ecopilot.article.entity.PendingArticle;
+import com.ecopilot.article.strategy.StandardPriceStrategy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Donnees synthetiques proches du catalogue reel : six niveaux renseignes, libelles francais,
+ * commentaires longs. Graine fixe : deux executions mesurent les memes donnees.
+ */
+final class CatalogFixtures {
+
+    // Puissance de deux : les benchmarks parcourent les tableaux par masque
+    static final int ARTICLE_COUNT = 1024;
+    static final int PAGE_SIZE = 50;
+
+    private static final String[] NIVEAU1 = {"Gros oeuvre", "Second oeuvre", "Lots techniques", "VRD", "Facades", "Amenagements exterieurs"};
+    private static final String[] NIVEAU2 = {"Beton arme", "Maconnerie", "Charpente", "Etancheite"};
+    private static final String[] NIVEAU3 = {"Voiles", "Poteaux", "Poutres", "Dalles"};
+    private static final String[] NIVEAU4 = {"Coffrage", "Ferraillage", "Coulage"};
+    private static final String[] NIVEAU5 = {"Banche metallique", "Coffrage bois", "Predalle"};
+    private static final String[] NIVEAU6 = {"Voile ep. 16 cm", "Voile ep. 20 cm", "Voile ep. 25 cm", "Voile courbe"};
+    private static final String[] UNITES = {"m2", "m3", "ml", "u", "kg", "ens"};
+    private static final String[] EXPERTISES = {"Structure", "Enveloppe", "CVC", "Electricite", "Plomberie"};
+    private static final String COMMENTAIRE = "Prix etabli d'apres la consultation des entreprises du lot gros oeuvre, "
+            + "y compris fourniture et mise en oeuvre du beton C25/30 XC1, coffrage une face ou deux faces selon "
+            + "plans, armatures HA suivant notes de calcul du bureau d'etudes structure, sujetions de reservations, "
+            + "traitement des reprises de betonnage, protection des aciers en attente et nettoyage en fin de poste. "
+            + "Non compris : etaiement specifique des grandes hauteurs, essais de convenance, plus-value pour "
+            + "parement soigne (classe P3). Quantites mesurees au metre carre de voile reellement execute, "
+            + "deduction faite des baies de plus de 0,50 m2. Indice de reference BT01 de janvier, revision mensuelle.";
+
+    private CatalogFixtures() {
+    }
+
+    /**
+     * 6 Niveau1, puis 4, 4, 3, 3 et 4 enfants par noeud : 3456 chemins Niveau6 complets.
+     */
+    static HierarchySnapshot hierarchy() {
+        List<List<HierarchySnapshot.Row>> rows = new ArrayList<>(6);
+        String[][] names = {NIVEAU1, NIVEAU2, NIVEAU3, NIVEAU4, NIVEAU5, NIVEAU6};
+        List<HierarchySnapshot.Row> parents = List.of();
+        long nextId = 1;
+        for (int level = 0; level < 6; level++) {
+            List<HierarchySnapshot.Row> levelRows = new ArrayList<>();
+            int parentCount = level == 0 ? 1 : parents.size();
+            for (int p = 0; p < parentCount; p++) {
+                Long parentId = level == 0 ? null : parents.get(p).id();
+                for (int k = 0; k < names[level].length; k++) {
+                    String nom = names[level][k] + (level == 0 ? "" : " - " + (p + 1));
+                    levelRows.add(new HierarchySnapshot.Row(nextId++, nom, parentId, null, null));
+                }
+            }
+            rows.add(levelRows);
+            parents = levelRows;
+        }
+        return HierarchySnapshot.build(rows);
+    }
+
+    static List<Long> niveau6Ids(HierarchySnapshot snapshot) {
+        return new ArrayList<>(snapshot.paths().keySet());
+    }
+
+    static Article[] articles(List<Long> niveau6Ids, boolean withNiveau6) {
+        Random random = new Random(42);
+        Article[] articles = new Article[ARTICLE_COUNT];
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            articles[i] = Article.builder()
+                    .id(100_000L + i)
+                    .date(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .nomArticle(NIVEAU6[i % NIVEAU6.length] + " beton C25/30 coffrage " + (i % 2 == 0 ? "une face" : "deux faces"))
+                    .unite(UNITES[i % UNITES.length])
+                    .type("Ouvrage")
+                    .expertise(EXPERTISES[i % EXPERTISES.length])
+                    .fourniture(price(random, 20, 400))
+                    .cadence(price(random, 1, 30))
+                    .accessoires(price(random, 0, 50))
+                    .pertes((random.nextInt(10) + 1) + "%")
+                    .pu(price(random, 50, 900))
+                    .prixCible(i % 3 == 0 ? price(random, 50, 900) : null)
+                    .prixEstime(i % 3 == 1 ? price(random, 50, 900) : null)
+                    .prixConsulte(i % 3 == 2 ? price(random, 50, 900) : null)
+                    .rabais(random.nextInt(15) + "%")
+                    .commentaires(COMMENTAIRE)
+                    .userId("5f0c2b9e-" + (1000 + i % 37))
+                    .indiceDeConfiance(random.nextInt(5) + 1)
+                    .files("[\"devis-" + i + ".pdf\"]")
+                    .fournisseurId((long) (i % 120))
+                    .niveau6(withNiveau6 ? niveau6(niveau6Ids.get(random.nextInt(niveau6Ids.size()))) : null)
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(i * 37L))
+                    .build();
+        }
+        return articles;
+    }
+
+    static PendingArticle[] pendingArticles(List<Long> niveau6Ids) {
+        Article[] articles = articles(niveau6Ids, true);
+        PendingArticle[] pending = new PendingArticle[articles.length];
+        for (int i = 0; i < articles.length; i++) {
+            Article a = articles[i];
+            pending[i] = PendingArticle.builder()
+                    .id(a.getId())
+                    .date(a.getDate())
+                    .nomArticle(a.getNomArticle())
+                    .unite(a.getUnite())
+                    .type(a.getType())
+                    .expertise(a.getExpertise())
+                    .fourniture(a.getFourniture())
+                    .cadence(a.getCadence())
+                    .accessoires(a.getAccessoires())
+                    .pertes(a.getPertes())
+                    .pu(a.getPu())
+                    .prixCible(a.getPrixCible())
+                    .prixEstime(a.getPrixEstime())
+                    .prixConsulte(a.getPrixConsulte())
+                    .rabais(a.getRabais())
+                    .commentaires(a.getCommentaires())
+                    .createdBy(a.getUserId())
+                    .status(PendingArticle.STATUS_PENDING)
+                    .submittedAt(a.getCreatedAt())
+                    .updatedAt(a.getCreatedAt())
+                    .indiceDeConfiance(a.getIndiceDeConfiance())
+                    .files(a.getFiles())
+                    .fournisseurId(a.getFournisseurId())
+                    .niveau6(a.getNiveau6())
+                    .build();
+        }
+        return pending;
+    }
+
+    /**
+     * Montants tels que saisis dans les ecrans et les imports : espaces de milliers,
+     * virgule decimale, symbole euro.
+     */
+    static String[] rawPrices() {
+        Random random = new Random(7);
+        String[] raw = new String[ARTICLE_COUNT];
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            int euros = random.nextInt(25_000);
+            int cents = random.nextInt(10_000);
+            String thousands = euros >= 1000 ? (euros / 1000) + " " + String.format("%03d", euros % 1000) : Integer.toString(euros);
+            raw[i] = switch (i % 3) {
+                case 0 -> thousands + "," + String.format("%04d", cents) + " €";
+                case 1 -> euros + "." + cents;
+                default -> Integer.toString(euros);
+            };
+        }
+        return raw;
+    }
+
+    /**
+     * Service de mapping sans base : l'arborescence est servie par la photographie en memoire,
+     * les autres dependances ne sont pas sollicitees par les mappers.
+     */
+    static HierarchyService hierarchyService(HierarchySnapshot snapshot) {
+        return new HierarchyService(null, null, null, null, null, null, null, null, null) {
+            @Override
+            public HierarchySnapshot getSnapshot() {
+                return snapshot;
+            }
+        };
+    }
+
+    static ArticleService articleService(HierarchyService hierarchyService) {
+        return new ArticleService(null, null, null, null, null, null, new StandardPriceStrategy(), null,
+                hierarchyService, null, null, null, null, null, null);
+    }
+
+    private static Niveau6 niveau6(Long id) {
+        Niveau6 niveau6 = new Niveau6();
+        niveau6.setId(id);
+        return niveau6;
+    }
+
+    private static BigDecimal price(Random random, int min, int max) {
+        return BigDecimal.valueOf(min * 10_000L + random.nextInt((max - min) * 10_000), 4);
+    }
+}
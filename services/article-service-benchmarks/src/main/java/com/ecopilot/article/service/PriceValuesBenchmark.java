@@ -0,0 +1,61 @@
+package com.ecopilot.article.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions texte <-> montant : saisie des DTO (parse) et sortie des mappers (format),
+ * sept colonnes de prix par article.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceValuesBenchmark {
+
+    private static final int MASK = CatalogFixtures.ARTICLE_COUNT - 1;
+
+    private String[] raw;
+    private BigDecimal[] values;
+    private String[] rates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        raw = CatalogFixtures.rawPrices();
+        values = new BigDecimal[raw.length];
+        rates = new String[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            values[i] = PriceValues.parse("pu", raw[i]);
+            rates[i] = (i % 20) + (i % 2 == 0 ? "%" : ",5");
+        }
+    }
+
+    @Benchmark
+    public BigDecimal parse() {
+        return PriceValues.parse("pu", raw[next++ & MASK]);
+    }
+
+    @Benchmark
+    public String format() {
+        return PriceValues.format(values[next++ & MASK]);
+    }
+
+    @Benchmark
+    public double parseRate() {
+        return PriceValues.parseRate(rates[next++ & MASK]);
+    }
+}
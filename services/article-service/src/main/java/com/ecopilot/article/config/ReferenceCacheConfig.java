@@ -0,0 +1,65 @@
+package com.ecopilot.article.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache de second niveau Hibernate (JCache sur Caffeine) des Niveau1..Niveau6 et des collections
+ * qui les relient. Chaque region est bornee en nombre d'entrees et expire apres ecriture : filet de
+ * securite pour les modifications faites hors application (scripts SQL). Les regions sont creees
+ * ici ; Hibernate refuse de demarrer sur une region inconnue plutot que d'en creer une sans borne.
+ *
+ * <p>Statistiques par region sur actuator : {@code cache.gets} (hit/miss), {@code cache.puts},
+ * {@code cache.evictions} et {@code cache.removals}, tag {@code cache}.
+ */
+@Configuration
+public class ReferenceCacheConfig {
+
+    public static final List<String> REGIONS = List.of(
+            "niveau1", "niveau2", "niveau3", "niveau4", "niveau5", "niveau6",
+            "niveau1.niveau2s", "niveau2.niveau3s", "niveau3.niveau4s", "niveau4.niveau5s", "niveau5.niveau6s");
+
+    @Bean
+    public CacheManager referenceCacheManager(@Value("${reference-cache.max-entries:20000}") long maxEntries,
+                                              @Value("${reference-cache.expire-after-write-minutes:60}") long expireMinutes) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(expireMinutes)));
+        configuration.setStatisticsEnabled(true);
+        for (String region : REGIONS) {
+            // Gestionnaire partage par classloader : deja cree par un contexte precedent (tests)
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, configuration);
+            }
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceCacheCustomizer(CacheManager referenceCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, referenceCacheManager);
+    }
+
+    @Bean
+    public MeterBinder referenceCacheMetrics(CacheManager referenceCacheManager) {
+        return registry -> REGIONS.forEach(region ->
+                JCacheMetrics.monitor(registry, referenceCacheManager.getCache(region)));
+    }
+}
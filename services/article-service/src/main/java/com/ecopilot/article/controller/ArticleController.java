@@ -2,13 +2,44 @@ package com.ecopilot.article.controller;
 
 import com.ecopilot.article.dto.ApiResponse;
 import com.ecopilot.article.dto.ArticleDTO;
-import com.ecopilot.article.dto.ArticleHierarchyDTO;
+import com.ecopilot.article.dto.ArticleMatchReportDTO;
+import com.ecopilot.article.dto.ArticleMatchRequestDTO;
+import com.ecopilot.article.dto.ArticlePageDTO;
+import com.ecopilot.article.dto.ArticleSnapshotPageDTO;
+import com.ecopilot.article.dto.BulkArchiveReportDTO;
+import com.ecopilot.article.dto.BulkArticleSelectionDTO;
+import com.ecopilot.article.dto.BulkImportReportDTO;
+import com.ecopilot.article.dto.FilterDTO;
+import com.ecopilot.article.dto.RepricingReportDTO;
+import com.ecopilot.article.dto.RepricingRequestDTO;
+import com.ecopilot.article.repository.ArticleFilter;
+import com.ecopilot.article.repository.DeletedArticleFilter;
+import com.ecopilot.article.service.ArticleArchiveService;
+import com.ecopilot.article.service.ArticleBulkImportService;
+import com.ecopilot.article.service.ArticleExportService;
+import com.ecopilot.article.service.ArticleHierarchyTreeService;
+import com.ecopilot.article.service.ArticleMatchService;
+import com.ecopilot.article.service.ArticleRepricingService;
 import com.ecopilot.article.service.ArticleService;
+import com.ecopilot.article.service.ArticleSnapshotService;
+import com.ecopilot.article.service.CatalogVersion;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/articles")
@@ -16,6 +47,14 @@ import java.util.List;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ArticleExportService articleExportService;
+    private final ArticleBulkImportService articleBulkImportService;
+    private final ArticleArchiveService articleArchiveService;
+    private final ArticleRepricingService articleRepricingService;
+    private final ArticleHierarchyTreeService articleHierarchyTreeService;
+    private final ArticleMatchService articleMatchService;
+    private final ArticleSnapshotService articleSnapshotService;
+    private final CatalogVersion catalogVersion;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<ArticleDTO>>> getAllArticles(
@@ -24,19 +63,72 @@ public class ArticleController {
             @RequestParam(required = false, defaultValue = "30") int limit,
             @RequestParam(required = false, defaultValue = "ID") String sortBy,
             @RequestParam(required = false, defaultValue = "asc") String sortOrder,
-            @RequestParam(name = "id_niv_6", required = false) List<Long> idNiveau6) {
-        List<ArticleDTO> articles;
-        if (search != null) {
-            articles = articleService.searchArticles(search);
-        } else {
-            articles = articleService.getAllArticles(page, limit, sortBy, sortOrder, idNiveau6);
-        }
+            @RequestParam(name = "id_niv_6", required = false) List<Long> idNiveau6,
+            @RequestParam(required = false) Integer niveau,
+            @RequestParam(name = "niveau_id", required = false) List<Long> niveauIds,
+            @RequestParam(required = false) List<String> expertise,
+            @RequestParam(required = false) List<String> unite,
+            @RequestParam(name = "pu_min", required = false) BigDecimal puMin,
+            @RequestParam(name = "pu_max", required = false) BigDecimal puMax,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(name = "with_total", required = false, defaultValue = "false") boolean withTotal) {
+        ArticleFilter filter = buildFilter(idNiveau6, niveau, niveauIds, expertise, unite, puMin, puMax);
+        ArticlePageDTO result = search != null
+                ? articleService.searchArticles(search, page, limit, withTotal)
+                : articleService.getArticlesPage(page, limit, sortBy, sortOrder, filter, cursor, withTotal);
         return ResponseEntity.ok(ApiResponse.<List<ArticleDTO>>builder()
                 .success(true)
-                .data(articles)
+                .data(result.getArticles())
+                .pagination(result.getPagination())
+                .build());
+    }
+
+    /**
+     * Export complet du catalogue (NDJSON ou CSV), ecrit au fil de la lecture.
+     * Memes filtres que la liste.
+     */
+    @GetMapping("/export")
+    public void exportArticles(
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            @RequestParam(name = "id_niv_6", required = false) List<Long> idNiveau6,
+            @RequestParam(required = false) Integer niveau,
+            @RequestParam(name = "niveau_id", required = false) List<Long> niveauIds,
+            @RequestParam(required = false) List<String> expertise,
+            @RequestParam(required = false) List<String> unite,
+            @RequestParam(name = "pu_min", required = false) BigDecimal puMin,
+            @RequestParam(name = "pu_max", required = false) BigDecimal puMax,
+            HttpServletResponse response) throws IOException {
+        ArticleExportService.Format exportFormat = ArticleExportService.Format.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles." + exportFormat.getExtension() + "\"");
+        articleExportService.export(buildFilter(idNiveau6, niveau, niveauIds, expertise, unite, puMin, puMax),
+                exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * Lecture du catalogue avec ETag : un client a jour recoit un 304 sans calcul ni serialisation.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> catalogResponse(WebRequest request, Supplier<T> data) {
+        return CatalogResponses.conditional(request, catalogVersion.etag(), () -> ApiResponse.<T>builder()
+                .success(true)
+                .data(data.get())
                 .build());
     }
 
+    private ArticleFilter buildFilter(List<Long> idNiveau6, Integer niveau, List<Long> niveauIds,
+                                      List<String> expertise, List<String> unite, BigDecimal puMin, BigDecimal puMax) {
+        return ArticleFilter.builder()
+                // id_niv_6 vide : pas de filtre, comme avant la pagination
+                .niveau6Ids(idNiveau6 != null && !idNiveau6.isEmpty() ? idNiveau6 : null)
+                .niveau(niveau)
+                .niveauIds(niveauIds)
+                .expertises(expertise)
+                .unites(unite)
+                .puMin(puMin)
+                .puMax(puMax)
+                .build();
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ArticleDTO>> getArticleById(@PathVariable Long id) {
         return ResponseEntity.ok(ApiResponse.<ArticleDTO>builder()
@@ -74,6 +166,94 @@ public class ArticleController {
                 .build());
     }
 
+    /**
+     * Import en masse (listes de prix fournisseurs), reserve aux administrateurs.
+     * Renvoie le resultat de chaque ligne dans l'ordre de la requete.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkImportReportDTO>> importArticles(@RequestBody List<ArticleDTO> rows) {
+        BulkImportReportDTO report = articleBulkImportService.importArticles(rows);
+        return ResponseEntity.ok(ApiResponse.<BulkImportReportDTO>builder()
+                .success(true)
+                .message(report.getCreated() + " articles created, " + report.getFailed() + " rejected")
+                .data(report)
+                .build());
+    }
+
+    /**
+     * Suppression groupee (ids ou criteres), archivee dans articles_supprime ; reserve aux administrateurs.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ApiResponse<BulkArchiveReportDTO>> deleteArticles(@RequestBody BulkArticleSelectionDTO selection) {
+        BulkArchiveReportDTO report = articleArchiveService.deleteArticles(selection);
+        return ResponseEntity.ok(ApiResponse.<BulkArchiveReportDTO>builder()
+                .success(true)
+                .message(report.getProcessed() + " articles deleted")
+                .data(report)
+                .build());
+    }
+
+    /**
+     * Restauration groupee depuis l'archive ; les ids sont ceux de articles_supprime.
+     */
+    @PostMapping("/deleted/restore")
+    public ResponseEntity<ApiResponse<BulkArchiveReportDTO>> restoreArticles(@RequestBody BulkArticleSelectionDTO selection) {
+        BulkArchiveReportDTO report = articleArchiveService.restoreArticles(selection);
+        return ResponseEntity.ok(ApiResponse.<BulkArchiveReportDTO>builder()
+                .success(true)
+                .message(report.getProcessed() + " articles restored")
+                .data(report)
+                .build());
+    }
+
+    /**
+     * Recalcul des prix unitaires (marge, pertes, rabais) ; simulation sauf dryRun=false.
+     * Reserve aux administrateurs.
+     */
+    @PostMapping("/reprice")
+    public ResponseEntity<ApiResponse<RepricingReportDTO>> repriceArticles(@RequestBody RepricingRequestDTO request) {
+        RepricingReportDTO report = articleRepricingService.reprice(request);
+        return ResponseEntity.ok(ApiResponse.<RepricingReportDTO>builder()
+                .success(true)
+                .message(report.isDryRun()
+                        ? report.getChanged() + " prices would change"
+                        : report.getWritten() + " prices updated")
+                .data(report)
+                .build());
+    }
+
+    /**
+     * Rapprochement en lot de lignes de DPGF (designation, unite) avec le catalogue : meilleurs
+     * candidats de chaque ligne avec leur score, dans l'ordre de la requete.
+     */
+    @PostMapping("/match")
+    public ResponseEntity<ApiResponse<ArticleMatchReportDTO>> matchArticles(@RequestBody ArticleMatchRequestDTO request) {
+        ArticleMatchReportDTO report = articleMatchService.match(request);
+        return ResponseEntity.ok(ApiResponse.<ArticleMatchReportDTO>builder()
+                .success(true)
+                .message(report.getMatched() + " of " + report.getTotal() + " lines matched")
+                .data(report)
+                .build());
+    }
+
+    /**
+     * Photographie compacte du catalogue pour les autres services : pages ordonnees sur l'id
+     * ({@code after_id} = {@code nextAfterId} de la page precedente), ou articles donnes par {@code ids}.
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<ApiResponse<ArticleSnapshotPageDTO>> getSnapshot(
+            @RequestParam(name = "after_id", required = false) Long afterId,
+            @RequestParam(required = false, defaultValue = "5000") int size,
+            @RequestParam(required = false) List<Long> ids) {
+        ArticleSnapshotPageDTO page = ids != null
+                ? ArticleSnapshotPageDTO.builder().items(articleSnapshotService.byIds(ids)).build()
+                : articleSnapshotService.page(afterId, size);
+        return ResponseEntity.ok(ApiResponse.<ArticleSnapshotPageDTO>builder()
+                .success(true)
+                .data(page)
+                .build());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ArticleDTO>> updateArticle(@PathVariable Long id, @RequestBody ArticleDTO articleDTO) {
         return ResponseEntity.ok(ApiResponse.<ArticleDTO>builder()
@@ -99,75 +279,94 @@ public class ArticleController {
     }
 
     @GetMapping("/units")
-    public ResponseEntity<ApiResponse<List<String>>> getUnits() {
-        return ResponseEntity.ok(ApiResponse.<List<String>>builder()
-                .success(true)
-                .data(articleService.getAllUnits())
-                .build());
+    public ResponseEntity<ApiResponse<List<String>>> getUnits(WebRequest request) {
+        return catalogResponse(request, articleService::getAllUnits);
     }
 
     @GetMapping("/expertises")
-    public ResponseEntity<ApiResponse<List<String>>> getExpertises() {
-        return ResponseEntity.ok(ApiResponse.<List<String>>builder()
-                .success(true)
-                .data(articleService.getAllExpertises())
-                .build());
+    public ResponseEntity<ApiResponse<List<String>>> getExpertises(WebRequest request) {
+        return catalogResponse(request, articleService::getAllExpertises);
     }
 
     @GetMapping("/filters/niveau1")
-    public ResponseEntity<ApiResponse<List<Object>>> getUsedNiveau1() {
-        return ResponseEntity.ok(ApiResponse.<List<Object>>builder()
-                .success(true)
-                .data((List) articleService.getUsedNiveau1())
-                .build());
+    public ResponseEntity<ApiResponse<List<FilterDTO>>> getUsedNiveau1(WebRequest request) {
+        return catalogResponse(request, articleService::getUsedNiveau1);
     }
 
     @GetMapping("/filters/niveau2")
-    public ResponseEntity<ApiResponse<List<Object>>> getUsedNiveau2(@RequestParam(required = false) Long parentId) {
-        return ResponseEntity.ok(ApiResponse.<List<Object>>builder()
-                .success(true)
-                .data((List) articleService.getUsedNiveau2(parentId))
-                .build());
+    public ResponseEntity<ApiResponse<List<FilterDTO>>> getUsedNiveau2(@RequestParam(required = false) Long parentId,
+                                                                       WebRequest request) {
+        return catalogResponse(request, () -> articleService.getUsedNiveau2(parentId));
     }
 
     @GetMapping("/filters/niveau3")
-    public ResponseEntity<ApiResponse<List<Object>>> getUsedNiveau3(@RequestParam(required = false) Long parentId) {
-        return ResponseEntity.ok(ApiResponse.<List<Object>>builder()
-                .success(true)
-                .data((List) articleService.getUsedNiveau3(parentId))
-                .build());
+    public ResponseEntity<ApiResponse<List<FilterDTO>>> getUsedNiveau3(@RequestParam(required = false) Long parentId,
+                                                                       WebRequest request) {
+        return catalogResponse(request, () -> articleService.getUsedNiveau3(parentId));
     }
 
     @GetMapping("/filters/niveau4")
-    public ResponseEntity<ApiResponse<List<Object>>> getUsedNiveau4(@RequestParam(required = false) Long parentId) {
-        return ResponseEntity.ok(ApiResponse.<List<Object>>builder()
-                .success(true)
-                .data((List) articleService.getUsedNiveau4(parentId))
-                .build());
+    public ResponseEntity<ApiResponse<List<FilterDTO>>> getUsedNiveau4(@RequestParam(required = false) Long parentId,
+                                                                       WebRequest request) {
+        return catalogResponse(request, () -> articleService.getUsedNiveau4(parentId));
     }
 
     @GetMapping("/filters/niveau5")
-    public ResponseEntity<ApiResponse<List<Object>>> getUsedNiveau5(@RequestParam(required = false) Long parentId) {
-        return ResponseEntity.ok(ApiResponse.<List<Object>>builder()
-                .success(true)
-                .data((List) articleService.getUsedNiveau5(parentId))
-                .build());
+    public ResponseEntity<ApiResponse<List<FilterDTO>>> getUsedNiveau5(@RequestParam(required = false) Long parentId,
+                                                                       WebRequest request) {
+        return catalogResponse(request, () -> articleService.getUsedNiveau5(parentId));
     }
 
     @GetMapping("/filters/niveau6")
-    public ResponseEntity<ApiResponse<List<Object>>> getUsedNiveau6(@RequestParam(required = false) Long parentId) {
-        return ResponseEntity.ok(ApiResponse.<List<Object>>builder()
-                .success(true)
-                .data((List) articleService.getUsedNiveau6(parentId))
-                .build());
+    public ResponseEntity<ApiResponse<List<FilterDTO>>> getUsedNiveau6(@RequestParam(required = false) Long parentId,
+                                                                       WebRequest request) {
+        return catalogResponse(request, () -> articleService.getUsedNiveau6(parentId));
+    }
+
+    @GetMapping("/filters/expertises")
+    public ResponseEntity<ApiResponse<List<FilterDTO>>> getExpertiseFacets(WebRequest request) {
+        return catalogResponse(request, articleService::getExpertiseFacets);
+    }
+
+    @GetMapping("/filters/unites")
+    public ResponseEntity<ApiResponse<List<FilterDTO>>> getUniteFacets(WebRequest request) {
+        return catalogResponse(request, articleService::getUniteFacets);
     }
 
     @GetMapping("/hierarchy")
-    public ResponseEntity<ApiResponse<List<ArticleHierarchyDTO>>> getArticlesHierarchy() {
-        return ResponseEntity.ok(ApiResponse.<List<ArticleHierarchyDTO>>builder()
-                .success(true)
-                .data(articleService.getArticleHierarchy())
-                .build());
+    public ResponseEntity<?> getArticlesHierarchy(@RequestParam(required = false) String shape,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                  WebRequest request) {
+        if ("tree".equalsIgnoreCase(shape)) {
+            return getArticlesHierarchyTree(acceptEncoding, request);
+        }
+        if (shape != null && !"flat".equalsIgnoreCase(shape)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported hierarchy shape: " + shape);
+        }
+        return catalogResponse(request, articleService::getArticleHierarchy);
+    }
+
+    /**
+     * Arbre deja serialise (et compresse si le client accepte gzip) pour la version courante du catalogue.
+     */
+    private ResponseEntity<byte[]> getArticlesHierarchyTree(String acceptEncoding, WebRequest request) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String variant = gzip ? "tree-gzip" : "tree";
+        if (request.checkNotModified(catalogVersion.etag(catalogVersion.current(), variant))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ArticleHierarchyTreeService.Payload payload = articleHierarchyTreeService.getPayload();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(catalogVersion.etag(payload.version(), variant))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        return gzip
+                ? response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip())
+                : response.body(payload.json());
     }
 
     @GetMapping("/pending")
@@ -178,11 +377,28 @@ public class ArticleController {
                 .build());
     }
 
+    /**
+     * Archive des suppressions, paginee par curseur ; date_from/date_to bornent la date de suppression.
+     */
     @GetMapping("/deleted")
-    public ResponseEntity<ApiResponse<List<ArticleDTO>>> getDeletedArticles() {
+    public ResponseEntity<ApiResponse<List<ArticleDTO>>> getDeletedArticles(
+            @RequestParam(name = "date_from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(name = "date_to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(name = "user_id", required = false) String userId,
+            @RequestParam(name = "deleted_by", required = false) String deletedBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int limit) {
+        DeletedArticleFilter filter = DeletedArticleFilter.builder()
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .userId(userId)
+                .deletedBy(deletedBy)
+                .build();
+        ArticlePageDTO result = articleService.getDeletedArticlesPage(filter, cursor, limit);
         return ResponseEntity.ok(ApiResponse.<List<ArticleDTO>>builder()
                 .success(true)
-                .data(articleService.getAllDeletedArticles())
+                .data(result.getArticles())
+                .pagination(result.getPagination())
                 .build());
     }
 }
@@ -0,0 +1,31 @@
+package com.ecopilot.article.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Reponses conditionnelles des lectures du catalogue : si le client presente l'ETag courant
+ * ({@code If-None-Match}), la reponse est un 304 vide et {@code body} n'est jamais evalue.
+ */
+final class CatalogResponses {
+
+    private CatalogResponses() {
+    }
+
+    static <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body) {
+        // checkNotModified pose deja l'en-tete ETag sur la reponse 304
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
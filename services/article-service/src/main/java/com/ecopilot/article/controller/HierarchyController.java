@@ -1,15 +1,23 @@
 package com.ecopilot.article.controller;
 
+import com.ecopilot.article.dto.ApiResponse;
+import com.ecopilot.article.dto.NiveauNodeDTO;
+import com.ecopilot.article.dto.NiveauPageDTO;
+import com.ecopilot.article.service.CatalogVersion;
 import com.ecopilot.article.service.HierarchyService;
+import com.ecopilot.article.service.ReferenceCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/niveaux")
@@ -17,10 +25,14 @@ import java.util.List;
 public class HierarchyController {
 
     private final HierarchyService hierarchyService;
+    private final CatalogVersion catalogVersion;
+    private final ReferenceCacheInvalidator referenceCacheInvalidator;
 
     @GetMapping
-    public ResponseEntity<List<Object>>  getAllHierarchy() {
-        return ResponseEntity.ok(hierarchyService.getFullHierarchy());
+    public ResponseEntity<Object> getAllHierarchy(@RequestParam(required = false, defaultValue = "1") int page,
+                                                  @RequestParam(required = false, defaultValue = "200") int limit,
+                                                  WebRequest request) {
+        return niveauPage(request, () -> hierarchyService.getLevel(1, null, page, limit));
     }
 
     @GetMapping("/{level}")
@@ -30,37 +42,63 @@ public class HierarchyController {
                                                     @RequestParam(required = false) Long id_niv_3,
                                                     @RequestParam(required = false) Long id_niv_4,
                                                     @RequestParam(required = false) Long id_niv_5,
-                                                    @RequestParam(required = false) Long id_niv_6) {
-        // Handle different level requests with query parameters
-        switch (level) {
-            case 1:
-                return ResponseEntity.ok(hierarchyService.getFullHierarchy());
-            case 2:
-                return id_niv_1 != null ? ResponseEntity.ok(hierarchyService.getNiveauChildren(2, id_niv_1)) 
-                                       : ResponseEntity.ok(hierarchyService.getAllNiveau2());
-            case 3:
-                return id_niv_2 != null ? ResponseEntity.ok(hierarchyService.getNiveauChildren(3, id_niv_2))
-                                       : ResponseEntity.ok(hierarchyService.getAllNiveau3());
-            case 4:
-                return id_niv_3 != null ? ResponseEntity.ok(hierarchyService.getNiveauChildren(4, id_niv_3))
-                                       : ResponseEntity.ok(hierarchyService.getAllNiveau4());
-            case 5:
-                return id_niv_4 != null ? ResponseEntity.ok(hierarchyService.getNiveauChildren(5, id_niv_4))
-                                       : ResponseEntity.ok(hierarchyService.getAllNiveau5());
-            case 6:
-                return id_niv_5 != null ? ResponseEntity.ok(hierarchyService.getNiveauChildren(6, id_niv_5))
-                                       : ResponseEntity.ok(hierarchyService.getAllNiveau6());
-            case 7:
-                // Niveau 7 correspond aux articles enfants d'un niveau 6
-                return id_niv_6 != null ? ResponseEntity.ok(hierarchyService.getNiveauChildren(7, id_niv_6))
-                                       : ResponseEntity.ok(List.of()); // Pas de "tous les articles" via ce endpoint pour l'instant
-            default:
-                return ResponseEntity.badRequest().body("Invalid level");
+                                                    @RequestParam(required = false) Long id_niv_6,
+                                                    @RequestParam(required = false, defaultValue = "1") int page,
+                                                    @RequestParam(required = false, defaultValue = "200") int limit,
+                                                    WebRequest request) {
+        if (level < 1 || level > 7) {
+            return ResponseEntity.badRequest().body("Invalid level");
         }
+        // Le parent d'un niveau N est passe en id_niv_(N-1) ; le niveau 7 correspond aux articles d'un niveau 6
+        Long parentId = switch (level) {
+            case 2 -> id_niv_1;
+            case 3 -> id_niv_2;
+            case 4 -> id_niv_3;
+            case 5 -> id_niv_4;
+            case 6 -> id_niv_5;
+            case 7 -> id_niv_6;
+            default -> null;
+        };
+        return niveauPage(request, () -> hierarchyService.getLevel(level, parentId, page, limit));
+    }
+
+    @GetMapping("/{level}/{id}/children")
+    public ResponseEntity<Object> getNiveauChildren(@PathVariable int level, @PathVariable Long id,
+                                                    @RequestParam(required = false, defaultValue = "1") int page,
+                                                    @RequestParam(required = false, defaultValue = "200") int limit,
+                                                    WebRequest request) {
+        if (level < 1 || level > 6) {
+            return ResponseEntity.badRequest().body("Invalid level");
+        }
+        return niveauPage(request, () -> hierarchyService.getChildren(level, id, page, limit));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Void> refreshHierarchy() {
+        // Pour les niveaux modifies directement en base, hors JPA
+        referenceCacheInvalidator.refreshAll();
+        return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/{level}/{id}")
-    public ResponseEntity<Object> getNiveau(@PathVariable int level, @PathVariable Long id) {
-        return ResponseEntity.ok(hierarchyService.getNiveau(level, id));
+    public ResponseEntity<Object> getNiveau(@PathVariable int level, @PathVariable Long id, WebRequest request) {
+        if (level < 1 || level > 6) {
+            return ResponseEntity.badRequest().body("Invalid level");
+        }
+        return CatalogResponses.conditional(request, catalogVersion.etag(), () -> ApiResponse.<NiveauNodeDTO>builder()
+                .success(true)
+                .data(hierarchyService.getNode(level, id))
+                .build());
+    }
+
+    private ResponseEntity<Object> niveauPage(WebRequest request, Supplier<NiveauPageDTO> page) {
+        return CatalogResponses.conditional(request, catalogVersion.etag(), () -> {
+            NiveauPageDTO result = page.get();
+            return ApiResponse.<List<NiveauNodeDTO>>builder()
+                    .success(true)
+                    .data(result.getNiveaux())
+                    .pagination(result.getPagination())
+                    .build();
+        });
     }
 }
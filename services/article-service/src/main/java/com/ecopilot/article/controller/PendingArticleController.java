@@ -2,12 +2,17 @@ package com.ecopilot.article.controller;
 
 import com.ecopilot.article.dto.ApiResponse;
 import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.dto.ArticlePageDTO;
+import com.ecopilot.article.dto.PendingReviewReportDTO;
 import com.ecopilot.article.service.ArticleService;
+import com.ecopilot.article.service.PendingArticleReviewService;
+import com.ecopilot.article.service.PendingArticleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/pending-articles")
@@ -15,6 +20,8 @@ import java.util.List;
 public class PendingArticleController {
 
     private final ArticleService articleService;
+    private final PendingArticleReviewService pendingArticleReviewService;
+    private final PendingArticleService pendingArticleService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<ArticleDTO>>> getAllPendingArticles() {
@@ -24,6 +31,34 @@ public class PendingArticleController {
                 .build());
     }
 
+    /**
+     * File de revue paginee par curseur ; le total n'est renvoye que pour un filtre sur le statut seul.
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<ApiResponse<List<ArticleDTO>>> getReviewQueue(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String createdBy,
+            @RequestParam(required = false) Integer niveau,
+            @RequestParam(required = false) Long niveauId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "asc") String sortOrder) {
+        ArticlePageDTO result = pendingArticleService.getQueue(status, createdBy, niveau, niveauId, cursor, limit, sortOrder);
+        return ResponseEntity.ok(ApiResponse.<List<ArticleDTO>>builder()
+                .success(true)
+                .data(result.getArticles())
+                .pagination(result.getPagination())
+                .build());
+    }
+
+    @GetMapping("/counts")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getStatusCounts() {
+        return ResponseEntity.ok(ApiResponse.<Map<String, Long>>builder()
+                .success(true)
+                .data(pendingArticleService.getStatusCounts())
+                .build());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ArticleDTO>> getPendingArticleById(@PathVariable Long id) {
         return ResponseEntity.ok(ApiResponse.<ArticleDTO>builder()
@@ -40,6 +75,29 @@ public class PendingArticleController {
                 .build());
     }
 
+    /**
+     * Validation groupee : renvoie le resultat de chaque id dans l'ordre de la requete.
+     */
+    @PostMapping("/approve")
+    public ResponseEntity<ApiResponse<PendingReviewReportDTO>> approvePendingArticles(@RequestBody List<Long> ids) {
+        PendingReviewReportDTO report = pendingArticleReviewService.approve(ids);
+        return ResponseEntity.ok(ApiResponse.<PendingReviewReportDTO>builder()
+                .success(true)
+                .message(report.getSucceeded() + " articles approved, " + report.getFailed() + " not approved")
+                .data(report)
+                .build());
+    }
+
+    @PostMapping("/reject")
+    public ResponseEntity<ApiResponse<PendingReviewReportDTO>> rejectPendingArticles(@RequestBody List<Long> ids) {
+        PendingReviewReportDTO report = pendingArticleReviewService.reject(ids);
+        return ResponseEntity.ok(ApiResponse.<PendingReviewReportDTO>builder()
+                .success(true)
+                .message(report.getSucceeded() + " articles rejected, " + report.getFailed() + " not rejected")
+                .data(report)
+                .build());
+    }
+
     @PostMapping("/{id}/approve")
     public ResponseEntity<ApiResponse<Void>> approvePendingArticle(@PathVariable Long id) {
         articleService.approvePendingArticle(id);
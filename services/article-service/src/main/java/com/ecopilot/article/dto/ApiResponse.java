@@ -1,5 +1,6 @@
 package com.ecopilot.article.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,4 +15,7 @@ public class ApiResponse<T> {
     private T data;
     private String message;
     private String error;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PaginationDTO pagination;
 }
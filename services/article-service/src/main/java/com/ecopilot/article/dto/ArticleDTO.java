@@ -3,6 +3,7 @@ package com.ecopilot.article.dto;
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -153,4 +154,18 @@ public class ArticleDTO {
     @JsonProperty("niv_6")
     @JsonAlias({"Niveau_6", "niveau6", "niveau_6"})
     private String niveau6;
+
+    // Renseignes uniquement par la recherche plein texte ; highlight et snippet sont du HTML
+    // (texte echappe, termes trouves en <mark>)
+    @JsonProperty("score")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double score;
+
+    @JsonProperty("highlight")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlight;
+
+    @JsonProperty("snippet")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String snippet;
 }
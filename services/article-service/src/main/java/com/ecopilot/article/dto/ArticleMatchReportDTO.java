@@ -0,0 +1,46 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleMatchReportDTO {
+    private int total;
+    // Lignes avec au moins un candidat
+    private int matched;
+    private long elapsedMs;
+    private long linesPerSecond;
+    // Dans l'ordre des lignes de la requete
+    private List<ResultDTO> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResultDTO {
+        private String ref;
+        private String designation;
+        private String unite;
+        // Du meilleur au moins bon
+        private List<CandidateDTO> candidates;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CandidateDTO {
+        private Long articleId;
+        private String nomArticle;
+        private String unite;
+        private double score;
+        private boolean uniteMatch;
+    }
+}
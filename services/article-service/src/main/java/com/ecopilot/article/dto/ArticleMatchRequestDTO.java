@@ -0,0 +1,33 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Lignes de DPGF a rapprocher du catalogue ; {@code ref} est renvoye tel quel avec le resultat.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleMatchRequestDTO {
+    private List<LineDTO> lines;
+    // Candidats par ligne, 3 par defaut
+    private Integer limit;
+    // Score minimal d'un candidat (0 a 1), 0.3 par defaut
+    private Double minScore;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineDTO {
+        private String ref;
+        private String designation;
+        private String unite;
+    }
+}
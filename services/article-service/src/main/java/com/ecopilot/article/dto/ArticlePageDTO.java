@@ -0,0 +1,17 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticlePageDTO {
+    private List<ArticleDTO> articles;
+    private PaginationDTO pagination;
+}
@@ -0,0 +1,21 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Ligne compacte du catalogue pour les modeles de lecture des autres services.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSnapshotDTO {
+
+    private Long id;
+    private String nomArticle;
+    private String unite;
+    private BigDecimal pu;
+}
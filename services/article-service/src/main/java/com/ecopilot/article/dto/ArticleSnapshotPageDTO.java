@@ -0,0 +1,19 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSnapshotPageDTO {
+
+    private List<ArticleSnapshotDTO> items;
+    // Dernier id de la page, a repasser en after_id ; null sur la derniere page
+    private Long nextAfterId;
+}
@@ -0,0 +1,22 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkArchiveReportDTO {
+    private long processed;
+    // Lignes des lots refuses par la base
+    private long failed;
+    private int chunks;
+    private long elapsedMs;
+    private long rowsPerSecond;
+    private List<String> errors;
+}
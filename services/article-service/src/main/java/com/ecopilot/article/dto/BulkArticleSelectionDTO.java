@@ -0,0 +1,35 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Articles vises par une suppression ou une restauration groupee : soit une liste d'ids,
+ * soit des criteres combines (au moins un). Les dates portent sur la colonne {@code date},
+ * qui dans l'archive est la date de suppression.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkArticleSelectionDTO {
+    private List<Long> ids;
+    private List<Long> niveau6Ids;
+    private Long fournisseurId;
+    // Bornes inclusives
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasCriteria() {
+        return (niveau6Ids != null && !niveau6Ids.isEmpty()) || fournisseurId != null || dateFrom != null || dateTo != null;
+    }
+}
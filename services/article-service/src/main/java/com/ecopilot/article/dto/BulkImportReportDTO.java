@@ -0,0 +1,19 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportReportDTO {
+    private int total;
+    private int created;
+    private int failed;
+    private List<BulkImportRowDTO> rows;
+}
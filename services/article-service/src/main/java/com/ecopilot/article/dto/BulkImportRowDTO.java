@@ -0,0 +1,25 @@
+package com.ecopilot.article.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultat d'une ligne de l'import en masse, {@code index} etant sa position dans la requete.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkImportRowDTO {
+    public static final String CREATED = "CREATED";
+    public static final String ERROR = "ERROR";
+
+    private int index;
+    private String status;
+    private Long id;
+    private String error;
+}
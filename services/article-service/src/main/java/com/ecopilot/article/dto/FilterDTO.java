@@ -1,5 +1,6 @@
 package com.ecopilot.article.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,7 +10,10 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class FilterDTO {
     private Long id;
     private String nom;
+    // Nombre d'articles du catalogue sous cette valeur
+    private Long count;
 }
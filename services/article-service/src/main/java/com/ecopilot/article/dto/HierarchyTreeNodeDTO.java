@@ -0,0 +1,35 @@
+package com.ecopilot.article.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Noeud de l'arborescence du catalogue (Niveau1..Niveau6). Chaque nom n'apparait qu'une fois ;
+ * seuls les Niveau6 portent des articles.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class HierarchyTreeNodeDTO {
+    private Long id;
+    private String nom;
+    private List<HierarchyTreeNodeDTO> children;
+    private List<ArticleLeaf> articles;
+
+    /**
+     * Article serialise en tableau {@code [id, nom_article]}.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"id", "nom"})
+    public record ArticleLeaf(Long id, String nom) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecopilot.article.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Noeud de l'arborescence (ou article, au niveau 7) sans ses relations JPA.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NiveauNodeDTO {
+    private Long id;
+    private String nom;
+    private int level;
+    private Long parentId;
+    // Nombre d'articles dans le sous-arbre (niveaux 1 a 6)
+    private Long articleCount;
+}
@@ -0,0 +1,17 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NiveauPageDTO {
+    private List<NiveauNodeDTO> niveaux;
+    private PaginationDTO pagination;
+}
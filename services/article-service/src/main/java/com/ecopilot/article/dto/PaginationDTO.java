@@ -0,0 +1,25 @@
+package com.ecopilot.article.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginationDTO {
+    private int limit;
+
+    @JsonProperty("has_more")
+    private boolean hasMore;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    private Long total;
+}
@@ -0,0 +1,29 @@
+package com.ecopilot.article.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultat de la validation ou du rejet groupe pour une proposition ({@code id}).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PendingReviewRowDTO {
+    public static final String APPROVED = "APPROVED";
+    public static final String REJECTED = "REJECTED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String ERROR = "ERROR";
+
+    private Long id;
+    private String status;
+    // Article cree dans le catalogue (validation uniquement)
+    private Long articleId;
+    private String error;
+}
@@ -0,0 +1,43 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepricingReportDTO {
+    private boolean dryRun;
+    private long scanned;
+    // Articles dont le prix change (ecrits, ou a ecrire en simulation)
+    private long changed;
+    private long unchanged;
+    // Sans fourniture : pas de prix de revient, prix conserve
+    private long skipped;
+    private long written;
+    // Prix modifie par ailleurs entre la lecture et l'ecriture : non ecrase
+    private long conflicts;
+    // Lignes des lots refuses par la base
+    private long failed;
+    private int chunks;
+    private long elapsedMs;
+    private long rowsPerSecond;
+
+    // Distribution des ecarts, sur les articles dont le prix change
+    private BigDecimal totalDelta;
+    private BigDecimal minDelta;
+    private BigDecimal maxDelta;
+    private Double medianDeltaPercent;
+    private Double p90DeltaPercent;
+    private Double p99DeltaPercent;
+    // Tranches d'ecart relatif (%), dans l'ordre croissant
+    private Map<String, Long> histogram;
+    private List<String> errors;
+}
@@ -0,0 +1,37 @@
+package com.ecopilot.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Recalcul des prix unitaires : pu = (fourniture + accessoires) x (1 + pertes) x (1 + marge) x (1 - rabais).
+ * Les taux sont des fractions ({@code 0.15} pour 15 %).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepricingRequestDTO {
+    // Perimetre, tout le catalogue si vide
+    private Integer niveau;
+    private List<Long> niveauIds;
+    private List<Long> niveau6Ids;
+    private List<String> expertises;
+
+    private BigDecimal margin;
+    // null : taux propre a chaque article
+    private BigDecimal pertes;
+    private BigDecimal rabais;
+
+    // Par defaut simulation seule : rien n'est ecrit
+    private Boolean dryRun;
+
+    public boolean isDryRunRequested() {
+        return dryRun == null || dryRun;
+    }
+}
@@ -10,6 +10,7 @@ import lombok.EqualsAndHashCode;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -18,7 +19,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "articles")
+@Table(name = "articles", indexes = {
+        @Index(name = "idx_articles_nom_article_id", columnList = "nom_article, id"),
+        @Index(name = "idx_articles_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_articles_pu_id", columnList = "pu, id"),
+        @Index(name = "idx_articles_niv6_id", columnList = "id_niv_6, id")
+})
 public class Article {
 
     @Id
@@ -40,29 +46,29 @@ public class Article {
     @Column(name = "expertise")
     private String expertise;
 
-    @Column(name = "fourniture")
-    private String fourniture;
+    @Column(name = "fourniture", precision = 15, scale = 4)
+    private BigDecimal fourniture;
 
-    @Column(name = "cadence")
-    private String cadence;
+    @Column(name = "cadence", precision = 15, scale = 4)
+    private BigDecimal cadence;
 
-    @Column(name = "accessoires")
-    private String accessoires;
+    @Column(name = "accessoires", precision = 15, scale = 4)
+    private BigDecimal accessoires;
 
     @Column(name = "pertes")
     private String pertes;
 
-    @Column(name = "pu")
-    private String pu;
+    @Column(name = "pu", precision = 15, scale = 4)
+    private BigDecimal pu;
 
-    @Column(name = "prix_cible")
-    private String prixCible;
+    @Column(name = "prix_cible", precision = 15, scale = 4)
+    private BigDecimal prixCible;
 
-    @Column(name = "prix_estime")
-    private String prixEstime;
+    @Column(name = "prix_estime", precision = 15, scale = 4)
+    private BigDecimal prixEstime;
 
-    @Column(name = "prix_consulte")
-    private String prixConsulte;
+    @Column(name = "prix_consulte", precision = 15, scale = 4)
+    private BigDecimal prixConsulte;
 
     @Column(name = "rabais")
     private String rabais;
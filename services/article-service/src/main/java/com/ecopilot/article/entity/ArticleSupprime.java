@@ -9,21 +9,39 @@ import lombok.ToString;
 import lombok.EqualsAndHashCode;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import java.math.BigDecimal;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "articles_supprime")
+@Table(name = "articles_supprime", indexes = {
+        @Index(name = "idx_articles_supprime_date_id", columnList = "date, id"),
+        @Index(name = "idx_articles_supprime_deleted_by_date_id", columnList = "deleted_by, date, id"),
+        @Index(name = "idx_articles_supprime_user_id_date_id", columnList = "user_id, date, id")
+})
 public class ArticleSupprime {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "date")
+    // Id de l'article d'origine, repris a la restauration
+    @Column(name = "article_id")
+    private Long articleId;
+
+    // Date de suppression, cle de partition de la table (voir partition_articles_supprime.sql)
+    @Column(name = "date", nullable = false)
     private java.time.LocalDate date;
 
+    // Date et creation de l'article d'origine, reprises a la restauration
+    @Column(name = "article_date")
+    private java.time.LocalDate articleDate;
+
+    @Column(name = "article_created_at")
+    private java.time.LocalDateTime articleCreatedAt;
+
     @Column(name = "nom_article")
     private String nomArticle;
 
@@ -36,29 +54,29 @@ public class ArticleSupprime {
     @Column(name = "expertise")
     private String expertise;
 
-    @Column(name = "fourniture")
-    private String fourniture;
+    @Column(name = "fourniture", precision = 15, scale = 4)
+    private BigDecimal fourniture;
 
-    @Column(name = "cadence")
-    private String cadence;
+    @Column(name = "cadence", precision = 15, scale = 4)
+    private BigDecimal cadence;
 
-    @Column(name = "accessoires")
-    private String accessoires;
+    @Column(name = "accessoires", precision = 15, scale = 4)
+    private BigDecimal accessoires;
 
     @Column(name = "pertes")
     private String pertes;
 
-    @Column(name = "pu")
-    private String pu;
+    @Column(name = "pu", precision = 15, scale = 4)
+    private BigDecimal pu;
 
-    @Column(name = "prix_cible")
-    private String prixCible;
+    @Column(name = "prix_cible", precision = 15, scale = 4)
+    private BigDecimal prixCible;
 
-    @Column(name = "prix_estime")
-    private String prixEstime;
+    @Column(name = "prix_estime", precision = 15, scale = 4)
+    private BigDecimal prixEstime;
 
-    @Column(name = "prix_consulte")
-    private String prixConsulte;
+    @Column(name = "prix_consulte", precision = 15, scale = 4)
+    private BigDecimal prixConsulte;
 
     @Column(name = "rabais")
     private String rabais;
@@ -7,7 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.EqualsAndHashCode;
+import com.ecopilot.article.service.NiveauChangeListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Builder
@@ -15,6 +18,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 @AllArgsConstructor
 @Entity
 @Table(name = "niveau_1")
+@EntityListeners(NiveauChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "niveau1")
 public class Niveau1 {
 
     @Id
@@ -26,6 +31,7 @@ public class Niveau1 {
     private String nom;
 
     @OneToMany(mappedBy = "niveau1", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "niveau1.niveau2s")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @JsonIgnore
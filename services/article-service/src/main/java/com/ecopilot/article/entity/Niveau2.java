@@ -7,7 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.EqualsAndHashCode;
+import com.ecopilot.article.service.NiveauChangeListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Builder
@@ -15,6 +18,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 @AllArgsConstructor
 @Entity
 @Table(name = "niveau_2")
+@EntityListeners(NiveauChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "niveau2")
 public class Niveau2 {
 
     @Id
@@ -33,6 +38,7 @@ public class Niveau2 {
     private Niveau1 niveau1;
 
     @OneToMany(mappedBy = "niveau2", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "niveau2.niveau3s")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @JsonIgnore
@@ -7,7 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.EqualsAndHashCode;
+import com.ecopilot.article.service.NiveauChangeListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Builder
@@ -15,6 +18,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 @AllArgsConstructor
 @Entity
 @Table(name = "niveau_3")
+@EntityListeners(NiveauChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "niveau3")
 public class Niveau3 {
 
     @Id
@@ -33,6 +38,7 @@ public class Niveau3 {
     private Niveau2 niveau2;
 
     @OneToMany(mappedBy = "niveau3", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "niveau3.niveau4s")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @JsonIgnore
@@ -7,7 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.EqualsAndHashCode;
+import com.ecopilot.article.service.NiveauChangeListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Builder
@@ -15,6 +18,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 @AllArgsConstructor
 @Entity
 @Table(name = "niveau_4")
+@EntityListeners(NiveauChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "niveau4")
 public class Niveau4 {
 
     @Id
@@ -33,6 +38,7 @@ public class Niveau4 {
     private Niveau3 niveau3;
 
     @OneToMany(mappedBy = "niveau4", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "niveau4.niveau5s")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @JsonIgnore
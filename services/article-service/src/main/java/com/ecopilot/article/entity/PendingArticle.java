@@ -18,9 +18,18 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "pending_articles")
+@Table(name = "pending_articles", indexes = {
+        @Index(name = "idx_pending_articles_status_submitted_id", columnList = "status, submitted_at, id"),
+        @Index(name = "idx_pending_articles_created_by_submitted_id", columnList = "created_by, submitted_at, id"),
+        @Index(name = "idx_pending_articles_niv6_submitted_id", columnList = "id_niv_6, submitted_at, id"),
+        @Index(name = "idx_pending_articles_approved_article", columnList = "approved_article_id")
+})
 public class PendingArticle {
 
+    public static final String STATUS_PENDING = "En attente";
+    public static final String STATUS_APPROVED = "Approuve";
+    public static final String STATUS_REJECTED = "Rejete";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -52,8 +61,8 @@ public class PendingArticle {
     @Column(name = "pertes")
     private String pertes;
 
-    @Column(name = "pu", nullable = false)
-    private String pu;
+    @Column(name = "pu", nullable = false, precision = 15, scale = 4)
+    private BigDecimal pu;
 
     @Column(name = "prix_cible")
     private BigDecimal prixCible;
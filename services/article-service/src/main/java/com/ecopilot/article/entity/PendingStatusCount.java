@@ -0,0 +1,26 @@
+package com.ecopilot.article.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nombre de propositions d'un statut, tenu a jour dans la transaction de chaque transition.
+ */
+@Entity
+@Table(name = "pending_status_count")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingStatusCount {
+
+    @Id
+    @Column(name = "status", length = 50)
+    private String status;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+}
@@ -1,14 +1,23 @@
 package com.ecopilot.article.kafka.config;
 
 import com.ecopilot.article.kafka.event.ArticleEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
@@ -22,16 +31,40 @@ public class KafkaConfig {
 
     // Producer Configuration
     @Bean
-    public ProducerFactory<String, ArticleEvent> producerFactory() {
-        Map<String, Object> config = new HashMap<>();
+    public ProducerFactory<String, ArticleEvent> producerFactory(ProducerProfile producerProfile, MeterRegistry meterRegistry) {
+        Map<String, Object> config = new HashMap<>(producerProfile.properties());
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        return new DefaultKafkaProducerFactory<>(config);
+        DefaultKafkaProducerFactory<String, ArticleEvent> factory = new DefaultKafkaProducerFactory<>(config);
+        // Metriques natives du client (kafka.producer.*) : taille des lots, erreurs et buffer plein par topic
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
+    }
+
+    @Bean
+    public KafkaTemplate<String, ArticleEvent> kafkaTemplate(ProducerFactory<String, ArticleEvent> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    // Consumer Configuration
+    @Bean
+    public ConsumerFactory<String, ArticleEvent> consumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
+        config.put(JsonDeserializer.TRUSTED_PACKAGES, "com.ecopilot.article.kafka.event");
+        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ArticleEvent.class.getName());
+        return new DefaultKafkaConsumerFactory<>(config);
     }
 
     @Bean
-    public KafkaTemplate<String, ArticleEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public ConcurrentKafkaListenerContainerFactory<String, ArticleEvent> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ArticleEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        return factory;
     }
 }
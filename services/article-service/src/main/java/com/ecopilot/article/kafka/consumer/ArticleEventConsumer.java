@@ -0,0 +1,39 @@
+package com.ecopilot.article.kafka.consumer;
+
+import com.ecopilot.article.kafka.event.ArticleEvent;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.service.CatalogSync;
+import com.ecopilot.article.service.ReferenceCacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Ecoute des evenements du catalogue par chaque instance (groupe de consommateurs propre a
+ * l'instance) : les ecritures des autres instances rechargent les vues en memoire et font
+ * avancer la version du catalogue ; celles de l'instance sont deja reflechies.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleEventConsumer {
+
+    private final ArticleEventProducer eventProducer;
+    private final ReferenceCacheInvalidator referenceCacheInvalidator;
+    private final CatalogSync catalogSync;
+
+    @KafkaListener(topics = "article.events", groupId = "article-cache-${random.uuid}",
+            properties = "auto.offset.reset=latest")
+    public void handleArticleEvent(ArticleEvent event) {
+        if (eventProducer.isOwnEvent(event)) {
+            return;
+        }
+        if ("HIERARCHY_CHANGED".equals(event.getEventType())) {
+            log.info("Received HIERARCHY_CHANGED event from {}", event.getTimestamp());
+            referenceCacheInvalidator.evictNiveaux();
+        } else {
+            catalogSync.articlesChanged();
+        }
+    }
+}
@@ -6,17 +6,23 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ArticleEvent {
-    private String eventType; // ARTICLE_CREATED, ARTICLE_UPDATED, ARTICLE_DELETED, ARTICLE_VALIDATED
+    private String eventType; // ARTICLE_CREATED, ARTICLE_UPDATED, ARTICLE_DELETED, ARTICLE_VALIDATED, ARTICLES_IMPORTED, ARTICLES_APPROVED, ARTICLES_DELETED, ARTICLES_RESTORED, ARTICLES_REPRICED, HIERARCHY_CHANGED
     private Long articleId;
     private String designation;
     private String unite;
     private Double prixUnitaire;
     private String userId; // User who performed the action
     private LocalDateTime timestamp;
+    // ARTICLES_* : un evenement par lot, articleId porte le premier id du lot
+    private List<Long> articleIds;
+    private Integer count;
+    // Instance emettrice, qui ignore ses propres evenements
+    private String origin;
 }
@@ -1,20 +1,32 @@
 package com.ecopilot.article.kafka.producer;
 
 import com.ecopilot.article.kafka.event.ArticleEvent;
+import com.ecopilot.article.kafka.outbox.EventOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
+/**
+ * Evenements du catalogue, ecrits dans la table outbox de la transaction en cours ;
+ * OutboxRelay les publie sur Kafka apres le commit.
+ *
+ * <p>Un evenement de lot a pour cle son premier article : il n'est pas ordonne avec les evenements
+ * unitaires de ses autres articles. Un consommateur qui tient une copie du catalogue relit donc
+ * l'etat courant plutot que d'appliquer le contenu des evenements.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ArticleEventProducer {
 
-    private final KafkaTemplate<String, ArticleEvent> kafkaTemplate;
+    private final EventOutbox eventOutbox;
     private static final String ARTICLE_EVENTS_TOPIC = "article.events";
+    // Identifie les evenements emis par cette instance
+    private final String instanceId = UUID.randomUUID().toString();
 
     public void sendArticleCreatedEvent(Long articleId, String designation, String unite, Double prixUnitaire, String userId) {
         ArticleEvent event = ArticleEvent.builder()
@@ -71,11 +83,98 @@ public class ArticleEventProducer {
         log.info("Sent ARTICLE_VALIDATED event for article: {}", articleId);
     }
 
+    public void sendArticlesImportedEvent(List<Long> articleIds, String userId) {
+        ArticleEvent event = ArticleEvent.builder()
+                .eventType("ARTICLES_IMPORTED")
+                .articleId(articleIds.get(0))
+                .articleIds(articleIds)
+                .count(articleIds.size())
+                .userId(userId)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        sendEvent(event);
+        log.info("Sent ARTICLES_IMPORTED event for {} articles", articleIds.size());
+    }
+
+    public void sendArticlesApprovedEvent(List<Long> articleIds, String userId) {
+        ArticleEvent event = ArticleEvent.builder()
+                .eventType("ARTICLES_APPROVED")
+                .articleId(articleIds.get(0))
+                .articleIds(articleIds)
+                .count(articleIds.size())
+                .userId(userId)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        sendEvent(event);
+        log.info("Sent ARTICLES_APPROVED event for {} articles", articleIds.size());
+    }
+
+    public void sendArticlesDeletedEvent(List<Long> articleIds, String userId) {
+        ArticleEvent event = ArticleEvent.builder()
+                .eventType("ARTICLES_DELETED")
+                .articleId(articleIds.get(0))
+                .articleIds(articleIds)
+                .count(articleIds.size())
+                .userId(userId)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        sendEvent(event);
+        log.info("Sent ARTICLES_DELETED event for {} articles", articleIds.size());
+    }
+
+    public void sendArticlesRestoredEvent(List<Long> articleIds, String userId) {
+        ArticleEvent event = ArticleEvent.builder()
+                .eventType("ARTICLES_RESTORED")
+                .articleId(articleIds.get(0))
+                .articleIds(articleIds)
+                .count(articleIds.size())
+                .userId(userId)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        sendEvent(event);
+        log.info("Sent ARTICLES_RESTORED event for {} articles", articleIds.size());
+    }
+
+    public void sendArticlesRepricedEvent(List<Long> articleIds, String userId) {
+        ArticleEvent event = ArticleEvent.builder()
+                .eventType("ARTICLES_REPRICED")
+                .articleId(articleIds.get(0))
+                .articleIds(articleIds)
+                .count(articleIds.size())
+                .userId(userId)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        sendEvent(event);
+        log.info("Sent ARTICLES_REPRICED event for {} articles", articleIds.size());
+    }
+
+    public void sendHierarchyChangedEvent() {
+        ArticleEvent event = ArticleEvent.builder()
+                .eventType("HIERARCHY_CHANGED")
+                .origin(instanceId)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        // Cle fixe : les changements d'arborescence restent ordonnes entre eux
+        eventOutbox.append(ARTICLE_EVENTS_TOPIC, "hierarchy", event.getEventType(), event);
+        log.info("Sent HIERARCHY_CHANGED event");
+    }
+
+    /**
+     * Evenement emis par cette instance, relu sur {@code article.events} : ses vues en memoire
+     * sont deja a jour.
+     */
+    public boolean isOwnEvent(ArticleEvent event) {
+        return instanceId.equals(event.getOrigin());
+    }
+
     private void sendEvent(ArticleEvent event) {
-        try {
-            kafkaTemplate.send(ARTICLE_EVENTS_TOPIC, event.getArticleId().toString(), event);
-        } catch (Exception e) {
-            log.error("Failed to send article event: {}", event, e);
-        }
+        event.setOrigin(instanceId);
+        eventOutbox.append(ARTICLE_EVENTS_TOPIC, String.valueOf(event.getArticleId()), event.getEventType(), event);
     }
 }
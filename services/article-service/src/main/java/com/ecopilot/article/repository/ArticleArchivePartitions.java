@@ -0,0 +1,68 @@
+package com.ecopilot.article.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Entretien des partitions mensuelles de {@code articles_supprime}, une fois la table convertie
+ * par {@code scripts/ecopilot_articles/partition_articles_supprime.sql} : creation des mois a
+ * venir (les archivages ne tombent pas dans la partition par defaut) et, si configure,
+ * detachement des mois trop anciens pour que la table active ne porte que l'historique recent.
+ *
+ * <p>Hors PostgreSQL (H2 des tests) ou tant que la table n'est pas partitionnee : rien a faire.
+ */
+@Component
+@Slf4j
+public class ArticleArchivePartitions {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int detachAfterMonths;
+
+    public ArticleArchivePartitions(JdbcTemplate jdbcTemplate,
+                                    @Value("${archive.partitions.months-ahead:3}") int monthsAhead,
+                                    @Value("${archive.partitions.detach-after-months:0}") int detachAfterMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.detachAfterMonths = detachAfterMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintain() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product) || !isPartitioned()) {
+            log.info("articles_supprime is not partitioned on {}: no partition maintenance", product);
+            return;
+        }
+        try {
+            LocalDate month = LocalDate.now().withDayOfMonth(1);
+            for (int k = 0; k <= monthsAhead; k++) {
+                jdbcTemplate.update("CALL public.create_articles_supprime_partition('articles_supprime', ?)",
+                        Date.valueOf(month.plusMonths(k)));
+            }
+            if (detachAfterMonths > 0) {
+                jdbcTemplate.update("CALL public.detach_articles_supprime_partitions(?)",
+                        Date.valueOf(month.minusMonths(detachAfterMonths)));
+            }
+            log.info("articles_supprime partitions ready: {} months ahead, detach after {} months",
+                    monthsAhead, detachAfterMonths > 0 ? detachAfterMonths : "never");
+        } catch (Exception e) {
+            log.warn("articles_supprime partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = to_regclass('public.articles_supprime')",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,147 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.dto.BulkArticleSelectionDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Archivage ensembliste des articles : un {@code INSERT ... SELECT} vers {@code articles_supprime}
+ * puis un {@code DELETE} par lot d'ids, et l'inverse pour la restauration. Les lignes ne
+ * transitent pas par l'application ; seules les colonnes utiles aux index en memoire
+ * (facettes, suggestions) sont relues, au moment du verrouillage.
+ *
+ * <p>Dans l'archive, {@code date} est la date de suppression (cle de partition) ; la date et la
+ * creation de l'article sont conservees a part et reprises a la restauration.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleArchiveRepository {
+
+    /**
+     * Ligne verrouillee avant archivage ou restauration. Pour un article, {@code id} et
+     * {@code articleId} sont egaux ; dans l'archive, {@code articleId} est l'id d'origine (null
+     * pour les lignes archivees avant qu'il soit conserve).
+     */
+    public record LockedRow(Long id, Long articleId, String nomArticle, Long niveau6Id, String expertise, String unite) {
+    }
+
+    private static final String COLUMNS = "nom_article, unite, type, expertise, fourniture, cadence, accessoires, "
+            + "pertes, pu, prix_cible, prix_estime, prix_consulte, rabais, commentaires, user_id, "
+            + "indice_de_confiance, files, fournisseur, id_niv_6";
+
+    private static final String ARCHIVE_SQL = "INSERT INTO articles_supprime "
+            + "(article_id, date, article_date, article_created_at, deleted_by, " + COLUMNS + ") "
+            + "SELECT id, :today, date, created_at, :deletedBy, " + COLUMNS + " FROM articles WHERE id IN (:ids)";
+
+    // Les lignes archivees avant la conservation de la date d'origine gardent l'ancien comportement
+    private static final String RESTORE_SQL = "INSERT INTO articles (id, date, created_at, " + COLUMNS + ") "
+            + "SELECT article_id, COALESCE(article_date, date), COALESCE(article_created_at, :now), " + COLUMNS
+            + " FROM articles_supprime WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Ids du lot suivant, par id croissant apres {@code afterId}, selon les criteres de {@code selection}
+     * (les ids eventuels de la selection sont ignores).
+     */
+    public List<Long> nextArticleIds(BulkArticleSelectionDTO selection, long afterId, int limit) {
+        return nextIds("articles", selection, afterId, limit);
+    }
+
+    public List<Long> nextArchivedIds(BulkArticleSelectionDTO selection, long afterId, int limit) {
+        return nextIds("articles_supprime", selection, afterId, limit);
+    }
+
+    public List<LockedRow> lockArticles(Collection<Long> ids) {
+        return namedJdbcTemplate.query(
+                "SELECT id, nom_article, id_niv_6, expertise, unite FROM articles WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+                new MapSqlParameterSource("ids", ids),
+                (rs, i) -> new LockedRow(rs.getLong(1), rs.getLong(1), rs.getString(2),
+                        rs.getObject(3, Long.class), rs.getString(4), rs.getString(5)));
+    }
+
+    public List<LockedRow> lockArchived(Collection<Long> ids) {
+        return namedJdbcTemplate.query(
+                "SELECT id, article_id, nom_article, id_niv_6, expertise, unite FROM articles_supprime "
+                        + "WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+                new MapSqlParameterSource("ids", ids),
+                (rs, i) -> new LockedRow(rs.getLong(1), rs.getObject(2, Long.class), rs.getString(3),
+                        rs.getObject(4, Long.class), rs.getString(5), rs.getString(6)));
+    }
+
+    /**
+     * Copie les articles dans l'archive puis les supprime. Les propositions approuvees qui les
+     * ont crees perdent leur lien vers l'article (leur statut reste celui d'une proposition
+     * approuvee). Renvoie le nombre de lignes archivees.
+     */
+    public int archive(Collection<Long> ids, String deletedBy, LocalDate today) {
+        MapSqlParameterSource byIds = new MapSqlParameterSource("ids", ids);
+        int archived = namedJdbcTemplate.update(ARCHIVE_SQL, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("today", Date.valueOf(today))
+                .addValue("deletedBy", deletedBy));
+        namedJdbcTemplate.update("UPDATE pending_articles SET approved_article_id = NULL WHERE approved_article_id IN (:ids)", byIds);
+        namedJdbcTemplate.update("DELETE FROM articles WHERE id IN (:ids)", byIds);
+        return archived;
+    }
+
+    /**
+     * Renseigne l'id d'article des lignes archivees qui n'en ont pas (cle = id dans l'archive).
+     */
+    public void assignArticleIds(Map<Long, Long> articleIds) {
+        jdbcTemplate.batchUpdate("UPDATE articles_supprime SET article_id = ? WHERE id = ?",
+                articleIds.entrySet(), articleIds.size(), (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+
+    /**
+     * Reinsere les lignes archivees dans le catalogue sous leur id d'origine puis les retire
+     * de l'archive. Renvoie le nombre d'articles restaures.
+     */
+    public int restore(Collection<Long> archivedIds, LocalDateTime now) {
+        int restored = namedJdbcTemplate.update(RESTORE_SQL, new MapSqlParameterSource()
+                .addValue("ids", archivedIds)
+                .addValue("now", Timestamp.valueOf(now)));
+        namedJdbcTemplate.update("DELETE FROM articles_supprime WHERE id IN (:ids)", new MapSqlParameterSource("ids", archivedIds));
+        return restored;
+    }
+
+    private List<Long> nextIds(String table, BulkArticleSelectionDTO selection, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        StringBuilder sql = new StringBuilder("SELECT id FROM ").append(table).append(" WHERE id > :afterId");
+        if (selection.getNiveau6Ids() != null && !selection.getNiveau6Ids().isEmpty()) {
+            sql.append(" AND id_niv_6 IN (:niveau6Ids)");
+            params.addValue("niveau6Ids", selection.getNiveau6Ids());
+        }
+        if (selection.getFournisseurId() != null) {
+            sql.append(" AND fournisseur = :fournisseurId");
+            params.addValue("fournisseurId", selection.getFournisseurId());
+        }
+        if (selection.getDateFrom() != null) {
+            sql.append(" AND date >= :dateFrom");
+            params.addValue("dateFrom", Date.valueOf(selection.getDateFrom()));
+        }
+        if (selection.getDateTo() != null) {
+            sql.append(" AND date <= :dateTo");
+            params.addValue("dateTo", Date.valueOf(selection.getDateTo()));
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+        return namedJdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+}
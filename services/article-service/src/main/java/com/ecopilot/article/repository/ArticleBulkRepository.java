@@ -0,0 +1,133 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.Article;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ecritures JDBC par lots pour l'import en masse, la validation groupee des propositions
+ * et le recalcul des prix.
+ * La cle {@code articles.id} etant en IDENTITY, Hibernate ne regroupe pas les INSERT : les ids
+ * sont reserves d'un coup dans la sequence de la colonne puis les lignes envoyees en batch
+ * (reWriteBatchedInserts cote driver PostgreSQL).
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO articles (id, date, nom_article, unite, type, expertise, "
+            + "fourniture, cadence, accessoires, pertes, pu, prix_cible, prix_estime, prix_consulte, rabais, "
+            + "commentaires, user_id, indice_de_confiance, files, fournisseur, id_niv_6, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String APPROVE_PENDING_SQL = "UPDATE pending_articles SET status = ?, accepted_by = ?, "
+            + "rejected_by = NULL, reviewed_at = ?, updated_at = ?, approved_article_id = ? WHERE id = ?";
+
+    // Ecrit seulement si le prix n'a pas change depuis la lecture du lot
+    private static final String REPRICE_SQL = "UPDATE articles SET pu = ? WHERE id = ? AND pu IS NOT DISTINCT FROM ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserve {@code count} ids dans la sequence de articles.id, en un aller-retour.
+     */
+    public List<Long> allocateIds(int count) {
+        return jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('articles', 'id')) FROM generate_series(1, ?)",
+                Long.class, count);
+    }
+
+    /**
+     * Insere des articles dont l'id est deja renseigne, en un seul batch JDBC.
+     */
+    public void insertAll(List<Article> articles) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, articles, articles.size(), (ps, a) -> {
+            ps.setLong(1, a.getId());
+            set(ps, 2, a.getDate() != null ? Date.valueOf(a.getDate()) : null, Types.DATE);
+            set(ps, 3, a.getNomArticle(), Types.VARCHAR);
+            set(ps, 4, a.getUnite(), Types.VARCHAR);
+            set(ps, 5, a.getType(), Types.VARCHAR);
+            set(ps, 6, a.getExpertise(), Types.VARCHAR);
+            set(ps, 7, a.getFourniture(), Types.NUMERIC);
+            set(ps, 8, a.getCadence(), Types.NUMERIC);
+            set(ps, 9, a.getAccessoires(), Types.NUMERIC);
+            set(ps, 10, a.getPertes(), Types.VARCHAR);
+            set(ps, 11, a.getPu(), Types.NUMERIC);
+            set(ps, 12, a.getPrixCible(), Types.NUMERIC);
+            set(ps, 13, a.getPrixEstime(), Types.NUMERIC);
+            set(ps, 14, a.getPrixConsulte(), Types.NUMERIC);
+            set(ps, 15, a.getRabais(), Types.VARCHAR);
+            set(ps, 16, a.getCommentaires(), Types.VARCHAR);
+            set(ps, 17, a.getUserId(), Types.VARCHAR);
+            set(ps, 18, a.getIndiceDeConfiance(), Types.INTEGER);
+            set(ps, 19, a.getFiles(), Types.VARCHAR);
+            set(ps, 20, a.getFournisseurId(), Types.BIGINT);
+            set(ps, 21, a.getNiveau6() != null ? a.getNiveau6().getId() : null, Types.BIGINT);
+            set(ps, 22, a.getCreatedAt() != null ? Timestamp.valueOf(a.getCreatedAt()) : null, Types.TIMESTAMP);
+        });
+    }
+
+    /**
+     * Passe les propositions validees au statut {@code status} et les relie a l'article cree
+     * ({@code articleIds}, cle = id de la proposition), en un seul batch JDBC.
+     */
+    public void markPendingApproved(Map<Long, Long> articleIds, String status, String reviewer, LocalDateTime now) {
+        Timestamp reviewedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(APPROVE_PENDING_SQL, articleIds.entrySet(), articleIds.size(), (ps, entry) -> {
+            ps.setString(1, status);
+            ps.setString(2, reviewer);
+            ps.setTimestamp(3, reviewedAt);
+            ps.setTimestamp(4, reviewedAt);
+            ps.setLong(5, entry.getValue());
+            ps.setLong(6, entry.getKey());
+        });
+    }
+
+    /**
+     * Ecrit les nouveaux prix unitaires {@code newPu[k]} des articles {@code ids[k]}, pour les indices
+     * de {@code indexes}, en un seul batch JDBC. Un article dont le prix a ete modifie entre-temps
+     * ({@code pu} different de {@code oldPu[k]}) n'est pas ecrase.
+     *
+     * @return les ids des articles effectivement mis a jour
+     */
+    public List<Long> updatePrices(long[] ids, BigDecimal[] oldPu, BigDecimal[] newPu, List<Integer> indexes) {
+        int[][] counts = jdbcTemplate.batchUpdate(REPRICE_SQL, indexes, indexes.size(), (ps, k) -> {
+            ps.setBigDecimal(1, newPu[k]);
+            ps.setLong(2, ids[k]);
+            set(ps, 3, oldPu[k], Types.NUMERIC);
+        });
+        List<Long> updated = new ArrayList<>(indexes.size());
+        int n = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO : le driver ne detaille pas, ligne comptee comme ecrite
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    updated.add(ids[indexes.get(n)]);
+                }
+                n++;
+            }
+        }
+        return updated;
+    }
+
+    private static void set(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+}
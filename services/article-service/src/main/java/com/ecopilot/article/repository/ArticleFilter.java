@@ -0,0 +1,38 @@
+package com.ecopilot.article.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Criteres de filtrage du catalogue partages par la liste paginee et le comptage.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleFilter {
+    // null : pas de filtre ; liste vide (niveau sans Niveau6, ou sans intersection avec id_niv_6) :
+    // aucun article
+    private List<Long> niveau6Ids;
+    // Filtre sur un niveau superieur (1 a 5), ramene a niveau6Ids par ArticleService
+    private Integer niveau;
+    private List<Long> niveauIds;
+    private List<String> expertises;
+    private List<String> unites;
+    // Bornes inclusives sur le prix unitaire
+    private BigDecimal puMin;
+    private BigDecimal puMax;
+
+    public boolean hasNiveau6Ids() {
+        return niveau6Ids != null && !niveau6Ids.isEmpty();
+    }
+
+    public boolean hasNiveauIds() {
+        return niveau != null && niveauIds != null && !niveauIds.isEmpty();
+    }
+}
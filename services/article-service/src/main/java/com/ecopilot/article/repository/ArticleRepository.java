@@ -2,7 +2,7 @@ package com.ecopilot.article.repository;
 
 import com.ecopilot.article.entity.Article;
 import com.ecopilot.article.dto.ArticleHierarchyDTO;
-import com.ecopilot.article.dto.FilterDTO;
+import com.ecopilot.article.dto.ArticleSnapshotDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,36 +12,76 @@ import com.ecopilot.article.entity.Niveau3;
 import com.ecopilot.article.entity.Niveau4;
 import com.ecopilot.article.entity.Niveau5;
 import com.ecopilot.article.entity.Niveau6;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long> {
-    List<Article> findByNomArticleContainingIgnoreCase(String nomArticle);
-
-    @Query("SELECT DISTINCT a.unite FROM Article a WHERE a.unite IS NOT NULL")
-    List<String> findDistinctUnites();
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleRepositoryCustom {
 
-    @Query("SELECT DISTINCT a.expertise FROM Article a WHERE a.expertise IS NOT NULL")
-    List<String> findDistinctExpertises();
+    // Delimiteurs des termes trouves dans searchFullText (chr(2) et chr(3))
+    String HIGHLIGHT_START = "\u0002";
+    String HIGHLIGHT_STOP = "\u0003";
 
-    @Query("SELECT DISTINCT new com.ecopilot.article.dto.FilterDTO(n1.id, n1.nom) FROM Article a JOIN a.niveau6 n6 JOIN n6.niveau5 n5 JOIN n5.niveau4 n4 JOIN n4.niveau3 n3 JOIN n3.niveau2 n2 JOIN n2.niveau1 n1")
-    List<FilterDTO> findDistinctNiveau1();
+    List<Article> findByNomArticleContainingIgnoreCase(String nomArticle);
 
-    @Query("SELECT DISTINCT new com.ecopilot.article.dto.FilterDTO(n2.id, n2.nom) FROM Article a JOIN a.niveau6 n6 JOIN n6.niveau5 n5 JOIN n5.niveau4 n4 JOIN n4.niveau3 n3 JOIN n3.niveau2 n2 WHERE (:parentId IS NULL OR n2.niveau1.id = :parentId)")
-    List<FilterDTO> findDistinctNiveau2(Long parentId);
+    Slice<Article> findByNomArticleContainingIgnoreCase(String nomArticle, Pageable pageable);
 
-    @Query("SELECT DISTINCT new com.ecopilot.article.dto.FilterDTO(n3.id, n3.nom) FROM Article a JOIN a.niveau6 n6 JOIN n6.niveau5 n5 JOIN n5.niveau4 n4 JOIN n4.niveau3 n3 WHERE (:parentId IS NULL OR n3.niveau2.id = :parentId)")
-    List<FilterDTO> findDistinctNiveau3(Long parentId);
+    long countByNomArticleContainingIgnoreCase(String nomArticle);
 
-    @Query("SELECT DISTINCT new com.ecopilot.article.dto.FilterDTO(n4.id, n4.nom) FROM Article a JOIN a.niveau6 n6 JOIN n6.niveau5 n5 JOIN n5.niveau4 n4 WHERE (:parentId IS NULL OR n4.niveau3.id = :parentId)")
-    List<FilterDTO> findDistinctNiveau4(Long parentId);
+    /**
+     * Recherche plein texte classee (voir FullTextSearchSupport) : correspondance sur
+     * search_vector ou similarite trigramme de mots sur le nom et l'expertise.
+     * Les extraits ts_headline ne sont calcules que pour la page renvoyee.
+     * Colonnes : id, rang, nom surligne, extrait des commentaires. Les termes trouves sont
+     * encadres par {@link #HIGHLIGHT_START} / {@link #HIGHLIGHT_STOP}, absents du texte saisi :
+     * le texte reste brut, a echapper avant tout rendu HTML.
+     */
+    @Query(value = """
+            WITH hits AS (
+                SELECT a.id,
+                       ts_rank_cd(a.search_vector, websearch_to_tsquery('french_unaccent', :query))
+                           + word_similarity(f_unaccent(:query), f_unaccent(coalesce(a.nom_article, ''))) AS rank
+                FROM articles a
+                WHERE a.search_vector @@ websearch_to_tsquery('french_unaccent', :query)
+                   OR f_unaccent(:query) <% f_unaccent(a.nom_article)
+                   OR f_unaccent(:query) <% f_unaccent(a.expertise)
+                ORDER BY rank DESC, a.id
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT h.id,
+                   h.rank,
+                   ts_headline('french_unaccent', coalesce(a.nom_article, ''),
+                               websearch_to_tsquery('french_unaccent', :query),
+                               'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', HighlightAll=true'),
+                   ts_headline('french_unaccent', coalesce(a.commentaires, ''),
+                               websearch_to_tsquery('french_unaccent', :query),
+                               'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MaxWords=20, MinWords=5')
+            FROM hits h
+            JOIN articles a ON a.id = h.id
+            ORDER BY h.rank DESC, h.id
+            """, nativeQuery = true)
+    List<Object[]> searchFullText(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
 
-    @Query("SELECT DISTINCT new com.ecopilot.article.dto.FilterDTO(n5.id, n5.nom) FROM Article a JOIN a.niveau6 n6 JOIN n6.niveau5 n5 WHERE (:parentId IS NULL OR n5.niveau4.id = :parentId)")
-    List<FilterDTO> findDistinctNiveau5(Long parentId);
+    @Query(value = """
+            SELECT count(*)
+            FROM articles a
+            WHERE a.search_vector @@ websearch_to_tsquery('french_unaccent', :query)
+               OR f_unaccent(:query) <% f_unaccent(a.nom_article)
+               OR f_unaccent(:query) <% f_unaccent(a.expertise)
+            """, nativeQuery = true)
+    long countFullText(@Param("query") String query);
 
-    @Query("SELECT DISTINCT new com.ecopilot.article.dto.FilterDTO(n6.id, n6.nom) FROM Article a JOIN a.niveau6 n6 WHERE (:parentId IS NULL OR n6.niveau5.id = :parentId)")
-    List<FilterDTO> findDistinctNiveau6(Long parentId);
+    /**
+     * Nombre d'articles par combinaison (id_niv_6, expertise, unite) : tout ce qu'il faut
+     * pour reconstruire les facettes des filtres en une seule lecture.
+     */
+    @Query("SELECT n6.id, a.expertise, a.unite, COUNT(a) FROM Article a LEFT JOIN a.niveau6 n6 " +
+           "GROUP BY n6.id, a.expertise, a.unite")
+    List<Object[]> countByFacets();
 
     @Query("SELECT new com.ecopilot.article.dto.ArticleHierarchyDTO(" +
            "a.id, a.nomArticle, n1.nom, n2.nom, n3.nom, n4.nom, n5.nom, n6.nom) " +
@@ -54,5 +94,29 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
            "JOIN n2.niveau1 n1")
     List<ArticleHierarchyDTO> findAllArticleHierarchy();
 
+    /**
+     * Id, designation et Niveau6 de chaque article classe : les noms des niveaux viennent
+     * de la photographie de l'arborescence, pas de la base.
+     */
+    @Query("SELECT a.id, a.nomArticle, n6.id FROM Article a JOIN a.niveau6 n6")
+    List<Object[]> findAllHierarchyLeaves();
+
     List<Article> findByNiveau6IdIn(List<Long> ids);
+
+    @Query("SELECT a.id, a.nomArticle FROM Article a WHERE a.niveau6.id = :niveau6Id ORDER BY a.nomArticle, a.id")
+    List<Object[]> findLeavesByNiveau6(@Param("niveau6Id") Long niveau6Id, Pageable pageable);
+
+    @Query("SELECT a.id, a.nomArticle FROM Article a")
+    List<Object[]> findAllNames();
+
+    @Query("SELECT a.id, a.nomArticle, a.unite FROM Article a")
+    List<Object[]> findAllMatchRows();
+
+    @Query("SELECT new com.ecopilot.article.dto.ArticleSnapshotDTO(a.id, a.nomArticle, a.unite, a.pu) " +
+            "FROM Article a WHERE a.id > :afterId ORDER BY a.id")
+    List<ArticleSnapshotDTO> findSnapshotPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.ecopilot.article.dto.ArticleSnapshotDTO(a.id, a.nomArticle, a.unite, a.pu) " +
+            "FROM Article a WHERE a.id IN :ids ORDER BY a.id")
+    List<ArticleSnapshotDTO> findSnapshotByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,31 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.Article;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ArticleRepositoryCustom {
+
+    /**
+     * Page du catalogue triee par {@code sortKey} puis par id.
+     * Si {@code afterValue}/{@code afterId} sont fournis, la page commence juste apres
+     * cette position (keyset) ; sinon {@code offset} est applique depuis le debut.
+     */
+    List<Article> findPage(ArticleFilter filter, ArticleSortKey sortKey, boolean descending,
+                           Object afterValue, Long afterId, int offset, int limit);
+
+    long countMatching(ArticleFilter filter);
+
+    /**
+     * Articles filtres par id croissant, lus par curseur (fetch size) en lecture seule.
+     * A consommer dans une transaction et a fermer apres usage.
+     */
+    Stream<Article> streamMatching(ArticleFilter filter);
+
+    /**
+     * Lot suivant des colonnes de prix des articles filtres, par id croissant apres {@code afterId} :
+     * {@code [id, fourniture, accessoires, pertes, rabais, pu]}, sans charger les entites.
+     */
+    List<Object[]> findPriceRows(ArticleFilter filter, long afterId, int limit);
+}
@@ -0,0 +1,145 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.Article;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Implementation JPQL de la pagination keyset. Le tri ASC place les NULL en dernier,
+ * le tri DESC en premier, de sorte qu'une meme position reste valide d'une page a l'autre.
+ */
+public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Article> findPage(ArticleFilter filter, ArticleSortKey sortKey, boolean descending,
+                                  Object afterValue, Long afterId, int offset, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT a FROM Article a WHERE 1 = 1");
+        appendFilter(jpql, params, filter);
+
+        String property = "a." + sortKey.getProperty();
+        String op = descending ? "<" : ">";
+        if (afterId != null) {
+            params.put("afterId", afterId);
+            if (sortKey.isId()) {
+                jpql.append(" AND a.id ").append(op).append(" :afterId");
+            } else if (afterValue == null) {
+                // Position dans le bloc des NULL : en DESC les valeurs non nulles suivent
+                jpql.append(descending
+                        ? " AND ((" + property + " IS NULL AND a.id < :afterId) OR " + property + " IS NOT NULL)"
+                        : " AND (" + property + " IS NULL AND a.id > :afterId)");
+            } else {
+                params.put("afterValue", afterValue);
+                jpql.append(" AND (").append(property).append(' ').append(op).append(" :afterValue")
+                        .append(" OR (").append(property).append(" = :afterValue AND a.id ").append(op).append(" :afterId)");
+                if (!descending) {
+                    jpql.append(" OR ").append(property).append(" IS NULL");
+                }
+                jpql.append(')');
+            }
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        jpql.append(" ORDER BY ");
+        if (!sortKey.isId()) {
+            jpql.append(property).append(direction).append(descending ? " NULLS FIRST, " : " NULLS LAST, ");
+        }
+        jpql.append("a.id").append(direction);
+
+        TypedQuery<Article> query = entityManager.createQuery(jpql.toString(), Article.class);
+        params.forEach(query::setParameter);
+        if (afterId == null && offset > 0) {
+            query.setFirstResult(offset);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<Article> streamMatching(ArticleFilter filter) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT a FROM Article a WHERE 1 = 1");
+        appendFilter(jpql, params, filter);
+        jpql.append(" ORDER BY a.id");
+
+        TypedQuery<Article> query = entityManager.createQuery(jpql.toString(), Article.class);
+        params.forEach(query::setParameter);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        // Vide le contexte de persistance a chaque lot : le curseur reste ouvert,
+        // seules les entites deja consommees sont relachees
+        int[] read = {0};
+        return query.getResultStream().peek(article -> {
+            if (++read[0] % STREAM_FETCH_SIZE == 0) {
+                entityManager.clear();
+            }
+        });
+    }
+
+    @Override
+    public List<Object[]> findPriceRows(ArticleFilter filter, long afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(
+                "SELECT a.id, a.fourniture, a.accessoires, a.pertes, a.rabais, a.pu FROM Article a WHERE a.id > :afterId");
+        params.put("afterId", afterId);
+        appendFilter(jpql, params, filter);
+        jpql.append(" ORDER BY a.id");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public long countMatching(ArticleFilter filter) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(a) FROM Article a WHERE 1 = 1");
+        appendFilter(jpql, params, filter);
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        params.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    private void appendFilter(StringBuilder jpql, Map<String, Object> params, ArticleFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.hasNiveau6Ids()) {
+            jpql.append(" AND a.niveau6.id IN :niveau6Ids");
+            params.put("niveau6Ids", filter.getNiveau6Ids());
+        } else if (filter.getNiveau6Ids() != null) {
+            jpql.append(" AND 1 = 0");
+        }
+        if (filter.getExpertises() != null && !filter.getExpertises().isEmpty()) {
+            jpql.append(" AND a.expertise IN :expertises");
+            params.put("expertises", filter.getExpertises());
+        }
+        if (filter.getUnites() != null && !filter.getUnites().isEmpty()) {
+            jpql.append(" AND a.unite IN :unites");
+            params.put("unites", filter.getUnites());
+        }
+        if (filter.getPuMin() != null) {
+            jpql.append(" AND a.pu >= :puMin");
+            params.put("puMin", filter.getPuMin());
+        }
+        if (filter.getPuMax() != null) {
+            jpql.append(" AND a.pu <= :puMax");
+            params.put("puMax", filter.getPuMax());
+        }
+    }
+}
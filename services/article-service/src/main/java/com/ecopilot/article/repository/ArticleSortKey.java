@@ -0,0 +1,69 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.Article;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Colonnes autorisees pour le tri du catalogue. Chaque cle est toujours
+ * completee par l'id pour garantir un ordre total (pagination keyset).
+ */
+public enum ArticleSortKey {
+    ID("id"),
+    NOM_ARTICLE("nomArticle"),
+    CREATED_AT("createdAt"),
+    PU("pu");
+
+    private final String property;
+
+    ArticleSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isId() {
+        return this == ID;
+    }
+
+    /**
+     * Resout la valeur envoyee par le front (ID, nom_article, nomArticle, created_at...).
+     * Les valeurs inconnues retombent sur l'id, comme avant l'introduction du tri.
+     */
+    public static ArticleSortKey from(String sortBy) {
+        if (sortBy == null) {
+            return ID;
+        }
+        String normalized = sortBy.replace("_", "").toLowerCase();
+        for (ArticleSortKey key : values()) {
+            if (key.property.toLowerCase().equals(normalized) || key.name().replace("_", "").toLowerCase().equals(normalized)) {
+                return key;
+            }
+        }
+        return ID;
+    }
+
+    public Object readValue(Article article) {
+        switch (this) {
+            case NOM_ARTICLE: return article.getNomArticle();
+            case CREATED_AT: return article.getCreatedAt();
+            case PU: return article.getPu();
+            default: return article.getId();
+        }
+    }
+
+    public Object parseValue(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        switch (this) {
+            case CREATED_AT: return LocalDateTime.parse(raw);
+            case ID: return Long.valueOf(raw);
+            case PU: return new BigDecimal(raw);
+            default: return raw;
+        }
+    }
+}
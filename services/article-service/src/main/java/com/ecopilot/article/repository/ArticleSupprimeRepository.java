@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ArticleSupprimeRepository extends JpaRepository<ArticleSupprime, Long> {
+public interface ArticleSupprimeRepository extends JpaRepository<ArticleSupprime, Long>, ArticleSupprimeRepositoryCustom {
     List<ArticleSupprime> findByUserId(String userId);
     List<ArticleSupprime> findByNomArticleContainingIgnoreCase(String nomArticle);
 }
@@ -0,0 +1,15 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.ArticleSupprime;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ArticleSupprimeRepositoryCustom {
+
+    /**
+     * Page de l'archive, suppressions les plus recentes d'abord (date puis id decroissants).
+     * Si {@code afterDate} et {@code afterId} sont fournis, la page commence juste apres eux.
+     */
+    List<ArticleSupprime> findArchivePage(DeletedArticleFilter filter, LocalDate afterDate, Long afterId, int limit);
+}
@@ -0,0 +1,65 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.ArticleSupprime;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Archive en keyset sur (date, id) decroissants. {@code date} n'est jamais nulle : l'ordre
+ * {@code date DESC, id DESC} est exactement le parcours a l'envers des index (date, id),
+ * (deleted_by, date, id) et (user_id, date, id), et la reprise est une comparaison de lignes
+ * qui borne ce parcours. Chaque partition est lue dans l'ordre de son index et la lecture
+ * s'arrete a la limite, sans parcourir les mois plus anciens.
+ */
+public class ArticleSupprimeRepositoryImpl implements ArticleSupprimeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ArticleSupprime> findArchivePage(DeletedArticleFilter filter, LocalDate afterDate, Long afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT s FROM ArticleSupprime s WHERE 1 = 1");
+        appendFilter(jpql, params, filter);
+
+        if (afterDate != null && afterId != null) {
+            params.put("afterDate", afterDate);
+            params.put("afterId", afterId);
+            jpql.append(" AND (s.date, s.id) < (:afterDate, :afterId)");
+        }
+        jpql.append(" ORDER BY s.date DESC, s.id DESC");
+
+        TypedQuery<ArticleSupprime> query = entityManager.createQuery(jpql.toString(), ArticleSupprime.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    private void appendFilter(StringBuilder jpql, Map<String, Object> params, DeletedArticleFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getDateFrom() != null) {
+            jpql.append(" AND s.date >= :dateFrom");
+            params.put("dateFrom", filter.getDateFrom());
+        }
+        if (filter.getDateTo() != null) {
+            jpql.append(" AND s.date <= :dateTo");
+            params.put("dateTo", filter.getDateTo());
+        }
+        if (filter.getUserId() != null) {
+            jpql.append(" AND s.userId = :userId");
+            params.put("userId", filter.getUserId());
+        }
+        if (filter.getDeletedBy() != null) {
+            jpql.append(" AND s.deletedBy = :deletedBy");
+            params.put("deletedBy", filter.getDeletedBy());
+        }
+    }
+}
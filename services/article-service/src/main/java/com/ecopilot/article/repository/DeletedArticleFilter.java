@@ -0,0 +1,24 @@
+package com.ecopilot.article.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Criteres de l'archive des articles supprimes. Les bornes portent sur la date de
+ * suppression (inclusives) et limitent les partitions lues.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletedArticleFilter {
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+    // Auteur de l'article d'origine
+    private String userId;
+    private String deletedBy;
+}
@@ -2,8 +2,12 @@ package com.ecopilot.article.repository;
 
 import com.ecopilot.article.entity.Niveau1;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 
 @Repository
 public interface Niveau1Repository extends JpaRepository<Niveau1, Long> {
+    @Query("SELECT n.id, n.nom FROM Niveau1 n")
+    List<Object[]> findSnapshotRows();
 }
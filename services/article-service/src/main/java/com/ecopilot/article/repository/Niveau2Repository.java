@@ -2,10 +2,14 @@ package com.ecopilot.article.repository;
 
 import com.ecopilot.article.entity.Niveau2;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface Niveau2Repository extends JpaRepository<Niveau2, Long> {
     List<Niveau2> findByNiveau1Id(Long niveau1Id);
+
+    @Query("SELECT n.id, n.nom, p.id FROM Niveau2 n LEFT JOIN n.niveau1 p")
+    List<Object[]> findSnapshotRows();
 }
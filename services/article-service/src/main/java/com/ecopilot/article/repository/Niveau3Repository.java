@@ -2,10 +2,14 @@ package com.ecopilot.article.repository;
 
 import com.ecopilot.article.entity.Niveau3;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface Niveau3Repository extends JpaRepository<Niveau3, Long> {
     List<Niveau3> findByNiveau2Id(Long niveau2Id);
+
+    @Query("SELECT n.id, n.nom, p.id FROM Niveau3 n LEFT JOIN n.niveau2 p")
+    List<Object[]> findSnapshotRows();
 }
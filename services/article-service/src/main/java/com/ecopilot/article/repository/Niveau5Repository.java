@@ -2,10 +2,14 @@ package com.ecopilot.article.repository;
 
 import com.ecopilot.article.entity.Niveau5;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface Niveau5Repository extends JpaRepository<Niveau5, Long> {
     List<Niveau5> findByNiveau4Id(Long niveau4Id);
+
+    @Query("SELECT n.id, n.nom, p.id, n.idNiveau3 FROM Niveau5 n LEFT JOIN n.niveau4 p")
+    List<Object[]> findSnapshotRows();
 }
@@ -2,10 +2,19 @@ package com.ecopilot.article.repository;
 
 import com.ecopilot.article.entity.Niveau6;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface Niveau6Repository extends JpaRepository<Niveau6, Long> {
     List<Niveau6> findByNiveau5Id(Long niveau5Id);
+
+    @Query("SELECT n.id, n.nom, p.id, n.idNiveau3, n.idNiveau4 FROM Niveau6 n LEFT JOIN n.niveau5 p")
+    List<Object[]> findSnapshotRows();
+
+    @Query("SELECT n.id FROM Niveau6 n WHERE n.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,22 @@
+package com.ecopilot.article.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Criteres de la file de revue des propositions.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingArticleFilter {
+    private String status;
+    private String createdBy;
+    // null : pas de filtre ; liste vide : aucune proposition
+    private List<Long> niveau6Ids;
+}
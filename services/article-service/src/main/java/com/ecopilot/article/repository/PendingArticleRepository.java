@@ -1,14 +1,46 @@
 package com.ecopilot.article.repository;
 
 import com.ecopilot.article.entity.PendingArticle;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PendingArticleRepository extends JpaRepository<PendingArticle, Long> {
+public interface PendingArticleRepository extends JpaRepository<PendingArticle, Long>, PendingArticleRepositoryCustom {
     List<PendingArticle> findByStatus(String status);
     List<PendingArticle> findByCreatedBy(String createdBy);
     List<PendingArticle> findByNomArticleContainingIgnoreCase(String nomArticle);
+
+    @Query("SELECT p.status, COUNT(p) FROM PendingArticle p GROUP BY p.status")
+    List<Object[]> countByStatus();
+
+    /**
+     * Propositions a traiter, verrouillees jusqu'a la fin de la transaction pour qu'une meme
+     * proposition ne soit pas validee deux fois par des revues concurrentes.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PendingArticle p WHERE p.id IN :ids")
+    List<PendingArticle> findAllForReview(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Proposition a traiter seule, verrouillee comme dans {@link #findAllForReview(Collection)}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PendingArticle p WHERE p.id = :id")
+    Optional<PendingArticle> findByIdForReview(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE PendingArticle p SET p.status = :status, p.rejectedBy = :reviewer, p.acceptedBy = NULL, "
+            + "p.reviewedAt = :now, p.updatedAt = :now WHERE p.id IN :ids")
+    int markRejected(@Param("ids") Collection<Long> ids, @Param("status") String status,
+                     @Param("reviewer") String reviewer, @Param("now") LocalDateTime now);
 }
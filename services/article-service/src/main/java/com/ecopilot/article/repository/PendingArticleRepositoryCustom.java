@@ -0,0 +1,17 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.PendingArticle;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PendingArticleRepositoryCustom {
+
+    /**
+     * Page de la file de revue triee par date de soumission puis par id.
+     * Si {@code afterId} est fourni, la page commence juste apres la position
+     * ({@code afterSubmittedAt}, {@code afterId}) ; {@code afterSubmittedAt} peut etre null.
+     */
+    List<PendingArticle> findQueuePage(PendingArticleFilter filter, boolean descending,
+                                       LocalDateTime afterSubmittedAt, Long afterId, int limit);
+}
@@ -0,0 +1,79 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.PendingArticle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File de revue en keyset sur (submitted_at, id). Seuls les criteres fournis entrent dans
+ * la requete, pour que chacun s'appuie sur son index compose (status|created_by|id_niv_6,
+ * submitted_at, id). Meme placement des NULL que {@link ArticleRepositoryImpl}.
+ */
+public class PendingArticleRepositoryImpl implements PendingArticleRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PendingArticle> findQueuePage(PendingArticleFilter filter, boolean descending,
+                                              LocalDateTime afterSubmittedAt, Long afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT p FROM PendingArticle p WHERE 1 = 1");
+        appendFilter(jpql, params, filter);
+
+        String op = descending ? "<" : ">";
+        if (afterId != null) {
+            params.put("afterId", afterId);
+            if (afterSubmittedAt == null) {
+                jpql.append(descending
+                        ? " AND ((p.submittedAt IS NULL AND p.id < :afterId) OR p.submittedAt IS NOT NULL)"
+                        : " AND (p.submittedAt IS NULL AND p.id > :afterId)");
+            } else {
+                params.put("afterSubmittedAt", afterSubmittedAt);
+                jpql.append(" AND (p.submittedAt ").append(op).append(" :afterSubmittedAt")
+                        .append(" OR (p.submittedAt = :afterSubmittedAt AND p.id ").append(op).append(" :afterId)");
+                if (!descending) {
+                    jpql.append(" OR p.submittedAt IS NULL");
+                }
+                jpql.append(')');
+            }
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        jpql.append(" ORDER BY p.submittedAt").append(direction).append(descending ? " NULLS FIRST" : " NULLS LAST")
+                .append(", p.id").append(direction);
+
+        TypedQuery<PendingArticle> query = entityManager.createQuery(jpql.toString(), PendingArticle.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    private void appendFilter(StringBuilder jpql, Map<String, Object> params, PendingArticleFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getStatus() != null) {
+            jpql.append(" AND p.status = :status");
+            params.put("status", filter.getStatus());
+        }
+        if (filter.getCreatedBy() != null) {
+            jpql.append(" AND p.createdBy = :createdBy");
+            params.put("createdBy", filter.getCreatedBy());
+        }
+        if (filter.getNiveau6Ids() != null) {
+            if (filter.getNiveau6Ids().isEmpty()) {
+                jpql.append(" AND 1 = 0");
+            } else {
+                jpql.append(" AND p.niveau6.id IN :niveau6Ids");
+                params.put("niveau6Ids", filter.getNiveau6Ids());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.PendingStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PendingStatusCountRepository extends JpaRepository<PendingStatusCount, String> {
+
+    /**
+     * Ajoute {@code delta} au compteur du statut ; renvoie 0 si le statut n'a pas de ligne.
+     */
+    @Modifying
+    @Query("UPDATE PendingStatusCount c SET c.total = c.total + :delta WHERE c.status = :status")
+    int add(@Param("status") String status, @Param("delta") long delta);
+}
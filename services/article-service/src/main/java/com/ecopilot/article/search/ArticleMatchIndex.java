@@ -0,0 +1,607 @@
+package com.ecopilot.article.search;
+
+import com.ecopilot.article.repository.ArticleRepository;
+import com.ecopilot.article.transaction.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Index de rapprochement des lignes de DPGF (designation, unite) avec le catalogue, en memoire
+ * sur {@code nomArticle} et {@code unite}.
+ *
+ * <p>Meme organisation que {@link ArticleSuggestIndex} : segment immuable charge au demarrage,
+ * surcouche des ecritures et suppressions, fusion en arriere-plan. Le segment porte un index
+ * inverse des mots et, sur son vocabulaire, un index des trigrammes : un mot de la ligne absent du
+ * catalogue (faute de frappe, abreviation) est rapproche des mots voisins. Les articles qui
+ * partagent les mots les plus rares de la ligne sont retenus, puis classes par similarite de
+ * trigrammes de la designation complete (celle de pg_trgm), l'unite departageant.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleMatchIndex {
+
+    public record Line(String designation, String unite) {
+    }
+
+    /**
+     * {@code score} entre 0 et 1 ; {@code uniteMatch} seulement si la ligne porte une unite.
+     */
+    public record Match(Long id, String nomArticle, String unite, double score, boolean uniteMatch) {
+    }
+
+    private static final int COMPACTION_THRESHOLD = 2_000;
+    // Articles reclasses par similarite complete, pour chaque ligne
+    private static final int RERANK_CANDIDATES = 64;
+    // Un mot present dans plus de 10 % du catalogue ne sert qu'au classement, sauf si la ligne
+    // n'a que des mots aussi frequents ; on en parcourt alors le debut (designations courtes)
+    private static final double COMMON_TOKEN_RATIO = 0.10;
+    private static final int MAX_COMMON_POSTINGS = 20_000;
+    private static final int MAX_EXPANSIONS = 8;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final double MIN_TOKEN_SIMILARITY = 0.45;
+    private static final float PREFIX_WEIGHT = 0.8f;
+    private static final double UNITE_WEIGHT = 0.15;
+    private static final int SPLIT_THRESHOLD = 64;
+    private static final Comparator<Match> WORST_FIRST = Comparator.comparingDouble(Match::score)
+            .thenComparing(Comparator.comparingLong(Match::id).reversed());
+
+    // Trigrammes codes sur 37 symboles : espace, a-z, 0-9 (alphabet de TextNormalizer)
+    private static final int ALPHABET = 37;
+    private static final int TRIGRAM_CODES = ALPHABET * ALPHABET * ALPHABET;
+
+    private static final Map<String, String> UNITE_ALIASES = Map.ofEntries(
+            Map.entry("un", "u"), Map.entry("unite", "u"), Map.entry("pc", "u"), Map.entry("pce", "u"),
+            Map.entry("piece", "u"), Map.entry("pieces", "u"),
+            Map.entry("ensemble", "ens"),
+            Map.entry("f", "ft"), Map.entry("fft", "ft"), Map.entry("forfait", "ft"),
+            Map.entry("m", "ml"), Map.entry("mlin", "ml"),
+            Map.entry("tonne", "t"), Map.entry("tonnes", "t"),
+            Map.entry("litre", "l"), Map.entry("litres", "l"),
+            Map.entry("heure", "h"), Map.entry("heures", "h"));
+
+    private final ArticleRepository articleRepository;
+
+    private volatile Segment base = Segment.build(List.of());
+    private final Map<Long, Doc> overlay = new ConcurrentHashMap<>();
+    private final Set<Long> tombstones = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "article-match-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Tableaux de travail d'un thread, reallocation a chaque nouveau segment
+    private final ThreadLocal<Scratch> scratch = new ThreadLocal<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = articleRepository.findAllMatchRows();
+        List<Doc> docs = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Doc doc = Doc.of((Long) row[0], (String) row[1], (String) row[2]);
+            if (doc != null) {
+                docs.add(doc);
+            }
+        }
+        base = Segment.build(docs);
+        log.info("Article match index built: {} articles, {} tokens", base.ids.length, base.tokens.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compactor.shutdownNow();
+    }
+
+    /**
+     * Enregistre une creation ou une modification, visible apres le commit.
+     */
+    public void upsert(Long id, String nomArticle, String unite) {
+        if (id == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            Doc doc = Doc.of(id, nomArticle, unite);
+            if (doc == null) {
+                overlay.remove(id);
+                tombstones.add(id);
+            } else {
+                overlay.put(id, doc);
+            }
+            maybeCompact();
+        });
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            overlay.remove(id);
+            tombstones.add(id);
+            maybeCompact();
+        });
+    }
+
+    /**
+     * Les {@code limit} meilleurs articles de chaque ligne, de score au moins {@code minScore},
+     * dans l'ordre des lignes. Les lignes sont traitees en parallele.
+     */
+    public List<List<Match>> matchAll(List<Line> lines, int limit, double minScore) {
+        Segment segment = base;
+        List<Doc> recent = new ArrayList<>(overlay.values());
+        Set<Long> hidden = new HashSet<>(tombstones);
+        hidden.addAll(overlay.keySet());
+
+        @SuppressWarnings("unchecked")
+        List<Match>[] results = new List[lines.size()];
+        ForkJoinPool.commonPool().invoke(new MatchLines(segment, recent, hidden, lines, results, limit, minScore,
+                0, lines.size()));
+        return Arrays.asList(results);
+    }
+
+    public List<Match> match(Line line, int limit, double minScore) {
+        return matchAll(List.of(line), limit, minScore).get(0);
+    }
+
+    private final class MatchLines extends RecursiveAction {
+
+        private final Segment segment;
+        private final List<Doc> recent;
+        private final Set<Long> hidden;
+        private final List<Line> lines;
+        private final List<Match>[] results;
+        private final int limit;
+        private final double minScore;
+        private final int from;
+        private final int to;
+
+        MatchLines(Segment segment, List<Doc> recent, Set<Long> hidden, List<Line> lines, List<Match>[] results,
+                   int limit, double minScore, int from, int to) {
+            this.segment = segment;
+            this.recent = recent;
+            this.hidden = hidden;
+            this.lines = lines;
+            this.results = results;
+            this.limit = limit;
+            this.minScore = minScore;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Scratch work = scratchFor(segment);
+                for (int i = from; i < to; i++) {
+                    results[i] = matchLine(segment, recent, hidden, work, lines.get(i), limit, minScore);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MatchLines(segment, recent, hidden, lines, results, limit, minScore, from, middle),
+                    new MatchLines(segment, recent, hidden, lines, results, limit, minScore, middle, to));
+        }
+    }
+
+    private Scratch scratchFor(Segment segment) {
+        Scratch work = scratch.get();
+        if (work == null || work.segment != segment) {
+            work = new Scratch(segment);
+            scratch.set(work);
+        }
+        return work;
+    }
+
+    private static List<Match> matchLine(Segment segment, List<Doc> recent, Set<Long> hidden, Scratch work,
+                                         Line line, int limit, double minScore) {
+        String normalized = line == null ? "" : TextNormalizer.normalize(line.designation());
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int[] queryTrigrams = trigrams(normalized);
+        String queryUnite = uniteKey(line.unite());
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+
+        // 1. Candidats : articles partageant les mots (ou leurs voisins) les plus rares de la ligne
+        List<Expansion> expansions = new ArrayList<>();
+        for (String token : new HashSet<>(Arrays.asList(normalized.split(" ")))) {
+            expand(segment, work, token, expansions);
+        }
+        int size = segment.ids.length;
+        int commonDf = Math.max(1, (int) (size * COMMON_TOKEN_RATIO));
+        boolean hasSelective = expansions.stream().anyMatch(e -> segment.postings[e.token].length <= commonDf);
+        for (Expansion expansion : expansions) {
+            int[] posting = segment.postings[expansion.token];
+            if (hasSelective && posting.length > commonDf) {
+                continue;
+            }
+            float weight = expansion.weight * (float) Math.log(1.0 + (double) size / posting.length);
+            int scanned = Math.min(posting.length, MAX_COMMON_POSTINGS);
+            for (int i = 0; i < scanned; i++) {
+                int ord = posting[i];
+                if (work.scores[ord] == 0f) {
+                    work.touched[work.touchedCount++] = ord;
+                }
+                work.scores[ord] += weight;
+            }
+        }
+        int[] candidates = work.takeBest(RERANK_CANDIDATES);
+
+        // 2. Classement par similarite de la designation complete, puis unite
+        for (int ord : candidates) {
+            long id = segment.ids[ord];
+            if (!hidden.isEmpty() && hidden.contains(id)) {
+                continue;
+            }
+            double similarity = similarity(queryTrigrams, trigrams(segment.normalized[ord]));
+            offer(top, limit, minScore, id, segment.names[ord], segment.unites[ord], similarity,
+                    queryUnite, segment.uniteKeys[ord]);
+        }
+        for (Doc doc : recent) {
+            offer(top, limit, minScore, doc.id, doc.nom, doc.unite, similarity(queryTrigrams, doc.trigrams),
+                    queryUnite, doc.uniteKey);
+        }
+
+        List<Match> ranked = new ArrayList<>(top);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked;
+    }
+
+    private static void offer(PriorityQueue<Match> top, int limit, double minScore, long id, String nom, String unite,
+                              double similarity, String queryUnite, String uniteKey) {
+        boolean uniteMatch = queryUnite != null && queryUnite.equals(uniteKey);
+        double score = queryUnite == null ? similarity
+                : similarity * (1 - UNITE_WEIGHT) + (uniteMatch ? UNITE_WEIGHT : 0);
+        if (score < minScore) {
+            return;
+        }
+        Match match = new Match(id, nom, unite, score, uniteMatch);
+        if (top.size() < limit) {
+            top.add(match);
+        } else if (WORST_FIRST.compare(match, top.peek()) > 0) {
+            top.poll();
+            top.add(match);
+        }
+    }
+
+    private record Expansion(int token, float weight) {
+    }
+
+    /**
+     * Mots du vocabulaire retenus pour un mot de la ligne : le mot lui-meme, les mots qui le
+     * prolongent (abreviation) et, s'il est inconnu, les mots les plus proches en trigrammes.
+     */
+    private static void expand(Segment segment, Scratch work, String token, List<Expansion> expansions) {
+        int exact = Arrays.binarySearch(segment.tokens, token);
+        if (exact >= 0) {
+            expansions.add(new Expansion(exact, 1f));
+        }
+        if (token.length() >= 3) {
+            int start = exact >= 0 ? exact + 1 : -exact - 1;
+            for (int t = start, n = 0; t < segment.tokens.length && n < MAX_EXPANSIONS
+                    && segment.tokens[t].startsWith(token); t++, n++) {
+                expansions.add(new Expansion(t, PREFIX_WEIGHT));
+            }
+        }
+        if (exact >= 0 || token.length() < MIN_FUZZY_LENGTH) {
+            return;
+        }
+        int[] tokenTrigrams = trigrams(token);
+        for (int code : tokenTrigrams) {
+            for (int t : segment.trigramTokens[code]) {
+                if (work.shared[t]++ == 0) {
+                    work.sharedTouched[work.sharedCount++] = t;
+                }
+            }
+        }
+        PriorityQueue<Expansion> nearest = new PriorityQueue<>(MAX_EXPANSIONS + 1, Comparator.comparingDouble(Expansion::weight));
+        for (int i = 0; i < work.sharedCount; i++) {
+            int t = work.sharedTouched[i];
+            int shared = work.shared[t];
+            work.shared[t] = 0;
+            float similarity = (float) shared / (tokenTrigrams.length + segment.tokenTrigramCounts[t] - shared);
+            if (similarity >= MIN_TOKEN_SIMILARITY) {
+                nearest.add(new Expansion(t, similarity));
+                if (nearest.size() > MAX_EXPANSIONS) {
+                    nearest.poll();
+                }
+            }
+        }
+        work.sharedCount = 0;
+        expansions.addAll(nearest);
+    }
+
+    private void maybeCompact() {
+        if (overlay.size() + tombstones.size() >= COMPACTION_THRESHOLD && compacting.compareAndSet(false, true)) {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Fusionne la surcouche dans un nouveau segment. Seules les entrees capturees sont retirees
+     * ensuite : une ecriture arrivee pendant la fusion reste dans la surcouche, qui prime sur le segment.
+     */
+    void compact() {
+        Map<Long, Doc> capturedOverlay = new HashMap<>(overlay);
+        Set<Long> capturedTombstones = new HashSet<>(tombstones);
+        Segment current = base;
+
+        List<Doc> docs = new ArrayList<>(current.ids.length + capturedOverlay.size());
+        for (int ord = 0; ord < current.ids.length; ord++) {
+            long id = current.ids[ord];
+            if (!capturedTombstones.contains(id) && !capturedOverlay.containsKey(id)) {
+                docs.add(new Doc(id, current.names[ord], current.normalized[ord], current.unites[ord],
+                        current.uniteKeys[ord], null));
+            }
+        }
+        docs.addAll(capturedOverlay.values());
+
+        base = Segment.build(docs);
+        capturedOverlay.forEach(overlay::remove);
+        tombstones.removeAll(capturedTombstones);
+        log.debug("Article match index compacted: {} articles", docs.size());
+    }
+
+    /**
+     * Unite comparable : "M²", "m2" et "m 2" donnent "m2", "Unite" et "pce" donnent "u".
+     * {@code null} si absente.
+     */
+    static String uniteKey(String unite) {
+        if (unite == null) {
+            return null;
+        }
+        String key = TextNormalizer.normalize(unite.replace("²", "2").replace("³", "3")).replace(" ", "");
+        return key.isEmpty() ? null : UNITE_ALIASES.getOrDefault(key, key);
+    }
+
+    /**
+     * Trigrammes distincts et tries d'un texte normalise, chaque mot borde comme dans pg_trgm
+     * (deux espaces devant, un derriere).
+     */
+    static int[] trigrams(String normalized) {
+        int[] codes = new int[normalized.length() + 2 * (1 + normalized.length() / 2)];
+        int count = 0;
+        for (String word : normalized.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            int c1 = 0;
+            int c2 = 0;
+            for (int i = 0; i <= word.length(); i++) {
+                int c3 = i < word.length() ? symbol(word.charAt(i)) : 0;
+                if (count == codes.length) {
+                    codes = Arrays.copyOf(codes, codes.length * 2);
+                }
+                codes[count++] = (c1 * ALPHABET + c2) * ALPHABET + c3;
+                c1 = c2;
+                c2 = c3;
+            }
+        }
+        Arrays.sort(codes, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || codes[i] != codes[unique - 1]) {
+                codes[unique++] = codes[i];
+            }
+        }
+        return Arrays.copyOf(codes, unique);
+    }
+
+    /**
+     * Trigrammes communs sur trigrammes reunis, de 0 a 1.
+     */
+    static double similarity(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) shared / (a.length + b.length - shared);
+    }
+
+    private static int symbol(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return 1 + c - 'a';
+        }
+        if (c >= '0' && c <= '9') {
+            return 27 + c - '0';
+        }
+        return 0;
+    }
+
+    /**
+     * {@code normalized} est la designation normalisee ; {@code trigrams} n'est calcule que pour
+     * les entrees de la surcouche, comparees a chaque ligne.
+     */
+    private record Doc(long id, String nom, String normalized, String unite, String uniteKey, int[] trigrams) {
+        static Doc of(Long id, String nom, String unite) {
+            String normalized = TextNormalizer.normalize(nom);
+            if (id == null || normalized.isEmpty()) {
+                return null;
+            }
+            return new Doc(id, nom, normalized, unite, ArticleMatchIndex.uniteKey(unite), ArticleMatchIndex.trigrams(normalized));
+        }
+    }
+
+    /**
+     * Scores par article et compteurs par mot du vocabulaire, remis a zero apres chaque ligne.
+     */
+    private static final class Scratch {
+        final Segment segment;
+        final float[] scores;
+        final int[] touched;
+        int touchedCount;
+        final int[] shared;
+        final int[] sharedTouched;
+        int sharedCount;
+
+        Scratch(Segment segment) {
+            this.segment = segment;
+            this.scores = new float[segment.ids.length];
+            this.touched = new int[segment.ids.length];
+            this.shared = new int[segment.tokens.length];
+            this.sharedTouched = new int[segment.tokens.length];
+        }
+
+        int[] takeBest(int count) {
+            PriorityQueue<Integer> best = new PriorityQueue<>(count + 1, Comparator.comparingDouble(ord -> scores[ord]));
+            for (int i = 0; i < touchedCount; i++) {
+                int ord = touched[i];
+                if (best.size() < count) {
+                    best.add(ord);
+                } else if (scores[ord] > scores[best.peek()]) {
+                    best.poll();
+                    best.add(ord);
+                }
+            }
+            int[] result = best.stream().mapToInt(Integer::intValue).toArray();
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0f;
+            }
+            touchedCount = 0;
+            return result;
+        }
+    }
+
+    /**
+     * Segment immuable : ordinaux 0..n-1 (par longueur de designation croissante), mots tries
+     * avec leurs listes d'ordinaux, et pour chaque trigramme les mots du vocabulaire qui le contiennent.
+     */
+    private static final class Segment {
+        final long[] ids;
+        final String[] names;
+        final String[] normalized;
+        final String[] unites;
+        final String[] uniteKeys;
+        final String[] tokens;
+        final int[][] postings;
+        final int[][] trigramTokens;
+        final int[] tokenTrigramCounts;
+
+        private Segment(long[] ids, String[] names, String[] normalized, String[] unites, String[] uniteKeys,
+                        String[] tokens, int[][] postings, int[][] trigramTokens, int[] tokenTrigramCounts) {
+            this.ids = ids;
+            this.names = names;
+            this.normalized = normalized;
+            this.unites = unites;
+            this.uniteKeys = uniteKeys;
+            this.tokens = tokens;
+            this.postings = postings;
+            this.trigramTokens = trigramTokens;
+            this.tokenTrigramCounts = tokenTrigramCounts;
+        }
+
+        static Segment build(Collection<Doc> docs) {
+            int size = docs.size();
+            long[] ids = new long[size];
+            String[] names = new String[size];
+            String[] normalized = new String[size];
+            String[] unites = new String[size];
+            String[] uniteKeys = new String[size];
+            Map<String, int[]> counts = new HashMap<>();
+            List<String[]> docTokens = new ArrayList<>(size);
+
+            List<Doc> byLength = new ArrayList<>(docs);
+            byLength.sort(Comparator.comparingInt(doc -> doc.normalized.length()));
+
+            int ord = 0;
+            for (Doc doc : byLength) {
+                ids[ord] = doc.id;
+                names[ord] = doc.nom;
+                normalized[ord] = doc.normalized;
+                unites[ord] = doc.unite;
+                uniteKeys[ord] = doc.uniteKey;
+                String[] unique = Arrays.stream(doc.normalized.split(" "))
+                        .filter(token -> !token.isEmpty())
+                        .distinct()
+                        .toArray(String[]::new);
+                docTokens.add(unique);
+                for (String token : unique) {
+                    counts.computeIfAbsent(token, k -> new int[1])[0]++;
+                }
+                ord++;
+            }
+
+            String[] tokens = counts.keySet().toArray(new String[0]);
+            Arrays.sort(tokens);
+            Map<String, Integer> tokenIndex = new HashMap<>(tokens.length * 2);
+            int[][] postings = new int[tokens.length][];
+            for (int t = 0; t < tokens.length; t++) {
+                tokenIndex.put(tokens[t], t);
+                postings[t] = new int[counts.get(tokens[t])[0]];
+            }
+            int[] fill = new int[tokens.length];
+            for (int d = 0; d < size; d++) {
+                for (String token : docTokens.get(d)) {
+                    int t = tokenIndex.get(token);
+                    postings[t][fill[t]++] = d;
+                }
+            }
+
+            // Index des trigrammes du vocabulaire, en deux passes (comptage puis remplissage)
+            int[][] tokenTrigrams = new int[tokens.length][];
+            int[] tokenTrigramCounts = new int[tokens.length];
+            int[] perTrigram = new int[TRIGRAM_CODES];
+            for (int t = 0; t < tokens.length; t++) {
+                tokenTrigrams[t] = trigrams(tokens[t]);
+                tokenTrigramCounts[t] = tokenTrigrams[t].length;
+                for (int code : tokenTrigrams[t]) {
+                    perTrigram[code]++;
+                }
+            }
+            int[][] trigramTokens = new int[TRIGRAM_CODES][];
+            int[] none = new int[0];
+            for (int code = 0; code < TRIGRAM_CODES; code++) {
+                trigramTokens[code] = perTrigram[code] == 0 ? none : new int[perTrigram[code]];
+                perTrigram[code] = 0;
+            }
+            for (int t = 0; t < tokens.length; t++) {
+                for (int code : tokenTrigrams[t]) {
+                    trigramTokens[code][perTrigram[code]++] = t;
+                }
+            }
+            return new Segment(ids, names, normalized, unites, uniteKeys, tokens, postings, trigramTokens,
+                    tokenTrigramCounts);
+        }
+    }
+}
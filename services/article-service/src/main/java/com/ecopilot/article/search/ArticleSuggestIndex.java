@@ -0,0 +1,368 @@
+package com.ecopilot.article.search;
+
+import com.ecopilot.article.repository.ArticleRepository;
+import com.ecopilot.article.transaction.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Index d'autocompletion en memoire sur {@code nomArticle}.
+ *
+ * <p>Le catalogue est charge au demarrage dans un segment compact et immuable
+ * (tokens tries + listes d'ordinaux). Les ecritures de {@code ArticleService} vont dans
+ * une petite surcouche (ajouts/modifications) et un ensemble de suppressions, fusionnes
+ * dans un nouveau segment en arriere-plan quand ils grossissent. Une recherche est une
+ * recherche dichotomique du prefixe puis un parcours borne des listes, sans requete SQL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleSuggestIndex {
+
+    public record Suggestion(Long id, String nomArticle) {
+    }
+
+    private static final int COMPACTION_THRESHOLD = 2_000;
+    // Borne le cout d'un prefixe tres court ("b") sur un gros catalogue ; les listes etant
+    // triees par longueur de designation, les candidats ecartes sont les moins pertinents
+    private static final int MAX_SCANNED_POSTINGS = 4_000;
+
+    private final ArticleRepository articleRepository;
+
+    private volatile Segment base = Segment.build(List.of());
+    private final Map<Long, Doc> overlay = new ConcurrentHashMap<>();
+    private final Set<Long> tombstones = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "article-suggest-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = articleRepository.findAllNames();
+        List<Doc> docs = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                docs.add(Doc.of((Long) row[0], (String) row[1]));
+            }
+        }
+        base = Segment.build(docs);
+        log.info("Article suggest index built: {} articles, {} tokens", base.ids.length, base.tokens.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compactor.shutdownNow();
+    }
+
+    /**
+     * Enregistre une creation ou une modification, visible apres le commit.
+     */
+    public void upsert(Long id, String nomArticle) {
+        if (id == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            if (nomArticle == null || TextNormalizer.normalize(nomArticle).isEmpty()) {
+                overlay.remove(id);
+                tombstones.add(id);
+            } else {
+                overlay.put(id, Doc.of(id, nomArticle));
+            }
+            maybeCompact();
+        });
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            overlay.remove(id);
+            tombstones.add(id);
+            maybeCompact();
+        });
+    }
+
+    /**
+     * Les {@code limit} meilleures designations dont chaque mot commence par un mot de la requete.
+     * Classement : designation identique, puis commencant par la requete, puis mots entiers, puis la plus courte.
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        List<String> queryTokens = TextNormalizer.tokens(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Query q = new Query(queryTokens);
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, Candidate.WORST_FIRST);
+
+        Segment segment = base;
+        boolean checkOverlay = !overlay.isEmpty();
+        boolean checkTombstones = !tombstones.isEmpty();
+
+        // Le mot de la requete dont le prefixe couvre le moins d'articles pilote le parcours
+        int from = 0;
+        int last = 0;
+        long bestCount = Long.MAX_VALUE;
+        for (String token : queryTokens) {
+            int start = segment.lowerBound(token);
+            int end = start;
+            long count = 0;
+            while (end < segment.tokens.length && segment.tokens[end].startsWith(token) && count < bestCount) {
+                count += segment.postings[end].length;
+                end++;
+            }
+            while (end < segment.tokens.length && segment.tokens[end].startsWith(token)) {
+                end++;
+            }
+            if (count < bestCount) {
+                bestCount = count;
+                from = start;
+                last = end;
+            }
+        }
+
+        // Un article peut apparaitre sous plusieurs tokens du meme prefixe (beton, betonnage)
+        BitSet seen = last - from > 1 ? new BitSet(segment.ids.length) : null;
+        int scanned = 0;
+        for (int t = from; t < last && scanned < MAX_SCANNED_POSTINGS; t++) {
+            int[] posting = segment.postings[t];
+            for (int i = 0; i < posting.length && scanned < MAX_SCANNED_POSTINGS; i++) {
+                int ord = posting[i];
+                scanned++;
+                if (seen != null) {
+                    if (seen.get(ord)) {
+                        continue;
+                    }
+                    seen.set(ord);
+                }
+                String normalized = segment.normalized[ord];
+                if (!q.matches(normalized)) {
+                    continue;
+                }
+                Candidate candidate = new Candidate(segment.ids[ord], segment.names[ord], q.score(normalized));
+                if (top.size() == limit && Candidate.WORST_FIRST.compare(candidate, top.peek()) <= 0) {
+                    continue;
+                }
+                // Version du segment remplacee ou supprimee depuis : verifie seulement pour les retenus
+                if ((checkOverlay && overlay.containsKey(candidate.id))
+                        || (checkTombstones && tombstones.contains(candidate.id))) {
+                    continue;
+                }
+                offer(top, limit, candidate);
+            }
+        }
+
+        if (checkOverlay) {
+            for (Doc doc : overlay.values()) {
+                if (q.matches(doc.normalized)) {
+                    offer(top, limit, new Candidate(doc.id, doc.nom, q.score(doc.normalized)));
+                }
+            }
+        }
+
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(Candidate.WORST_FIRST.reversed());
+        List<Suggestion> result = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            result.add(new Suggestion(candidate.id, candidate.nom));
+        }
+        return result;
+    }
+
+    private static void offer(PriorityQueue<Candidate> top, int limit, Candidate candidate) {
+        if (top.size() < limit) {
+            top.add(candidate);
+        } else if (Candidate.WORST_FIRST.compare(candidate, top.peek()) > 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    private void maybeCompact() {
+        if (overlay.size() + tombstones.size() >= COMPACTION_THRESHOLD && compacting.compareAndSet(false, true)) {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Fusionne la surcouche dans un nouveau segment. Seules les entrees capturees sont retirees
+     * ensuite : une ecriture arrivee pendant la fusion reste dans la surcouche, qui prime sur le segment.
+     */
+    void compact() {
+        Map<Long, Doc> capturedOverlay = new HashMap<>(overlay);
+        Set<Long> capturedTombstones = new HashSet<>(tombstones);
+        Segment current = base;
+
+        List<Doc> docs = new ArrayList<>(current.ids.length + capturedOverlay.size());
+        for (int ord = 0; ord < current.ids.length; ord++) {
+            long id = current.ids[ord];
+            if (!capturedTombstones.contains(id) && !capturedOverlay.containsKey(id)) {
+                docs.add(new Doc(id, current.names[ord], current.normalized[ord]));
+            }
+        }
+        docs.addAll(capturedOverlay.values());
+
+        base = Segment.build(docs);
+        capturedOverlay.forEach(overlay::remove);
+        tombstones.removeAll(capturedTombstones);
+        log.debug("Article suggest index compacted: {} articles", docs.size());
+    }
+
+    /**
+     * {@code normalized} est entoure d'espaces (" beton c25 30 ") pour tester
+     * un debut de mot ou un mot entier par simple {@code contains}.
+     */
+    private record Doc(long id, String nom, String normalized) {
+        static Doc of(long id, String nom) {
+            return new Doc(id, nom, " " + TextNormalizer.normalize(nom) + " ");
+        }
+    }
+
+    private record Candidate(long id, String nom, long score) {
+        static final Comparator<Candidate> WORST_FIRST = Comparator.comparingLong(Candidate::score)
+                .thenComparing(Comparator.comparingLong(Candidate::id).reversed());
+    }
+
+    private static final class Query {
+        final String[] wordStarts;
+        final String[] wholeWords;
+        final String phraseStart;
+        final String exact;
+
+        Query(List<String> tokens) {
+            wordStarts = new String[tokens.size()];
+            wholeWords = new String[tokens.size()];
+            for (int i = 0; i < tokens.size(); i++) {
+                wordStarts[i] = " " + tokens.get(i);
+                wholeWords[i] = " " + tokens.get(i) + " ";
+            }
+            String joined = String.join(" ", tokens);
+            phraseStart = " " + joined;
+            exact = " " + joined + " ";
+        }
+
+        boolean matches(String normalized) {
+            for (String wordStart : wordStarts) {
+                if (!normalized.contains(wordStart)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long score(String normalized) {
+            int score = 0;
+            if (normalized.equals(exact)) {
+                score += 1000;
+            } else if (normalized.startsWith(phraseStart)) {
+                score += 500;
+            }
+            for (String wholeWord : wholeWords) {
+                if (normalized.contains(wholeWord)) {
+                    score += 20;
+                }
+            }
+            return score * 10_000L - Math.min(normalized.length(), 9_999);
+        }
+    }
+
+    /**
+     * Segment immuable : ordinaux 0..n-1, tokens tries et, pour chaque token,
+     * la liste des ordinaux des articles qui le contiennent.
+     */
+    private static final class Segment {
+        final long[] ids;
+        final String[] names;
+        final String[] normalized;
+        final String[] tokens;
+        final int[][] postings;
+
+        private Segment(long[] ids, String[] names, String[] normalized, String[] tokens, int[][] postings) {
+            this.ids = ids;
+            this.names = names;
+            this.normalized = normalized;
+            this.tokens = tokens;
+            this.postings = postings;
+        }
+
+        static Segment build(Collection<Doc> docs) {
+            int size = docs.size();
+            long[] ids = new long[size];
+            String[] names = new String[size];
+            String[] normalized = new String[size];
+            Map<String, int[]> counts = new HashMap<>();
+            List<String[]> docTokens = new ArrayList<>(size);
+
+            List<Doc> byLength = new ArrayList<>(docs);
+            byLength.sort(Comparator.comparingInt(doc -> doc.normalized.length()));
+
+            int ord = 0;
+            for (Doc doc : byLength) {
+                ids[ord] = doc.id;
+                names[ord] = doc.nom;
+                normalized[ord] = doc.normalized;
+                String[] unique = Arrays.stream(doc.normalized.trim().split(" "))
+                        .filter(token -> !token.isEmpty())
+                        .distinct()
+                        .toArray(String[]::new);
+                docTokens.add(unique);
+                for (String token : unique) {
+                    counts.computeIfAbsent(token, k -> new int[1])[0]++;
+                }
+                ord++;
+            }
+
+            String[] tokens = counts.keySet().toArray(new String[0]);
+            Arrays.sort(tokens);
+            Map<String, Integer> tokenIndex = new HashMap<>(tokens.length * 2);
+            int[][] postings = new int[tokens.length][];
+            for (int t = 0; t < tokens.length; t++) {
+                tokenIndex.put(tokens[t], t);
+                postings[t] = new int[counts.get(tokens[t])[0]];
+            }
+            // Ordinaux attribues par longueur croissante : chaque liste commence par les designations courtes
+            int[] fill = new int[tokens.length];
+            for (int d = 0; d < size; d++) {
+                for (String token : docTokens.get(d)) {
+                    int t = tokenIndex.get(token);
+                    postings[t][fill[t]++] = d;
+                }
+            }
+            return new Segment(ids, names, normalized, tokens, postings);
+        }
+
+        int lowerBound(String prefix) {
+            int index = Arrays.binarySearch(tokens, prefix);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecopilot.article.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Prepare la recherche plein texte PostgreSQL sur {@code articles} : configuration
+ * {@code french_unaccent} (stemming francais sans accents), colonne generee
+ * {@code search_vector} (nom A, expertise B, commentaires C), index GIN et index
+ * trigrammes. Idempotent, execute apres la mise a jour du schema par Hibernate.
+ *
+ * <p>Hors PostgreSQL (H2 des tests) ou si une extension manque, la recherche
+ * retombe sur l'ancien LIKE via {@link #isAvailable()}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextSearchSupport {
+
+    private static final List<String> DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS unaccent",
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            """
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'french_unaccent') THEN
+                    CREATE TEXT SEARCH CONFIGURATION french_unaccent (COPY = french);
+                    ALTER TEXT SEARCH CONFIGURATION french_unaccent
+                        ALTER MAPPING FOR hword, hword_part, word WITH unaccent, french_stem;
+                END IF;
+            END
+            $$""",
+            // unaccent() n'est que STABLE : cette enveloppe IMMUTABLE permet de l'indexer
+            """
+            CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+                LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+                AS $$ SELECT public.unaccent('public.unaccent', $1) $$""",
+            """
+            ALTER TABLE articles ADD COLUMN IF NOT EXISTS search_vector tsvector
+                GENERATED ALWAYS AS (
+                    setweight(to_tsvector('french_unaccent', coalesce(nom_article, '')), 'A') ||
+                    setweight(to_tsvector('french_unaccent', coalesce(expertise, '')), 'B') ||
+                    setweight(to_tsvector('french_unaccent', coalesce(commentaires, '')), 'C')
+                ) STORED""",
+            "CREATE INDEX IF NOT EXISTS idx_articles_search_vector ON articles USING GIN (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_articles_nom_article_trgm ON articles USING GIN (f_unaccent(nom_article) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_articles_expertise_trgm ON articles USING GIN (f_unaccent(expertise) gin_trgm_ops)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            log.info("Full-text search disabled on {}: falling back to LIKE search", product);
+            return;
+        }
+        try {
+            DDL.forEach(jdbcTemplate::execute);
+            available = true;
+            log.info("Full-text search ready on articles.search_vector");
+        } catch (Exception e) {
+            log.warn("Full-text search unavailable, falling back to LIKE search: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
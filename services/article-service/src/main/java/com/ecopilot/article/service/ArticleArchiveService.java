@@ -0,0 +1,205 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.BulkArchiveReportDTO;
+import com.ecopilot.article.dto.BulkArticleSelectionDTO;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleArchiveRepository;
+import com.ecopilot.article.repository.ArticleArchiveRepository.LockedRow;
+import com.ecopilot.article.repository.ArticleBulkRepository;
+import com.ecopilot.article.search.ArticleMatchIndex;
+import com.ecopilot.article.search.ArticleSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Suppression et restauration groupees d'articles, par liste d'ids ou par criteres
+ * (Niveau6, fournisseur, plage de dates). Chaque lot de {@link #CHUNK_SIZE} ids est traite dans
+ * sa propre transaction, courte : verrouillage des lignes, un {@code INSERT ... SELECT}, un
+ * {@code DELETE}, puis un seul evenement Kafka. Un lot refuse par la base n'arrete pas les suivants.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleArchiveService {
+
+    static final int CHUNK_SIZE = 1000;
+    private static final int MAX_IDS = 100_000;
+
+    private final ArticleArchiveRepository archiveRepository;
+    private final ArticleBulkRepository bulkRepository;
+    private final ArticleService articleService;
+    private final ArticleSuggestIndex suggestIndex;
+    private final ArticleMatchIndex matchIndex;
+    private final ArticleFacetService facetService;
+    private final CatalogVersion catalogVersion;
+    private final ArticleEventProducer eventProducer;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkArchiveReportDTO deleteArticles(BulkArticleSelectionDTO selection) {
+        String userId = checkSelection(selection);
+        return run("delete", selection,
+                afterId -> archiveRepository.nextArticleIds(selection, afterId, CHUNK_SIZE),
+                ids -> deleteChunk(ids, userId),
+                articleIds -> eventProducer.sendArticlesDeletedEvent(articleIds, userId));
+    }
+
+    /**
+     * Les ids d'une selection par liste sont ceux de l'archive ({@code articles_supprime.id}).
+     */
+    public BulkArchiveReportDTO restoreArticles(BulkArticleSelectionDTO selection) {
+        String userId = checkSelection(selection);
+        return run("restore", selection,
+                afterId -> archiveRepository.nextArchivedIds(selection, afterId, CHUNK_SIZE),
+                this::restoreChunk,
+                articleIds -> eventProducer.sendArticlesRestoredEvent(articleIds, userId));
+    }
+
+    private String checkSelection(BulkArticleSelectionDTO selection) {
+        if (!articleService.isCurrentUserAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Bulk delete and restore are reserved to administrators");
+        }
+        if (selection == null || selection.hasIds() == selection.hasCriteria()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Give either a list of ids or at least one criterion");
+        }
+        if (selection.hasIds() && selection.getIds().size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Too many ids: " + selection.getIds().size() + " (max " + MAX_IDS + ")");
+        }
+        return articleService.getCurrentUserId();
+    }
+
+    private BulkArchiveReportDTO run(String operation, BulkArticleSelectionDTO selection,
+                                     LongFunction<List<Long>> nextByCriteria,
+                                     Function<List<Long>, List<Long>> chunkWork,
+                                     Consumer<List<Long>> publish) {
+        long start = System.nanoTime();
+        List<Long> sortedIds = selection.hasIds()
+                ? selection.getIds().stream().filter(Objects::nonNull).distinct().sorted().collect(Collectors.toList())
+                : null;
+
+        long processed = 0;
+        long failed = 0;
+        int chunks = 0;
+        List<String> errors = new ArrayList<>();
+        long afterId = 0;
+        int from = 0;
+        while (true) {
+            List<Long> chunk;
+            if (sortedIds != null) {
+                chunk = sortedIds.subList(from, Math.min(from + CHUNK_SIZE, sortedIds.size()));
+                from += chunk.size();
+            } else {
+                chunk = nextByCriteria.apply(afterId);
+            }
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1);
+            chunks++;
+            try {
+                List<Long> articleIds = transactionTemplate.execute(status -> {
+                    List<Long> done = chunkWork.apply(chunk);
+                    if (!done.isEmpty()) {
+                        publish.accept(done);
+                    }
+                    return done;
+                });
+                processed += articleIds.size();
+            } catch (DataAccessException e) {
+                String reason = "Chunk " + chunk.get(0) + ".." + afterId + " rejected by the database: "
+                        + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                log.warn("Bulk {} chunk of {} ids failed: {}", operation, chunk.size(), reason);
+                failed += chunk.size();
+                errors.add(reason);
+            }
+            if (sortedIds == null && chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long rowsPerSecond = processed * 1000 / elapsedMs;
+        log.info("Bulk {}: {} rows in {} chunks, {} ms ({} rows/s), {} rows in failed chunks",
+                operation, processed, chunks, elapsedMs, rowsPerSecond, failed);
+        return BulkArchiveReportDTO.builder()
+                .processed(processed)
+                .failed(failed)
+                .chunks(chunks)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rowsPerSecond)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Renvoie les ids des articles archives (les ids absents du catalogue sont ignores).
+     */
+    private List<Long> deleteChunk(List<Long> ids, String userId) {
+        List<LockedRow> rows = archiveRepository.lockArticles(ids);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> articleIds = rows.stream().map(LockedRow::id).collect(Collectors.toList());
+        archiveRepository.archive(articleIds, userId, LocalDate.now());
+
+        articleIds.forEach(suggestIndex::remove);
+        articleIds.forEach(matchIndex::remove);
+        facetService.removedKeys(rows.stream().map(ArticleArchiveService::facetKey).toList());
+        catalogVersion.bump();
+        return articleIds;
+    }
+
+    /**
+     * Renvoie les ids des articles restaures. Les lignes archivees sans id d'origine en recoivent
+     * un nouveau dans la sequence des articles.
+     */
+    private List<Long> restoreChunk(List<Long> archivedIds) {
+        List<LockedRow> rows = archiveRepository.lockArchived(archivedIds);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<LockedRow> withoutId = rows.stream().filter(row -> row.articleId() == null).toList();
+        Map<Long, Long> assigned = new LinkedHashMap<>();
+        if (!withoutId.isEmpty()) {
+            List<Long> newIds = bulkRepository.allocateIds(withoutId.size());
+            for (int k = 0; k < withoutId.size(); k++) {
+                assigned.put(withoutId.get(k).id(), newIds.get(k));
+            }
+            archiveRepository.assignArticleIds(assigned);
+        }
+        archiveRepository.restore(rows.stream().map(LockedRow::id).toList(), LocalDateTime.now());
+
+        List<Long> articleIds = new ArrayList<>(rows.size());
+        for (LockedRow row : rows) {
+            Long articleId = row.articleId() != null ? row.articleId() : assigned.get(row.id());
+            articleIds.add(articleId);
+            suggestIndex.upsert(articleId, row.nomArticle());
+            matchIndex.upsert(articleId, row.nomArticle(), row.unite());
+        }
+        facetService.addedKeys(rows.stream().map(ArticleArchiveService::facetKey).toList());
+        catalogVersion.bump();
+        return articleIds;
+    }
+
+    private static ArticleFacetService.Key facetKey(LockedRow row) {
+        return new ArticleFacetService.Key(row.niveau6Id(), row.expertise(), row.unite());
+    }
+}
@@ -0,0 +1,190 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.dto.BulkImportReportDTO;
+import com.ecopilot.article.dto.BulkImportRowDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.entity.Niveau6;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleBulkRepository;
+import com.ecopilot.article.repository.Niveau6Repository;
+import com.ecopilot.article.search.ArticleMatchIndex;
+import com.ecopilot.article.search.ArticleSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Import en masse d'articles (listes de prix fournisseurs). Les Niveau6 references sont
+ * verifies en une requete, puis les lignes valides sont inserees par lots de {@link #CHUNK_SIZE},
+ * chaque lot dans sa propre transaction et suivi d'un seul evenement Kafka.
+ * Une ligne invalide, ou un lot refuse par la base, n'empeche pas l'import des autres.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleBulkImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    private static final int MAX_ROWS = 100_000;
+    // Reste sous la limite de parametres d'une requete PostgreSQL
+    private static final int MAX_IDS_PER_QUERY = 10_000;
+
+    private final ArticleBulkRepository bulkRepository;
+    private final Niveau6Repository niveau6Repository;
+    private final ArticleService articleService;
+    private final ArticleSuggestIndex suggestIndex;
+    private final ArticleMatchIndex matchIndex;
+    private final ArticleFacetService facetService;
+    private final CatalogVersion catalogVersion;
+    private final ArticleEventProducer eventProducer;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkImportReportDTO importArticles(List<ArticleDTO> rows) {
+        if (!articleService.isCurrentUserAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Bulk import is reserved to administrators");
+        }
+        if (rows == null || rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No article to import");
+        }
+        if (rows.size() > MAX_ROWS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many rows: " + rows.size() + " (max " + MAX_ROWS + ")");
+        }
+
+        String userId = articleService.getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> knownNiveau6 = findExistingNiveau6(rows);
+
+        BulkImportRowDTO[] results = new BulkImportRowDTO[rows.size()];
+        List<Article> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                chunk.add(toArticle(rows.get(i), userId, now, knownNiveau6));
+                chunkIndexes.add(i);
+            } catch (ResponseStatusException e) {
+                results[i] = error(i, e.getReason());
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                insertChunk(chunk, chunkIndexes, userId, results);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+                chunkIndexes = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, chunkIndexes, userId, results);
+        }
+
+        int created = (int) Arrays.stream(results).filter(r -> BulkImportRowDTO.CREATED.equals(r.getStatus())).count();
+        log.info("Bulk import by {}: {} rows, {} created", userId, rows.size(), created);
+        return BulkImportReportDTO.builder()
+                .total(rows.size())
+                .created(created)
+                .failed(rows.size() - created)
+                .rows(Arrays.asList(results))
+                .build();
+    }
+
+    private Set<Long> findExistingNiveau6(List<ArticleDTO> rows) {
+        List<Long> referenced = rows.stream()
+                .map(ArticleDTO::getNiveau6Id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        Set<Long> existing = new HashSet<>();
+        for (int from = 0; from < referenced.size(); from += MAX_IDS_PER_QUERY) {
+            existing.addAll(niveau6Repository.findExistingIds(
+                    referenced.subList(from, Math.min(from + MAX_IDS_PER_QUERY, referenced.size()))));
+        }
+        return existing;
+    }
+
+    private Article toArticle(ArticleDTO dto, String userId, LocalDateTime now, Set<Long> knownNiveau6) {
+        if (dto == null || dto.getNomArticle() == null || dto.getNomArticle().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "nom_article is required");
+        }
+        if (dto.getNiveau6Id() != null && !knownNiveau6.contains(dto.getNiveau6Id())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown id_niv_6: " + dto.getNiveau6Id());
+        }
+        return Article.builder()
+                .date(dto.getDate())
+                .nomArticle(dto.getNomArticle())
+                .unite(dto.getUnite())
+                .type(dto.getType())
+                .expertise(dto.getExpertise())
+                .fourniture(PriceValues.parse("fourniture", dto.getFourniture()))
+                .cadence(PriceValues.parse("cadence", dto.getCadence()))
+                .accessoires(PriceValues.parse("accessoires", dto.getAccessoires()))
+                .pertes(dto.getPertes())
+                .pu(PriceValues.parse("pu", dto.getPu()))
+                .prixCible(PriceValues.parse("prix_cible", dto.getPrixCible()))
+                .prixEstime(PriceValues.parse("prix_estime", dto.getPrixEstime()))
+                .prixConsulte(PriceValues.parse("prix_consulte", dto.getPrixConsulte()))
+                .rabais(dto.getRabais())
+                .commentaires(dto.getCommentaires())
+                .userId(userId)
+                .indiceDeConfiance(dto.getIndiceDeConfiance())
+                .files(dto.getFiles())
+                .fournisseurId(dto.getFournisseurId())
+                .niveau6(dto.getNiveau6Id() != null ? Niveau6.builder().id(dto.getNiveau6Id()).build() : null)
+                .createdAt(now)
+                .build();
+    }
+
+    private void insertChunk(List<Article> chunk, List<Integer> indexes, String userId, BulkImportRowDTO[] results) {
+        List<Long> ids;
+        try {
+            ids = transactionTemplate.execute(status -> {
+                List<Long> allocated = bulkRepository.allocateIds(chunk.size());
+                for (int k = 0; k < chunk.size(); k++) {
+                    chunk.get(k).setId(allocated.get(k));
+                }
+                bulkRepository.insertAll(chunk);
+                chunk.forEach(article -> {
+                    suggestIndex.upsert(article.getId(), article.getNomArticle());
+                    matchIndex.upsert(article.getId(), article.getNomArticle(), article.getUnite());
+                });
+                facetService.addedAll(chunk);
+                catalogVersion.bump();
+                eventProducer.sendArticlesImportedEvent(allocated, userId);
+                return allocated;
+            });
+        } catch (DataAccessException e) {
+            String reason = "Chunk rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Bulk import chunk of {} rows failed: {}", chunk.size(), reason);
+            indexes.forEach(i -> results[i] = error(i, reason));
+            return;
+        }
+
+        for (int k = 0; k < indexes.size(); k++) {
+            int index = indexes.get(k);
+            results[index] = BulkImportRowDTO.builder()
+                    .index(index)
+                    .status(BulkImportRowDTO.CREATED)
+                    .id(ids.get(k))
+                    .build();
+        }
+    }
+
+    private static BulkImportRowDTO error(int index, String reason) {
+        return BulkImportRowDTO.builder()
+                .index(index)
+                .status(BulkImportRowDTO.ERROR)
+                .error(reason)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.repository.ArticleSortKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Jeton de continuation opaque : derniere position lue (valeur de tri + id),
+ * accompagnee du tri demande pour refuser un jeton rejoue avec un autre tri.
+ */
+record ArticleCursor(String sort, boolean desc, String value, Long id) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static ArticleCursor after(Article last, ArticleSortKey sortKey, boolean descending) {
+        Object value = sortKey.readValue(last);
+        return new ArticleCursor(sortKey.name(), descending, value != null ? value.toString() : null, last.getId());
+    }
+
+    String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to encode cursor", e);
+        }
+    }
+
+    static ArticleCursor decode(String token, ArticleSortKey sortKey, boolean descending) {
+        ArticleCursor cursor;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII));
+            cursor = MAPPER.readValue(json, ArticleCursor.class);
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        if (cursor.id() == null || !sortKey.name().equals(cursor.sort()) || cursor.desc() != descending) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match the requested sort");
+        }
+        return cursor;
+    }
+
+    Object typedValue(ArticleSortKey sortKey) {
+        try {
+            return sortKey.parseValue(value);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
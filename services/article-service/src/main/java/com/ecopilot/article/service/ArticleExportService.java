@@ -0,0 +1,160 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.repository.ArticleFilter;
+import com.ecopilot.article.repository.ArticleRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Export du catalogue ligne a ligne : les articles sont lus par curseur et ecrits
+ * aussitot sur la reponse, la memoire utilisee ne depend pas de la taille du catalogue.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String format) {
+            for (Format candidate : values()) {
+                if (candidate.extension.equalsIgnoreCase(format)) {
+                    return candidate;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+        }
+    }
+
+    private static final String[] CSV_HEADER = {
+            "id", "nom_article", "unite", "type", "expertise", "fourniture", "cadence", "accessoires",
+            "pertes", "pu", "prix_cible", "prix_estime", "prix_consulte", "rabais", "origine", "commentaires",
+            "user_id", "indice_de_confiance", "fournisseur_id", "id_niv_6", "niveau_1", "niveau_2",
+            "niveau_3", "niveau_4", "niv_5", "niv_6", "date", "created_at"
+    };
+
+    // Rend la main au client regulierement plutot qu'a la fin de l'export
+    private static final int FLUSH_EVERY = 1000;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleService articleService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Ecrit les articles du filtre sur {@code out}, par id croissant.
+     *
+     * @return nombre d'articles exportes
+     */
+    @Transactional(readOnly = true)
+    public long export(ArticleFilter filter, Format format, OutputStream out) throws IOException {
+        ArticleFilter resolved = articleService.resolveFilter(filter);
+        Function<Article, ArticleDTO> mapper = articleService.dtoMapper();
+
+        long count;
+        try (Stream<Article> rows = articleRepository.streamMatching(resolved)) {
+            count = format == Format.CSV
+                    ? writeCsv(rows.iterator(), mapper, out)
+                    : writeNdjson(rows.iterator(), mapper, out);
+        }
+        log.debug("Exported {} articles as {}", count, format);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<Article> rows, Function<Article, ArticleDTO> mapper, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ArticleDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                writer.writeValue(generator, mapper.apply(rows.next()));
+                generator.writeRaw('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<Article> rows, Function<Article, ArticleDTO> mapper, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write("\r\n");
+        long count = 0;
+        while (rows.hasNext()) {
+            ArticleDTO dto = mapper.apply(rows.next());
+            writeCsvRow(writer,
+                    dto.getId(), dto.getNomArticle(), dto.getUnite(), dto.getType(), dto.getExpertise(),
+                    dto.getFourniture(), dto.getCadence(), dto.getAccessoires(), dto.getPertes(), dto.getPu(),
+                    dto.getPrixCible(), dto.getPrixEstime(), dto.getPrixConsulte(), dto.getRabais(), dto.getOrigine(),
+                    dto.getCommentaires(), dto.getUserId(), dto.getIndiceDeConfiance(), dto.getFournisseurId(),
+                    dto.getNiveau6Id(), dto.getNiveau1(), dto.getNiveau2(), dto.getNiveau3(), dto.getNiveau4(),
+                    dto.getNiveau5(), dto.getNiveau6(), dto.getDate(), dto.getCreatedAt());
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvEscape(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
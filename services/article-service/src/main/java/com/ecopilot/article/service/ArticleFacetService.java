@@ -0,0 +1,274 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.FilterDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.repository.ArticleRepository;
+import com.ecopilot.article.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Facettes des filtres du catalogue : nombre d'articles sous chaque noeud Niveau1..Niveau6,
+ * par expertise et par unite.
+ *
+ * <p>Les compteurs sont charges au demarrage par une seule requete d'agregat puis tenus a jour
+ * apres chaque commit d'une ecriture de {@code ArticleService} (creation, modification,
+ * suppression, validation, import). Les comptes par Niveau6 sont la reference ; ceux des niveaux
+ * superieurs en sont deduits par les chemins de {@link HierarchySnapshot} et recalcules en memoire
+ * quand l'arborescence change. Les lectures ne font aucune requete SQL.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleFacetService {
+
+    /**
+     * Valeurs d'un article qui comptent pour les facettes.
+     */
+    public record Key(Long niveau6Id, String expertise, String unite) {
+
+        public static Key of(Article article) {
+            return new Key(
+                    article.getNiveau6() != null ? article.getNiveau6().getId() : null,
+                    article.getExpertise(),
+                    article.getUnite());
+        }
+    }
+
+    private static final Comparator<FilterDTO> BY_NOM =
+            Comparator.comparing(FilterDTO::getNom, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+    private final ArticleRepository articleRepository;
+    private final HierarchyService hierarchyService;
+
+    private volatile View view = View.empty();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, Long> niveau6 = new HashMap<>();
+        Map<String, Long> expertises = new HashMap<>();
+        Map<String, Long> unites = new HashMap<>();
+        for (Object[] row : articleRepository.countByFacets()) {
+            long count = ((Number) row[3]).longValue();
+            if (row[0] != null) {
+                niveau6.merge((Long) row[0], count, Long::sum);
+            }
+            if (row[1] != null) {
+                expertises.merge((String) row[1], count, Long::sum);
+            }
+            if (row[2] != null) {
+                unites.merge((String) row[2], count, Long::sum);
+            }
+        }
+        view = View.build(hierarchyService.getSnapshot(), niveau6, toCounters(expertises), toCounters(unites));
+        log.info("Article facets loaded: {} niveau6, {} expertises, {} unites",
+                niveau6.size(), expertises.size(), unites.size());
+    }
+
+    /**
+     * Noeuds de niveau {@code level} ayant au moins un article, enfants directs de
+     * {@code parentId} si fourni, tries par nom.
+     */
+    public List<FilterDTO> niveaux(int level, Long parentId) {
+        View current = currentView();
+        Map<Long, AtomicLong> counts = current.levels.get(level);
+        List<HierarchySnapshot.Node> candidates = parentId != null && level > 1
+                ? current.hierarchy.children(level, parentId)
+                : current.hierarchy.sortedLevel(level);
+
+        List<FilterDTO> result = new ArrayList<>();
+        for (HierarchySnapshot.Node node : candidates) {
+            AtomicLong count = counts.get(node.id());
+            if (count != null && count.get() > 0) {
+                result.add(FilterDTO.builder().id(node.id()).nom(node.nom()).count(count.get()).build());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Nombre d'articles sous le noeud {@code id} de niveau {@code level} (1 a 6).
+     */
+    public long count(int level, Long id) {
+        AtomicLong count = currentView().levels.get(level).get(id);
+        return count != null ? count.get() : 0;
+    }
+
+    public List<FilterDTO> expertises() {
+        return toFacets(view.expertises);
+    }
+
+    public List<FilterDTO> unites() {
+        return toFacets(view.unites);
+    }
+
+    public void added(Article article) {
+        Key key = Key.of(article);
+        AfterCommit.run(() -> apply(key, 1));
+    }
+
+    public void addedAll(Collection<Article> articles) {
+        addedKeys(articles.stream().map(Key::of).toList());
+    }
+
+    public void addedKeys(Collection<Key> keys) {
+        List<Key> added = List.copyOf(keys);
+        AfterCommit.run(() -> added.forEach(key -> apply(key, 1)));
+    }
+
+    /**
+     * {@code before} doit etre lu avant de modifier l'entite.
+     */
+    public void changed(Key before, Article after) {
+        Key key = Key.of(after);
+        if (!key.equals(before)) {
+            AfterCommit.run(() -> {
+                apply(before, -1);
+                apply(key, 1);
+            });
+        }
+    }
+
+    public void removed(Article article) {
+        Key key = Key.of(article);
+        AfterCommit.run(() -> apply(key, -1));
+    }
+
+    public void removedKeys(Collection<Key> keys) {
+        List<Key> removed = List.copyOf(keys);
+        AfterCommit.run(() -> removed.forEach(key -> apply(key, -1)));
+    }
+
+    private synchronized void apply(Key key, long delta) {
+        View current = currentView();
+        if (key.expertise() != null) {
+            adjust(current.expertises, key.expertise(), delta);
+        }
+        if (key.unite() != null) {
+            adjust(current.unites, key.unite(), delta);
+        }
+        if (key.niveau6Id() != null) {
+            adjust(current.levels.get(6), key.niveau6Id(), delta);
+            HierarchySnapshot.Path path = current.hierarchy.path(key.niveau6Id());
+            if (path != null) {
+                adjustAncestors(current.levels, path, delta);
+            }
+        }
+    }
+
+    /**
+     * Les compteurs des niveaux 1 a 5 suivent l'arborescence : si elle a ete rechargee,
+     * ils sont recalcules depuis les comptes par Niveau6, sans requete.
+     */
+    private View currentView() {
+        View current = view;
+        HierarchySnapshot hierarchy = hierarchyService.getSnapshot();
+        return current.hierarchy == hierarchy ? current : rollUp(hierarchy);
+    }
+
+    private synchronized View rollUp(HierarchySnapshot hierarchy) {
+        View current = view;
+        if (current.hierarchy == hierarchy) {
+            return current;
+        }
+        Map<Long, Long> niveau6 = new HashMap<>();
+        current.levels.get(6).forEach((id, count) -> niveau6.put(id, count.get()));
+        View built = View.build(hierarchy, niveau6, current.expertises, current.unites);
+        view = built;
+        return built;
+    }
+
+    private static <K> void adjust(Map<K, AtomicLong> counts, K key, long delta) {
+        long value = counts.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+        if (value <= 0) {
+            counts.remove(key);
+        }
+    }
+
+    private static void adjustAncestors(List<Map<Long, AtomicLong>> levels, HierarchySnapshot.Path path, long delta) {
+        Long[] ancestors = {null, path.niveau1Id(), path.niveau2Id(), path.niveau3Id(), path.niveau4Id(), path.niveau5Id()};
+        for (int level = 1; level <= 5; level++) {
+            if (ancestors[level] != null) {
+                adjust(levels.get(level), ancestors[level], delta);
+            }
+        }
+    }
+
+    private static List<FilterDTO> toFacets(Map<String, AtomicLong> counts) {
+        List<FilterDTO> result = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> {
+            if (count.get() > 0) {
+                result.add(FilterDTO.builder().nom(value).count(count.get()).build());
+            }
+        });
+        result.sort(BY_NOM);
+        return result;
+    }
+
+    private static Map<String, AtomicLong> toCounters(Map<String, Long> counts) {
+        Map<String, AtomicLong> counters = new ConcurrentHashMap<>(counts.size() * 2);
+        counts.forEach((value, count) -> counters.put(value, new AtomicLong(count)));
+        return counters;
+    }
+
+    /**
+     * Compteurs rattaches a une photographie de l'arborescence. Les cartes sont modifiees sur place
+     * (sous le verrou du service).
+     */
+    private static final class View {
+
+        final HierarchySnapshot hierarchy;
+        final List<Map<Long, AtomicLong>> levels;
+        final Map<String, AtomicLong> expertises;
+        final Map<String, AtomicLong> unites;
+
+        private View(HierarchySnapshot hierarchy, List<Map<Long, AtomicLong>> levels,
+                     Map<String, AtomicLong> expertises, Map<String, AtomicLong> unites) {
+            this.hierarchy = hierarchy;
+            this.levels = levels;
+            this.expertises = expertises;
+            this.unites = unites;
+        }
+
+        static View empty() {
+            List<Map<Long, AtomicLong>> levels = new ArrayList<>(7);
+            for (int level = 0; level <= 6; level++) {
+                levels.add(new ConcurrentHashMap<>());
+            }
+            return new View(null, levels, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        static View build(HierarchySnapshot hierarchy, Map<Long, Long> niveau6,
+                          Map<String, AtomicLong> expertises, Map<String, AtomicLong> unites) {
+            List<Map<Long, AtomicLong>> levels = new ArrayList<>(7);
+            levels.add(Map.of());
+            for (int level = 1; level <= 6; level++) {
+                levels.add(new ConcurrentHashMap<>());
+            }
+
+            niveau6.forEach((id, count) -> {
+                if (count > 0) {
+                    levels.get(6).put(id, new AtomicLong(count));
+                    HierarchySnapshot.Path path = hierarchy.path(id);
+                    if (path != null) {
+                        adjustAncestors(levels, path, count);
+                    }
+                }
+            });
+            return new View(Objects.requireNonNull(hierarchy), levels, expertises, unites);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ApiResponse;
+import com.ecopilot.article.dto.HierarchyTreeNodeDTO;
+import com.ecopilot.article.repository.ArticleRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Arborescence du catalogue sous forme d'arbre Niveau1..Niveau6, articles aux feuilles.
+ *
+ * <p>L'arbre est construit en un passage sur une seule requete (id, designation, Niveau6),
+ * les noms des niveaux venant de {@link HierarchySnapshot}. Le JSON et sa version gzip sont
+ * calcules une fois par version du catalogue puis servis tels quels.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleHierarchyTreeService {
+
+    /**
+     * Reponse serialisee pour une version du catalogue.
+     */
+    public record Payload(long version, byte[] json, byte[] gzip) {
+    }
+
+    private static final Comparator<HierarchyTreeNodeDTO> NODE_ORDER =
+            Comparator.comparing(HierarchyTreeNodeDTO::getNom, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+    private static final Comparator<HierarchyTreeNodeDTO.ArticleLeaf> LEAF_ORDER =
+            Comparator.comparing(HierarchyTreeNodeDTO.ArticleLeaf::nom, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+    private final ArticleRepository articleRepository;
+    private final HierarchyService hierarchyService;
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Payload> cached = new AtomicReference<>();
+
+    public Payload getPayload() {
+        Payload current = cached.get();
+        return current != null && current.version() == catalogVersion.current() ? current : rebuild();
+    }
+
+    private synchronized Payload rebuild() {
+        // Version lue avant les donnees : au pire l'arbre est plus recent que sa version
+        long version = catalogVersion.current();
+        Payload current = cached.get();
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.<List<HierarchyTreeNodeDTO>>builder()
+                    .success(true)
+                    .data(buildTree())
+                    .build());
+            Payload built = new Payload(version, json, gzip(json));
+            cached.set(built);
+            log.debug("Hierarchy tree built for catalog version {}: {} bytes, {} gzipped",
+                    version, json.length, built.gzip().length);
+            return built;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize hierarchy tree", e);
+        }
+    }
+
+    /**
+     * Arbre des articles dont le chemin Niveau1..Niveau6 est complet (comme la liste a plat),
+     * noeuds et articles tries par nom.
+     */
+    List<HierarchyTreeNodeDTO> buildTree() {
+        HierarchySnapshot hierarchy = hierarchyService.getSnapshot();
+        List<HierarchyTreeNodeDTO> roots = new ArrayList<>();
+        List<Map<Long, HierarchyTreeNodeDTO>> nodes = new ArrayList<>(7);
+        for (int level = 0; level <= 6; level++) {
+            nodes.add(new HashMap<>());
+        }
+
+        for (Object[] row : articleRepository.findAllHierarchyLeaves()) {
+            HierarchySnapshot.Path path = hierarchy.path((Long) row[2]);
+            if (path == null) {
+                continue;
+            }
+            Long[] ids = {null, path.niveau1Id(), path.niveau2Id(), path.niveau3Id(),
+                    path.niveau4Id(), path.niveau5Id(), path.niveau6Id()};
+            String[] noms = {null, path.niveau1(), path.niveau2(), path.niveau3(),
+                    path.niveau4(), path.niveau5(), path.niveau6()};
+            if (hasGap(ids)) {
+                continue;
+            }
+
+            HierarchyTreeNodeDTO parent = null;
+            for (int level = 1; level <= 6; level++) {
+                HierarchyTreeNodeDTO node = nodes.get(level).get(ids[level]);
+                if (node == null) {
+                    node = HierarchyTreeNodeDTO.builder().id(ids[level]).nom(noms[level]).build();
+                    nodes.get(level).put(ids[level], node);
+                    if (parent == null) {
+                        roots.add(node);
+                    } else {
+                        if (parent.getChildren() == null) {
+                            parent.setChildren(new ArrayList<>());
+                        }
+                        parent.getChildren().add(node);
+                    }
+                }
+                parent = node;
+            }
+            if (parent.getArticles() == null) {
+                parent.setArticles(new ArrayList<>());
+            }
+            parent.getArticles().add(new HierarchyTreeNodeDTO.ArticleLeaf((Long) row[0], (String) row[1]));
+        }
+
+        sort(roots);
+        return roots;
+    }
+
+    private static boolean hasGap(Long[] ids) {
+        for (int level = 1; level <= 6; level++) {
+            if (ids[level] == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sort(List<HierarchyTreeNodeDTO> nodes) {
+        nodes.sort(NODE_ORDER);
+        for (HierarchyTreeNodeDTO node : nodes) {
+            if (node.getChildren() != null) {
+                sort(node.getChildren());
+            }
+            if (node.getArticles() != null) {
+                node.getArticles().sort(LEAF_ORDER);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleMatchReportDTO;
+import com.ecopilot.article.dto.ArticleMatchRequestDTO;
+import com.ecopilot.article.search.ArticleMatchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rapprochement en lot des lignes de DPGF (designation, unite) avec les articles du catalogue,
+ * entierement en memoire ({@link ArticleMatchIndex}) : aucune requete SQL par ligne.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleMatchService {
+
+    static final int MAX_LINES = 20_000;
+    private static final int DEFAULT_LIMIT = 3;
+    private static final int MAX_LIMIT = 10;
+    private static final double DEFAULT_MIN_SCORE = 0.3;
+
+    private final ArticleMatchIndex matchIndex;
+
+    public ArticleMatchReportDTO match(ArticleMatchRequestDTO request) {
+        List<ArticleMatchRequestDTO.LineDTO> lines = request != null ? request.getLines() : null;
+        if (lines == null || lines.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No line to match");
+        }
+        if (lines.size() > MAX_LINES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Too many lines: " + lines.size() + " (max " + MAX_LINES + ")");
+        }
+        int limit = request.getLimit() != null ? Math.max(1, Math.min(request.getLimit(), MAX_LIMIT)) : DEFAULT_LIMIT;
+        double minScore = request.getMinScore() != null
+                ? Math.max(0, Math.min(request.getMinScore(), 1)) : DEFAULT_MIN_SCORE;
+
+        long start = System.nanoTime();
+        List<ArticleMatchIndex.Line> queries = new ArrayList<>(lines.size());
+        for (ArticleMatchRequestDTO.LineDTO line : lines) {
+            queries.add(line == null ? null : new ArticleMatchIndex.Line(line.getDesignation(), line.getUnite()));
+        }
+        List<List<ArticleMatchIndex.Match>> matches = matchIndex.matchAll(queries, limit, minScore);
+
+        List<ArticleMatchReportDTO.ResultDTO> results = new ArrayList<>(lines.size());
+        int matched = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            ArticleMatchRequestDTO.LineDTO line = lines.get(i);
+            List<ArticleMatchReportDTO.CandidateDTO> candidates = matches.get(i).stream()
+                    .map(match -> ArticleMatchReportDTO.CandidateDTO.builder()
+                            .articleId(match.id())
+                            .nomArticle(match.nomArticle())
+                            .unite(match.unite())
+                            .score(BigDecimal.valueOf(match.score()).setScale(3, RoundingMode.HALF_UP).doubleValue())
+                            .uniteMatch(match.uniteMatch())
+                            .build())
+                    .toList();
+            if (!candidates.isEmpty()) {
+                matched++;
+            }
+            results.add(ArticleMatchReportDTO.ResultDTO.builder()
+                    .ref(line != null ? line.getRef() : null)
+                    .designation(line != null ? line.getDesignation() : null)
+                    .unite(line != null ? line.getUnite() : null)
+                    .candidates(candidates)
+                    .build());
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long linesPerSecond = lines.size() * 1000L / elapsedMs;
+        log.info("Article match: {} lines, {} matched, {} ms ({} lines/s)", lines.size(), matched, elapsedMs, linesPerSecond);
+        return ArticleMatchReportDTO.builder()
+                .total(lines.size())
+                .matched(matched)
+                .elapsedMs(elapsedMs)
+                .linesPerSecond(linesPerSecond)
+                .results(results)
+                .build();
+    }
+}
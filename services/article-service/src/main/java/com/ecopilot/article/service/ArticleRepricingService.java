@@ -0,0 +1,320 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.RepricingReportDTO;
+import com.ecopilot.article.dto.RepricingRequestDTO;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleBulkRepository;
+import com.ecopilot.article.repository.ArticleFilter;
+import com.ecopilot.article.repository.ArticleRepository;
+import com.ecopilot.article.strategy.DiscountPriceStrategy;
+import com.ecopilot.article.strategy.LossPriceStrategy;
+import com.ecopilot.article.strategy.MarginPriceStrategy;
+import com.ecopilot.article.strategy.PriceColumns;
+import com.ecopilot.article.strategy.PriceStrategy;
+import com.ecopilot.article.strategy.PriceStrategyChain;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Recalcul des prix unitaires de tout ou partie du catalogue quand la marge, les pertes ou les
+ * rabais changent. Les articles sont lus par lots de {@link #CHUNK_SIZE} (colonnes de prix seules,
+ * par id croissant), la chaine de {@link PriceStrategy} est appliquee au lot en parallele
+ * (fork-join sur les colonnes), puis les prix modifies sont ecrits en un batch JDBC par lot,
+ * chacun dans sa propre transaction. En simulation ({@code dryRun}), rien n'est ecrit : seule la
+ * distribution des ecarts est renvoyee.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleRepricingService {
+
+    static final int CHUNK_SIZE = 5000;
+    // En dessous, une tache fork-join calcule sans se diviser
+    private static final int SPLIT_THRESHOLD = 512;
+    private static final int PU_SCALE = 4;
+    private static final double[] BUCKET_BOUNDS = {-20, -10, -5, -1, 0, 1, 5, 10, 20};
+    private static final String NO_PREVIOUS_PRICE = "no previous price";
+
+    private final ArticleRepository articleRepository;
+    private final ArticleBulkRepository bulkRepository;
+    private final ArticleService articleService;
+    // Premier maillon : prix de revient tel quel
+    private final PriceStrategy priceStrategy;
+    private final CatalogVersion catalogVersion;
+    private final ArticleEventProducer eventProducer;
+    private final TransactionTemplate transactionTemplate;
+
+    public RepricingReportDTO reprice(RepricingRequestDTO request) {
+        if (!articleService.isCurrentUserAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Repricing is reserved to administrators");
+        }
+        if (request == null || request.getMargin() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "margin is required");
+        }
+        checkRate("margin", request.getMargin());
+        checkRate("pertes", request.getPertes());
+        checkRate("rabais", request.getRabais());
+        boolean dryRun = request.isDryRunRequested();
+        String userId = articleService.getCurrentUserId();
+        ArticleFilter filter = articleService.resolveFilter(ArticleFilter.builder()
+                .niveau(request.getNiveau())
+                .niveauIds(request.getNiveauIds())
+                .niveau6Ids(emptyToNull(request.getNiveau6Ids()))
+                .expertises(request.getExpertises())
+                .build());
+        PriceStrategy chain = new PriceStrategyChain(List.of(
+                priceStrategy,
+                new LossPriceStrategy(request.getPertes()),
+                new MarginPriceStrategy(request.getMargin()),
+                new DiscountPriceStrategy(request.getRabais())));
+
+        long start = System.nanoTime();
+        Stats stats = new Stats();
+        List<String> errors = new ArrayList<>();
+        int chunks = 0;
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = articleRepository.findPriceRows(filter, afterId, CHUNK_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            chunks++;
+            PriceColumns columns = toColumns(rows);
+            afterId = columns.ids[columns.size - 1];
+            compute(chain, columns);
+            List<Integer> changed = stats.collect(columns);
+
+            if (!dryRun && !changed.isEmpty()) {
+                try {
+                    List<Long> written = transactionTemplate.execute(status -> {
+                        List<Long> ids = bulkRepository.updatePrices(columns.ids, columns.current, columns.price, changed);
+                        if (!ids.isEmpty()) {
+                            catalogVersion.bump();
+                            eventProducer.sendArticlesRepricedEvent(ids, userId);
+                        }
+                        return ids;
+                    });
+                    stats.written += written.size();
+                    stats.conflicts += changed.size() - written.size();
+                } catch (DataAccessException e) {
+                    String reason = "Chunk " + columns.ids[0] + ".." + afterId + " rejected by the database: "
+                            + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                    log.warn("Repricing chunk of {} rows failed: {}", changed.size(), reason);
+                    stats.failed += changed.size();
+                    errors.add(reason);
+                }
+            }
+            if (rows.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long rowsPerSecond = stats.scanned * 1000 / elapsedMs;
+        log.info("Repricing{}: {} rows scanned in {} chunks, {} changed, {} written, {} conflicts, {} ms ({} rows/s)",
+                dryRun ? " (dry run)" : "", stats.scanned, chunks, stats.changed, stats.written, stats.conflicts,
+                elapsedMs, rowsPerSecond);
+        return stats.report(dryRun, chunks, elapsedMs, rowsPerSecond, errors);
+    }
+
+    private static void checkRate(String field, BigDecimal rate) {
+        if (rate != null && (rate.compareTo(BigDecimal.ONE.negate()) <= 0 || rate.compareTo(BigDecimal.TEN) > 0)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    field + " must be a fraction (0.15 for 15%), got " + rate.toPlainString());
+        }
+    }
+
+    // Liste vide dans la requete : pas de filtre (dans ArticleFilter, elle exclurait tout)
+    private static <T> List<T> emptyToNull(List<T> values) {
+        return values == null || values.isEmpty() ? null : values;
+    }
+
+    private static PriceColumns toColumns(List<Object[]> rows) {
+        PriceColumns columns = new PriceColumns(rows.size());
+        for (int i = 0; i < columns.size; i++) {
+            Object[] row = rows.get(i);
+            columns.ids[i] = ((Number) row[0]).longValue();
+            columns.fourniture[i] = (BigDecimal) row[1];
+            columns.accessoires[i] = (BigDecimal) row[2];
+            columns.pertes[i] = PriceValues.parseRate((String) row[3]);
+            columns.rabais[i] = PriceValues.parseRate((String) row[4]);
+            columns.current[i] = (BigDecimal) row[5];
+        }
+        return columns;
+    }
+
+    /**
+     * Prix de revient puis chaine de strategies, en parallele sur des tranches du lot,
+     * arrondi final a l'echelle de la colonne pu.
+     */
+    static void compute(PriceStrategy chain, PriceColumns columns) {
+        for (int i = 0; i < columns.size; i++) {
+            BigDecimal fourniture = columns.fourniture[i];
+            BigDecimal accessoires = columns.accessoires[i];
+            columns.price[i] = fourniture == null ? null
+                    : accessoires == null ? fourniture : fourniture.add(accessoires, MathContext.DECIMAL64);
+        }
+        ForkJoinPool.commonPool().invoke(new ApplyChain(chain, columns, 0, columns.size));
+    }
+
+    private static final class ApplyChain extends RecursiveAction {
+
+        private final PriceStrategy chain;
+        private final PriceColumns columns;
+        private final int from;
+        private final int to;
+
+        ApplyChain(PriceStrategy chain, PriceColumns columns, int from, int to) {
+            this.chain = chain;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                chain.apply(columns, from, to);
+                BigDecimal[] price = columns.price;
+                for (int i = from; i < to; i++) {
+                    if (price[i] != null) {
+                        price[i] = price[i].setScale(PU_SCALE, RoundingMode.HALF_UP);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ApplyChain(chain, columns, from, middle), new ApplyChain(chain, columns, middle, to));
+        }
+    }
+
+    /**
+     * Compteurs et ecarts cumules sur tous les lots.
+     */
+    private static final class Stats {
+
+        long scanned;
+        long changed;
+        long unchanged;
+        long skipped;
+        long written;
+        long conflicts;
+        long failed;
+        BigDecimal totalDelta = BigDecimal.ZERO;
+        BigDecimal minDelta;
+        BigDecimal maxDelta;
+        // Ecarts relatifs en %, pour les centiles
+        double[] percents = new double[CHUNK_SIZE];
+        int percentCount;
+        final long[] buckets = new long[BUCKET_BOUNDS.length + 1];
+        long noPreviousPrice;
+
+        /**
+         * @return les indices du lot dont le prix change
+         */
+        List<Integer> collect(PriceColumns columns) {
+            List<Integer> changedIndexes = new ArrayList<>();
+            for (int i = 0; i < columns.size; i++) {
+                scanned++;
+                BigDecimal price = columns.price[i];
+                BigDecimal current = columns.current[i];
+                if (price == null) {
+                    skipped++;
+                    continue;
+                }
+                if (current != null && price.compareTo(current) == 0) {
+                    unchanged++;
+                    continue;
+                }
+                changed++;
+                changedIndexes.add(i);
+                BigDecimal delta = current != null ? price.subtract(current) : price;
+                totalDelta = totalDelta.add(delta);
+                minDelta = minDelta == null || delta.compareTo(minDelta) < 0 ? delta : minDelta;
+                maxDelta = maxDelta == null || delta.compareTo(maxDelta) > 0 ? delta : maxDelta;
+                if (current == null || current.signum() == 0) {
+                    noPreviousPrice++;
+                    continue;
+                }
+                double percent = delta.doubleValue() * 100 / current.doubleValue();
+                if (percentCount == percents.length) {
+                    percents = Arrays.copyOf(percents, percents.length * 2);
+                }
+                percents[percentCount++] = percent;
+                buckets[bucket(percent)]++;
+            }
+            return changedIndexes;
+        }
+
+        private static int bucket(double percent) {
+            int k = 0;
+            while (k < BUCKET_BOUNDS.length && percent >= BUCKET_BOUNDS[k]) {
+                k++;
+            }
+            return k;
+        }
+
+        RepricingReportDTO report(boolean dryRun, int chunks, long elapsedMs, long rowsPerSecond, List<String> errors) {
+            double[] sorted = Arrays.copyOf(percents, percentCount);
+            Arrays.sort(sorted);
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int k = 0; k < buckets.length; k++) {
+                String label = k == 0 ? "< " + format(BUCKET_BOUNDS[0]) + "%"
+                        : k == BUCKET_BOUNDS.length ? ">= " + format(BUCKET_BOUNDS[k - 1]) + "%"
+                        : format(BUCKET_BOUNDS[k - 1]) + "% .. " + format(BUCKET_BOUNDS[k]) + "%";
+                histogram.put(label, buckets[k]);
+            }
+            histogram.put(NO_PREVIOUS_PRICE, noPreviousPrice);
+            return RepricingReportDTO.builder()
+                    .dryRun(dryRun)
+                    .scanned(scanned)
+                    .changed(changed)
+                    .unchanged(unchanged)
+                    .skipped(skipped)
+                    .written(written)
+                    .conflicts(conflicts)
+                    .failed(failed)
+                    .chunks(chunks)
+                    .elapsedMs(elapsedMs)
+                    .rowsPerSecond(rowsPerSecond)
+                    .totalDelta(totalDelta)
+                    .minDelta(minDelta)
+                    .maxDelta(maxDelta)
+                    .medianDeltaPercent(percentile(sorted, 0.5))
+                    .p90DeltaPercent(percentile(sorted, 0.9))
+                    .p99DeltaPercent(percentile(sorted, 0.99))
+                    .histogram(histogram)
+                    .errors(errors)
+                    .build();
+        }
+
+        private static Double percentile(double[] sorted, double rank) {
+            if (sorted.length == 0) {
+                return null;
+            }
+            double value = sorted[(int) Math.min(sorted.length - 1, Math.ceil(rank * sorted.length) - 1)];
+            return Math.round(value * 100) / 100.0;
+        }
+
+        private static String format(double bound) {
+            return bound == (long) bound ? Long.toString((long) bound) : Double.toString(bound);
+        }
+    }
+}
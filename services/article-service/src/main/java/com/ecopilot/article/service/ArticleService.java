@@ -2,38 +2,45 @@ package com.ecopilot.article.service;
 
 import com.ecopilot.article.dto.ArticleDTO;
 import com.ecopilot.article.dto.ArticleHierarchyDTO;
+import com.ecopilot.article.dto.ArticlePageDTO;
 import com.ecopilot.article.dto.FilterDTO;
+import com.ecopilot.article.dto.PaginationDTO;
 import com.ecopilot.article.entity.Article;
 import com.ecopilot.article.entity.ArticleSupprime;
 import com.ecopilot.article.entity.PendingArticle;
-import com.ecopilot.article.entity.Niveau1;
-import com.ecopilot.article.entity.Niveau2;
-import com.ecopilot.article.entity.Niveau3;
-import com.ecopilot.article.entity.Niveau4;
-import com.ecopilot.article.entity.Niveau5;
-import com.ecopilot.article.entity.Niveau6;
 import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleFilter;
 import com.ecopilot.article.repository.ArticleRepository;
+import com.ecopilot.article.repository.ArticleSortKey;
 import com.ecopilot.article.repository.ArticleSupprimeRepository;
+import com.ecopilot.article.repository.DeletedArticleFilter;
 import com.ecopilot.article.repository.Niveau2Repository;
-import com.ecopilot.article.repository.Niveau3Repository;
-import com.ecopilot.article.repository.Niveau4Repository;
 import com.ecopilot.article.repository.Niveau5Repository;
 import com.ecopilot.article.repository.Niveau6Repository;
 import com.ecopilot.article.repository.PendingArticleRepository;
+import com.ecopilot.article.search.ArticleMatchIndex;
+import com.ecopilot.article.search.ArticleSuggestIndex;
+import com.ecopilot.article.search.FullTextSearchSupport;
 import com.ecopilot.article.strategy.PriceStrategy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,14 +52,21 @@ public class ArticleService {
     private final PendingArticleRepository pendingArticleRepository;
     private final ArticleSupprimeRepository articleSupprimeRepository;
     private final Niveau2Repository niveau2Repository;
-    private final Niveau3Repository niveau3Repository;
-    private final Niveau4Repository niveau4Repository;
     private final Niveau5Repository niveau5Repository;
     private final Niveau6Repository niveau6Repository;
     private final PriceStrategy priceStrategy;
     private final ArticleEventProducer eventProducer;
+    private final HierarchyService hierarchyService;
+    private final ArticleSuggestIndex suggestIndex;
+    private final ArticleMatchIndex matchIndex;
+    private final FullTextSearchSupport fullTextSearch;
+    private final ArticleFacetService facetService;
+    private final CatalogVersion catalogVersion;
+    private final PendingStatusCounters pendingStatusCounters;
 
-    private String getCurrentUserId() {
+    private static final int MAX_PAGE_SIZE = 500;
+
+    String getCurrentUserId() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
             return jwt.getClaimAsString("sub");
@@ -60,7 +74,7 @@ public class ArticleService {
         return authentication != null ? authentication.getName() : "system";
     }
 
-    private boolean isCurrentUserAdmin() {
+    boolean isCurrentUserAdmin() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
             try {
@@ -79,31 +93,39 @@ public class ArticleService {
     }
 
     public List<String> getAllExpertises() {
-        return articleRepository.findDistinctExpertises();
+        return facetService.expertises().stream().map(FilterDTO::getNom).collect(Collectors.toList());
+    }
+
+    public List<FilterDTO> getExpertiseFacets() {
+        return facetService.expertises();
+    }
+
+    public List<FilterDTO> getUniteFacets() {
+        return facetService.unites();
     }
 
     public List<FilterDTO> getUsedNiveau1() {
-        return articleRepository.findDistinctNiveau1();
+        return facetService.niveaux(1, null);
     }
 
     public List<FilterDTO> getUsedNiveau2(Long parentId) {
-        return articleRepository.findDistinctNiveau2(parentId);
+        return facetService.niveaux(2, parentId);
     }
 
     public List<FilterDTO> getUsedNiveau3(Long parentId) {
-        return articleRepository.findDistinctNiveau3(parentId);
+        return facetService.niveaux(3, parentId);
     }
 
     public List<FilterDTO> getUsedNiveau4(Long parentId) {
-        return articleRepository.findDistinctNiveau4(parentId);
+        return facetService.niveaux(4, parentId);
     }
 
     public List<FilterDTO> getUsedNiveau5(Long parentId) {
-        return articleRepository.findDistinctNiveau5(parentId);
+        return facetService.niveaux(5, parentId);
     }
 
     public List<FilterDTO> getUsedNiveau6(Long parentId) {
-        return articleRepository.findDistinctNiveau6(parentId);
+        return facetService.niveaux(6, parentId);
     }
 
     public List<ArticleHierarchyDTO> getArticleHierarchy() {
@@ -116,27 +138,134 @@ public class ArticleService {
                 .collect(Collectors.toList());
     }
 
-    public List<ArticleDTO> getAllArticles(int page, int limit, String sortBy, String sortOrder) {
-        // For now, return all articles (pagination can be implemented later with Pageable)
-        // This is a basic implementation that ignores pagination parameters
-        return articleRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Page du catalogue. Avec un {@code cursor}, la lecture reprend apres la derniere ligne
+     * renvoyee (keyset, sans OFFSET) ; sans cursor, {@code page} est encore honore pour les
+     * anciens ecrans. Le total n'est calcule que sur demande.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePageDTO getArticlesPage(int page, int limit, String sortBy, String sortOrder,
+                                          ArticleFilter filter, String cursor, boolean withTotal) {
+        ArticleSortKey sortKey = ArticleSortKey.from(sortBy);
+        boolean descending = "desc".equalsIgnoreCase(sortOrder);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        filter = resolveFilter(filter);
+
+        Object afterValue = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            ArticleCursor position = ArticleCursor.decode(cursor, sortKey, descending);
+            afterValue = position.typedValue(sortKey);
+            afterId = position.id();
+        }
+        int offset = afterId == null ? (Math.max(page, 1) - 1) * pageSize : 0;
+
+        // Une ligne de plus pour savoir s'il existe une page suivante sans COUNT
+        List<Article> rows = articleRepository.findPage(filter, sortKey, descending, afterValue, afterId, offset, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore
+                ? ArticleCursor.after(rows.get(rows.size() - 1), sortKey, descending).encode()
+                : null;
+
+        return ArticlePageDTO.builder()
+                .articles(rows.stream().map(this::mapToDTO).collect(Collectors.toList()))
+                .pagination(PaginationDTO.builder()
+                        .limit(pageSize)
+                        .hasMore(hasMore)
+                        .nextCursor(nextCursor)
+                        .total(withTotal ? articleRepository.countMatching(filter) : null)
+                        .build())
+                .build();
     }
 
-    public List<ArticleDTO> getAllArticles(int page, int limit, String sortBy, String sortOrder, List<Long> idNiveau6) {
-        if (idNiveau6 != null && !idNiveau6.isEmpty()) {
-             return articleRepository.findByNiveau6IdIn(idNiveau6).stream()
-                     .map(this::mapToDTO)
-                     .collect(Collectors.toList());
+    /**
+     * Ramene un filtre sur un niveau superieur a la liste des Niveau6 concernes, d'apres
+     * l'arborescence en memoire (croisee avec id_niv_6 si les deux sont fournis). Un niveau
+     * sans Niveau6 donne une liste vide : la page est vide, le filtre n'est pas ignore.
+     */
+    ArticleFilter resolveFilter(ArticleFilter filter) {
+        if (filter == null || !filter.hasNiveauIds()) {
+            return filter;
+        }
+        List<Long> niveau6Ids = hierarchyService.getSnapshot().niveau6IdsUnder(filter.getNiveau(), filter.getNiveauIds());
+        if (filter.getNiveau6Ids() != null) {
+            niveau6Ids.retainAll(filter.getNiveau6Ids());
+        }
+        return filter.toBuilder().niveau6Ids(niveau6Ids).niveau(null).niveauIds(null).build();
+    }
+
+    /**
+     * Recherche classee par pertinence (plein texte + trigrammes) avec extraits surlignes,
+     * paginee par {@code page}/{@code limit}. Sans support PostgreSQL, ancien LIKE pagine.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePageDTO searchArticles(String query, int page, int limit, boolean withTotal) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        int pageIndex = Math.max(page, 1) - 1;
+
+        List<ArticleDTO> results;
+        boolean hasMore;
+        Long total = null;
+        if (fullTextSearch.isAvailable()) {
+            List<Object[]> hits = articleRepository.searchFullText(query, pageSize + 1, pageIndex * pageSize);
+            hasMore = hits.size() > pageSize;
+            if (hasMore) {
+                hits = hits.subList(0, pageSize);
+            }
+            Map<Long, Article> articles = articleRepository.findAllById(
+                            hits.stream().map(hit -> ((Number) hit[0]).longValue()).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(Article::getId, Function.identity()));
+            results = new ArrayList<>(hits.size());
+            for (Object[] hit : hits) {
+                Article article = articles.get(((Number) hit[0]).longValue());
+                if (article == null) {
+                    continue;
+                }
+                ArticleDTO dto = mapToDTO(article);
+                dto.setScore(((Number) hit[1]).doubleValue());
+                dto.setHighlight(toHighlightHtml((String) hit[2]));
+                String snippet = (String) hit[3];
+                dto.setSnippet(snippet != null && !snippet.isEmpty() ? toHighlightHtml(snippet) : null);
+                results.add(dto);
+            }
+            if (withTotal) {
+                total = articleRepository.countFullText(query);
+            }
+        } else {
+            Slice<Article> slice = articleRepository.findByNomArticleContainingIgnoreCase(
+                    query, PageRequest.of(pageIndex, pageSize, Sort.by("id")));
+            hasMore = slice.hasNext();
+            results = slice.getContent().stream().map(this::mapToDTO).collect(Collectors.toList());
+            if (withTotal) {
+                total = articleRepository.countByNomArticleContainingIgnoreCase(query);
+            }
         }
-        return getAllArticles(page, limit, sortBy, sortOrder);
+
+        return ArticlePageDTO.builder()
+                .articles(results)
+                .pagination(PaginationDTO.builder()
+                        .limit(pageSize)
+                        .hasMore(hasMore)
+                        .total(total)
+                        .build())
+                .build();
     }
 
-    public List<ArticleDTO> searchArticles(String query) {
-        return articleRepository.findByNomArticleContainingIgnoreCase(query).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    /**
+     * Extrait ts_headline rendu en HTML : texte du catalogue echappe, termes trouves en {@code <mark>}.
+     */
+    static String toHighlightHtml(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(raw, "UTF-8")
+                .replace(ArticleRepository.HIGHLIGHT_START, "<mark>")
+                .replace(ArticleRepository.HIGHLIGHT_STOP, "</mark>");
     }
 
     public ArticleDTO getArticleById(Long id) {
@@ -158,33 +287,23 @@ public class ArticleService {
         article.setUserId(currentUserId);
         
         // Apply Strategy Pattern for Price Calculation if needed
-        if (articleDTO.getPu() != null) {
-             try {
-                 BigDecimal basePrice = new BigDecimal(articleDTO.getPu());
-                 BigDecimal calculated = priceStrategy.calculatePrice(basePrice);
-                 // For now we just log or use it, as the logic itself is placeholder
-             } catch (NumberFormatException e) {
-                 // ignore
-             }
+        if (article.getPu() != null) {
+             BigDecimal calculated = priceStrategy.calculatePrice(article.getPu());
+             // For now we just log or use it, as the logic itself is placeholder
         }
 
         Article saved = articleRepository.save(article);
+        suggestIndex.upsert(saved.getId(), saved.getNomArticle());
+        matchIndex.upsert(saved.getId(), saved.getNomArticle(), saved.getUnite());
+        facetService.added(saved);
+        catalogVersion.bump();
         
         // Publish Kafka event
-        Double prixUnitaire = null;
-        try {
-            if (saved.getPu() != null) {
-                prixUnitaire = Double.parseDouble(saved.getPu());
-            }
-        } catch (NumberFormatException e) {
-            // ignore
-        }
-        
         eventProducer.sendArticleCreatedEvent(
                 saved.getId(),
                 saved.getNomArticle(),
                 saved.getUnite(),
-                prixUnitaire,
+                PriceValues.toDouble(saved.getPu()),
                 saved.getUserId()
         );
         
@@ -194,6 +313,7 @@ public class ArticleService {
     public ArticleDTO updateArticle(Long id, ArticleDTO articleDTO) {
         Article article = articleRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found"));
+        ArticleFacetService.Key facetsBefore = ArticleFacetService.Key.of(article);
 
         if (articleDTO.getNomArticle() != null) {
             article.setNomArticle(articleDTO.getNomArticle());
@@ -208,28 +328,28 @@ public class ArticleService {
             article.setExpertise(articleDTO.getExpertise());
         }
         if (articleDTO.getFourniture() != null) {
-            article.setFourniture(articleDTO.getFourniture());
+            article.setFourniture(PriceValues.parse("fourniture", articleDTO.getFourniture()));
         }
         if (articleDTO.getCadence() != null) {
-            article.setCadence(articleDTO.getCadence());
+            article.setCadence(PriceValues.parse("cadence", articleDTO.getCadence()));
         }
         if (articleDTO.getAccessoires() != null) {
-            article.setAccessoires(articleDTO.getAccessoires());
+            article.setAccessoires(PriceValues.parse("accessoires", articleDTO.getAccessoires()));
         }
         if (articleDTO.getPertes() != null) {
             article.setPertes(articleDTO.getPertes());
         }
         if (articleDTO.getPu() != null) {
-            article.setPu(articleDTO.getPu());
+            article.setPu(PriceValues.parse("pu", articleDTO.getPu()));
         }
         boolean hasAnyPriceUpdate =
                 articleDTO.getPrixCible() != null ||
                 articleDTO.getPrixEstime() != null ||
                 articleDTO.getPrixConsulte() != null;
         if (hasAnyPriceUpdate) {
-            article.setPrixCible(articleDTO.getPrixCible());
-            article.setPrixEstime(articleDTO.getPrixEstime());
-            article.setPrixConsulte(articleDTO.getPrixConsulte());
+            article.setPrixCible(PriceValues.parse("prix_cible", articleDTO.getPrixCible()));
+            article.setPrixEstime(PriceValues.parse("prix_estime", articleDTO.getPrixEstime()));
+            article.setPrixConsulte(PriceValues.parse("prix_consulte", articleDTO.getPrixConsulte()));
         }
         if (articleDTO.getRabais() != null) {
             article.setRabais(articleDTO.getRabais());
@@ -253,20 +373,16 @@ public class ArticleService {
         }
 
         Article updated = articleRepository.save(article);
-
-        Double prixUnitaire = null;
-        try {
-            if (updated.getPu() != null) {
-                prixUnitaire = Double.parseDouble(updated.getPu());
-            }
-        } catch (NumberFormatException e) {
-        }
+        suggestIndex.upsert(updated.getId(), updated.getNomArticle());
+        matchIndex.upsert(updated.getId(), updated.getNomArticle(), updated.getUnite());
+        facetService.changed(facetsBefore, updated);
+        catalogVersion.bump();
 
         eventProducer.sendArticleUpdatedEvent(
                 updated.getId(),
                 updated.getNomArticle(),
                 updated.getUnite(),
-                prixUnitaire,
+                PriceValues.toDouble(updated.getPu()),
                 updated.getUserId()
         );
 
@@ -279,7 +395,9 @@ public class ArticleService {
          
          // Create ArticleSupprime (Historisation)
         ArticleSupprime supprime = ArticleSupprime.builder()
-                .date(article.getDate() != null ? article.getDate() : java.time.LocalDate.now())
+                .articleId(article.getId())
+                .articleDate(article.getDate())
+                .articleCreatedAt(article.getCreatedAt())
                  .nomArticle(article.getNomArticle())
                  .unite(article.getUnite())
                  .type(article.getType())
@@ -306,6 +424,10 @@ public class ArticleService {
          articleSupprimeRepository.save(supprime);
 
          articleRepository.deleteById(id);
+         suggestIndex.remove(id);
+         matchIndex.remove(id);
+         facetService.removed(article);
+         catalogVersion.bump();
          
          // Publish Kafka event
          eventProducer.sendArticleDeletedEvent(id, article.getUserId());
@@ -346,28 +468,28 @@ public class ArticleService {
             pending.setExpertise(dto.getExpertise());
         }
         if (dto.getFourniture() != null) {
-            pending.setFourniture(new BigDecimal(dto.getFourniture()));
+            pending.setFourniture(PriceValues.parse("fourniture", dto.getFourniture()));
         }
         if (dto.getCadence() != null) {
-            pending.setCadence(new BigDecimal(dto.getCadence()));
+            pending.setCadence(PriceValues.parse("cadence", dto.getCadence()));
         }
         if (dto.getAccessoires() != null) {
-            pending.setAccessoires(new BigDecimal(dto.getAccessoires()));
+            pending.setAccessoires(PriceValues.parse("accessoires", dto.getAccessoires()));
         }
         if (dto.getPertes() != null) {
             pending.setPertes(dto.getPertes());
         }
         if (dto.getPu() != null) {
-            pending.setPu(dto.getPu());
+            pending.setPu(PriceValues.parse("pu", dto.getPu()));
         }
         if (dto.getPrixCible() != null) {
-            pending.setPrixCible(new BigDecimal(dto.getPrixCible()));
+            pending.setPrixCible(PriceValues.parse("prix_cible", dto.getPrixCible()));
         }
         if (dto.getPrixEstime() != null) {
-            pending.setPrixEstime(new BigDecimal(dto.getPrixEstime()));
+            pending.setPrixEstime(PriceValues.parse("prix_estime", dto.getPrixEstime()));
         }
         if (dto.getPrixConsulte() != null) {
-            pending.setPrixConsulte(new BigDecimal(dto.getPrixConsulte()));
+            pending.setPrixConsulte(PriceValues.parse("prix_consulte", dto.getPrixConsulte()));
         }
         if (dto.getRabais() != null) {
             pending.setRabais(dto.getRabais());
@@ -400,37 +522,95 @@ public class ArticleService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pending Article not found"));
 
         pendingArticleRepository.delete(pending);
-    }
-
-    public List<ArticleDTO> getAllDeletedArticles() {
-        return articleSupprimeRepository.findAll().stream()
-                .map(this::mapSupprimeToDTO)
-                .collect(Collectors.toList());
+        pendingStatusCounters.transitioned(pending.getStatus(), null);
+    }
+
+    /**
+     * Page de l'archive, suppressions les plus recentes d'abord, reprise par {@code cursor}.
+     * Sans borne de dates, seules les partitions les plus recentes sont lues jusqu'a la limite.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePageDTO getDeletedArticlesPage(DeletedArticleFilter filter, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        ArchiveCursor position = cursor != null && !cursor.isBlank() ? ArchiveCursor.decode(cursor) : null;
+
+        // Une ligne de plus pour savoir s'il existe une page suivante sans COUNT
+        List<ArticleSupprime> rows = articleSupprimeRepository.findArchivePage(filter,
+                position != null ? position.date() : null, position != null ? position.id() : null, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            ArticleSupprime last = rows.get(rows.size() - 1);
+            nextCursor = new ArchiveCursor(last.getDate(), last.getId()).encode();
+        }
+
+        return ArticlePageDTO.builder()
+                .articles(rows.stream().map(this::mapSupprimeToDTO).collect(Collectors.toList()))
+                .pagination(PaginationDTO.builder()
+                        .limit(pageSize)
+                        .hasMore(hasMore)
+                        .nextCursor(nextCursor)
+                        .build())
+                .build();
     }
 
     public void approvePendingArticle(Long id) {
-        PendingArticle pending = pendingArticleRepository.findById(id)
+        PendingArticle pending = pendingArticleRepository.findByIdForReview(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pending Article not found"));
+        // Verrou pris : une revue groupee concurrente a deja pu la valider
+        if (pending.getApprovedArticleId() != null || PendingArticle.STATUS_APPROVED.equals(pending.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Pending Article already approved");
+        }
         
+        String previousStatus = pending.getStatus();
         pending.setAcceptedBy(getCurrentUserId());
-        pending.setStatus("Approuve");
+        pending.setStatus(PendingArticle.STATUS_APPROVED);
         pending.setReviewedAt(LocalDateTime.now());
         pending.setUpdatedAt(LocalDateTime.now());
 
-        Article article = Article.builder()
+        Article article = toApprovedArticle(pending);
+        
+        articleRepository.save(article);
+        suggestIndex.upsert(article.getId(), article.getNomArticle());
+        matchIndex.upsert(article.getId(), article.getNomArticle(), article.getUnite());
+        facetService.added(article);
+        catalogVersion.bump();
+        pending.setApprovedArticleId(article.getId());
+        pendingArticleRepository.save(pending);
+        pendingStatusCounters.transitioned(previousStatus, PendingArticle.STATUS_APPROVED);
+        
+        // Publish event
+        eventProducer.sendArticleCreatedEvent(
+                article.getId(),
+                article.getNomArticle(),
+                article.getUnite(),
+                PriceValues.toDouble(article.getPu()),
+                article.getUserId()
+        );
+    }
+
+    /**
+     * Article du catalogue issu d'une proposition validee (id et createdAt non renseignes).
+     */
+    static Article toApprovedArticle(PendingArticle pending) {
+        return Article.builder()
                 .date(pending.getDate())
                 .nomArticle(pending.getNomArticle())
                 .unite(pending.getUnite())
                 .type(pending.getType())
                 .expertise(pending.getExpertise())
-                .fourniture(pending.getFourniture() != null ? pending.getFourniture().toString() : null)
-                .cadence(pending.getCadence() != null ? pending.getCadence().toString() : null)
-                .accessoires(pending.getAccessoires() != null ? pending.getAccessoires().toString() : null)
+                .fourniture(pending.getFourniture())
+                .cadence(pending.getCadence())
+                .accessoires(pending.getAccessoires())
                 .pertes(pending.getPertes())
                 .pu(pending.getPu())
-                .prixCible(pending.getPrixCible() != null ? pending.getPrixCible().toString() : null)
-                .prixEstime(pending.getPrixEstime() != null ? pending.getPrixEstime().toString() : null)
-                .prixConsulte(pending.getPrixConsulte() != null ? pending.getPrixConsulte().toString() : null)
+                .prixCible(pending.getPrixCible())
+                .prixEstime(pending.getPrixEstime())
+                .prixConsulte(pending.getPrixConsulte())
                 .rabais(pending.getRabais())
                 .commentaires(pending.getCommentaires())
                 .userId(pending.getCreatedBy())
@@ -439,49 +619,33 @@ public class ArticleService {
                 .fournisseurId(pending.getFournisseurId())
                 .niveau6(pending.getNiveau6())
                 .build();
-        
-        articleRepository.save(article);
-        pending.setApprovedArticleId(article.getId());
-        pendingArticleRepository.save(pending);
-        
-        // Publish event
-        Double prixUnitaire = null;
-        try {
-            if (article.getPu() != null) {
-                prixUnitaire = Double.parseDouble(article.getPu());
-            }
-        } catch (NumberFormatException e) {}
-        
-        eventProducer.sendArticleCreatedEvent(
-                article.getId(),
-                article.getNomArticle(),
-                article.getUnite(),
-                prixUnitaire,
-                article.getUserId()
-        );
     }
 
     public void rejectPendingArticle(Long id) {
-        PendingArticle pending = pendingArticleRepository.findById(id)
+        PendingArticle pending = pendingArticleRepository.findByIdForReview(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pending Article not found"));
         
+        String previousStatus = pending.getStatus();
         pending.setRejectedBy(getCurrentUserId());
-        pending.setStatus("Rejete");
+        pending.setStatus(PendingArticle.STATUS_REJECTED);
         pending.setReviewedAt(LocalDateTime.now());
         pending.setUpdatedAt(LocalDateTime.now());
         pendingArticleRepository.save(pending);
+        pendingStatusCounters.transitioned(previousStatus, PendingArticle.STATUS_REJECTED);
     }
 
     public void resetPendingArticleStatus(Long id) {
-        PendingArticle pending = pendingArticleRepository.findById(id)
+        PendingArticle pending = pendingArticleRepository.findByIdForReview(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pending Article not found"));
 
-        pending.setStatus("En attente");
+        String previousStatus = pending.getStatus();
+        pending.setStatus(PendingArticle.STATUS_PENDING);
         pending.setAcceptedBy(null);
         pending.setRejectedBy(null);
         pending.setReviewedAt(null);
         pending.setUpdatedAt(LocalDateTime.now());
         pendingArticleRepository.save(pending);
+        pendingStatusCounters.transitioned(previousStatus, PendingArticle.STATUS_PENDING);
     }
 
     // Mapper for PendingArticle
@@ -493,14 +657,14 @@ public class ArticleService {
                 .unite(article.getUnite())
                 .type(article.getType())
                 .expertise(article.getExpertise())
-                .fourniture(article.getFourniture() != null ? article.getFourniture().toString() : null)
-                .cadence(article.getCadence() != null ? article.getCadence().toString() : null)
-                .accessoires(article.getAccessoires() != null ? article.getAccessoires().toString() : null)
+                .fourniture(PriceValues.format(article.getFourniture()))
+                .cadence(PriceValues.format(article.getCadence()))
+                .accessoires(PriceValues.format(article.getAccessoires()))
                 .pertes(article.getPertes())
-                .pu(article.getPu())
-                .prixCible(article.getPrixCible() != null ? article.getPrixCible().toString() : null)
-                .prixEstime(article.getPrixEstime() != null ? article.getPrixEstime().toString() : null)
-                .prixConsulte(article.getPrixConsulte() != null ? article.getPrixConsulte().toString() : null)
+                .pu(PriceValues.format(article.getPu()))
+                .prixCible(PriceValues.format(article.getPrixCible()))
+                .prixEstime(PriceValues.format(article.getPrixEstime()))
+                .prixConsulte(PriceValues.format(article.getPrixConsulte()))
                 .rabais(article.getRabais())
                 .commentaires(article.getCommentaires())
                 .userId(article.getCreatedBy() != null ? article.getCreatedBy().toString() : null)
@@ -528,9 +692,9 @@ public class ArticleService {
             builder.origine("cible");
         }
 
-        // Populate Hierarchy
+        // Populate Hierarchy (id du proxy Niveau6, sans chargement)
         if (article.getNiveau6() != null) {
-            populateHierarchy(builder, article.getNiveau6());
+            populateHierarchy(builder, article.getNiveau6().getId());
         }
 
         return builder.build();
@@ -545,14 +709,14 @@ public class ArticleService {
                 .unite(article.getUnite())
                 .type(article.getType())
                 .expertise(article.getExpertise())
-                .fourniture(article.getFourniture())
-                .cadence(article.getCadence())
-                .accessoires(article.getAccessoires())
+                .fourniture(PriceValues.format(article.getFourniture()))
+                .cadence(PriceValues.format(article.getCadence()))
+                .accessoires(PriceValues.format(article.getAccessoires()))
                 .pertes(article.getPertes())
-                .pu(article.getPu())
-                .prixCible(article.getPrixCible())
-                .prixEstime(article.getPrixEstime())
-                .prixConsulte(article.getPrixConsulte())
+                .pu(PriceValues.format(article.getPu()))
+                .prixCible(PriceValues.format(article.getPrixCible()))
+                .prixEstime(PriceValues.format(article.getPrixEstime()))
+                .prixConsulte(PriceValues.format(article.getPrixConsulte()))
                 .rabais(article.getRabais())
                 .commentaires(article.getCommentaires())
                 .userId(article.getUserId() != null ? article.getUserId().toString() : null)
@@ -565,61 +729,45 @@ public class ArticleService {
                 }
 
         // Derive Origine
-        if (article.getPrixConsulte() != null && !article.getPrixConsulte().isEmpty()) {
+        if (article.getPrixConsulte() != null) {
             builder.origine("consulte");
-        } else if (article.getPrixEstime() != null && !article.getPrixEstime().isEmpty()) {
+        } else if (article.getPrixEstime() != null) {
             builder.origine("estime");
-        } else if (article.getPrixCible() != null && !article.getPrixCible().isEmpty()) {
+        } else if (article.getPrixCible() != null) {
             builder.origine("cible");
         }
 
-        // Populate Hierarchy
+        // Populate Hierarchy (id du proxy Niveau6, sans chargement)
         if (article.getNiveau6() != null) {
-            populateHierarchy(builder, article.getNiveau6());
+            populateHierarchy(builder, article.getNiveau6().getId());
         }
 
         return builder.build();
     }
 
-    private void populateHierarchy(ArticleDTO.ArticleDTOBuilder builder, Niveau6 niveau6) {
-        builder.niveau6(niveau6.getNom());
-
-        Niveau5 n5 = niveau6.getNiveau5();
-        if (n5 != null) {
-            builder.niveau5(n5.getNom());
-        }
-
-        Niveau4 n4 = n5 != null ? n5.getNiveau4() : null;
-        if (n4 == null && niveau6.getIdNiveau4() != null) {
-            n4 = niveau4Repository.findById(niveau6.getIdNiveau4()).orElse(null);
-        }
-        if (n4 != null) {
-            builder.niveau4(n4.getNom());
-        }
-
-        Niveau3 n3 = null;
-        if (n4 != null) {
-            n3 = n4.getNiveau3();
-        }
-        if (n3 == null && n5 != null && n5.getIdNiveau3() != null) {
-            n3 = niveau3Repository.findById(n5.getIdNiveau3()).orElse(null);
-        }
-        if (n3 == null && niveau6.getIdNiveau3() != null) {
-            n3 = niveau3Repository.findById(niveau6.getIdNiveau3()).orElse(null);
-        }
-        if (n3 != null) {
-            builder.niveau3(n3.getNom());
+    private void populateHierarchy(ArticleDTO.ArticleDTOBuilder builder, Long niveau6Id) {
+        HierarchySnapshot.Path path = hierarchyService.resolvePath(niveau6Id);
+        if (path == null) {
+            return;
         }
+        builder.niveau1(path.niveau1())
+                .niveau2(path.niveau2())
+                .niveau3(path.niveau3())
+                .niveau4(path.niveau4())
+                .niveau5(path.niveau5())
+                .niveau6(path.niveau6());
+    }
 
-        Niveau2 n2 = n3 != null ? n3.getNiveau2() : null;
-        if (n2 != null) {
-            builder.niveau2(n2.getNom());
-        }
+    /**
+     * Mapper lie a l'instance cible : les exports l'appliquent ligne a ligne
+     * sans repasser par le proxy transactionnel.
+     */
+    Function<Article, ArticleDTO> dtoMapper() {
+        return this::mapToDTO;
+    }
 
-        Niveau1 n1 = n2 != null ? n2.getNiveau1() : null;
-        if (n1 != null) {
-            builder.niveau1(n1.getNom());
-        }
+    Function<PendingArticle, ArticleDTO> pendingDtoMapper() {
+        return this::mapPendingToDTO;
     }
 
     // Mapper Methods
@@ -631,14 +779,14 @@ public class ArticleService {
                 .unite(article.getUnite())
                 .type(article.getType())
                 .expertise(article.getExpertise())
-                .fourniture(article.getFourniture())
-                .cadence(article.getCadence())
-                .accessoires(article.getAccessoires())
+                .fourniture(PriceValues.format(article.getFourniture()))
+                .cadence(PriceValues.format(article.getCadence()))
+                .accessoires(PriceValues.format(article.getAccessoires()))
                 .pertes(article.getPertes())
-                .pu(article.getPu())
-                .prixCible(article.getPrixCible())
-                .prixEstime(article.getPrixEstime())
-                .prixConsulte(article.getPrixConsulte())
+                .pu(PriceValues.format(article.getPu()))
+                .prixCible(PriceValues.format(article.getPrixCible()))
+                .prixEstime(PriceValues.format(article.getPrixEstime()))
+                .prixConsulte(PriceValues.format(article.getPrixConsulte()))
                 .rabais(article.getRabais())
                 .commentaires(article.getCommentaires())
                 .userId(article.getUserId())
@@ -649,17 +797,17 @@ public class ArticleService {
                 .createdAt(article.getCreatedAt());
 
         // Derive Origine
-        if (article.getPrixConsulte() != null && !article.getPrixConsulte().isEmpty()) {
+        if (article.getPrixConsulte() != null) {
             builder.origine("consulte");
-        } else if (article.getPrixEstime() != null && !article.getPrixEstime().isEmpty()) {
+        } else if (article.getPrixEstime() != null) {
             builder.origine("estime");
-        } else if (article.getPrixCible() != null && !article.getPrixCible().isEmpty()) {
+        } else if (article.getPrixCible() != null) {
             builder.origine("cible");
         }
 
-        // Populate Hierarchy
+        // Populate Hierarchy (id du proxy Niveau6, sans chargement)
         if (article.getNiveau6() != null) {
-            populateHierarchy(builder, article.getNiveau6());
+            populateHierarchy(builder, article.getNiveau6().getId());
         }
 
         return builder.build();
@@ -672,14 +820,14 @@ public class ArticleService {
                 .unite(dto.getUnite())
                 .type(dto.getType())
                 .expertise(dto.getExpertise())
-                .fourniture(dto.getFourniture())
-                .cadence(dto.getCadence())
-                .accessoires(dto.getAccessoires())
+                .fourniture(PriceValues.parse("fourniture", dto.getFourniture()))
+                .cadence(PriceValues.parse("cadence", dto.getCadence()))
+                .accessoires(PriceValues.parse("accessoires", dto.getAccessoires()))
                 .pertes(dto.getPertes())
-                .pu(dto.getPu())
-                .prixCible(dto.getPrixCible())
-                .prixEstime(dto.getPrixEstime())
-                .prixConsulte(dto.getPrixConsulte())
+                .pu(PriceValues.parse("pu", dto.getPu()))
+                .prixCible(PriceValues.parse("prix_cible", dto.getPrixCible()))
+                .prixEstime(PriceValues.parse("prix_estime", dto.getPrixEstime()))
+                .prixConsulte(PriceValues.parse("prix_consulte", dto.getPrixConsulte()))
                 .rabais(dto.getRabais())
                 .commentaires(dto.getCommentaires())
                 .userId(dto.getUserId())
@@ -702,18 +850,18 @@ public class ArticleService {
                 .unite(dto.getUnite())
                 .type(dto.getType())
                 .expertise(dto.getExpertise())
-                .fourniture(dto.getFourniture() != null ? new java.math.BigDecimal(dto.getFourniture()) : null)
-                .cadence(dto.getCadence() != null ? new java.math.BigDecimal(dto.getCadence()) : null)
-                .accessoires(dto.getAccessoires() != null ? new java.math.BigDecimal(dto.getAccessoires()) : null)
+                .fourniture(PriceValues.parse("fourniture", dto.getFourniture()))
+                .cadence(PriceValues.parse("cadence", dto.getCadence()))
+                .accessoires(PriceValues.parse("accessoires", dto.getAccessoires()))
                 .pertes(dto.getPertes())
-                .pu(dto.getPu() != null ? dto.getPu() : "0")
-                .prixCible(dto.getPrixCible() != null ? new java.math.BigDecimal(dto.getPrixCible()) : null)
-                .prixEstime(dto.getPrixEstime() != null ? new java.math.BigDecimal(dto.getPrixEstime()) : null)
-                .prixConsulte(dto.getPrixConsulte() != null ? new java.math.BigDecimal(dto.getPrixConsulte()) : null)
+                .pu(dto.getPu() != null ? PriceValues.parse("pu", dto.getPu()) : BigDecimal.ZERO)
+                .prixCible(PriceValues.parse("prix_cible", dto.getPrixCible()))
+                .prixEstime(PriceValues.parse("prix_estime", dto.getPrixEstime()))
+                .prixConsulte(PriceValues.parse("prix_consulte", dto.getPrixConsulte()))
                 .rabais(dto.getRabais())
                 .commentaires(dto.getCommentaires())
                 .createdBy(userId)
-                .status("En attente")
+                .status(PendingArticle.STATUS_PENDING)
                 .indiceDeConfiance(dto.getIndiceDeConfiance())
                 .files(dto.getFiles())
                 .fournisseurId(dto.getFournisseurId())
@@ -724,20 +872,20 @@ public class ArticleService {
         }
 
         PendingArticle saved = pendingArticleRepository.save(pending);
+        pendingStatusCounters.transitioned(null, PendingArticle.STATUS_PENDING);
         return mapPendingToDTO(saved);
     }
 
     public List<ArticleDTO> suggestArticles(String query) {
-        return articleRepository.findByNomArticleContainingIgnoreCase(query).stream()
-                .limit(10)
-                .map(a -> ArticleDTO.builder()
-                        .id(a.getId())
-                        .nomArticle(a.getNomArticle())
+        return suggestIndex.suggest(query, 10).stream()
+                .map(suggestion -> ArticleDTO.builder()
+                        .id(suggestion.id())
+                        .nomArticle(suggestion.nomArticle())
                         .build())
                 .collect(Collectors.toList());
     }
 
     public List<String> getAllUnits() {
-        return articleRepository.findDistinctUnites();
+        return facetService.unites().stream().map(FilterDTO::getNom).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,51 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleSnapshotDTO;
+import com.ecopilot.article.dto.ArticleSnapshotPageDTO;
+import com.ecopilot.article.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Photographie compacte du catalogue (id, designation, unite, prix) par pages ordonnees sur l'id,
+ * pour amorcer les modeles de lecture des autres services ; ceux-ci suivent ensuite
+ * {@code article.events}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleSnapshotService {
+
+    static final int MAX_PAGE_SIZE = 10_000;
+    static final int MAX_IDS = 1_000;
+
+    private final ArticleRepository articleRepository;
+
+    @Transactional(readOnly = true)
+    public ArticleSnapshotPageDTO page(Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<ArticleSnapshotDTO> items = articleRepository.findSnapshotPage(
+                afterId != null ? afterId : 0L, PageRequest.of(0, pageSize));
+        return ArticleSnapshotPageDTO.builder()
+                .items(items)
+                .nextAfterId(items.size() < pageSize ? null : items.get(items.size() - 1).getId())
+                .build();
+    }
+
+    /**
+     * Relecture des articles d'un evenement de lot ; les ids absents n'existent plus.
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleSnapshotDTO> byIds(List<Long> ids) {
+        if (ids.size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Too many ids: " + ids.size() + " (max " + MAX_IDS + ")");
+        }
+        return articleRepository.findSnapshotByIds(ids);
+    }
+}
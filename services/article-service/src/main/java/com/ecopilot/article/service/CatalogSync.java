@@ -0,0 +1,73 @@
+package com.ecopilot.article.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ecritures des autres instances, signalees par {@code article.events} : les evenements ne
+ * portent pas les cles des facettes, qui sont donc recomptees. Le rechargement se fait sur un
+ * thread a lui, hors des requetes, et une rafale d'evenements n'en declenche qu'un ; la
+ * version du catalogue n'avance qu'une fois les vues rechargees.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogSync {
+
+    private final HierarchyService hierarchyService;
+    private final ArticleFacetService facetService;
+    private final CatalogVersion catalogVersion;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean hierarchyChanged = new AtomicBoolean();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "catalog-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    public void articlesChanged() {
+        schedule();
+    }
+
+    public void hierarchyChanged() {
+        hierarchyChanged.set(true);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            loader.execute(this::sync);
+        }
+    }
+
+    private void sync() {
+        // Libere avant la relecture : un evenement recu pendant celle-ci en relance une
+        scheduled.set(false);
+        boolean hierarchy = hierarchyChanged.getAndSet(false);
+        try {
+            if (hierarchy) {
+                hierarchyService.refreshSnapshot();
+            }
+            facetService.rebuild();
+            catalogVersion.advance();
+        } catch (RuntimeException e) {
+            // La version reste en place : le prochain evenement retentera
+            if (hierarchy) {
+                hierarchyChanged.set(true);
+            }
+            log.warn("Catalog views not reloaded after a remote write: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.transaction.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version du catalogue (articles et arborescence), croissante, incrementee a chaque ecriture.
+ * Elle sert d'ETag aux lectures du catalogue : tant qu'elle ne bouge pas, un client peut
+ * reutiliser sa copie.
+ *
+ * <p>La version est celle des vues en memoire de l'instance et se lit sans aucune entree-sortie.
+ * Elle avance apres le commit d'une ecriture locale, et apres le rechargement des vues pour une
+ * ecriture d'une autre instance ({@link CatalogSync}). L'ETag porte un identifiant d'instance :
+ * deux instances, ou une instance redemarree, ne servent jamais le meme ETag pour des etats
+ * differents.
+ */
+@Component
+public class CatalogVersion {
+
+    private final String instance = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * ETag fort de la version courante. A lire avant les donnees : une ecriture concurrente
+     * ne peut alors que rendre l'ETag plus ancien que la reponse, jamais l'inverse.
+     */
+    public String etag() {
+        return etag(current(), null);
+    }
+
+    /**
+     * ETag d'une representation particuliere ({@code variant}, par exemple l'encodage gzip)
+     * d'une version donnee.
+     */
+    public String etag(long version, String variant) {
+        return "\"catalog-" + instance + "-" + version + (variant != null ? "-" + variant : "") + "\"";
+    }
+
+    /**
+     * Avance la version apres le commit de la transaction courante, une seule fois par
+     * transaction (immediatement hors transaction). A appeler en fin d'ecriture, apres les
+     * autres mises a jour en memoire, pour que la nouvelle version ne soit jamais servie avec
+     * des donnees anciennes.
+     */
+    public void bump() {
+        AfterCommit.runOnce(this, this::advance);
+    }
+
+    /**
+     * Avance la version tout de suite, les vues en memoire etant deja a jour.
+     */
+    public void advance() {
+        version.incrementAndGet();
+    }
+}
@@ -1,15 +1,28 @@
 package com.ecopilot.article.service;
 
-import com.ecopilot.article.entity.*;
+import com.ecopilot.article.dto.NiveauNodeDTO;
+import com.ecopilot.article.dto.NiveauPageDTO;
+import com.ecopilot.article.dto.PaginationDTO;
 import com.ecopilot.article.repository.*;
+import com.ecopilot.article.transaction.AfterCommit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class HierarchyService {
 
     private final Niveau1Repository niveau1Repository;
@@ -19,63 +32,163 @@ public class HierarchyService {
     private final Niveau5Repository niveau5Repository;
     private final Niveau6Repository niveau6Repository;
     private final ArticleRepository articleRepository;
+    private final CatalogVersion catalogVersion;
+    // Resolu a l'usage : le service de facettes depend lui-meme de la photographie
+    private final ObjectProvider<ArticleFacetService> facetService;
 
-    public List<Object> getFullHierarchy() {
-        // Retourne la liste des Niveaux 1 (qui contiennent les enfants grace au fetch lazy mais serialisation?)
-        // Attention au LazyLoadingException si on retourne directement les entités sans transaction ou DTO
-        // Pour l'instant on retourne les N1
-        return (List<Object>)(List<?>) niveau1Repository.findAll();
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final AtomicReference<HierarchySnapshot> snapshot = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        refreshSnapshot();
     }
 
-    public Object getNiveau(int level, Long id) {
-        switch (level) {
-            case 1: return niveau1Repository.findById(id).orElse(null);
-            case 2: return niveau2Repository.findById(id).orElse(null);
-            case 3: return niveau3Repository.findById(id).orElse(null);
-            case 4: return niveau4Repository.findById(id).orElse(null);
-            case 5: return niveau5Repository.findById(id).orElse(null);
-            case 6: return niveau6Repository.findById(id).orElse(null);
-            default: return null;
-        }
+    /**
+     * Arborescence courante, construite a la premiere lecture si le demarrage ne l'a pas fait.
+     */
+    public HierarchySnapshot getSnapshot() {
+        HierarchySnapshot current = snapshot.get();
+        return current != null ? current : refreshSnapshot();
+    }
+
+    /**
+     * Chemin Niveau1..Niveau6 d'un Niveau6, sans aucune requete.
+     */
+    public HierarchySnapshot.Path resolvePath(Long niveau6Id) {
+        return niveau6Id != null ? getSnapshot().path(niveau6Id) : null;
+    }
+
+    /**
+     * Recharge les six niveaux (une requete par niveau) puis remplace la photographie en une
+     * seule ecriture ; les lecteurs en cours terminent sur l'ancienne.
+     */
+    public synchronized HierarchySnapshot refreshSnapshot() {
+        List<List<HierarchySnapshot.Row>> rows = new ArrayList<>(6);
+        rows.add(toRows(niveau1Repository.findSnapshotRows()));
+        rows.add(toRows(niveau2Repository.findSnapshotRows()));
+        rows.add(toRows(niveau3Repository.findSnapshotRows()));
+        rows.add(toRows(niveau4Repository.findSnapshotRows()));
+        rows.add(toRows(niveau5Repository.findSnapshotRows()));
+        rows.add(toRows(niveau6Repository.findSnapshotRows()));
+
+        HierarchySnapshot built = HierarchySnapshot.build(rows);
+        snapshot.set(built);
+        log.info("Hierarchy snapshot loaded: {} niveau6 paths", built.paths().size());
+        return built;
+    }
+
+    /**
+     * Appele a chaque modification d'un niveau : la photographie est reconstruite une seule
+     * fois par transaction, apres le commit pour ne jamais lire une modification encore
+     * invisible, puis la version du catalogue avance.
+     */
+    public void invalidateSnapshot() {
+        AfterCommit.runOnce(this, this::hierarchyChanged);
     }
 
-    public List<Object> getAllNiveau2() {
-        return (List<Object>)(List<?>) niveau2Repository.findAll();
+    /**
+     * Recharge la photographie puis fait avancer la version du catalogue, tout de suite.
+     */
+    public void hierarchyChanged() {
+        refreshSnapshot();
+        catalogVersion.advance();
     }
 
-    public List<Object> getAllNiveau3() {
-        return (List<Object>)(List<?>) niveau3Repository.findAll();
+    private List<HierarchySnapshot.Row> toRows(List<Object[]> raw) {
+        List<HierarchySnapshot.Row> rows = new ArrayList<>(raw.size());
+        for (Object[] r : raw) {
+            rows.add(new HierarchySnapshot.Row(
+                    (Long) r[0],
+                    (String) r[1],
+                    r.length > 2 ? (Long) r[2] : null,
+                    r.length > 3 ? (Long) r[3] : null,
+                    r.length > 4 ? (Long) r[4] : null));
+        }
+        return rows;
     }
 
-    public List<Object> getAllNiveau4() {
-        return (List<Object>)(List<?>) niveau4Repository.findAll();
+    /**
+     * Noeud {@code id} de niveau {@code level} (1 a 6), lu dans la photographie.
+     */
+    public NiveauNodeDTO getNode(int level, Long id) {
+        HierarchySnapshot.Node node = getSnapshot().node(level, id);
+        if (node == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Niveau " + level + " not found: " + id);
+        }
+        return toDTO(level, node);
     }
 
-    public List<Object> getAllNiveau5() {
-        return (List<Object>)(List<?>) niveau5Repository.findAll();
+    /**
+     * Page des noeuds de niveau {@code level}, tries par nom ; enfants de {@code parentId} si fourni.
+     * Le niveau 7 correspond aux articles d'un Niveau6 et exige {@code parentId}.
+     */
+    public NiveauPageDTO getLevel(int level, Long parentId, int page, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        page = Math.max(page, 1);
+        if (level == 7) {
+            return getArticleLeaves(parentId, page, pageSize);
+        }
+        int offset = (page - 1) * pageSize;
+
+        HierarchySnapshot snapshot = getSnapshot();
+        List<HierarchySnapshot.Node> nodes = parentId != null
+                ? snapshot.children(level, parentId)
+                : snapshot.sortedLevel(level);
+        List<NiveauNodeDTO> items = nodes.stream()
+                .skip(offset)
+                .limit(pageSize)
+                .map(node -> toDTO(level, node))
+                .collect(Collectors.toList());
+        return page(items, pageSize, offset + items.size() < nodes.size(), nodes.size());
     }
 
-    public List<Object> getAllNiveau6() {
-        return (List<Object>)(List<?>) niveau6Repository.findAll();
+    /**
+     * Enfants directs du noeud {@code id} de niveau {@code level} (articles pour un Niveau6).
+     */
+    public NiveauPageDTO getChildren(int level, Long id, int page, int limit) {
+        getNode(level, id);
+        return getLevel(level + 1, id, page, limit);
     }
 
-    public List<Object> getNiveauChildren(int level, Long parentId) {
-        switch (level) {
-            case 2: 
-                return (List<Object>)(List<?>) niveau2Repository.findByNiveau1Id(parentId);
-            case 3: 
-                return (List<Object>)(List<?>) niveau3Repository.findByNiveau2Id(parentId);
-            case 4: 
-                return (List<Object>)(List<?>) niveau4Repository.findByNiveau3Id(parentId);
-            case 5: 
-                return (List<Object>)(List<?>) niveau5Repository.findByNiveau4Id(parentId);
-            case 6: 
-                return (List<Object>)(List<?>) niveau6Repository.findByNiveau5Id(parentId);
-            case 7:
-                // Niveau 7 corresponds to Articles
-                return (List<Object>)(List<?>) articleRepository.findByNiveau6IdIn(Collections.singletonList(parentId));
-            default: 
-                return Collections.emptyList();
+    private NiveauPageDTO getArticleLeaves(Long niveau6Id, int page, int pageSize) {
+        if (niveau6Id == null) {
+            // Pas de "tous les articles" via cette arborescence
+            return page(List.of(), pageSize, false, 0);
         }
+        // Le total vient des compteurs du catalogue : pas de COUNT
+        long total = facetService.getObject().count(6, niveau6Id);
+        List<NiveauNodeDTO> items = articleRepository.findLeavesByNiveau6(niveau6Id, PageRequest.of(page - 1, pageSize))
+                .stream()
+                .map(row -> NiveauNodeDTO.builder()
+                        .id((Long) row[0])
+                        .nom((String) row[1])
+                        .level(7)
+                        .parentId(niveau6Id)
+                        .build())
+                .collect(Collectors.toList());
+        return page(items, pageSize, (long) (page - 1) * pageSize + items.size() < total, total);
+    }
+
+    private NiveauNodeDTO toDTO(int level, HierarchySnapshot.Node node) {
+        return NiveauNodeDTO.builder()
+                .id(node.id())
+                .nom(node.nom())
+                .level(level)
+                .parentId(node.parentId())
+                .articleCount(facetService.getObject().count(level, node.id()))
+                .build();
+    }
+
+    private static NiveauPageDTO page(List<NiveauNodeDTO> items, int pageSize, boolean hasMore, long total) {
+        return NiveauPageDTO.builder()
+                .niveaux(items)
+                .pagination(PaginationDTO.builder()
+                        .limit(pageSize)
+                        .hasMore(hasMore)
+                        .total(total)
+                        .build())
+                .build();
     }
 }
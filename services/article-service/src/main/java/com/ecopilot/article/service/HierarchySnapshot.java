@@ -0,0 +1,184 @@
+package com.ecopilot.article.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Photographie immuable de l'arborescence Niveau1..Niveau6, indexee par id.
+ * Construite en une requete par niveau par {@link HierarchyService} puis remplacee
+ * en bloc : un lecteur voit toujours une arborescence complete et coherente.
+ */
+public final class HierarchySnapshot {
+
+    public record Node(Long id, String nom, Long parentId) {
+    }
+
+    /**
+     * Chemin complet d'un Niveau6, avec les memes replis que l'ancien
+     * populateHierarchy (id_niv_4 / id_niv_3 portes par Niveau5 et Niveau6).
+     */
+    public record Path(Long niveau1Id, String niveau1,
+                       Long niveau2Id, String niveau2,
+                       Long niveau3Id, String niveau3,
+                       Long niveau4Id, String niveau4,
+                       Long niveau5Id, String niveau5,
+                       Long niveau6Id, String niveau6) {
+    }
+
+    /**
+     * Ligne brute d'un niveau ; {@code idNiveau3}/{@code idNiveau4} sont les liens
+     * historiques de niveau_5 et niveau_6 (null pour les autres niveaux).
+     */
+    public record Row(Long id, String nom, Long parentId, Long idNiveau3, Long idNiveau4) {
+    }
+
+    private static final Comparator<Node> BY_NOM =
+            Comparator.comparing(Node::nom, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)).thenComparing(Node::id);
+
+    private final List<Map<Long, Node>> levels;
+    private final Map<Long, Path> paths;
+    private final List<List<Node>> sortedLevels;
+    private final List<Map<Long, List<Node>>> children;
+
+    private HierarchySnapshot(List<Map<Long, Node>> levels, Map<Long, Path> paths) {
+        this.levels = levels;
+        this.paths = paths;
+        this.sortedLevels = new ArrayList<>(7);
+        this.children = new ArrayList<>(7);
+        for (int level = 0; level < levels.size(); level++) {
+            List<Node> sorted = new ArrayList<>(levels.get(level).values());
+            sorted.sort(BY_NOM);
+            Map<Long, List<Node>> byParent = new HashMap<>();
+            for (Node node : sorted) {
+                if (node.parentId() != null) {
+                    byParent.computeIfAbsent(node.parentId(), k -> new ArrayList<>()).add(node);
+                }
+            }
+            sortedLevels.add(Collections.unmodifiableList(sorted));
+            children.add(byParent);
+        }
+    }
+
+    public Path path(Long niveau6Id) {
+        return niveau6Id != null ? paths.get(niveau6Id) : null;
+    }
+
+    public Node node(int level, Long id) {
+        return level >= 1 && level <= 6 && id != null ? levels.get(level).get(id) : null;
+    }
+
+    public Map<Long, Node> level(int level) {
+        return levels.get(level);
+    }
+
+    public Map<Long, Path> paths() {
+        return paths;
+    }
+
+    /**
+     * Noeuds d'un niveau tries par nom.
+     */
+    public List<Node> sortedLevel(int level) {
+        return level >= 1 && level <= 6 ? sortedLevels.get(level) : List.of();
+    }
+
+    /**
+     * Enfants directs (lien parent de la table) de {@code parentId} au niveau {@code level}, tries par nom.
+     */
+    public List<Node> children(int level, Long parentId) {
+        if (level < 2 || level > 6 || parentId == null) {
+            return List.of();
+        }
+        List<Node> nodes = children.get(level).get(parentId);
+        return nodes != null ? Collections.unmodifiableList(nodes) : List.of();
+    }
+
+    /**
+     * Niveau6 situes sous l'un des {@code ids} de niveau {@code level}, selon les memes
+     * chemins que l'affichage (replis historiques compris).
+     */
+    public List<Long> niveau6IdsUnder(int level, Collection<Long> ids) {
+        if (level == 6) {
+            return new ArrayList<>(ids);
+        }
+        Set<Long> wanted = new HashSet<>(ids);
+        List<Long> result = new ArrayList<>();
+        for (Path path : paths.values()) {
+            Long ancestor = switch (level) {
+                case 1 -> path.niveau1Id();
+                case 2 -> path.niveau2Id();
+                case 3 -> path.niveau3Id();
+                case 4 -> path.niveau4Id();
+                case 5 -> path.niveau5Id();
+                default -> null;
+            };
+            if (ancestor != null && wanted.contains(ancestor)) {
+                result.add(path.niveau6Id());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param rows lignes par niveau, {@code rows.get(0)} pour Niveau1 ... {@code rows.get(5)} pour Niveau6
+     */
+    static HierarchySnapshot build(List<List<Row>> rows) {
+        List<Map<Long, Node>> levels = new ArrayList<>(7);
+        levels.add(Collections.emptyMap());
+        for (List<Row> levelRows : rows) {
+            Map<Long, Node> nodes = new HashMap<>(levelRows.size() * 2);
+            for (Row row : levelRows) {
+                nodes.put(row.id(), new Node(row.id(), row.nom(), row.parentId()));
+            }
+            levels.add(Collections.unmodifiableMap(nodes));
+        }
+
+        Map<Long, Row> niveau5Rows = new HashMap<>();
+        for (Row row : rows.get(4)) {
+            niveau5Rows.put(row.id(), row);
+        }
+
+        Map<Long, Path> paths = new HashMap<>(rows.get(5).size() * 2);
+        for (Row n6 : rows.get(5)) {
+            Node n5 = levels.get(5).get(n6.parentId());
+
+            Node n4 = n5 != null ? levels.get(4).get(n5.parentId()) : null;
+            if (n4 == null && n6.idNiveau4() != null) {
+                n4 = levels.get(4).get(n6.idNiveau4());
+            }
+
+            Node n3 = n4 != null ? levels.get(3).get(n4.parentId()) : null;
+            Row n5Row = n5 != null ? niveau5Rows.get(n5.id()) : null;
+            if (n3 == null && n5Row != null && n5Row.idNiveau3() != null) {
+                n3 = levels.get(3).get(n5Row.idNiveau3());
+            }
+            if (n3 == null && n6.idNiveau3() != null) {
+                n3 = levels.get(3).get(n6.idNiveau3());
+            }
+
+            Node n2 = n3 != null ? levels.get(2).get(n3.parentId()) : null;
+            Node n1 = n2 != null ? levels.get(1).get(n2.parentId()) : null;
+
+            paths.put(n6.id(), new Path(
+                    idOf(n1), nomOf(n1), idOf(n2), nomOf(n2), idOf(n3), nomOf(n3),
+                    idOf(n4), nomOf(n4), idOf(n5), nomOf(n5), n6.id(), n6.nom()));
+        }
+
+        return new HierarchySnapshot(Collections.unmodifiableList(levels), Collections.unmodifiableMap(paths));
+    }
+
+    private static Long idOf(Node node) {
+        return node != null ? node.id() : null;
+    }
+
+    private static String nomOf(Node node) {
+        return node != null ? node.nom() : null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecopilot.article.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA des entites Niveau1..Niveau6 : toute ecriture declenche la
+ * reconstruction de la photographie de {@link HierarchyService} et l'invalidation du cache de
+ * second niveau des autres instances ({@link ReferenceCacheInvalidator}).
+ */
+@Component
+public class NiveauChangeListener {
+
+    // Resolue a l'usage : le listener est cree avec l'EntityManagerFactory, avant le service
+    private final ObjectProvider<HierarchyService> hierarchyService;
+    private final ObjectProvider<ReferenceCacheInvalidator> referenceCacheInvalidator;
+
+    public NiveauChangeListener(ObjectProvider<HierarchyService> hierarchyService,
+                                ObjectProvider<ReferenceCacheInvalidator> referenceCacheInvalidator) {
+        this.hierarchyService = hierarchyService;
+        this.referenceCacheInvalidator = referenceCacheInvalidator;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onNiveauChange(Object niveau) {
+        hierarchyService.ifAvailable(HierarchyService::invalidateSnapshot);
+        referenceCacheInvalidator.ifAvailable(ReferenceCacheInvalidator::niveauChanged);
+    }
+}
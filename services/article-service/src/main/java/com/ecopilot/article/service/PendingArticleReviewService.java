@@ -0,0 +1,215 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.PendingReviewReportDTO;
+import com.ecopilot.article.dto.PendingReviewRowDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.entity.PendingArticle;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleBulkRepository;
+import com.ecopilot.article.repository.PendingArticleRepository;
+import com.ecopilot.article.search.ArticleMatchIndex;
+import com.ecopilot.article.search.ArticleSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Validation et rejet groupes des propositions d'articles. Les ids sont traites par lots de
+ * {@link #CHUNK_SIZE}, chacun dans sa propre transaction : une lecture verrouillee des propositions,
+ * un INSERT par lot dans {@code articles}, une mise a jour par lot de {@code pending_articles},
+ * puis un seul evenement Kafka par lot valide. Chaque id recoit son propre resultat.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PendingArticleReviewService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_IDS = 10_000;
+
+    private final PendingArticleRepository pendingArticleRepository;
+    private final ArticleBulkRepository bulkRepository;
+    private final ArticleService articleService;
+    private final ArticleSuggestIndex suggestIndex;
+    private final ArticleMatchIndex matchIndex;
+    private final ArticleFacetService facetService;
+    private final CatalogVersion catalogVersion;
+    private final PendingStatusCounters statusCounters;
+    private final ArticleEventProducer eventProducer;
+    private final TransactionTemplate transactionTemplate;
+
+    public PendingReviewReportDTO approve(List<Long> ids) {
+        return review(ids, true);
+    }
+
+    public PendingReviewReportDTO reject(List<Long> ids) {
+        return review(ids, false);
+    }
+
+    private PendingReviewReportDTO review(List<Long> ids, boolean approve) {
+        if (!articleService.isCurrentUserAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Pending article review is reserved to administrators");
+        }
+        List<Long> distinct = ids == null ? List.of() : ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (distinct.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No pending article id");
+        }
+        if (distinct.size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many ids: " + distinct.size() + " (max " + MAX_IDS + ")");
+        }
+
+        String reviewer = articleService.getCurrentUserId();
+        Map<Long, PendingReviewRowDTO> results = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+            try {
+                List<PendingReviewRowDTO> rows = transactionTemplate.execute(status -> {
+                    if (!approve) {
+                        return rejectChunk(chunk, reviewer);
+                    }
+                    List<PendingReviewRowDTO> approved = approveChunk(chunk, reviewer);
+                    publishApproved(approved, reviewer);
+                    return approved;
+                });
+                rows.forEach(row -> results.put(row.getId(), row));
+            } catch (DataAccessException e) {
+                String reason = "Chunk rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                log.warn("Pending review chunk of {} ids failed: {}", chunk.size(), reason);
+                chunk.forEach(id -> results.put(id, row(id, PendingReviewRowDTO.ERROR, reason)));
+            }
+        }
+
+        String done = approve ? PendingReviewRowDTO.APPROVED : PendingReviewRowDTO.REJECTED;
+        List<PendingReviewRowDTO> rows = distinct.stream().map(results::get).collect(Collectors.toList());
+        int succeeded = (int) rows.stream().filter(row -> done.equals(row.getStatus())).count();
+        log.info("Pending review by {}: {} ids, {} {}", reviewer, rows.size(), succeeded, done);
+        return PendingReviewReportDTO.builder()
+                .total(rows.size())
+                .succeeded(succeeded)
+                .failed(rows.size() - succeeded)
+                .rows(rows)
+                .build();
+    }
+
+    private List<PendingReviewRowDTO> approveChunk(List<Long> ids, String reviewer) {
+        Map<Long, PendingArticle> found = lockPending(ids);
+        List<PendingReviewRowDTO> rows = new ArrayList<>(ids.size());
+        List<PendingArticle> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            PendingArticle pending = found.get(id);
+            if (pending == null) {
+                rows.add(row(id, PendingReviewRowDTO.NOT_FOUND, "Pending article not found"));
+            } else if (isApproved(pending)) {
+                rows.add(row(id, PendingReviewRowDTO.SKIPPED, "Already approved"));
+            } else {
+                eligible.add(pending);
+            }
+        }
+        if (eligible.isEmpty()) {
+            return rows;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> articleIds = bulkRepository.allocateIds(eligible.size());
+        List<Article> articles = new ArrayList<>(eligible.size());
+        Map<Long, Long> links = new LinkedHashMap<>();
+        for (int k = 0; k < eligible.size(); k++) {
+            Article article = ArticleService.toApprovedArticle(eligible.get(k));
+            article.setId(articleIds.get(k));
+            article.setCreatedAt(now);
+            articles.add(article);
+            links.put(eligible.get(k).getId(), article.getId());
+        }
+        bulkRepository.insertAll(articles);
+        bulkRepository.markPendingApproved(links, PendingArticle.STATUS_APPROVED, reviewer, now);
+        statusCounters.transitionedAll(countByStatus(eligible), PendingArticle.STATUS_APPROVED);
+
+        articles.forEach(article -> {
+            suggestIndex.upsert(article.getId(), article.getNomArticle());
+            matchIndex.upsert(article.getId(), article.getNomArticle(), article.getUnite());
+        });
+        facetService.addedAll(articles);
+        catalogVersion.bump();
+        links.forEach((pendingId, articleId) -> rows.add(PendingReviewRowDTO.builder()
+                .id(pendingId)
+                .status(PendingReviewRowDTO.APPROVED)
+                .articleId(articleId)
+                .build()));
+        return rows;
+    }
+
+    private List<PendingReviewRowDTO> rejectChunk(List<Long> ids, String reviewer) {
+        Map<Long, PendingArticle> found = lockPending(ids);
+        List<PendingReviewRowDTO> rows = new ArrayList<>(ids.size());
+        List<Long> eligible = new ArrayList<>();
+        Map<String, Long> fromCounts = new HashMap<>();
+        for (Long id : ids) {
+            PendingArticle pending = found.get(id);
+            if (pending == null) {
+                rows.add(row(id, PendingReviewRowDTO.NOT_FOUND, "Pending article not found"));
+            } else if (isApproved(pending)) {
+                rows.add(row(id, PendingReviewRowDTO.SKIPPED, "Already approved"));
+            } else if (PendingArticle.STATUS_REJECTED.equals(pending.getStatus())) {
+                rows.add(row(id, PendingReviewRowDTO.SKIPPED, "Already rejected"));
+            } else {
+                eligible.add(id);
+                fromCounts.merge(pending.getStatus(), 1L, Long::sum);
+                rows.add(row(id, PendingReviewRowDTO.REJECTED, null));
+            }
+        }
+        if (!eligible.isEmpty()) {
+            pendingArticleRepository.markRejected(eligible, PendingArticle.STATUS_REJECTED, reviewer, LocalDateTime.now());
+            statusCounters.transitionedAll(fromCounts, PendingArticle.STATUS_REJECTED);
+        }
+        return rows;
+    }
+
+    private Map<Long, PendingArticle> lockPending(List<Long> ids) {
+        return pendingArticleRepository.findAllForReview(ids).stream()
+                .collect(Collectors.toMap(PendingArticle::getId, Function.identity()));
+    }
+
+    private void publishApproved(List<PendingReviewRowDTO> rows, String reviewer) {
+        List<Long> articleIds = rows.stream()
+                .map(PendingReviewRowDTO::getArticleId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (!articleIds.isEmpty()) {
+            eventProducer.sendArticlesApprovedEvent(articleIds, reviewer);
+        }
+    }
+
+    // Statuts de depart (null possible pour les anciennes lignes)
+    private static Map<String, Long> countByStatus(List<PendingArticle> pendings) {
+        Map<String, Long> counts = new HashMap<>();
+        pendings.forEach(pending -> counts.merge(pending.getStatus(), 1L, Long::sum));
+        return counts;
+    }
+
+    private static boolean isApproved(PendingArticle pending) {
+        return pending.getApprovedArticleId() != null || PendingArticle.STATUS_APPROVED.equals(pending.getStatus());
+    }
+
+    private static PendingReviewRowDTO row(Long id, String status, String error) {
+        return PendingReviewRowDTO.builder()
+                .id(id)
+                .status(status)
+                .error(error)
+                .build();
+    }
+}
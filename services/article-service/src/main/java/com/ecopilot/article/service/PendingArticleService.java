@@ -0,0 +1,97 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.dto.ArticlePageDTO;
+import com.ecopilot.article.dto.PaginationDTO;
+import com.ecopilot.article.entity.PendingArticle;
+import com.ecopilot.article.repository.PendingArticleFilter;
+import com.ecopilot.article.repository.PendingArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * File de revue des propositions : filtres statut / auteur / niveau, pagination keyset sur
+ * la date de soumission, et compteurs par statut sans requete.
+ */
+@Service
+@RequiredArgsConstructor
+public class PendingArticleService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final PendingArticleRepository pendingArticleRepository;
+    private final ArticleService articleService;
+    private final HierarchyService hierarchyService;
+    private final PendingStatusCounters statusCounters;
+
+    /**
+     * Page de la file, plus anciennes soumissions d'abord sauf {@code sortOrder=desc}.
+     * {@code niveau}/{@code niveauId} restreignent aux propositions rattachees a ce noeud (1 a 6).
+     */
+    @Transactional(readOnly = true)
+    public ArticlePageDTO getQueue(String status, String createdBy, Integer niveau, Long niveauId,
+                                   String cursor, int limit, String sortOrder) {
+        if (status != null && !PendingStatusCounters.STATUSES.contains(status)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown status: " + status);
+        }
+        if ((niveau == null) != (niveauId == null) || (niveau != null && (niveau < 1 || niveau > 6))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "niveau (1 to 6) and niveauId go together");
+        }
+        boolean descending = "desc".equalsIgnoreCase(sortOrder);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        PendingArticleFilter filter = PendingArticleFilter.builder()
+                .status(status)
+                .createdBy(createdBy)
+                .niveau6Ids(niveau != null ? hierarchyService.getSnapshot().niveau6IdsUnder(niveau, List.of(niveauId)) : null)
+                .build();
+
+        PendingCursor position = cursor != null && !cursor.isBlank() ? PendingCursor.decode(cursor, descending) : null;
+        // Une ligne de plus pour savoir s'il existe une page suivante sans COUNT
+        List<PendingArticle> rows = pendingArticleRepository.findQueuePage(filter, descending,
+                position != null ? position.submittedAt() : null, position != null ? position.id() : null, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            PendingArticle last = rows.get(rows.size() - 1);
+            nextCursor = new PendingCursor(descending, last.getSubmittedAt(), last.getId()).encode();
+        }
+
+        Function<PendingArticle, ArticleDTO> mapper = articleService.pendingDtoMapper();
+        return ArticlePageDTO.builder()
+                .articles(rows.stream().map(mapper).collect(Collectors.toList()))
+                .pagination(PaginationDTO.builder()
+                        .limit(pageSize)
+                        .hasMore(hasMore)
+                        .nextCursor(nextCursor)
+                        .total(totalFor(filter))
+                        .build())
+                .build();
+    }
+
+    public Map<String, Long> getStatusCounts() {
+        return statusCounters.snapshot();
+    }
+
+    // Total lu dans les compteurs seulement pour un filtre sur le statut seul
+    private Long totalFor(PendingArticleFilter filter) {
+        if (filter.getCreatedBy() != null || filter.getNiveau6Ids() != null) {
+            return null;
+        }
+        return filter.getStatus() != null
+                ? statusCounters.count(filter.getStatus())
+                : statusCounters.snapshot().values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecopilot.article.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Jeton de continuation de la file de revue : derniere position lue (submittedAt + id)
+ * et sens du tri, sur le modele de {@link ArticleCursor}.
+ */
+record PendingCursor(boolean desc, LocalDateTime submittedAt, Long id) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to encode cursor", e);
+        }
+    }
+
+    static PendingCursor decode(String token, boolean descending) {
+        PendingCursor cursor;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII));
+            cursor = MAPPER.readValue(json, PendingCursor.class);
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        if (cursor.id() == null || cursor.desc() != descending) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match the requested sort");
+        }
+        return cursor;
+    }
+}
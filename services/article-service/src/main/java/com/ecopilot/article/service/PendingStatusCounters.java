@@ -0,0 +1,161 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.entity.PendingArticle;
+import com.ecopilot.article.entity.PendingStatusCount;
+import com.ecopilot.article.repository.PendingArticleRepository;
+import com.ecopilot.article.repository.PendingStatusCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Nombre de propositions par statut, pour le badge de l'administration et le total des pages.
+ *
+ * <p>Une ligne de {@code pending_status_count} par statut, mise a jour dans la transaction de
+ * chaque transition (creation, validation, rejet, remise en attente, suppression) : la lecture
+ * est celle de quelques lignes, exacte sur toutes les instances des le commit. Les compteurs
+ * sont recomptes au demarrage, ce qui cree les lignes manquantes et corrige un ecart eventuel.
+ */
+@Component
+@Slf4j
+public class PendingStatusCounters {
+
+    static final List<String> STATUSES = List.of(
+            PendingArticle.STATUS_PENDING, PendingArticle.STATUS_APPROVED, PendingArticle.STATUS_REJECTED);
+
+    private static final int RECOUNT_ATTEMPTS = 5;
+
+    private final PendingStatusCountRepository countRepository;
+    private final PendingArticleRepository pendingArticleRepository;
+    private final TransactionTemplate recountTransaction;
+
+    public PendingStatusCounters(PendingStatusCountRepository countRepository,
+                                 PendingArticleRepository pendingArticleRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.countRepository = countRepository;
+        this.pendingArticleRepository = pendingArticleRepository;
+        // Une transition concurrente sur une ligne recomptee fait echouer le recomptage, qui reprend
+        this.recountTransaction = new TransactionTemplate(transactionManager);
+        this.recountTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.recountTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Compte de chaque statut connu (0 si aucun), puis des eventuels statuts hors workflow.
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> byStatus = new HashMap<>();
+        countRepository.findAll().forEach(count -> byStatus.put(count.getStatus(), count.getTotal()));
+        Map<String, Long> result = new LinkedHashMap<>();
+        STATUSES.forEach(status -> result.put(status, byStatus.getOrDefault(status, 0L)));
+        byStatus.forEach((status, total) -> {
+            if (total > 0) {
+                result.putIfAbsent(status, total);
+            }
+        });
+        return result;
+    }
+
+    public long count(String status) {
+        return status != null ? countRepository.findById(status).map(PendingStatusCount::getTotal).orElse(0L) : 0;
+    }
+
+    /**
+     * Une proposition passe de {@code from} a {@code to} ; {@code null} pour une creation
+     * ou une suppression.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transitioned(String from, String to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        Map<String, Long> deltas = new TreeMap<>();
+        if (from != null) {
+            deltas.merge(from, -1L, Long::sum);
+        }
+        if (to != null) {
+            deltas.merge(to, 1L, Long::sum);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Transition groupee : {@code fromCounts} donne le nombre de propositions quittant chaque statut.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transitionedAll(Map<String, Long> fromCounts, String to) {
+        Map<String, Long> deltas = new TreeMap<>();
+        fromCounts.forEach((from, moved) -> {
+            if (from != null && !from.equals(to)) {
+                deltas.merge(from, -moved, Long::sum);
+                deltas.merge(to, moved, Long::sum);
+            }
+        });
+        apply(deltas);
+    }
+
+    /**
+     * Recompte les propositions par statut. En lecture repetable, une transition validee apres
+     * la lecture des propositions fait echouer l'ecriture d'un compteur qu'elle a modifie : le
+     * recomptage reprend alors, sans jamais ecraser une transition.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recount() {
+        for (int attempt = 1; attempt <= RECOUNT_ATTEMPTS; attempt++) {
+            try {
+                recountTransaction.executeWithoutResult(status -> writeCounts());
+                return;
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                log.debug("Pending article recount attempt {} failed: {}", attempt, e.getMessage());
+            }
+        }
+        log.warn("Pending article counters not recounted after {} attempts", RECOUNT_ATTEMPTS);
+    }
+
+    // Lignes mises a jour dans un ordre fixe : deux transitions concurrentes ne s'interbloquent pas
+    private void apply(Map<String, Long> deltas) {
+        deltas.forEach((status, delta) -> {
+            if (delta != 0 && countRepository.add(status, delta) == 0) {
+                log.warn("No counter row for pending status '{}', fixed at the next recount", status);
+            }
+        });
+    }
+
+    private void writeCounts() {
+        Map<String, Long> actual = new HashMap<>();
+        STATUSES.forEach(status -> actual.put(status, 0L));
+        for (Object[] row : pendingArticleRepository.countByStatus()) {
+            if (row[0] != null) {
+                actual.put((String) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        Map<String, PendingStatusCount> stored = new HashMap<>();
+        countRepository.findAll().forEach(count -> stored.put(count.getStatus(), count));
+        stored.forEach((status, count) -> actual.putIfAbsent(status, 0L));
+
+        actual.forEach((status, total) -> {
+            PendingStatusCount count = stored.get(status);
+            if (count == null) {
+                countRepository.save(PendingStatusCount.builder().status(status).total(total).build());
+            } else if (count.getTotal() != total) {
+                count.setTotal(total);
+            }
+        });
+        log.info("Pending article counters recounted: {}", actual);
+    }
+}
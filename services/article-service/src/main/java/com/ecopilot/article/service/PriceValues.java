@@ -0,0 +1,75 @@
+package com.ecopilot.article.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.regex.Pattern;
+
+/**
+ * Conversion unique entre les montants saisis (DTO, texte) et les colonnes numeriques.
+ * Memes regles que la fonction SQL parse_price de scripts/ecopilot_articles/migrate_price_columns.sql :
+ * espaces et symbole euro ignores, virgule decimale acceptee.
+ */
+public final class PriceValues {
+
+    private static final Pattern NOISE = Pattern.compile("[\\s\\u00A0\\u202F€]");
+    private static final Pattern NUMBER = Pattern.compile("[-+]?(\\d+(\\.\\d*)?|\\.\\d+)");
+    // Colonnes NUMERIC(15,4) : 11 chiffres avant la virgule
+    private static final BigDecimal LIMIT = new BigDecimal("1e11");
+
+    private PriceValues() {
+    }
+
+    /**
+     * @return la valeur numerique, {@code null} si vide
+     * @throws ResponseStatusException 400 si la valeur n'est pas un nombre
+     */
+    public static BigDecimal parse(String field, String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String cleaned = NOISE.matcher(raw).replaceAll("").replace(',', '.');
+        if (cleaned.isEmpty()) {
+            return null;
+        }
+        if (!NUMBER.matcher(cleaned).matches()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid numeric value for " + field + ": " + raw);
+        }
+        BigDecimal value = new BigDecimal(cleaned);
+        if (value.abs().compareTo(LIMIT) >= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Numeric value out of range for " + field + ": " + raw);
+        }
+        return value;
+    }
+
+    /**
+     * Taux saisi en texte ({@code "5%"}, {@code "5"}, {@code "0,05"}) ramene a une fraction :
+     * avec le signe % ou au-dela de 1, la valeur est en pourcentage.
+     *
+     * @return la fraction, {@code NaN} si vide ou illisible (donnees historiques non controlees)
+     */
+    public static double parseRate(String raw) {
+        if (raw == null) {
+            return Double.NaN;
+        }
+        String cleaned = NOISE.matcher(raw).replaceAll("").replace(',', '.');
+        boolean percent = cleaned.endsWith("%");
+        if (percent) {
+            cleaned = cleaned.substring(0, cleaned.length() - 1);
+        }
+        if (!NUMBER.matcher(cleaned).matches()) {
+            return Double.NaN;
+        }
+        double value = Double.parseDouble(cleaned);
+        return percent || Math.abs(value) > 1 ? value / 100 : value;
+    }
+
+    public static String format(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : null;
+    }
+
+    public static Double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
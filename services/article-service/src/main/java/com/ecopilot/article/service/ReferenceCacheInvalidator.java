@@ -0,0 +1,95 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.config.ReferenceCacheConfig;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.transaction.AfterCommit;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Invalidation du cache de second niveau des Niveau1..Niveau6 entre instances. Une ecriture
+ * locale est deja repercutee par Hibernate dans le cache de l'instance ; apres son commit, un
+ * evenement {@code HIERARCHY_CHANGED} part sur {@code article.events} et chaque autre instance
+ * vide les regions des niveaux puis recharge sa photographie de l'arborescence.
+ */
+@Component
+@Slf4j
+public class ReferenceCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CatalogSync catalogSync;
+    private final HierarchyService hierarchyService;
+    private final ArticleService articleService;
+    private final ArticleEventProducer eventProducer;
+    private final TransactionTemplate newTransaction;
+
+    public ReferenceCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                     CatalogSync catalogSync,
+                                     HierarchyService hierarchyService,
+                                     ArticleService articleService,
+                                     ArticleEventProducer eventProducer,
+                                     PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.catalogSync = catalogSync;
+        this.hierarchyService = hierarchyService;
+        this.articleService = articleService;
+        this.eventProducer = eventProducer;
+        // La transaction de l'ecriture est deja validee : l'evenement va dans une transaction a lui
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Appele par {@link NiveauChangeListener} a chaque ecriture d'un niveau : un seul evenement
+     * par transaction, apres le commit (immediatement hors transaction).
+     */
+    public void niveauChanged() {
+        AfterCommit.runOnce(this, this::broadcast);
+    }
+
+    /**
+     * Changement d'arborescence signale par une autre instance : la photographie est rechargee
+     * hors du thread du consommateur, apres l'eviction.
+     */
+    public void evictNiveaux() {
+        evictRegions();
+        catalogSync.hierarchyChanged();
+        log.info("Niveau second-level cache regions evicted");
+    }
+
+    /**
+     * Rechargement demande par un administrateur apres des modifications de niveaux faites
+     * directement en base, hors JPA : l'instance recharge son cache, sa photographie et avance
+     * la version du catalogue, puis previent les autres instances.
+     */
+    public void refreshAll() {
+        if (!articleService.isCurrentUserAdmin()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Hierarchy refresh is reserved to administrators");
+        }
+        evictRegions();
+        hierarchyService.hierarchyChanged();
+        broadcast();
+    }
+
+    private void evictRegions() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        ReferenceCacheConfig.REGIONS.forEach(cache::evictRegion);
+    }
+
+    private void broadcast() {
+        try {
+            newTransaction.executeWithoutResult(status -> eventProducer.sendHierarchyChangedEvent());
+        } catch (RuntimeException e) {
+            // Les autres instances retrouveront les niveaux a l'expiration de leur cache
+            log.warn("HIERARCHY_CHANGED event not recorded: {}", e.getMessage());
+        }
+    }
+}
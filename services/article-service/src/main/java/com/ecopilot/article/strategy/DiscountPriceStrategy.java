@@ -0,0 +1,38 @@
+package com.ecopilot.article.strategy;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Rabais : prix x (1 - rabais). Sans taux impose, chaque article garde son propre rabais
+ * (0 si non renseigne).
+ */
+public class DiscountPriceStrategy implements PriceStrategy {
+
+    // null : rabais de chaque article
+    private final BigDecimal forcedRate;
+
+    public DiscountPriceStrategy(BigDecimal forcedRate) {
+        this.forcedRate = forcedRate;
+    }
+
+    @Override
+    public BigDecimal calculatePrice(BigDecimal basePrice) {
+        return forcedRate != null ? basePrice.multiply(BigDecimal.ONE.subtract(forcedRate), MathContext.DECIMAL64) : basePrice;
+    }
+
+    @Override
+    public void apply(PriceColumns columns, int from, int to) {
+        if (forcedRate != null) {
+            PriceStrategy.super.apply(columns, from, to);
+            return;
+        }
+        BigDecimal[] price = columns.price;
+        double[] rabais = columns.rabais;
+        for (int i = from; i < to; i++) {
+            if (price[i] != null && !Double.isNaN(rabais[i]) && rabais[i] != 0) {
+                price[i] = price[i].multiply(BigDecimal.valueOf(1 - rabais[i]), MathContext.DECIMAL64);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ecopilot.article.strategy;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Majoration pour pertes : prix x (1 + pertes). Sans taux impose, chaque article garde
+ * son propre taux de pertes (0 si non renseigne).
+ */
+public class LossPriceStrategy implements PriceStrategy {
+
+    // null : taux de chaque article
+    private final BigDecimal forcedRate;
+
+    public LossPriceStrategy(BigDecimal forcedRate) {
+        this.forcedRate = forcedRate;
+    }
+
+    @Override
+    public BigDecimal calculatePrice(BigDecimal basePrice) {
+        return forcedRate != null ? basePrice.multiply(BigDecimal.ONE.add(forcedRate), MathContext.DECIMAL64) : basePrice;
+    }
+
+    @Override
+    public void apply(PriceColumns columns, int from, int to) {
+        if (forcedRate != null) {
+            PriceStrategy.super.apply(columns, from, to);
+            return;
+        }
+        BigDecimal[] price = columns.price;
+        double[] pertes = columns.pertes;
+        for (int i = from; i < to; i++) {
+            if (price[i] != null && !Double.isNaN(pertes[i]) && pertes[i] != 0) {
+                price[i] = price[i].multiply(BigDecimal.valueOf(1 + pertes[i]), MathContext.DECIMAL64);
+            }
+        }
+    }
+}
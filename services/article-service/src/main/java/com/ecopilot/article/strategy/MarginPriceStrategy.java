@@ -0,0 +1,21 @@
+package com.ecopilot.article.strategy;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Marge commerciale uniforme : prix x (1 + marge).
+ */
+public class MarginPriceStrategy implements PriceStrategy {
+
+    private final BigDecimal factor;
+
+    public MarginPriceStrategy(BigDecimal margin) {
+        this.factor = BigDecimal.ONE.add(margin);
+    }
+
+    @Override
+    public BigDecimal calculatePrice(BigDecimal basePrice) {
+        return basePrice.multiply(factor, MathContext.DECIMAL64);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecopilot.article.strategy;
+
+import java.math.BigDecimal;
+
+/**
+ * Lot d'articles a tarifer, en colonnes : un tableau par champ, meme indice pour un meme article.
+ * Les coefficients sont des fractions ({@code 0.05} pour 5 %), {@code NaN} si non renseignes.
+ * {@link #price} est la colonne de travail que les strategies transforment.
+ */
+public final class PriceColumns {
+
+    public final int size;
+    public final long[] ids;
+    public final BigDecimal[] fourniture;
+    public final BigDecimal[] accessoires;
+    public final double[] pertes;
+    public final double[] rabais;
+    // Prix unitaire en base avant recalcul
+    public final BigDecimal[] current;
+    public final BigDecimal[] price;
+
+    public PriceColumns(int size) {
+        this.size = size;
+        this.ids = new long[size];
+        this.fourniture = new BigDecimal[size];
+        this.accessoires = new BigDecimal[size];
+        this.pertes = new double[size];
+        this.rabais = new double[size];
+        this.current = new BigDecimal[size];
+        this.price = new BigDecimal[size];
+    }
+}
@@ -4,4 +4,18 @@ import java.math.BigDecimal;
 
 public interface PriceStrategy {
     BigDecimal calculatePrice(BigDecimal basePrice);
+
+    /**
+     * Applique la strategie aux prix {@code [from, to)} de {@code columns}, en place. Par defaut
+     * prix par prix ; une strategie qui depend d'autres colonnes (pertes, rabais) la redefinit.
+     * Les prix {@code null} (article sans prix de revient) sont laisses tels quels.
+     */
+    default void apply(PriceColumns columns, int from, int to) {
+        BigDecimal[] price = columns.price;
+        for (int i = from; i < to; i++) {
+            if (price[i] != null) {
+                price[i] = calculatePrice(price[i]);
+            }
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.ecopilot.article.strategy;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Enchainement de strategies : chacune part du prix produit par la precedente.
+ */
+public class PriceStrategyChain implements PriceStrategy {
+
+    private final List<PriceStrategy> links;
+
+    public PriceStrategyChain(List<PriceStrategy> links) {
+        this.links = List.copyOf(links);
+    }
+
+    @Override
+    public BigDecimal calculatePrice(BigDecimal basePrice) {
+        BigDecimal price = basePrice;
+        for (PriceStrategy link : links) {
+            price = link.calculatePrice(price);
+        }
+        return price;
+    }
+
+    @Override
+    public void apply(PriceColumns columns, int from, int to) {
+        for (PriceStrategy link : links) {
+            link.apply(columns, from, to);
+        }
+    }
+}
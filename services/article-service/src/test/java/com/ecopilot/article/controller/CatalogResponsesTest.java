@@ -0,0 +1,46 @@
+package com.ecopilot.article.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogResponses
+ *
+ * @author EcoPilot Team
+ */
+@DisplayName("CatalogResponses Tests")
+class CatalogResponsesTest {
+
+    @Test
+    @DisplayName("Should answer 304 without computing the body when the ETag matches")
+    void shouldShortCircuitOnMatchingEtag() {
+        AtomicInteger computed = new AtomicInteger();
+
+        MockHttpServletRequest fresh = new MockHttpServletRequest("GET", "/api/articles/units");
+        ResponseEntity<List<String>> first = CatalogResponses.conditional(
+                new ServletWebRequest(fresh, new MockHttpServletResponse()), "\"catalog-42\"",
+                () -> { computed.incrementAndGet(); return List.of("m2"); });
+
+        MockHttpServletRequest revalidation = new MockHttpServletRequest("GET", "/api/articles/units");
+        revalidation.addHeader("If-None-Match", "\"catalog-42\"");
+        ResponseEntity<List<String>> second = CatalogResponses.conditional(
+                new ServletWebRequest(revalidation, new MockHttpServletResponse()), "\"catalog-42\"",
+                () -> { computed.incrementAndGet(); return List.of("m2"); });
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getHeaders().getETag()).isEqualTo("\"catalog-42\"");
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(computed).hasValue(1);
+    }
+}
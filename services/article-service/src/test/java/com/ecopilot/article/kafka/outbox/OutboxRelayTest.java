@@ -0,0 +1,123 @@
+package com.ecopilot.article.kafka.outbox;
+
+import com.ecopilot.article.entity.OutboxEvent;
+import com.ecopilot.article.kafka.event.ArticleEvent;
+import com.ecopilot.article.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, ArticleEvent> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, kafkaTemplate, objectMapper, transactionTemplate, meterRegistry,
+                200, 5000, 10, 7);
+    }
+
+    @Test
+    @DisplayName("Should publish each key in order and hold a key back after its first failure")
+    @SuppressWarnings("unchecked")
+    void shouldKeepPerKeyOrder() throws Exception {
+        when(outboxEventRepository.findUnsentForUpdate(200)).thenReturn(List.of(
+                row(1L, "12", "ARTICLE_CREATED"), row(2L, "40", "ARTICLE_CREATED"),
+                row(3L, "12", "ARTICLE_UPDATED"), row(4L, "40", "ARTICLE_UPDATED")));
+        when(kafkaTemplate.send(eq("article.events"), eq("12"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("NOT_LEADER_OR_FOLLOWER")));
+        when(kafkaTemplate.send(eq("article.events"), eq("40"), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        ArgumentCaptor<Collection<Long>> sent = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventRepository).markSent(sent.capture(), any());
+        assertThat(sent.getValue()).containsExactlyInAnyOrder(2L, 4L);
+        verify(outboxEventRepository).markFailed(eq(1L), contains("NOT_LEADER_OR_FOLLOWER"), eq(1));
+        // Le second evenement de la cle 12 attend le passage suivant
+        verify(kafkaTemplate, times(1)).send(eq("article.events"), eq("12"), any());
+        verify(outboxEventRepository, never()).markFailed(eq(3L), any(), anyInt());
+        assertThat(meterRegistry.get("outbox.relay.send").tags("topic", "article.events", "result", "success").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.relay.send").tags("result", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should park an unreadable event at once and a failing one after its last attempt")
+    void shouldParkEventsThatCannotBeSent() throws Exception {
+        OutboxEvent unreadable = row(1L, "12", "ARTICLE_CREATED");
+        unreadable.setPayload("{not json");
+        when(outboxEventRepository.findUnsentForUpdate(200)).thenReturn(List.of(
+                unreadable, row(2L, "40", "ARTICLE_CREATED"), row(3L, "12", "ARTICLE_UPDATED")));
+        when(kafkaTemplate.send(eq("article.events"), eq("40"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("record too large")));
+        when(kafkaTemplate.send(eq("article.events"), eq("12"), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(outboxEventRepository.parkExhausted(any(), eq(10), any())).thenReturn(1);
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        verify(outboxEventRepository).park(eq(1L), startsWith("Unreadable payload"), any());
+        // L'evenement ecarte ne retient plus sa cle
+        verify(outboxEventRepository).markSent(eq(List.of(3L)), any());
+        verify(outboxEventRepository).markFailed(eq(2L), contains("record too large"), eq(1));
+        verify(outboxEventRepository).parkExhausted(eq(Set.of(2L)), eq(10), any());
+    }
+
+    private OutboxEvent row(Long id, String key, String eventType) throws Exception {
+        ArticleEvent event = ArticleEvent.builder()
+                .eventType(eventType)
+                .articleId(Long.valueOf(key))
+                .timestamp(LocalDateTime.of(2025, 3, 1, 9, 0))
+                .build();
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("article.events")
+                .aggregateKey(key)
+                .eventType(eventType)
+                .payload(objectMapper.writeValueAsString(event))
+                .createdAt(LocalDateTime.of(2025, 3, 1, 9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.entity.PendingArticle;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ArticleArchiveRepository
+ *
+ * @author EcoPilot Team
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("ArticleArchiveRepository Tests")
+class ArticleArchiveRepositoryTest {
+
+    @Autowired
+    private ArticleArchiveRepository archiveRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private PendingArticleRepository pendingArticleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should restore an archived article with its original date and creation time")
+    void shouldKeepDatesAcrossArchiveAndRestore() {
+        LocalDate date = LocalDate.of(2021, 3, 15);
+        LocalDateTime createdAt = LocalDateTime.of(2021, 3, 15, 9, 30);
+        Long id = articleRepository.saveAndFlush(Article.builder()
+                .nomArticle("Voile B25").unite("m2").date(date).build()).getId();
+        // created_at est pose par Hibernate a l'insertion
+        jdbcTemplate.update("UPDATE articles SET created_at = ? WHERE id = ?", createdAt, id);
+
+        archiveRepository.archive(List.of(id), "admin", LocalDate.of(2026, 10, 18));
+        Long archivedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM articles_supprime WHERE article_id = ?", Long.class, id);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT date FROM articles_supprime WHERE id = ?", LocalDate.class, archivedId))
+                .isEqualTo(LocalDate.of(2026, 10, 18));
+
+        archiveRepository.restore(List.of(archivedId), LocalDateTime.of(2026, 10, 18, 12, 0));
+        entityManager.clear();
+
+        Article restored = articleRepository.findById(id).orElseThrow();
+        assertThat(restored.getDate()).isEqualTo(date);
+        assertThat(restored.getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("Should detach the approved proposal instead of rejecting the chunk")
+    void shouldDetachApprovedProposalOnArchive() {
+        Long id = articleRepository.saveAndFlush(Article.builder().nomArticle("Dalle").unite("m3").build()).getId();
+        Long other = articleRepository.saveAndFlush(Article.builder().nomArticle("Poteau").unite("u").build()).getId();
+        Long proposalId = pendingArticleRepository.saveAndFlush(PendingArticle.builder()
+                .nomArticle("Dalle").unite("m3").type("Fourniture").expertise("Structure").pu(BigDecimal.TEN)
+                .createdBy("user-1").status(PendingArticle.STATUS_APPROVED).approvedArticleId(id).build()).getId();
+
+        assertThat(archiveRepository.archive(List.of(id, other), "admin", LocalDate.now())).isEqualTo(2);
+        entityManager.clear();
+
+        PendingArticle proposal = pendingArticleRepository.findById(proposalId).orElseThrow();
+        assertThat(proposal.getApprovedArticleId()).isNull();
+        assertThat(proposal.getStatus()).isEqualTo(PendingArticle.STATUS_APPROVED);
+        assertThat(articleRepository.findAllById(List.of(id, other))).isEmpty();
+    }
+}
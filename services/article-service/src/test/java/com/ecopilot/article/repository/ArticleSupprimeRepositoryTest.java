@@ -0,0 +1,51 @@
+package com.ecopilot.article.repository;
+
+import com.ecopilot.article.entity.ArticleSupprime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ArticleSupprimeRepository
+ *
+ * @author EcoPilot Team
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("ArticleSupprimeRepository Tests")
+class ArticleSupprimeRepositoryTest {
+
+    @Autowired
+    private ArticleSupprimeRepository articleSupprimeRepository;
+
+    @Test
+    @DisplayName("Should page the archive by date then id descending and resume after the cursor row")
+    void shouldPageArchiveInKeysetOrder() {
+        LocalDate day = LocalDate.of(2026, 5, 4);
+        ArticleSupprime older = archived(day.minusMonths(1), "admin");
+        ArticleSupprime first = archived(day, "admin");
+        ArticleSupprime second = archived(day, "admin");
+        archived(day, "other");
+        DeletedArticleFilter filter = DeletedArticleFilter.builder().deletedBy("admin").build();
+
+        List<ArticleSupprime> page = articleSupprimeRepository.findArchivePage(filter, null, null, 2);
+        List<ArticleSupprime> next = articleSupprimeRepository.findArchivePage(filter, day, second.getId(), 2);
+
+        assertThat(page).extracting(ArticleSupprime::getId).containsExactly(second.getId(), first.getId());
+        assertThat(next).extracting(ArticleSupprime::getId).containsExactly(first.getId(), older.getId());
+    }
+
+    private ArticleSupprime archived(LocalDate date, String deletedBy) {
+        return articleSupprimeRepository.saveAndFlush(ArticleSupprime.builder()
+                .date(date).deletedBy(deletedBy).nomArticle("Article").build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.ecopilot.article.search;
+
+import com.ecopilot.article.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleMatchIndex
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleMatchIndex Tests")
+class ArticleMatchIndexTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private ArticleMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(articleRepository.findAllMatchRows()).thenReturn(List.of(
+                new Object[]{1L, "Béton C25/30 pour dalle", "m3"},
+                new Object[]{2L, "Béton C25/30 pour voiles", "m²"},
+                new Object[]{3L, "Plaque de plâtre BA13 standard", "m2"},
+                new Object[]{4L, "Enduit de façade gratté", "m2"},
+                new Object[]{5L, "Tube acier galvanisé diamètre 40", "ml"}));
+        index = new ArticleMatchIndex(articleRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should match typos and abbreviations and let the unit break ties")
+    void shouldMatchFuzzyDesignations() {
+        List<List<ArticleMatchIndex.Match>> result = index.matchAll(List.of(
+                new ArticleMatchIndex.Line("Beton C25/30 voile", "M2"),
+                new ArticleMatchIndex.Line("plaque platre BA 13", null),
+                new ArticleMatchIndex.Line("Enduit facdae", "m²"),
+                new ArticleMatchIndex.Line("tube acier galva d40", "m"),
+                new ArticleMatchIndex.Line("  ", "u")), 2, 0.3);
+
+        assertThat(result.get(0)).extracting(ArticleMatchIndex.Match::id).first().isEqualTo(2L);
+        assertThat(result.get(0).get(0).uniteMatch()).isTrue();
+        assertThat(index.match(new ArticleMatchIndex.Line("beton C25/30", "M3"), 2, 0.3))
+                .extracting(ArticleMatchIndex.Match::id).containsExactly(1L, 2L);
+        assertThat(index.match(new ArticleMatchIndex.Line("beton C25/30", "m2"), 2, 0.3))
+                .extracting(ArticleMatchIndex.Match::id).containsExactly(2L, 1L);
+        assertThat(result.get(1)).extracting(ArticleMatchIndex.Match::id).first().isEqualTo(3L);
+        assertThat(result.get(2)).extracting(ArticleMatchIndex.Match::id).first().isEqualTo(4L);
+        assertThat(result.get(3)).extracting(ArticleMatchIndex.Match::id).first().isEqualTo(5L);
+        assertThat(result.get(3).get(0).uniteMatch()).isTrue();
+        assertThat(result.get(4)).isEmpty();
+        assertThat(result.get(0).get(0).score()).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("Should reflect creations, updates and deletions before and after compaction")
+    void shouldFollowCatalogChanges() {
+        index.upsert(6L, "Laine de verre 100 mm", "m2");
+        index.upsert(4L, "Peinture de façade", "m2");
+        index.remove(1L);
+
+        assertThat(index.match(new ArticleMatchIndex.Line("laine de verre", "m2"), 3, 0.3))
+                .extracting(ArticleMatchIndex.Match::id).containsExactly(6L);
+        assertThat(index.match(new ArticleMatchIndex.Line("Enduit de facade", null), 3, 0.5)).isEmpty();
+        assertThat(index.match(new ArticleMatchIndex.Line("beton C25 dalle", "m3"), 3, 0.3))
+                .extracting(ArticleMatchIndex.Match::id).doesNotContain(1L);
+
+        index.compact();
+
+        assertThat(index.match(new ArticleMatchIndex.Line("laine verre 100", null), 1, 0.3))
+                .extracting(ArticleMatchIndex.Match::id).containsExactly(6L);
+        assertThat(index.match(new ArticleMatchIndex.Line("peinture facade", "m2"), 1, 0.3))
+                .extracting(ArticleMatchIndex.Match::id).containsExactly(4L);
+        assertThat(index.match(new ArticleMatchIndex.Line("beton C25 dalle", "m3"), 3, 0.3))
+                .extracting(ArticleMatchIndex.Match::id).doesNotContain(1L);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecopilot.article.search;
+
+import com.ecopilot.article.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleSuggestIndex
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleSuggestIndex Tests")
+class ArticleSuggestIndexTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private ArticleSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(articleRepository.findAllNames()).thenReturn(List.of(
+                new Object[]{1L, "Béton C25/30"},
+                new Object[]{2L, "Béton C30/37 pour voiles"},
+                new Object[]{3L, "Bétonnière électrique"},
+                new Object[]{4L, "Enduit de façade"},
+                new Object[]{5L, "Œuvre - reprise béton"}));
+        index = new ArticleSuggestIndex(articleRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should match word prefixes without accents and rank closest first")
+    void shouldMatchAccentInsensitivePrefixes() {
+        List<ArticleSuggestIndex.Suggestion> result = index.suggest("beton", 10);
+
+        assertThat(result).extracting(ArticleSuggestIndex.Suggestion::id).containsExactly(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should require every query word and honour the limit")
+    void shouldRequireAllWords() {
+        assertThat(index.suggest("BETON c30", 10)).extracting(ArticleSuggestIndex.Suggestion::id).containsExactly(2L);
+        assertThat(index.suggest("oeuvre", 10)).extracting(ArticleSuggestIndex.Suggestion::id).containsExactly(5L);
+        assertThat(index.suggest("bé", 2)).hasSize(2);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reflect creations, updates and deletions before and after compaction")
+    void shouldApplyWrites() {
+        index.upsert(6L, "Béton fibré");
+        index.upsert(1L, "Mortier C25");
+        index.remove(2L);
+
+        assertThat(index.suggest("beton", 10)).extracting(ArticleSuggestIndex.Suggestion::id).containsExactly(6L, 3L, 5L);
+        assertThat(index.suggest("mortier", 10)).extracting(ArticleSuggestIndex.Suggestion::id).containsExactly(1L);
+
+        index.compact();
+
+        assertThat(index.suggest("beton", 10)).extracting(ArticleSuggestIndex.Suggestion::id).containsExactly(6L, 3L, 5L);
+        assertThat(index.suggest("mortier", 10)).extracting(ArticleSuggestIndex.Suggestion::id).containsExactly(1L);
+    }
+}
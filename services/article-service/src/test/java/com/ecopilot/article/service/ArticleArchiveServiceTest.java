@@ -0,0 +1,127 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.BulkArchiveReportDTO;
+import com.ecopilot.article.dto.BulkArticleSelectionDTO;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleArchiveRepository;
+import com.ecopilot.article.repository.ArticleArchiveRepository.LockedRow;
+import com.ecopilot.article.repository.ArticleBulkRepository;
+import com.ecopilot.article.search.ArticleMatchIndex;
+import com.ecopilot.article.search.ArticleSuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleArchiveService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleArchiveService Tests")
+class ArticleArchiveServiceTest {
+
+    @Mock
+    private ArticleArchiveRepository archiveRepository;
+
+    @Mock
+    private ArticleBulkRepository bulkRepository;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private ArticleSuggestIndex suggestIndex;
+
+    @Mock
+    private ArticleMatchIndex matchIndex;
+
+    @Mock
+    private ArticleFacetService facetService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private ArticleEventProducer eventProducer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ArticleArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new ArticleArchiveService(archiveRepository, bulkRepository, articleService,
+                suggestIndex, matchIndex, facetService, catalogVersion, eventProducer, transactionTemplate);
+        when(articleService.isCurrentUserAdmin()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should archive by criteria chunk after chunk and go on after a rejected chunk")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteByCriteriaInChunks() {
+        when(articleService.getCurrentUserId()).thenReturn("admin");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        BulkArticleSelectionDTO selection = BulkArticleSelectionDTO.builder().fournisseurId(7L).build();
+        List<Long> first = LongStream.rangeClosed(1, ArticleArchiveService.CHUNK_SIZE).boxed().collect(Collectors.toList());
+        when(archiveRepository.nextArticleIds(selection, 0L, ArticleArchiveService.CHUNK_SIZE)).thenReturn(first);
+        when(archiveRepository.nextArticleIds(selection, ArticleArchiveService.CHUNK_SIZE, ArticleArchiveService.CHUNK_SIZE))
+                .thenReturn(List.of(2001L, 2002L));
+        when(archiveRepository.lockArticles(any())).thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(0))
+                .stream().map(id -> new LockedRow(id, id, "Article " + id, 61L, "Structure", "m2")).toList());
+        when(archiveRepository.archive(eq(first), eq("admin"), any()))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        BulkArchiveReportDTO report = archiveService.deleteArticles(selection);
+
+        assertThat(report.getChunks()).isEqualTo(2);
+        assertThat(report.getProcessed()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(ArticleArchiveService.CHUNK_SIZE);
+        assertThat(report.getErrors()).singleElement().asString().startsWith("Chunk 1..1000");
+        verify(archiveRepository).archive(eq(List.of(2001L, 2002L)), eq("admin"), any());
+        verify(eventProducer).sendArticlesDeletedEvent(List.of(2001L, 2002L), "admin");
+        verify(suggestIndex, times(2)).remove(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should restore under the original id and allocate one for older archive rows")
+    void shouldRestoreWithOriginalIds() {
+        when(articleService.getCurrentUserId()).thenReturn("admin");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        when(archiveRepository.lockArchived(List.of(5L, 8L, 9L))).thenReturn(List.of(
+                new LockedRow(5L, 105L, "Voile B25", 61L, "Structure", "m2"),
+                new LockedRow(8L, null, "Dalle", null, "Structure", "m3")));
+        when(bulkRepository.allocateIds(1)).thenReturn(List.of(4000L));
+
+        BulkArchiveReportDTO report = archiveService.restoreArticles(
+                BulkArticleSelectionDTO.builder().ids(List.of(9L, 5L, 8L, 5L)).build());
+
+        assertThat(report.getProcessed()).isEqualTo(2);
+        verify(archiveRepository).assignArticleIds(Map.of(8L, 4000L));
+        verify(archiveRepository).restore(eq(List.of(5L, 8L)), any());
+        verify(suggestIndex).upsert(4000L, "Dalle");
+        verify(eventProducer).sendArticlesRestoredEvent(List.of(105L, 4000L), "admin");
+        assertThatThrownBy(() -> archiveService.restoreArticles(new BulkArticleSelectionDTO()))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
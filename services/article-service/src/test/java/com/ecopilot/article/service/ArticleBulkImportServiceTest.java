@@ -0,0 +1,127 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.dto.BulkImportReportDTO;
+import com.ecopilot.article.dto.BulkImportRowDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleBulkRepository;
+import com.ecopilot.article.repository.Niveau6Repository;
+import com.ecopilot.article.search.ArticleMatchIndex;
+import com.ecopilot.article.search.ArticleSuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleBulkImportService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleBulkImportService Tests")
+class ArticleBulkImportServiceTest {
+
+    @Mock
+    private ArticleBulkRepository bulkRepository;
+
+    @Mock
+    private Niveau6Repository niveau6Repository;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private ArticleSuggestIndex suggestIndex;
+
+    @Mock
+    private ArticleMatchIndex matchIndex;
+
+    @Mock
+    private ArticleFacetService facetService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private ArticleEventProducer eventProducer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ArticleBulkImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ArticleBulkImportService(bulkRepository, niveau6Repository, articleService,
+                suggestIndex, matchIndex, facetService, catalogVersion, eventProducer, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Should insert valid rows by chunk and report rejected ones")
+    @SuppressWarnings("unchecked")
+    void shouldImportByChunkWithRowReport() {
+        // Arrange
+        when(articleService.isCurrentUserAdmin()).thenReturn(true);
+        when(articleService.getCurrentUserId()).thenReturn("admin");
+        when(niveau6Repository.findExistingIds(any())).thenReturn(List.of(6L));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        long[] nextId = {100};
+        when(bulkRepository.allocateIds(anyInt())).thenAnswer(invocation -> LongStream
+                .range(nextId[0], nextId[0] += (int) invocation.getArgument(0)).boxed().collect(Collectors.toList()));
+
+        List<ArticleDTO> rows = new ArrayList<>();
+        for (int i = 0; i < ArticleBulkImportService.CHUNK_SIZE + 5; i++) {
+            rows.add(ArticleDTO.builder().nomArticle("Article " + i).pu("10,5").niveau6Id(6L).build());
+        }
+        rows.set(1, ArticleDTO.builder().nomArticle(" ").build());
+        rows.set(2, ArticleDTO.builder().nomArticle("Prix inconnu").pu("sur devis").build());
+        rows.set(3, ArticleDTO.builder().nomArticle("Niveau inconnu").niveau6Id(99L).build());
+
+        // Act
+        BulkImportReportDTO report = importService.importArticles(rows);
+
+        // Assert
+        assertThat(report.getTotal()).isEqualTo(rows.size());
+        assertThat(report.getFailed()).isEqualTo(3);
+        assertThat(report.getRows().subList(0, 5)).extracting(BulkImportRowDTO::getStatus).containsExactly(
+                BulkImportRowDTO.CREATED, BulkImportRowDTO.ERROR, BulkImportRowDTO.ERROR,
+                BulkImportRowDTO.ERROR, BulkImportRowDTO.CREATED);
+        assertThat(report.getRows().get(0).getId()).isEqualTo(100L);
+        assertThat(report.getRows().get(3).getError()).contains("99");
+
+        ArgumentCaptor<List<Article>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(bulkRepository, times(2)).insertAll(inserted.capture());
+        assertThat(inserted.getAllValues().get(0)).hasSize(ArticleBulkImportService.CHUNK_SIZE);
+        assertThat(inserted.getAllValues().get(0).get(0).getPu()).isEqualByComparingTo("10.5");
+        verify(eventProducer, times(2)).sendArticlesImportedEvent(anyList(), eq("admin"));
+        verify(niveau6Repository, times(1)).findExistingIds(any());
+    }
+
+    @Test
+    @DisplayName("Should reserve bulk import to administrators")
+    void shouldRejectNonAdmin() {
+        when(articleService.isCurrentUserAdmin()).thenReturn(false);
+
+        assertThatThrownBy(() -> importService.importArticles(List.of(ArticleDTO.builder().nomArticle("x").build())))
+                .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(bulkRepository);
+    }
+}
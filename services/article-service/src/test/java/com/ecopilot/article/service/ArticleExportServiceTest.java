@@ -0,0 +1,82 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.repository.ArticleFilter;
+import com.ecopilot.article.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleExportService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleExportService Tests")
+class ArticleExportServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleService articleService;
+
+    private ArticleExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ArticleExportService(articleRepository, articleService, new ObjectMapper().registerModule(new JavaTimeModule()));
+        when(articleService.resolveFilter(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(articleService.dtoMapper()).thenReturn(article -> ArticleDTO.builder()
+                .id(article.getId())
+                .nomArticle(article.getNomArticle())
+                .niveau6("Voile BA 20")
+                .build());
+        when(articleRepository.streamMatching(any())).thenReturn(Stream.of(
+                Article.builder().id(1L).nomArticle("Béton C25/30").build(),
+                Article.builder().id(2L).nomArticle("Enduit \"fin\", blanc").build()));
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.export(new ArticleFilter(), ArticleExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"nom_article\":\"Béton C25/30\"", "\"niv_6\":\"Voile BA 20\"");
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote special characters")
+    void shouldWriteCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(new ArticleFilter(), ArticleExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,nom_article,unite,");
+        assertThat(lines[2]).startsWith("2,\"Enduit \"\"fin\"\", blanc\",,");
+        assertThatThrownBy(() -> ArticleExportService.Format.from("xlsx"))
+                .isInstanceOf(org.springframework.web.server.ResponseStatusException.class);
+    }
+}
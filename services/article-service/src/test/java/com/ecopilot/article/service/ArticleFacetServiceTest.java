@@ -0,0 +1,94 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.FilterDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.entity.Niveau6;
+import com.ecopilot.article.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleFacetService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleFacetService Tests")
+class ArticleFacetServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private HierarchyService hierarchyService;
+
+    private ArticleFacetService facetService;
+
+    @BeforeEach
+    void setUp() {
+        // Gros oeuvre > Beton > Voiles > BA > Coffre > {Voile 20 (61), Voile 25 (62)}
+        HierarchySnapshot hierarchy = HierarchySnapshot.build(List.of(
+                List.of(row(1L, "Gros oeuvre", null)),
+                List.of(row(2L, "Beton", 1L)),
+                List.of(row(3L, "Voiles", 2L)),
+                List.of(row(4L, "BA", 3L)),
+                List.of(row(5L, "Coffre", 4L)),
+                List.of(row(61L, "Voile 20", 5L), row(62L, "Voile 25", 5L))));
+        when(hierarchyService.getSnapshot()).thenReturn(hierarchy);
+        when(articleRepository.countByFacets()).thenReturn(List.of(
+                new Object[]{61L, "Structure", "m2", 3L},
+                new Object[]{62L, "Structure", "m3", 2L},
+                new Object[]{null, "Finitions", "u", 4L}));
+        facetService = new ArticleFacetService(articleRepository, hierarchyService);
+        facetService.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should roll niveau6 counts up to every ancestor")
+    void shouldRollUpCounts() {
+        assertThat(facetService.niveaux(1, null)).containsExactly(facet(1L, "Gros oeuvre", 5));
+        assertThat(facetService.niveaux(6, 5L)).containsExactly(facet(61L, "Voile 20", 3), facet(62L, "Voile 25", 2));
+        assertThat(facetService.niveaux(6, 99L)).isEmpty();
+        assertThat(facetService.expertises()).extracting(FilterDTO::getNom, FilterDTO::getCount)
+                .containsExactly(tuple("Finitions", 4L), tuple("Structure", 5L));
+    }
+
+    @Test
+    @DisplayName("Should move counts incrementally when an article changes")
+    void shouldApplyIncrementalChanges() {
+        Article article = Article.builder().id(7L).expertise("Structure").unite("m2")
+                .niveau6(Niveau6.builder().id(61L).build()).build();
+        ArticleFacetService.Key before = ArticleFacetService.Key.of(article);
+        article.setNiveau6(Niveau6.builder().id(62L).build());
+        article.setUnite("m3");
+
+        facetService.changed(before, article);
+        facetService.removed(article);
+        facetService.added(Article.builder().id(8L).expertise("Plomberie").build());
+
+        assertThat(facetService.niveaux(6, null)).containsExactly(facet(61L, "Voile 20", 2), facet(62L, "Voile 25", 2));
+        assertThat(facetService.niveaux(3, 2L)).containsExactly(facet(3L, "Voiles", 4));
+        assertThat(facetService.unites()).extracting(FilterDTO::getNom, FilterDTO::getCount)
+                .containsExactly(tuple("m2", 2L), tuple("m3", 2L), tuple("u", 4L));
+        assertThat(facetService.expertises()).extracting(FilterDTO::getNom)
+                .containsExactly("Finitions", "Plomberie", "Structure");
+        verify(articleRepository, times(1)).countByFacets();
+    }
+
+    private static HierarchySnapshot.Row row(Long id, String nom, Long parentId) {
+        return new HierarchySnapshot.Row(id, nom, parentId, null, null);
+    }
+
+    private static FilterDTO facet(Long id, String nom, long count) {
+        return FilterDTO.builder().id(id).nom(nom).count(count).build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ApiResponse;
+import com.ecopilot.article.dto.ArticleHierarchyDTO;
+import com.ecopilot.article.dto.HierarchyTreeNodeDTO;
+import com.ecopilot.article.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleHierarchyTreeService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleHierarchyTreeService Tests")
+class ArticleHierarchyTreeServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private HierarchyService hierarchyService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ArticleHierarchyTreeService treeService;
+
+    @BeforeEach
+    void setUp() {
+        // Gros oeuvre > Beton arme > Voiles > Voiles BA coffrage > Coffrage traditionnel > {Voile ep. 20 cm, Voile ep. 25 cm}
+        // plus un Niveau6 orphelin (99) dont le chemin est incomplet
+        when(hierarchyService.getSnapshot()).thenReturn(HierarchySnapshot.build(List.of(
+                List.of(row(1L, "Gros oeuvre", null)),
+                List.of(row(2L, "Beton arme", 1L)),
+                List.of(row(3L, "Voiles", 2L)),
+                List.of(row(4L, "Voiles BA coffrage", 3L)),
+                List.of(row(5L, "Coffrage traditionnel", 4L)),
+                List.of(row(61L, "Voile ep. 20 cm", 5L), row(62L, "Voile ep. 25 cm", 5L), row(99L, "Orphelin", null)))));
+        treeService = new ArticleHierarchyTreeService(articleRepository, hierarchyService, catalogVersion, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should nest articles under their complete niveau path")
+    void shouldBuildNestedTree() throws Exception {
+        when(articleRepository.findAllHierarchyLeaves()).thenReturn(List.of(
+                new Object[]{10L, "Voile B25", 62L},
+                new Object[]{11L, "Voile B20", 61L},
+                new Object[]{12L, "Non classe", 99L}));
+
+        List<HierarchyTreeNodeDTO> tree = treeService.buildTree();
+
+        assertThat(tree).hasSize(1);
+        HierarchyTreeNodeDTO niveau5 = tree.get(0).getChildren().get(0).getChildren().get(0).getChildren().get(0).getChildren().get(0);
+        assertThat(niveau5.getChildren()).extracting(HierarchyTreeNodeDTO::getId).containsExactly(61L, 62L);
+        assertThat(objectMapper.writeValueAsString(niveau5.getChildren().get(0)))
+                .isEqualTo("{\"id\":61,\"nom\":\"Voile ep. 20 cm\",\"articles\":[[11,\"Voile B20\"]]}");
+    }
+
+    @Test
+    @DisplayName("Should be at least five times smaller than the flat list and cached per catalog version")
+    void shouldBeSmallerThanFlatListAndCached() throws Exception {
+        List<Object[]> leaves = new ArrayList<>();
+        List<ArticleHierarchyDTO> flat = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            String nom = "Voile beton C25/30 ep. " + id % 40 + " cm";
+            leaves.add(new Object[]{id, nom, id % 2 == 0 ? 61L : 62L});
+            flat.add(new ArticleHierarchyDTO(id, nom, "Gros oeuvre", "Beton arme", "Voiles", "Voiles BA coffrage",
+                    "Coffrage traditionnel", id % 2 == 0 ? "Voile ep. 20 cm" : "Voile ep. 25 cm"));
+        }
+        when(articleRepository.findAllHierarchyLeaves()).thenReturn(leaves);
+
+        when(catalogVersion.current()).thenReturn(1L, 1L, 2L);
+
+        ArticleHierarchyTreeService.Payload payload = treeService.getPayload();
+        byte[] flatJson = objectMapper.writeValueAsBytes(ApiResponse.builder().success(true).data(flat).build());
+
+        assertThat(payload.json().length * 5L).isLessThanOrEqualTo(flatJson.length);
+        assertThat(payload.gzip().length).isLessThan(payload.json().length);
+        assertThat(treeService.getPayload()).isSameAs(payload);
+        assertThat(treeService.getPayload()).isNotSameAs(payload);
+        verify(articleRepository, times(2)).findAllHierarchyLeaves();
+    }
+
+    private static HierarchySnapshot.Row row(Long id, String nom, Long parentId) {
+        return new HierarchySnapshot.Row(id, nom, parentId, null, null);
+    }
+}
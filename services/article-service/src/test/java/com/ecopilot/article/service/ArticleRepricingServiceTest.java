@@ -0,0 +1,106 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.RepricingReportDTO;
+import com.ecopilot.article.dto.RepricingRequestDTO;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleBulkRepository;
+import com.ecopilot.article.repository.ArticleRepository;
+import com.ecopilot.article.strategy.StandardPriceStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleRepricingService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticleRepricingService Tests")
+class ArticleRepricingServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleBulkRepository bulkRepository;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private ArticleEventProducer eventProducer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ArticleRepricingService repricingService;
+
+    @BeforeEach
+    void setUp() {
+        repricingService = new ArticleRepricingService(articleRepository, bulkRepository, articleService,
+                new StandardPriceStrategy(), catalogVersion, eventProducer, transactionTemplate);
+        when(articleService.isCurrentUserAdmin()).thenReturn(true);
+        when(articleService.getCurrentUserId()).thenReturn("admin");
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, new BigDecimal("100"), new BigDecimal("20"), "5%", null, new BigDecimal("100")});
+        rows.add(new Object[]{2L, null, null, null, null, new BigDecimal("80")});
+        rows.add(new Object[]{3L, new BigDecimal("50"), null, "", "10", new BigDecimal("49.5")});
+        rows.add(new Object[]{4L, new BigDecimal("10"), null, null, null, null});
+        when(articleRepository.findPriceRows(any(), eq(0L), eq(ArticleRepricingService.CHUNK_SIZE))).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("Should report the price delta distribution without writing in dry run")
+    void shouldSimulateRepricing() {
+        RepricingReportDTO report = repricingService.reprice(
+                RepricingRequestDTO.builder().margin(new BigDecimal("0.10")).build());
+
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getScanned()).isEqualTo(4);
+        assertThat(report.getChanged()).isEqualTo(2);
+        assertThat(report.getUnchanged()).isEqualTo(1);
+        assertThat(report.getSkipped()).isEqualTo(1);
+        assertThat(report.getTotalDelta()).isEqualByComparingTo("49.6");
+        assertThat(report.getMedianDeltaPercent()).isEqualTo(38.6);
+        assertThat(report.getHistogram()).containsEntry(">= 20%", 1L).containsEntry("no previous price", 1L);
+        verifyNoInteractions(bulkRepository, transactionTemplate, eventProducer);
+    }
+
+    @Test
+    @DisplayName("Should write changed prices in one batch per chunk and count concurrent edits as conflicts")
+    @SuppressWarnings("unchecked")
+    void shouldWriteRepricedChunk() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        ArgumentCaptor<BigDecimal[]> newPu = ArgumentCaptor.forClass(BigDecimal[].class);
+        when(bulkRepository.updatePrices(any(), any(), newPu.capture(), eq(List.of(0, 3)))).thenReturn(List.of(1L));
+
+        RepricingReportDTO report = repricingService.reprice(RepricingRequestDTO.builder()
+                .margin(new BigDecimal("0.10")).dryRun(false).build());
+
+        assertThat(newPu.getValue()[0]).isEqualTo(new BigDecimal("138.6000"));
+        assertThat(newPu.getValue()[3]).isEqualTo(new BigDecimal("11.0000"));
+        assertThat(report.getWritten()).isEqualTo(1);
+        assertThat(report.getConflicts()).isEqualTo(1);
+        verify(catalogVersion).bump();
+        verify(eventProducer).sendArticlesRepricedEvent(List.of(1L), "admin");
+    }
+}
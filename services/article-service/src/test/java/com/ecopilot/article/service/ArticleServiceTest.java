@@ -1,6 +1,7 @@
 package com.ecopilot.article.service;
 
 import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.dto.ArticlePageDTO;
 import com.ecopilot.article.entity.*;
 import com.ecopilot.article.kafka.producer.ArticleEventProducer;
 import com.ecopilot.article.repository.*;
@@ -19,6 +20,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +75,27 @@ class ArticleServiceTest {
     @Mock
     private com.ecopilot.article.strategy.PriceStrategy priceStrategy;
 
+    @Mock
+    private HierarchyService hierarchyService;
+
+    @Mock
+    private com.ecopilot.article.search.ArticleSuggestIndex suggestIndex;
+
+    @Mock
+    private com.ecopilot.article.search.ArticleMatchIndex matchIndex;
+
+    @Mock
+    private com.ecopilot.article.search.FullTextSearchSupport fullTextSearch;
+
+    @Mock
+    private ArticleFacetService facetService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private PendingStatusCounters pendingStatusCounters;
+
     @InjectMocks
     private ArticleService articleService;
 
@@ -105,7 +128,7 @@ class ArticleServiceTest {
                     .id(1L)
                     .nomArticle("Béton C25/30")
                     .unite("m³")
-                    .pu("150.0")
+                    .pu(new BigDecimal("150.0"))
                     .userId("1")
                     .niveau6(Niveau6.builder().id(6L).build())
                     .createdAt(LocalDateTime.now())
@@ -156,7 +179,7 @@ class ArticleServiceTest {
                     .id(1L)
                     .nomArticle("Béton C25/30")
                     .unite("m³")
-                    .pu("150.0")
+                    .pu(new BigDecimal("150.0"))
                     .userId("1")
                     .niveau6(Niveau6.builder().id(6L).build())
                     .createdAt(LocalDateTime.now())
@@ -209,6 +232,131 @@ class ArticleServiceTest {
             assertThat(result).hasSize(2);
             verify(articleRepository).findAll();
         }
+
+        @Test
+        @DisplayName("Should return a keyset page with a continuation cursor")
+        void shouldReturnKeysetPageWithCursor() {
+            // Arrange
+            Article second = Article.builder().id(2L).nomArticle("Béton C30/37").build();
+            Article third = Article.builder().id(3L).nomArticle("Enduit").build();
+            when(articleRepository.findPage(any(), eq(ArticleSortKey.NOM_ARTICLE), eq(false), isNull(), isNull(), eq(0), eq(3)))
+                    .thenReturn(List.of(testArticle, second, third));
+
+            // Act
+            ArticlePageDTO firstPage = articleService.getArticlesPage(1, 2, "nom_article", "asc", null, null, false);
+
+            // Assert
+            assertThat(firstPage.getArticles()).extracting(ArticleDTO::getId).containsExactly(1L, 2L);
+            assertThat(firstPage.getPagination().isHasMore()).isTrue();
+            assertThat(firstPage.getPagination().getTotal()).isNull();
+
+            when(articleRepository.findPage(any(), eq(ArticleSortKey.NOM_ARTICLE), eq(false), eq("Béton C30/37"), eq(2L), eq(0), eq(3)))
+                    .thenReturn(List.of(third));
+
+            ArticlePageDTO nextPage = articleService.getArticlesPage(1, 2, "nomArticle", "asc", null,
+                    firstPage.getPagination().getNextCursor(), false);
+
+            assertThat(nextPage.getArticles()).extracting(ArticleDTO::getId).containsExactly(3L);
+            assertThat(nextPage.getPagination().isHasMore()).isFalse();
+            assertThat(nextPage.getPagination().getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return full-text hits in rank order with highlights")
+        void shouldReturnFullTextHitsInRankOrder() {
+            // Arrange
+            Article second = Article.builder().id(2L).nomArticle("Béton C30/37").build();
+            when(fullTextSearch.isAvailable()).thenReturn(true);
+            when(articleRepository.searchFullText("beton", 11, 0)).thenReturn(List.of(
+                    new Object[]{2L, 0.9d, "\u0002Béton\u0003 C30/37", ""},
+                    new Object[]{1L, 0.4d, "\u0002Béton\u0003 C25/30", "dosage <b>\u0002béton\u0003</b> & sable"}));
+            when(articleRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testArticle, second));
+
+            // Act
+            ArticlePageDTO result = articleService.searchArticles("beton", 1, 10, false);
+
+            // Assert
+            assertThat(result.getArticles()).extracting(ArticleDTO::getId).containsExactly(2L, 1L);
+            assertThat(result.getArticles().get(0).getHighlight()).isEqualTo("<mark>Béton</mark> C30/37");
+            assertThat(result.getArticles().get(0).getSnippet()).isNull();
+            assertThat(result.getArticles().get(1).getSnippet()).isEqualTo("dosage &lt;b&gt;<mark>béton</mark>&lt;/b&gt; &amp; sable");
+            assertThat(result.getArticles().get(1).getScore()).isEqualTo(0.4d);
+            assertThat(result.getPagination().isHasMore()).isFalse();
+            verify(articleRepository, never()).findByNomArticleContainingIgnoreCase(anyString(), any(org.springframework.data.domain.Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor replayed with another sort")
+        void shouldRejectCursorWithDifferentSort() {
+            String cursor = ArticleCursor.after(testArticle, ArticleSortKey.ID, false).encode();
+
+            assertThatThrownBy(() -> articleService.getArticlesPage(1, 30, "created_at", "asc", null, cursor, false))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .extracting("status")
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("Hierarchy Mapping Tests")
+    class HierarchyMappingTests {
+
+        @Test
+        @DisplayName("Should resolve the six niveaux from the snapshot without queries")
+        void shouldResolveHierarchyFromSnapshot() {
+            // Arrange : niveau_6 sans id_niv_5, rattache via ses liens historiques id_niv_4
+            HierarchySnapshot snapshot = HierarchySnapshot.build(List.of(
+                    List.of(new HierarchySnapshot.Row(1L, "Gros Œuvre", null, null, null)),
+                    List.of(new HierarchySnapshot.Row(2L, "Structure", 1L, null, null)),
+                    List.of(new HierarchySnapshot.Row(3L, "Béton armé", 2L, null, null)),
+                    List.of(new HierarchySnapshot.Row(4L, "Voiles", 3L, null, null)),
+                    List.of(),
+                    List.of(new HierarchySnapshot.Row(6L, "Voile BA 20", null, 3L, 4L))));
+            Article article = Article.builder()
+                    .id(1L)
+                    .nomArticle("Béton C25/30")
+                    .niveau6(Niveau6.builder().id(6L).build())
+                    .build();
+            when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+            when(hierarchyService.resolvePath(6L)).thenReturn(snapshot.path(6L));
+
+            // Act
+            ArticleDTO result = articleService.getArticleById(1L);
+
+            // Assert
+            assertThat(result.getNiveau1()).isEqualTo("Gros Œuvre");
+            assertThat(result.getNiveau2()).isEqualTo("Structure");
+            assertThat(result.getNiveau3()).isEqualTo("Béton armé");
+            assertThat(result.getNiveau4()).isEqualTo("Voiles");
+            assertThat(result.getNiveau5()).isNull();
+            assertThat(result.getNiveau6()).isEqualTo("Voile BA 20");
+            verifyNoInteractions(niveau3Repository, niveau4Repository, niveau6Repository);
+        }
+
+        @Test
+        @DisplayName("Should match no article when the niveau filter has no niveau6")
+        void shouldResolveEmptyNiveauFilterToNoArticle() {
+            // Arrange : Niveau4 10 sans aucun Niveau6
+            when(hierarchyService.getSnapshot()).thenReturn(HierarchySnapshot.build(List.of(
+                    List.of(new HierarchySnapshot.Row(1L, "Gros Œuvre", null, null, null)),
+                    List.of(), List.of(),
+                    List.of(new HierarchySnapshot.Row(4L, "Voiles", null, null, null),
+                            new HierarchySnapshot.Row(10L, "Dalles", null, null, null)),
+                    List.of(),
+                    List.of(new HierarchySnapshot.Row(6L, "Voile BA 20", null, null, 4L)))));
+
+            // Act
+            ArticleFilter empty = articleService.resolveFilter(ArticleFilter.builder().niveau(4).niveauIds(List.of(10L)).build());
+            ArticleFilter crossed = articleService.resolveFilter(ArticleFilter.builder()
+                    .niveau(4).niveauIds(List.of(4L)).niveau6Ids(List.of(7L)).build());
+            ArticleFilter matching = articleService.resolveFilter(ArticleFilter.builder().niveau(4).niveauIds(List.of(4L)).build());
+
+            // Assert : liste vide, et non null qui leverait le filtre
+            assertThat(empty.getNiveau6Ids()).isNotNull().isEmpty();
+            assertThat(empty.hasNiveauIds()).isFalse();
+            assertThat(crossed.getNiveau6Ids()).isNotNull().isEmpty();
+            assertThat(matching.getNiveau6Ids()).containsExactly(6L);
+        }
     }
 
     @Nested
@@ -223,7 +371,7 @@ class ArticleServiceTest {
                     .id(1L)
                     .nomArticle("Béton C25/30")
                     .unite("m³")
-                    .pu("150.0")
+                    .pu(new BigDecimal("150.0"))
                     .userId("1")
                     .niveau6(Niveau6.builder().id(6L).build())
                     .createdAt(LocalDateTime.now())
@@ -253,6 +401,27 @@ class ArticleServiceTest {
             verify(eventProducer).sendArticleUpdatedEvent(eq(1L), any(), any(), any(), any());
         }
 
+        @Test
+        @DisplayName("Should store prices as numbers and reject unparseable ones")
+        void shouldParsePricesOnUpdate() {
+            // Arrange
+            when(articleRepository.findById(1L)).thenReturn(Optional.of(testArticle));
+            when(articleRepository.save(any(Article.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            ArticleDTO result = articleService.updateArticle(1L, ArticleDTO.builder().pu("1 234,50 €").build());
+
+            // Assert
+            assertThat(testArticle.getPu()).isEqualByComparingTo("1234.50");
+            assertThat(result.getPu()).isEqualTo("1234.5");
+            verify(eventProducer).sendArticleUpdatedEvent(eq(1L), any(), any(), eq(1234.5d), any());
+
+            assertThatThrownBy(() -> articleService.updateArticle(1L, ArticleDTO.builder().prixCible("sur devis").build()))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .extracting("status")
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
         @Test
         @DisplayName("Should throw exception when updating non-existent article")
         void shouldThrowExceptionWhenUpdatingNonExistent() {
@@ -282,7 +451,7 @@ class ArticleServiceTest {
                     .id(1L)
                     .nomArticle("Béton C25/30")
                     .unite("m³")
-                    .pu("150.0")
+                    .pu(new BigDecimal("150.0"))
                     .userId("1")
                     .niveau6(Niveau6.builder().id(6L).build())
                     .createdAt(LocalDateTime.now())
@@ -320,6 +489,27 @@ class ArticleServiceTest {
 
             verify(articleRepository, never()).deleteById(any());
         }
+
+        @Test
+        @DisplayName("Should page the archive most recent first and resume after the cursor")
+        void shouldPageDeletedArticles() {
+            // Arrange
+            java.time.LocalDate day = java.time.LocalDate.of(2025, 6, 2);
+            DeletedArticleFilter filter = DeletedArticleFilter.builder().deletedBy("admin").build();
+            when(articleSupprimeRepository.findArchivePage(filter, null, null, 3)).thenReturn(List.of(
+                    ArticleSupprime.builder().id(9L).date(day).nomArticle("Voile B25").build(),
+                    ArticleSupprime.builder().id(7L).date(day).nomArticle("Voile B20").build(),
+                    ArticleSupprime.builder().id(8L).date(day.minusDays(1)).nomArticle("Dalle").build()));
+
+            // Act
+            ArticlePageDTO page = articleService.getDeletedArticlesPage(filter, null, 2);
+            articleService.getDeletedArticlesPage(filter, page.getPagination().getNextCursor(), 2);
+
+            // Assert
+            assertThat(page.getArticles()).extracting(ArticleDTO::getId).containsExactly(9L, 7L);
+            assertThat(page.getPagination().isHasMore()).isTrue();
+            verify(articleSupprimeRepository).findArchivePage(filter, day, 7L, 3);
+        }
     }
 
 
@@ -335,7 +525,7 @@ class ArticleServiceTest {
                     .id(1L)
                     .nomArticle("Béton C25/30")
                     .unite("m³")
-                    .pu("150.0")
+                    .pu(new BigDecimal("150.0"))
                     .userId("1")
                     .niveau6(Niveau6.builder().id(6L).build())
                     .createdAt(LocalDateTime.now())
@@ -0,0 +1,50 @@
+package com.ecopilot.article.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogSync
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogSync Tests")
+class CatalogSyncTest {
+
+    @Mock private HierarchyService hierarchyService;
+    @Mock private ArticleFacetService facetService;
+    @Mock private CatalogVersion catalogVersion;
+
+    private CatalogSync catalogSync;
+
+    @BeforeEach
+    void setUp() {
+        catalogSync = new CatalogSync(hierarchyService, facetService, catalogVersion);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogSync.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reload the views off the caller thread before advancing the version")
+    void shouldReloadViewsBeforeAdvancing() {
+        catalogSync.hierarchyChanged();
+
+        verify(catalogVersion, timeout(5_000)).advance();
+        InOrder inOrder = inOrder(hierarchyService, facetService, catalogVersion);
+        inOrder.verify(hierarchyService).refreshSnapshot();
+        inOrder.verify(facetService).rebuild();
+        inOrder.verify(catalogVersion).advance();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecopilot.article.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CatalogVersion
+ *
+ * @author EcoPilot Team
+ */
+@DisplayName("CatalogVersion Tests")
+class CatalogVersionTest {
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(catalogVersion);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should bump once per transaction, after commit")
+    void shouldBumpOncePerTransactionAfterCommit() {
+        String before = catalogVersion.etag();
+
+        TransactionSynchronizationManager.initSynchronization();
+        catalogVersion.bump();
+        catalogVersion.bump();
+        assertThat(catalogVersion.current()).isZero();
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        assertThat(catalogVersion.current()).isEqualTo(1L);
+        assertThat(catalogVersion.etag()).isNotEqualTo(before).endsWith("-1\"");
+    }
+
+    @Test
+    @DisplayName("Should never serve the ETag of another instance")
+    void shouldScopeEtagToInstance() {
+        CatalogVersion other = new CatalogVersion();
+
+        assertThat(catalogVersion.current()).isEqualTo(other.current());
+        assertThat(catalogVersion.etag()).isNotEqualTo(other.etag());
+        assertThat(catalogVersion.etag(0, "tree")).isNotEqualTo(catalogVersion.etag());
+    }
+}
@@ -0,0 +1,120 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.NiveauNodeDTO;
+import com.ecopilot.article.dto.NiveauPageDTO;
+import com.ecopilot.article.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HierarchyService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HierarchyService Tests")
+class HierarchyServiceTest {
+
+    @Mock private Niveau1Repository niveau1Repository;
+    @Mock private Niveau2Repository niveau2Repository;
+    @Mock private Niveau3Repository niveau3Repository;
+    @Mock private Niveau4Repository niveau4Repository;
+    @Mock private Niveau5Repository niveau5Repository;
+    @Mock private Niveau6Repository niveau6Repository;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleFacetService facetService;
+    @Mock private ObjectProvider<ArticleFacetService> facetServiceProvider;
+    @Mock private CatalogVersion catalogVersion;
+
+    private HierarchyService hierarchyService;
+
+    @BeforeEach
+    void setUp() {
+        when(niveau1Repository.findSnapshotRows()).thenReturn(List.<Object[]>of(new Object[]{1L, "Gros oeuvre"}));
+        when(niveau2Repository.findSnapshotRows()).thenReturn(List.of(
+                new Object[]{21L, "Maconnerie", 1L}, new Object[]{22L, "Beton", 1L}, new Object[]{23L, "Charpente", 1L}));
+        when(niveau3Repository.findSnapshotRows()).thenReturn(List.of());
+        when(niveau4Repository.findSnapshotRows()).thenReturn(List.of());
+        when(niveau5Repository.findSnapshotRows()).thenReturn(List.of());
+        when(niveau6Repository.findSnapshotRows()).thenReturn(List.<Object[]>of(new Object[]{61L, "Voile 20", null, null, null}));
+        lenient().when(facetServiceProvider.getObject()).thenReturn(facetService);
+
+        hierarchyService = new HierarchyService(niveau1Repository, niveau2Repository, niveau3Repository,
+                niveau4Repository, niveau5Repository, niveau6Repository, articleRepository,
+                catalogVersion, facetServiceProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(hierarchyService);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reload the snapshot once per transaction, after commit")
+    void shouldRefreshOncePerTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        hierarchyService.invalidateSnapshot();
+        hierarchyService.invalidateSnapshot();
+        hierarchyService.invalidateSnapshot();
+        verifyNoInteractions(niveau1Repository, catalogVersion);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        verify(niveau1Repository, times(1)).findSnapshotRows();
+        verify(catalogVersion, times(1)).advance();
+    }
+
+    @Test
+    @DisplayName("Should page children sorted by name with their subtree article count")
+    void shouldPageChildrenWithCounts() {
+        when(facetService.count(anyInt(), anyLong())).thenAnswer(invocation -> (Long) invocation.getArgument(1) - 20);
+
+        NiveauPageDTO first = hierarchyService.getChildren(1, 1L, 1, 2);
+        NiveauPageDTO second = hierarchyService.getLevel(2, 1L, 2, 2);
+
+        assertThat(first.getNiveaux()).extracting(NiveauNodeDTO::getNom, NiveauNodeDTO::getArticleCount)
+                .containsExactly(tuple("Beton", 2L), tuple("Charpente", 3L));
+        assertThat(first.getPagination().isHasMore()).isTrue();
+        assertThat(first.getPagination().getTotal()).isEqualTo(3L);
+        assertThat(second.getNiveaux()).extracting(NiveauNodeDTO::getId).containsExactly(21L);
+        assertThat(second.getPagination().isHasMore()).isFalse();
+        assertThatThrownBy(() -> hierarchyService.getChildren(1, 99L, 1, 2)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("Should list the articles of a niveau6 as level 7 without counting them in SQL")
+    void shouldListArticleLeaves() {
+        when(facetService.count(6, 61L)).thenReturn(3L);
+        when(articleRepository.findLeavesByNiveau6(61L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new Object[]{5L, "Voile B20"}, new Object[]{4L, "Voile B25"}));
+
+        NiveauPageDTO page = hierarchyService.getChildren(6, 61L, 1, 2);
+
+        assertThat(page.getNiveaux()).extracting(NiveauNodeDTO::getId, NiveauNodeDTO::getLevel, NiveauNodeDTO::getParentId)
+                .containsExactly(tuple(5L, 7, 61L), tuple(4L, 7, 61L));
+        assertThat(page.getPagination().isHasMore()).isTrue();
+        assertThat(page.getPagination().getTotal()).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.PendingReviewReportDTO;
+import com.ecopilot.article.dto.PendingReviewRowDTO;
+import com.ecopilot.article.entity.Article;
+import com.ecopilot.article.entity.PendingArticle;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import com.ecopilot.article.repository.ArticleBulkRepository;
+import com.ecopilot.article.repository.PendingArticleRepository;
+import com.ecopilot.article.search.ArticleMatchIndex;
+import com.ecopilot.article.search.ArticleSuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PendingArticleReviewService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingArticleReviewService Tests")
+class PendingArticleReviewServiceTest {
+
+    @Mock
+    private PendingArticleRepository pendingArticleRepository;
+
+    @Mock
+    private ArticleBulkRepository bulkRepository;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private ArticleSuggestIndex suggestIndex;
+
+    @Mock
+    private ArticleMatchIndex matchIndex;
+
+    @Mock
+    private ArticleFacetService facetService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private PendingStatusCounters statusCounters;
+
+    @Mock
+    private ArticleEventProducer eventProducer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PendingArticleReviewService reviewService;
+
+    @BeforeEach
+    void setUp() {
+        reviewService = new PendingArticleReviewService(pendingArticleRepository, bulkRepository, articleService,
+                suggestIndex, matchIndex, facetService, catalogVersion, statusCounters, eventProducer, transactionTemplate);
+        when(articleService.isCurrentUserAdmin()).thenReturn(true);
+        when(articleService.getCurrentUserId()).thenReturn("admin");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Should approve by chunk with one insert batch and one event per chunk")
+    @SuppressWarnings("unchecked")
+    void shouldApproveByChunk() {
+        when(pendingArticleRepository.findAllForReview(any())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .filter(id -> id != 9999L)
+                        .map(id -> pending(id, id == 2L ? PendingArticle.STATUS_APPROVED : PendingArticle.STATUS_PENDING))
+                        .collect(Collectors.toList()));
+        long[] nextId = {1000};
+        when(bulkRepository.allocateIds(anyInt())).thenAnswer(invocation -> LongStream
+                .range(nextId[0], nextId[0] += (int) invocation.getArgument(0)).boxed().collect(Collectors.toList()));
+
+        List<Long> ids = new java.util.ArrayList<>(LongStream.rangeClosed(1, PendingArticleReviewService.CHUNK_SIZE + 10)
+                .boxed().collect(Collectors.toList()));
+        ids.add(9999L);
+        ids.add(1L);
+
+        PendingReviewReportDTO report = reviewService.approve(ids);
+
+        assertThat(report.getTotal()).isEqualTo(PendingArticleReviewService.CHUNK_SIZE + 11);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getRows().subList(0, 2)).extracting(PendingReviewRowDTO::getStatus, PendingReviewRowDTO::getArticleId)
+                .containsExactly(tuple(PendingReviewRowDTO.APPROVED, 1000L), tuple(PendingReviewRowDTO.SKIPPED, null));
+        assertThat(report.getRows().get(report.getTotal() - 1).getStatus()).isEqualTo(PendingReviewRowDTO.NOT_FOUND);
+
+        ArgumentCaptor<List<Article>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(bulkRepository, times(2)).insertAll(inserted.capture());
+        assertThat(inserted.getAllValues().get(0)).hasSize(PendingArticleReviewService.CHUNK_SIZE - 1);
+        assertThat(inserted.getAllValues().get(0).get(0).getUserId()).isEqualTo("creator");
+        ArgumentCaptor<Map<Long, Long>> links = ArgumentCaptor.forClass(Map.class);
+        verify(bulkRepository, times(2)).markPendingApproved(links.capture(), eq(PendingArticle.STATUS_APPROVED), eq("admin"), any());
+        assertThat(links.getAllValues().get(0)).containsEntry(1L, 1000L);
+        verify(eventProducer, times(2)).sendArticlesApprovedEvent(anyList(), eq("admin"));
+    }
+
+    @Test
+    @DisplayName("Should reject in one bulk update and skip reviewed articles")
+    void shouldRejectInBulk() {
+        when(pendingArticleRepository.findAllForReview(any())).thenReturn(List.of(
+                pending(1L, PendingArticle.STATUS_PENDING),
+                pending(2L, PendingArticle.STATUS_REJECTED),
+                pending(3L, PendingArticle.STATUS_PENDING)));
+
+        PendingReviewReportDTO report = reviewService.reject(List.of(1L, 2L, 3L));
+
+        assertThat(report.getRows()).extracting(PendingReviewRowDTO::getStatus).containsExactly(
+                PendingReviewRowDTO.REJECTED, PendingReviewRowDTO.SKIPPED, PendingReviewRowDTO.REJECTED);
+        verify(pendingArticleRepository).markRejected(eq(List.of(1L, 3L)), eq(PendingArticle.STATUS_REJECTED), eq("admin"), any());
+        verifyNoInteractions(bulkRepository, eventProducer);
+    }
+
+    private static PendingArticle pending(Long id, String status) {
+        return PendingArticle.builder()
+                .id(id)
+                .nomArticle("Proposition " + id)
+                .unite("m2")
+                .type("Fourniture")
+                .expertise("Structure")
+                .pu(new BigDecimal("12.5"))
+                .createdBy("creator")
+                .status(status)
+                .build();
+    }
+}
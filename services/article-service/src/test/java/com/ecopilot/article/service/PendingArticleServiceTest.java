@@ -0,0 +1,126 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.dto.ArticleDTO;
+import com.ecopilot.article.dto.ArticlePageDTO;
+import com.ecopilot.article.entity.PendingArticle;
+import com.ecopilot.article.entity.PendingStatusCount;
+import com.ecopilot.article.repository.PendingArticleFilter;
+import com.ecopilot.article.repository.PendingArticleRepository;
+import com.ecopilot.article.repository.PendingStatusCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PendingArticleService
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingArticleService Tests")
+class PendingArticleServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Mock
+    private PendingArticleRepository pendingArticleRepository;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private HierarchyService hierarchyService;
+
+    @Mock
+    private PendingStatusCountRepository countRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PendingStatusCounters statusCounters;
+    private PendingArticleService pendingArticleService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(countRepository.findAll()).thenReturn(List.of(
+                PendingStatusCount.builder().status(PendingArticle.STATUS_PENDING).total(3L).build(),
+                PendingStatusCount.builder().status(PendingArticle.STATUS_REJECTED).total(1L).build()));
+        lenient().when(countRepository.findById(PendingArticle.STATUS_PENDING)).thenReturn(Optional.of(
+                PendingStatusCount.builder().status(PendingArticle.STATUS_PENDING).total(3L).build()));
+        statusCounters = new PendingStatusCounters(countRepository, pendingArticleRepository, transactionManager);
+        pendingArticleService = new PendingArticleService(pendingArticleRepository, articleService, hierarchyService, statusCounters);
+    }
+
+    @Test
+    @DisplayName("Should page the queue by submission date and resume after the cursor")
+    void shouldPageQueueWithCursor() {
+        when(articleService.pendingDtoMapper()).thenReturn(p -> ArticleDTO.builder().id(p.getId()).build());
+        when(pendingArticleRepository.findQueuePage(any(), anyBoolean(), any(), any(), anyInt()))
+                .thenReturn(List.of(pending(7L, T0), pending(4L, T0.plusHours(1)), pending(9L, T0.plusHours(2))));
+
+        ArticlePageDTO first = pendingArticleService.getQueue(PendingArticle.STATUS_PENDING, null, null, null, null, 2, "asc");
+
+        assertThat(first.getArticles()).extracting(ArticleDTO::getId).containsExactly(7L, 4L);
+        assertThat(first.getPagination().isHasMore()).isTrue();
+        assertThat(first.getPagination().getTotal()).isEqualTo(3L);
+
+        when(hierarchyService.getSnapshot()).thenReturn(HierarchySnapshot.build(List.of(
+                List.of(new HierarchySnapshot.Row(1L, "Gros oeuvre", null, null, null)),
+                List.of(new HierarchySnapshot.Row(2L, "Beton arme", 1L, null, null)),
+                List.of(new HierarchySnapshot.Row(3L, "Voiles", 2L, null, null)),
+                List.of(), List.of(),
+                List.of(new HierarchySnapshot.Row(61L, "Voile ep. 20 cm", null, 3L, null)))));
+        pendingArticleService.getQueue(null, "u1", 1, 1L, first.getPagination().getNextCursor(), 2, "asc");
+
+        ArgumentCaptor<PendingArticleFilter> filter = ArgumentCaptor.forClass(PendingArticleFilter.class);
+        verify(pendingArticleRepository).findQueuePage(filter.capture(), eq(false), eq(T0.plusHours(1)), eq(4L), eq(3));
+        assertThat(filter.getValue().getNiveau6Ids()).containsExactly(61L);
+        assertThat(filter.getValue().getCreatedBy()).isEqualTo("u1");
+        assertThatThrownBy(() -> pendingArticleService.getQueue(null, null, null, null, first.getPagination().getNextCursor(), 2, "desc"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("Should move the status counters in the transition's transaction")
+    void shouldUpdateStatusCountersOnTransition() {
+        assertThat(pendingArticleService.getStatusCounts()).containsExactly(
+                entry(PendingArticle.STATUS_PENDING, 3L),
+                entry(PendingArticle.STATUS_APPROVED, 0L),
+                entry(PendingArticle.STATUS_REJECTED, 1L));
+
+        statusCounters.transitioned(PendingArticle.STATUS_APPROVED, PendingArticle.STATUS_APPROVED);
+        verify(countRepository, never()).add(any(), anyLong());
+
+        statusCounters.transitionedAll(Map.of(PendingArticle.STATUS_PENDING, 2L, PendingArticle.STATUS_REJECTED, 1L),
+                PendingArticle.STATUS_APPROVED);
+        statusCounters.transitioned(null, PendingArticle.STATUS_PENDING);
+
+        // Toujours dans le meme ordre de lignes
+        InOrder inOrder = inOrder(countRepository);
+        inOrder.verify(countRepository).add(PendingArticle.STATUS_APPROVED, 3L);
+        inOrder.verify(countRepository).add(PendingArticle.STATUS_PENDING, -2L);
+        inOrder.verify(countRepository).add(PendingArticle.STATUS_REJECTED, -1L);
+        inOrder.verify(countRepository).add(PendingArticle.STATUS_PENDING, 1L);
+        verify(pendingArticleRepository, never()).countByStatus();
+    }
+
+    private static PendingArticle pending(Long id, LocalDateTime submittedAt) {
+        return PendingArticle.builder().id(id).status(PendingArticle.STATUS_PENDING).submittedAt(submittedAt).build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecopilot.article.service;
+
+import com.ecopilot.article.config.ReferenceCacheConfig;
+import com.ecopilot.article.kafka.producer.ArticleEventProducer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReferenceCacheInvalidator
+ *
+ * @author EcoPilot Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceCacheInvalidator Tests")
+class ReferenceCacheInvalidatorTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private CatalogSync catalogSync;
+
+    @Mock
+    private HierarchyService hierarchyService;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private ArticleEventProducer eventProducer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReferenceCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        invalidator = new ReferenceCacheInvalidator(entityManagerFactory, catalogSync, hierarchyService, articleService,
+                eventProducer, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(invalidator);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should broadcast once per transaction, after commit")
+    void shouldBroadcastOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        invalidator.niveauChanged();
+        invalidator.niveauChanged();
+        verifyNoInteractions(eventProducer);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        verify(eventProducer, times(1)).sendHierarchyChangedEvent();
+        verifyNoInteractions(entityManagerFactory, catalogSync);
+    }
+
+    @Test
+    @DisplayName("Should evict every niveau region and schedule a hierarchy reload")
+    void shouldEvictNiveauRegions() {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        Cache cache = mock(Cache.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        invalidator.evictNiveaux();
+
+        ReferenceCacheConfig.REGIONS.forEach(region -> verify(cache).evictRegion(region));
+        verify(catalogSync).hierarchyChanged();
+    }
+
+    @Test
+    @DisplayName("Should refresh the hierarchy and notify the other instances on admin request")
+    void shouldRefreshAllForAdmin() {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(mock(Cache.class));
+        when(articleService.isCurrentUserAdmin()).thenReturn(true);
+
+        invalidator.refreshAll();
+
+        verify(hierarchyService).hierarchyChanged();
+        verify(eventProducer).sendHierarchyChangedEvent();
+    }
+
+    @Test
+    @DisplayName("Should reserve the hierarchy refresh to administrators")
+    void shouldRejectRefreshForNonAdmin() {
+        when(articleService.isCurrentUserAdmin()).thenReturn(false);
+
+        assertThatThrownBy(() -> invalidator.refreshAll())
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("403");
+        verifyNoInteractions(hierarchyService, eventProducer);
+    }
+}
@@ -35,8 +35,8 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
-                // Actuator endpoints — open for health checks
-                .requestMatchers("/actuator/**").permitAll()
+                // Actuator health checks are open; metrics require a valid JWT
+                .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                 // GET fournisseurs — accessible to authenticated users (admin or supplier)
                 .requestMatchers(HttpMethod.GET, "/api/fournisseurs/**").authenticated()
                 // Write ops — require authentication
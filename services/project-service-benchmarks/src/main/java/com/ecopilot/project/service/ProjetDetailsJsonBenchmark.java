@@ -0,0 +1,64 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.ApiResponse;
+import com.ecopilot.project.dto.ProjetDTO;
+import com.ecopilot.project.dto.ProjetDetailsDTO;
+import com.ecopilot.project.dto.ProjetDetailsNormalizedDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assemblage et serialisation de la reponse de {@code GET /api/projet-details/{id}/details}, sous
+ * forme imbriquee et sous forme normalisee, pour un projet de {@value ProjetFixtures#LOT_COUNT} lots
+ * de {@value ProjetFixtures#OUVRAGES_PER_LOT} ouvrages. La taille des deux reponses est affichee
+ * au demarrage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjetDetailsJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ProjetDetailsAssembler assembler;
+    private ProjetDTO projet;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        assembler = ProjetFixtures.assembler();
+        projet = ProjetFixtures.projet();
+
+        int nested = writeNested().length;
+        int normalized = writeNormalized().length;
+        System.out.printf("%nnested: %d bytes, normalized: %d bytes (%.1f%% of nested)%n",
+                nested, normalized, 100.0 * normalized / nested);
+    }
+
+    @Benchmark
+    public byte[] writeNested() throws JsonProcessingException {
+        ProjetDetailsDTO details = assembler.nested(projet);
+        return objectMapper.writeValueAsBytes(ApiResponse.<ProjetDetailsDTO>builder().success(true).data(details).build());
+    }
+
+    @Benchmark
+    public byte[] writeNormalized() throws JsonProcessingException {
+        ProjetDetailsNormalizedDTO details = assembler.normalized(projet);
+        return objectMapper.writeValueAsBytes(ApiResponse.<ProjetDetailsNormalizedDTO>builder().success(true).data(details).build());
+    }
+}
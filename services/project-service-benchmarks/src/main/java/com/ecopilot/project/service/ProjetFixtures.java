@@ -0,0 +1,154 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.ClientDTO;
+import com.ecopilot.project.dto.ProjetDTO;
+import com.ecopilot.project.entity.Bloc;
+import com.ecopilot.project.entity.Ouvrage;
+import com.ecopilot.project.entity.Projet;
+import com.ecopilot.project.entity.ProjetArticle;
+import com.ecopilot.project.entity.ProjetLot;
+import com.ecopilot.project.entity.Structure;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Projet synthetique de la forme produite par l'import DPGF : par ouvrage, des lignes directes,
+ * des blocs avec leurs lignes et des lignes d'ouvrage sous le dernier bloc. Graine fixe : deux
+ * executions mesurent les memes donnees.
+ */
+final class ProjetFixtures {
+
+    static final int LOT_COUNT = 8;
+    static final int OUVRAGES_PER_LOT = 25;
+    static final int DIRECT_LINES = 2;
+    static final int BLOCS_PER_OUVRAGE = 2;
+    static final int LINES_PER_BLOC = 4;
+    static final int BOTTOM_LINES = 1;
+
+    private static final String[] LOTS = {"Gros oeuvre", "Charpente couverture", "Menuiseries exterieures", "Platrerie cloisons",
+            "Electricite courants forts", "Plomberie sanitaires", "Chauffage ventilation", "Peinture revetements"};
+    private static final String[] OUVRAGES = {"Fondations superficielles", "Voiles beton arme", "Planchers", "Escaliers",
+            "Reseaux enterres", "Doublages", "Faux plafonds", "Distribution"};
+    private static final String[] BLOCS = {"Semelles filantes", "Longrines", "Dallage sur terre-plein", "Poteaux"};
+    private static final String[] LIGNES = {"Beton de proprete C16/20 ep. 5 cm", "Beton C25/30 XC1 pour semelles",
+            "Armatures HA suivant notes de calcul", "Coffrage bois une face", "Fouilles en rigoles en terrain ordinaire",
+            "Evacuation des deblais en decharge agreee", "Polyane 200 microns sous dallage", "Treillis soude ST25C"};
+    private static final String[] UNITES = {"m2", "m3", "ml", "u", "kg", "ens"};
+
+    private final Random random = new Random(42);
+    private final List<ProjetLot> lots = new ArrayList<>();
+    private final List<Ouvrage> ouvrages = new ArrayList<>();
+    private final List<Bloc> blocs = new ArrayList<>();
+    private final List<Structure> structures = new ArrayList<>();
+    private final List<ProjetArticle> articles = new ArrayList<>();
+    private long nextId = 1;
+
+    private ProjetFixtures() {
+    }
+
+    static ProjetDetailsAssembler assembler() {
+        return new ProjetFixtures().build();
+    }
+
+    static ProjetDTO projet() {
+        return ProjetDTO.builder()
+                .id(1L)
+                .nomProjet("Groupe scolaire Jean Moulin - extension et rehabilitation")
+                .description("Extension de 12 classes et rehabilitation thermique du batiment existant")
+                .etat("En cours")
+                .cout(4_850_000.0)
+                .dateDebut(LocalDate.of(2025, 3, 3))
+                .dateLimite(LocalDate.of(2026, 8, 28))
+                .clientId(7L)
+                .clientData(ClientDTO.builder().id(7L).nomClient("Ville de Lyon").agence("Lyon Est").build())
+                .ajoutePar("user-1")
+                .adresse("12 rue des Ecoles, 69003 Lyon")
+                .teamMembers(List.of("user-1", "user-2", "user-3"))
+                .createdAt(LocalDateTime.of(2025, 1, 15, 9, 30))
+                .build();
+    }
+
+    private ProjetDetailsAssembler build() {
+        Projet projet = Projet.builder().id(1L).build();
+        for (int l = 0; l < LOT_COUNT; l++) {
+            ProjetLot lot = ProjetLot.builder()
+                    .idProjetLot(nextId++)
+                    .projet(projet)
+                    .idLot(l + 1)
+                    .designationLot(LOTS[l % LOTS.length])
+                    .prixTotal(price(500_000))
+                    .prixVente(price(600_000))
+                    .build();
+            lots.add(lot);
+            for (int o = 0; o < OUVRAGES_PER_LOT; o++) {
+                addOuvrage(lot, o);
+            }
+        }
+        return new ProjetDetailsAssembler(lots, ouvrages, blocs, structures, articles);
+    }
+
+    private void addOuvrage(ProjetLot lot, int index) {
+        String nom = OUVRAGES[index % OUVRAGES.length] + " " + (index + 1);
+        Ouvrage ouvrage = Ouvrage.builder().id(nextId++).projetLot(lot).nomOuvrage(nom).designation(nom).build();
+        ouvrages.add(ouvrage);
+
+        Structure direct = structure(ouvrage, null, "Imported from DPGF");
+        for (int i = 0; i < DIRECT_LINES; i++) {
+            addLine(direct);
+        }
+        Bloc bloc = null;
+        for (int b = 0; b < BLOCS_PER_OUVRAGE; b++) {
+            String nomBloc = BLOCS[random.nextInt(BLOCS.length)];
+            bloc = Bloc.builder()
+                    .id(nextId++)
+                    .ouvrage(ouvrage)
+                    .nomBloc(nomBloc)
+                    .designation(nomBloc)
+                    .unite(UNITES[random.nextInt(UNITES.length)])
+                    .quantite(1 + random.nextInt(200))
+                    .pu(price(300))
+                    .pt(price(60_000))
+                    .build();
+            blocs.add(bloc);
+            Structure underBloc = structure(ouvrage, bloc, "bloc");
+            for (int i = 0; i < LINES_PER_BLOC; i++) {
+                addLine(underBloc);
+            }
+        }
+        Structure bottom = structure(ouvrage, null, "ouvrage_bottom_" + bloc.getId());
+        for (int i = 0; i < BOTTOM_LINES; i++) {
+            addLine(bottom);
+        }
+    }
+
+    private Structure structure(Ouvrage ouvrage, Bloc bloc, String action) {
+        Structure structure = Structure.builder().idStructure(nextId++).ouvrage(ouvrage).bloc(bloc).action(action).build();
+        structures.add(structure);
+        return structure;
+    }
+
+    private void addLine(Structure structure) {
+        int quantite = 1 + random.nextInt(500);
+        double pu = price(250);
+        double total = quantite * pu;
+        articles.add(ProjetArticle.builder()
+                .id(nextId++)
+                .structure(structure)
+                .designationArticle(LIGNES[random.nextInt(LIGNES.length)])
+                .uniteImport(UNITES[random.nextInt(UNITES.length)])
+                .quantite(quantite)
+                .pu(pu)
+                .nouvPrix(pu)
+                .prixTotalHt(total)
+                .totalTtc(total)
+                .build());
+    }
+
+    private double price(int max) {
+        return Math.round(random.nextDouble() * max * 100) / 100.0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ecopilot.project.controller;
+
+import com.ecopilot.project.dto.ApiResponse;
+import com.ecopilot.project.dto.ArticleUsageDTO;
+import com.ecopilot.project.dto.CatalogArticleDTO;
+import com.ecopilot.project.dto.PriceImpactDTO;
+import com.ecopilot.project.service.ArticlePriceImpactService;
+import com.ecopilot.project.service.CatalogReadModelService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/projets/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+
+    private final CatalogReadModelService catalogReadModelService;
+    private final ArticlePriceImpactService articlePriceImpactService;
+
+    /**
+     * Designation, unite et prix des articles du catalogue references par les projets, lus dans
+     * la copie locale (aucun appel a article-service). Les ids inconnus ou supprimes sont absents.
+     */
+    @GetMapping("/articles")
+    public ResponseEntity<ApiResponse<Map<Long, CatalogArticleDTO>>> getCatalogArticles(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(ApiResponse.<Map<Long, CatalogArticleDTO>>builder()
+                .success(true)
+                .data(catalogReadModelService.findByIds(ids))
+                .build());
+    }
+
+    /**
+     * Lignes de projet (projet, lot, ouvrage, ligne) qui referencent l'article.
+     */
+    @GetMapping("/articles/{id}/usages")
+    public ResponseEntity<ApiResponse<List<ArticleUsageDTO>>> getArticleUsages(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.<List<ArticleUsageDTO>>builder()
+                .success(true)
+                .data(articlePriceImpactService.getUsages(id))
+                .build());
+    }
+
+    /**
+     * Projets touches et ecart HT par projet si l'article passait a {@code new_pu}
+     * (par defaut, son prix actuel au catalogue).
+     */
+    @GetMapping("/articles/{id}/price-impact")
+    public ResponseEntity<ApiResponse<PriceImpactDTO>> getPriceImpact(@PathVariable Long id,
+                                                                      @RequestParam(name = "new_pu", required = false) Double newPu) {
+        return ResponseEntity.ok(ApiResponse.<PriceImpactDTO>builder()
+                .success(true)
+                .data(articlePriceImpactService.getPriceImpact(id, newPu))
+                .build());
+    }
+}
@@ -1,10 +1,13 @@
 package com.ecopilot.project.controller;
 
 import com.ecopilot.project.dto.ProjetDetailsDTO;
+import com.ecopilot.project.dto.ProjetDetailsNormalizedDTO;
 import com.ecopilot.project.service.ProjetService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.ecopilot.project.dto.ApiResponse;
 
@@ -20,11 +23,29 @@ public class ProjetDetailsController {
      * Projet -> ProjetLots -> Ouvrages -> (Structures -> Blocs) + (Structures -> ProjetArticles)
      */
     @GetMapping("/{id}/details")
-    public ResponseEntity<ApiResponse<ProjetDetailsDTO>> getProjetDetails(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ProjetDetailsDTO>> getProjetDetails(
+            @PathVariable Long id,
+            @RequestParam(required = false) String format) {
+        if (format != null && !"nested".equals(format)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown format: " + format);
+        }
         ProjetDetailsDTO details = projetService.getProjetFullDetails(id);
         return ResponseEntity.ok(ApiResponse.<ProjetDetailsDTO>builder()
                 .success(true)
                 .data(details)
                 .build());
     }
+
+    /**
+     * Same details as flat id-keyed tables (lots, ouvrages, blocs, structures, articles), each
+     * entity once with a reference to its parent.
+     */
+    @GetMapping(value = "/{id}/details", params = "format=normalized")
+    public ResponseEntity<ApiResponse<ProjetDetailsNormalizedDTO>> getProjetNormalizedDetails(@PathVariable Long id) {
+        ProjetDetailsNormalizedDTO details = projetService.getProjetNormalizedDetails(id);
+        return ResponseEntity.ok(ApiResponse.<ProjetDetailsNormalizedDTO>builder()
+                .success(true)
+                .data(details)
+                .build());
+    }
 }
@@ -0,0 +1,21 @@
+package com.ecopilot.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ligne de projet qui reference un article du catalogue.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleUsageDTO {
+    private Long projetId;
+    private String nomProjet;
+    private Long projetLotId;
+    private Long ouvrageId;
+    private Long projetArticleId;
+    private Integer quantite;
+    private Double pu;
+}
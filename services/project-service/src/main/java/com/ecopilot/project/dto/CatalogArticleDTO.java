@@ -0,0 +1,17 @@
+package com.ecopilot.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogArticleDTO {
+    private Long id;
+    private String nomArticle;
+    private String unite;
+    private Double pu;
+}
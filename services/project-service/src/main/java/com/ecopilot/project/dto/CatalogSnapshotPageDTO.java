@@ -0,0 +1,20 @@
+package com.ecopilot.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page de {@code GET /api/articles/snapshot} (article-service).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogSnapshotPageDTO {
+    private List<CatalogArticleDTO> items;
+    private Long nextAfterId;
+}
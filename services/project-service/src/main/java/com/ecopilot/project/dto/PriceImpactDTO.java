@@ -0,0 +1,40 @@
+package com.ecopilot.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Effet d'un nouveau prix unitaire d'article sur les projets qui l'utilisent (HT) :
+ * pour chaque ligne, quantite * (nouveau prix - prix de la ligne).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceImpactDTO {
+    private Long articleId;
+    private Double newPu;
+    private Integer projetCount;
+    private Long lineCount;
+    private Double totalDelta;
+    // Par ecart absolu decroissant
+    private List<ProjetImpactDTO> projets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProjetImpactDTO {
+        private Long projetId;
+        private String nomProjet;
+        private Long lineCount;
+        private Long quantite;
+        private Double currentTotal;
+        private Double newTotal;
+        private Double delta;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecopilot.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Details du projet en tables plates indexees par id ({@code ?format=normalized}) : chaque lot,
+ * ouvrage, bloc, structure et ligne n'apparait qu'une fois et reference son parent
+ * ({@code id_projet}, {@code projet_lot}, {@code ouvrage}, {@code bloc}, {@code structure}).
+ * Les listes d'enfants de la forme imbriquee sont omises.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetDetailsNormalizedDTO {
+
+    @JsonIgnoreProperties("lots")
+    private ProjetDTO project;
+
+    private ProjetPricingDTO pricing;
+
+    @JsonIgnoreProperties({"ouvrages", "blocs"})
+    private Map<Long, ProjetLotDTO> lots;
+
+    @JsonIgnoreProperties({"structures", "blocs"})
+    private Map<Long, OuvrageDTO> ouvrages;
+
+    @JsonIgnoreProperties({"structures", "articles"})
+    private Map<Long, BlocDTO> blocs;
+
+    @JsonIgnoreProperties("articles")
+    private Map<Long, StructureDTO> structures;
+
+    private Map<Long, ProjetArticleDTO> articles;
+}
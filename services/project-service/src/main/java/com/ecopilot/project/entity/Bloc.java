@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "bloc")
+@Table(name = "bloc", indexes = {
+        @Index(name = "idx_bloc_ouvrage", columnList = "ouvrage")
+})
 public class Bloc {
 
     @Id
@@ -0,0 +1,40 @@
+package com.ecopilot.project.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Copie locale d'un article du catalogue (article-service), tenue a jour par
+ * {@code article.events}. Un article supprime reste en base marque {@code deleted} : la
+ * photographie d'amorcage ne le recree pas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "catalog_article")
+public class CatalogArticle {
+
+    // Id de l'article dans article-service (ProjetArticle.article)
+    @Id
+    private Long id;
+
+    @Column(name = "nom_article")
+    private String nomArticle;
+
+    private String unite;
+
+    private Double pu;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,35 @@
+package com.ecopilot.project.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Article du catalogue a relire aupres d'article-service, demande par un evenement.
+ * {@code version} augmente a chaque nouvelle demande : une relecture ne retire que la demande
+ * qu'elle a servie, une demande arrivee pendant l'appel reste en attente.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "catalog_refresh", indexes = {
+        @Index(name = "idx_catalog_refresh_requested_at", columnList = "requested_at")
+})
+public class CatalogRefresh {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+}
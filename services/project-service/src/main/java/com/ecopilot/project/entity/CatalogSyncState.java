@@ -0,0 +1,33 @@
+package com.ecopilot.project.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Avancement de l'amorcage de {@link CatalogArticle} (ligne unique) : dernier id copie de la
+ * photographie, pour reprendre apres une interruption.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "catalog_sync_state")
+public class CatalogSyncState {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "snapshot_after_id")
+    private Long snapshotAfterId;
+
+    @Column(name = "bootstrapped_at")
+    private LocalDateTime bootstrappedAt;
+}
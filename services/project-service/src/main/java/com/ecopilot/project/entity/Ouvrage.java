@@ -14,7 +14,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "ouvrage")
+@Table(name = "ouvrage", indexes = {
+        @Index(name = "idx_ouvrage_projet_lot", columnList = "projet_lot")
+})
 public class Ouvrage {
 
     @Id
@@ -11,7 +11,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "projet_article")
+// Index inverse article du catalogue -> lignes de projet (impact d'un changement de prix)
+@Table(name = "projet_article", indexes = {
+        @Index(name = "idx_projet_article_article", columnList = "article"),
+        @Index(name = "idx_projet_article_structure", columnList = "structure")
+})
 public class ProjetArticle {
 
     @Id
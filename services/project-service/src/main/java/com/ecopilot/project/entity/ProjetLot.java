@@ -14,7 +14,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "projet_lot")
+@Table(name = "projet_lot", indexes = {
+        @Index(name = "idx_projet_lot_projet", columnList = "id_projet")
+})
 public class ProjetLot {
 
     @Id
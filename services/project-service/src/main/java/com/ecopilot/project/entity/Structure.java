@@ -14,7 +14,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "structure")
+@Table(name = "structure", indexes = {
+        @Index(name = "idx_structure_ouvrage", columnList = "ouvrage"),
+        @Index(name = "idx_structure_bloc", columnList = "bloc")
+})
 public class Structure {
 
     @Id
@@ -1,7 +1,9 @@
 package com.ecopilot.project.kafka.config;
 
+import com.ecopilot.project.kafka.event.ArticleEvent;
 import com.ecopilot.project.kafka.event.ImportCompletedEvent;
 import com.ecopilot.project.kafka.event.ProjectEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -29,17 +31,20 @@ public class KafkaConfig {
 
     // Producer Configuration
     @Bean
-    public ProducerFactory<String, ProjectEvent> producerFactory() {
-        Map<String, Object> config = new HashMap<>();
+    public ProducerFactory<String, ProjectEvent> producerFactory(ProducerProfile producerProfile, MeterRegistry meterRegistry) {
+        Map<String, Object> config = new HashMap<>(producerProfile.properties());
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        return new DefaultKafkaProducerFactory<>(config);
+        DefaultKafkaProducerFactory<String, ProjectEvent> factory = new DefaultKafkaProducerFactory<>(config);
+        // Metriques natives du client (kafka.producer.*) : taille des lots, erreurs et buffer plein par topic
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, ProjectEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, ProjectEvent> kafkaTemplate(ProducerFactory<String, ProjectEvent> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 
     // Consumer Configuration
@@ -64,4 +69,28 @@ public class KafkaConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
+
+    // Evenements du catalogue (article-service), modele de lecture local
+    @Bean
+    public ConsumerFactory<String, ArticleEvent> articleEventConsumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        // Premier demarrage : toute la retention est relue, la photographie d'amorcage peut etre anterieure
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
+        // L'en-tete de type designe la classe d'article-service : on lit toujours la copie locale
+        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ArticleEvent.class.getName());
+        return new DefaultKafkaConsumerFactory<>(config);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ArticleEvent> articleEventListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ArticleEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(articleEventConsumerFactory());
+        return factory;
+    }
 }
@@ -0,0 +1,27 @@
+package com.ecopilot.project.kafka.consumer;
+
+import com.ecopilot.project.kafka.event.ArticleEvent;
+import com.ecopilot.project.service.CatalogReadModelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Suivi des evenements du catalogue pour le modele de lecture local ({@code catalog_article}).
+ * Groupe partage par les instances : la table est commune.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleCatalogConsumer {
+
+    private final CatalogReadModelService catalogReadModelService;
+
+    @KafkaListener(topics = "article.events", groupId = "project-catalog",
+            containerFactory = "articleEventListenerContainerFactory")
+    public void handleArticleEvent(ArticleEvent event) {
+        log.debug("Received {} event for article: {}", event.getEventType(), event.getArticleId());
+        catalogReadModelService.apply(event);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecopilot.project.kafka.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Evenement du catalogue publie par article-service sur {@code article.events}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleEvent {
+    private String eventType; // ARTICLE_CREATED, ARTICLE_UPDATED, ARTICLE_DELETED, ARTICLE_VALIDATED, ARTICLES_IMPORTED, ARTICLES_APPROVED, ARTICLES_DELETED, ARTICLES_RESTORED, ARTICLES_REPRICED, HIERARCHY_CHANGED
+    private Long articleId;
+    private String designation;
+    private String unite;
+    private Double prixUnitaire;
+    private String userId;
+    private LocalDateTime timestamp;
+    // ARTICLES_* : ids du lot
+    private List<Long> articleIds;
+    private Integer count;
+}
@@ -0,0 +1,42 @@
+package com.ecopilot.project.kafka.outbox;
+
+import com.ecopilot.project.entity.OutboxEvent;
+import com.ecopilot.project.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ecriture des evenements dans la table outbox, dans la transaction de l'appelant : l'evenement
+ * existe si et seulement si la modification est validee, et la requete n'attend jamais le broker.
+ * Sans transaction en cours, l'appel echoue : la ligne serait validee seule.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, String key, String eventType, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + eventType + " event", e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .aggregateKey(key)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
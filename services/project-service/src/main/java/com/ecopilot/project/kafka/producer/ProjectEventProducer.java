@@ -1,19 +1,23 @@
 package com.ecopilot.project.kafka.producer;
 
 import com.ecopilot.project.kafka.event.ProjectEvent;
+import com.ecopilot.project.kafka.outbox.EventOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
+/**
+ * Evenements des projets, ecrits dans la table outbox de la transaction en cours ;
+ * OutboxRelay les publie sur Kafka apres le commit.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProjectEventProducer {
 
-    private final KafkaTemplate<String, ProjectEvent> kafkaTemplate;
+    private final EventOutbox eventOutbox;
     private static final String PROJECT_EVENTS_TOPIC = "project.events";
 
     public void sendProjectCreatedEvent(Long projectId, String projectName, String userId) {
@@ -280,10 +284,6 @@ public class ProjectEventProducer {
     }
 
     private void sendEvent(ProjectEvent event) {
-        try {
-            kafkaTemplate.send(PROJECT_EVENTS_TOPIC, event.getProjectId().toString(), event);
-        } catch (Exception e) {
-            log.error("Failed to send project event: {}", event, e);
-        }
+        eventOutbox.append(PROJECT_EVENTS_TOPIC, String.valueOf(event.getProjectId()), event.getEventType(), event);
     }
 }
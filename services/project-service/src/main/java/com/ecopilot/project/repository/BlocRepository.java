@@ -4,12 +4,15 @@ import com.ecopilot.project.entity.Bloc;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BlocRepository extends JpaRepository<Bloc, Long> {
     
     List<Bloc> findByOuvrageId(Long ouvrageId);
+
+    List<Bloc> findByOuvrageIdInOrderById(Collection<Long> ouvrageIds);
     
     void deleteByOuvrageId(Long ouvrageId);
 }
@@ -0,0 +1,14 @@
+package com.ecopilot.project.repository;
+
+import com.ecopilot.project.entity.CatalogArticle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CatalogArticleRepository extends JpaRepository<CatalogArticle, Long> {
+
+    List<CatalogArticle> findByIdInAndDeletedFalse(Collection<Long> ids);
+}
@@ -0,0 +1,22 @@
+package com.ecopilot.project.repository;
+
+import com.ecopilot.project.entity.CatalogRefresh;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CatalogRefreshRepository extends JpaRepository<CatalogRefresh, Long> {
+
+    List<CatalogRefresh> findAllByOrderByRequestedAtAsc(Pageable pageable);
+
+    // Demande renouvelee entre-temps : version differente, la ligne reste
+    @Modifying
+    @Query("DELETE FROM CatalogRefresh r WHERE r.articleId = :articleId AND r.version = :version")
+    int deleteIfUnchanged(@Param("articleId") Long articleId, @Param("version") long version);
+}
@@ -0,0 +1,9 @@
+package com.ecopilot.project.repository;
+
+import com.ecopilot.project.entity.CatalogSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogSyncStateRepository extends JpaRepository<CatalogSyncState, Integer> {
+}
@@ -4,12 +4,15 @@ import com.ecopilot.project.entity.Ouvrage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OuvrageRepository extends JpaRepository<Ouvrage, Long> {
     
     List<Ouvrage> findByProjetLotIdProjetLot(Long projetLotId);
+
+    List<Ouvrage> findByProjetLotIdProjetLotInOrderById(Collection<Long> projetLotIds);
     
     void deleteByProjetLotIdProjetLot(Long projetLotId);
 }
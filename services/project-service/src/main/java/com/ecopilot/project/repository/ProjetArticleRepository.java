@@ -1,15 +1,35 @@
 package com.ecopilot.project.repository;
 
+import com.ecopilot.project.dto.ArticleUsageDTO;
 import com.ecopilot.project.entity.ProjetArticle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProjetArticleRepository extends JpaRepository<ProjetArticle, Long> {
     
     List<ProjetArticle> findByStructureIdStructure(Long structureId);
+
+    List<ProjetArticle> findByStructureIdStructureInOrderById(Collection<Long> structureIds);
     
     void deleteByStructureIdStructure(Long structureId);
+
+    // Une structure depend d'un ouvrage, directement ou par son bloc
+    String ARTICLE_LINES = "FROM ProjetArticle pa JOIN pa.structure s LEFT JOIN s.bloc b " +
+            "JOIN Ouvrage o ON o.id = COALESCE(s.ouvrage.id, b.ouvrage.id) " +
+            "JOIN o.projetLot l JOIN l.projet p WHERE pa.article = :articleId ";
+
+    @Query("SELECT new com.ecopilot.project.dto.ArticleUsageDTO(p.id, p.nomProjet, l.idProjetLot, o.id, pa.id, pa.quantite, pa.pu) " +
+            ARTICLE_LINES + "ORDER BY p.id, l.idProjetLot, o.id, pa.id")
+    List<ArticleUsageDTO> findUsagesByArticle(@Param("articleId") Integer articleId);
+
+    // Par projet : id, nom, nombre de lignes, somme des quantites, somme des quantite * pu
+    @Query("SELECT p.id, p.nomProjet, COUNT(pa), SUM(pa.quantite), SUM(pa.quantite * pa.pu) " +
+            ARTICLE_LINES + "GROUP BY p.id, p.nomProjet")
+    List<Object[]> sumByProjetForArticle(@Param("articleId") Integer articleId);
 }
@@ -2,11 +2,17 @@ package com.ecopilot.project.repository;
 
 import com.ecopilot.project.entity.Projet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjetRepository extends JpaRepository<Projet, Long> {
     List<Projet> findByClientId(Long clientId);
+
+    @Query("SELECT DISTINCT p FROM Projet p LEFT JOIN FETCH p.client LEFT JOIN FETCH p.equipe WHERE p.id = :id")
+    Optional<Projet> findWithClientAndEquipeById(@Param("id") Long id);
 }
@@ -2,8 +2,11 @@ package com.ecopilot.project.repository;
 
 import com.ecopilot.project.entity.Structure;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,6 +15,11 @@ public interface StructureRepository extends JpaRepository<Structure, Long> {
     List<Structure> findByOuvrageId(Long ouvrageId);
     
     List<Structure> findByBlocId(Long blocId);
+
+    // Structures des ouvrages, directement ou par leurs blocs
+    @Query("SELECT s FROM Structure s LEFT JOIN s.bloc b " +
+            "WHERE s.ouvrage.id IN :ouvrageIds OR b.ouvrage.id IN :ouvrageIds ORDER BY s.idStructure")
+    List<Structure> findAllUnderOuvrages(@Param("ouvrageIds") Collection<Long> ouvrageIds);
     
     void deleteByOuvrageId(Long ouvrageId);
 }
@@ -0,0 +1,113 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.ApiResponse;
+import com.ecopilot.project.dto.CatalogArticleDTO;
+import com.ecopilot.project.dto.CatalogSnapshotPageDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lecture de la photographie du catalogue aupres d'article-service, hors requete utilisateur :
+ * jeton du compte de service Keycloak (client credentials), garde jusqu'a son expiration.
+ */
+@Service
+@Slf4j
+public class ArticleCatalogClient {
+
+    private static final ParameterizedTypeReference<ApiResponse<CatalogSnapshotPageDTO>> SNAPSHOT_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final String articleServiceUrl;
+    private final String tokenUrl;
+    private final String clientId;
+    private final String clientSecret;
+
+    private String accessToken;
+    private Instant accessTokenExpiry = Instant.MIN;
+
+    public ArticleCatalogClient(RestTemplateBuilder restTemplateBuilder,
+                                @Value("${article.service.url:http://article-service:8082}") String articleServiceUrl,
+                                @Value("${keycloak.auth-server-url:http://keycloak:8080}") String keycloakUrl,
+                                @Value("${keycloak.realm:ecopilot}") String realm,
+                                @Value("${keycloak.resource:ecopilot-backend}") String clientId,
+                                @Value("${keycloak.credentials.secret:}") String clientSecret) {
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(60))
+                .build();
+        this.articleServiceUrl = articleServiceUrl;
+        this.tokenUrl = keycloakUrl + "/realms/" + realm + "/protocol/openid-connect/token";
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+    }
+
+    public CatalogSnapshotPageDTO fetchPage(Long afterId, int size) {
+        String url = UriComponentsBuilder.fromUriString(articleServiceUrl + "/api/articles/snapshot")
+                .queryParam("after_id", afterId)
+                .queryParam("size", size)
+                .toUriString();
+        return get(url);
+    }
+
+    /**
+     * Articles encore presents parmi {@code ids} (au plus 1000 par appel).
+     */
+    public List<CatalogArticleDTO> fetchByIds(List<Long> ids) {
+        String url = UriComponentsBuilder.fromUriString(articleServiceUrl + "/api/articles/snapshot")
+                .queryParam("ids", StringUtils.collectionToCommaDelimitedString(ids))
+                .toUriString();
+        return get(url).getItems();
+    }
+
+    private CatalogSnapshotPageDTO get(String url) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(serviceToken());
+        ApiResponse<CatalogSnapshotPageDTO> response = restTemplate.exchange(
+                url, HttpMethod.GET, new HttpEntity<>(headers), SNAPSHOT_RESPONSE).getBody();
+        if (response == null || response.getData() == null) {
+            throw new IllegalStateException("Empty snapshot response from article-service");
+        }
+        return response.getData();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized String serviceToken() {
+        // Marge de 30 s : le jeton ne doit pas expirer entre l'envoi et la verification
+        if (accessToken != null && Instant.now().isBefore(accessTokenExpiry.minusSeconds(30))) {
+            return accessToken;
+        }
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "client_credentials");
+        formData.add("client_id", clientId);
+        formData.add("client_secret", clientSecret);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        Map<String, Object> response = restTemplate.postForObject(tokenUrl, new HttpEntity<>(formData, headers), Map.class);
+        if (response == null || !response.containsKey("access_token")) {
+            throw new IllegalStateException("Missing access_token in Keycloak response");
+        }
+        accessToken = (String) response.get("access_token");
+        accessTokenExpiry = Instant.now().plusSeconds(((Number) response.getOrDefault("expires_in", 60)).longValue());
+        log.debug("Service token obtained for article-service snapshot");
+        return accessToken;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.ArticleUsageDTO;
+import com.ecopilot.project.dto.CatalogArticleDTO;
+import com.ecopilot.project.dto.PriceImpactDTO;
+import com.ecopilot.project.repository.ProjetArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Projets touches par le prix d'un article du catalogue. Les lignes sont trouvees par l'index
+ * {@code projet_article.article} et agregees par projet en base : seules les lignes de l'article
+ * sont lues, quel que soit le nombre de projets.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticlePriceImpactService {
+
+    private final ProjetArticleRepository projetArticleRepository;
+    private final CatalogReadModelService catalogReadModelService;
+
+    @Transactional(readOnly = true)
+    public List<ArticleUsageDTO> getUsages(Long articleId) {
+        return projetArticleRepository.findUsagesByArticle(toArticleRef(articleId));
+    }
+
+    /**
+     * Ecart par projet si les lignes de l'article passaient a {@code newPu} ; sans {@code newPu},
+     * le prix actuel du catalogue (copie locale) est pris.
+     */
+    @Transactional(readOnly = true)
+    public PriceImpactDTO getPriceImpact(Long articleId, Double newPu) {
+        Double price = newPu;
+        if (price == null) {
+            CatalogArticleDTO catalogArticle = catalogReadModelService.findByIds(Set.of(articleId)).get(articleId);
+            if (catalogArticle == null || catalogArticle.getPu() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "No catalog price known for article " + articleId + ", new_pu is required");
+            }
+            price = catalogArticle.getPu();
+        }
+
+        List<PriceImpactDTO.ProjetImpactDTO> projets = new ArrayList<>();
+        long lineCount = 0;
+        double totalDelta = 0;
+        for (Object[] row : projetArticleRepository.sumByProjetForArticle(toArticleRef(articleId))) {
+            long lines = ((Number) row[2]).longValue();
+            long quantite = row[3] != null ? ((Number) row[3]).longValue() : 0;
+            double currentTotal = row[4] != null ? ((Number) row[4]).doubleValue() : 0;
+            // Somme des quantite * (prix - pu) = prix * somme des quantites - somme des quantite * pu
+            double newTotal = price * quantite;
+            double delta = newTotal - currentTotal;
+            projets.add(PriceImpactDTO.ProjetImpactDTO.builder()
+                    .projetId(((Number) row[0]).longValue())
+                    .nomProjet((String) row[1])
+                    .lineCount(lines)
+                    .quantite(quantite)
+                    .currentTotal(round(currentTotal))
+                    .newTotal(round(newTotal))
+                    .delta(round(delta))
+                    .build());
+            lineCount += lines;
+            totalDelta += delta;
+        }
+        projets.sort(Comparator.comparingDouble((PriceImpactDTO.ProjetImpactDTO p) -> Math.abs(p.getDelta())).reversed());
+
+        return PriceImpactDTO.builder()
+                .articleId(articleId)
+                .newPu(price)
+                .projetCount(projets.size())
+                .lineCount(lineCount)
+                .totalDelta(round(totalDelta))
+                .projets(projets)
+                .build();
+    }
+
+    // ProjetArticle.article est un entier
+    private static Integer toArticleRef(Long articleId) {
+        if (articleId == null || articleId > Integer.MAX_VALUE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid article id: " + articleId);
+        }
+        return articleId.intValue();
+    }
+
+    private static double round(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+}
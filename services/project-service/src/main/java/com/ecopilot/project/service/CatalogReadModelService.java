@@ -0,0 +1,319 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.CatalogArticleDTO;
+import com.ecopilot.project.dto.CatalogSnapshotPageDTO;
+import com.ecopilot.project.entity.CatalogArticle;
+import com.ecopilot.project.entity.CatalogRefresh;
+import com.ecopilot.project.entity.CatalogSyncState;
+import com.ecopilot.project.kafka.event.ArticleEvent;
+import com.ecopilot.project.repository.CatalogArticleRepository;
+import com.ecopilot.project.repository.CatalogRefreshRepository;
+import com.ecopilot.project.repository.CatalogSyncStateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Modele de lecture local du catalogue ({@code catalog_article}).
+ *
+ * <p>Amorcage : la photographie d'article-service est copiee page par page, en reprenant au dernier
+ * id copie apres une interruption. Flux : {@code article.events} est lu depuis le debut de sa
+ * retention par un groupe dedie.
+ *
+ * <p>Les evenements de lot ne sont pas sur la partition de leurs articles : Kafka ne les ordonne pas
+ * avec les evenements unitaires. Le contenu d'un evenement n'est donc jamais applique : chaque
+ * evenement demande la relecture de ses articles ({@code catalog_refresh}), faite hors du thread du
+ * consommateur. Une relecture n'est appliquee que si sa demande n'a pas ete renouvelee entre-temps ;
+ * sinon une relecture plus recente suivra. La photographie ne fait que combler les articles absents
+ * (supprimes compris). Chaque article finit donc a l'etat lu apres son dernier evenement.
+ */
+@Service
+@Slf4j
+public class CatalogReadModelService {
+
+    static final int IDS_PER_CALL = 1000;
+    // Appels a article-service par passage de relecture
+    static final int MAX_CALLS_PER_PASS = 20;
+    private static final long MIN_BACKOFF_MS = 1000;
+
+    private final CatalogArticleRepository catalogArticleRepository;
+    private final CatalogSyncStateRepository syncStateRepository;
+    private final CatalogRefreshRepository refreshRepository;
+    private final ArticleCatalogClient articleCatalogClient;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean bootstrapEnabled;
+    private final int pageSize;
+    private final boolean refreshEnabled;
+    private final long maxBackoffMs;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile boolean bootstrapped;
+    private int refreshFailures;
+    private Instant nextRefreshAttempt = Instant.MIN;
+
+    public CatalogReadModelService(CatalogArticleRepository catalogArticleRepository,
+                                   CatalogSyncStateRepository syncStateRepository,
+                                   CatalogRefreshRepository refreshRepository,
+                                   ArticleCatalogClient articleCatalogClient,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${catalog.bootstrap.enabled:true}") boolean bootstrapEnabled,
+                                   @Value("${catalog.bootstrap.page-size:5000}") int pageSize,
+                                   @Value("${catalog.refresh.enabled:true}") boolean refreshEnabled,
+                                   @Value("${catalog.refresh.max-backoff-ms:300000}") long maxBackoffMs) {
+        this.catalogArticleRepository = catalogArticleRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.refreshRepository = refreshRepository;
+        this.articleCatalogClient = articleCatalogClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bootstrapEnabled = bootstrapEnabled;
+        this.pageSize = pageSize;
+        this.refreshEnabled = refreshEnabled;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    /**
+     * Enregistre la relecture des articles d'un evenement du catalogue, sans appel a
+     * article-service : le thread du consommateur ne fait qu'une ecriture locale.
+     */
+    public void apply(ArticleEvent event) {
+        List<Long> ids = switch (event.getEventType()) {
+            case "ARTICLE_CREATED", "ARTICLE_UPDATED", "ARTICLE_DELETED", "ARTICLE_VALIDATED" ->
+                    event.getArticleId() != null ? List.of(event.getArticleId()) : List.of();
+            case "ARTICLES_IMPORTED", "ARTICLES_APPROVED", "ARTICLES_DELETED", "ARTICLES_RESTORED", "ARTICLES_REPRICED" ->
+                    event.getArticleIds() != null ? event.getArticleIds() : List.of();
+            // HIERARCHY_CHANGED : l'arborescence n'est pas copiee
+            default -> List.of();
+        };
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        for (int from = 0; from < distinct.size(); from += IDS_PER_CALL) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + IDS_PER_CALL, distinct.size()));
+            transactionTemplate.executeWithoutResult(status -> requestRefresh(chunk));
+        }
+    }
+
+    /**
+     * Relit les articles demandes, les plus anciennes demandes d'abord. Apres un echec
+     * (article-service ou Keycloak indisponible), les passages suivants sont espaces.
+     */
+    @Scheduled(initialDelayString = "${catalog.refresh.initial-delay-ms:5000}",
+            fixedDelayString = "${catalog.refresh.interval-ms:1000}")
+    public void refreshPending() {
+        if (!refreshEnabled || Instant.now().isBefore(nextRefreshAttempt)) {
+            return;
+        }
+        try {
+            for (int call = 0; call < MAX_CALLS_PER_PASS; call++) {
+                List<CatalogRefresh> requests = refreshRepository.findAllByOrderByRequestedAtAsc(PageRequest.of(0, IDS_PER_CALL));
+                if (requests.isEmpty()) {
+                    break;
+                }
+                refresh(requests);
+                if (requests.size() < IDS_PER_CALL) {
+                    break;
+                }
+            }
+            refreshFailures = 0;
+        } catch (RuntimeException e) {
+            refreshFailures++;
+            long backoffMs = Math.min(maxBackoffMs, MIN_BACKOFF_MS << Math.min(refreshFailures - 1, 20));
+            nextRefreshAttempt = Instant.now().plusMillis(backoffMs);
+            log.warn("Catalog refresh failed ({} in a row), next attempt in {} ms: {}",
+                    refreshFailures, backoffMs, e.getMessage());
+        }
+    }
+
+    /**
+     * Articles connus localement parmi {@code ids} (ProjetArticle.article), sans appel a article-service.
+     */
+    public Map<Long, CatalogArticleDTO> findByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        return catalogArticleRepository.findByIdInAndDeletedFalse(ids).stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toMap(CatalogArticleDTO::getId, Function.identity()));
+    }
+
+    /**
+     * Amorcage (ou reprise) tant que la photographie n'a pas ete copiee jusqu'au bout ; un echec
+     * (article-service ou Keycloak indisponible) est retente au passage suivant.
+     */
+    @Scheduled(initialDelayString = "${catalog.bootstrap.initial-delay-ms:15000}",
+            fixedDelayString = "${catalog.bootstrap.retry-delay-ms:60000}")
+    public void bootstrapIfNeeded() {
+        if (!bootstrapEnabled || bootstrapped) {
+            return;
+        }
+        CatalogSyncState state = syncStateRepository.findById(CatalogSyncState.SINGLETON_ID)
+                .orElseGet(() -> CatalogSyncState.builder().id(CatalogSyncState.SINGLETON_ID).snapshotAfterId(0L).build());
+        if (state.getBootstrappedAt() != null) {
+            bootstrapped = true;
+            return;
+        }
+        log.info("Catalog read model bootstrap from article id {}", state.getSnapshotAfterId());
+        try {
+            long copied = 0;
+            CatalogSnapshotPageDTO page;
+            do {
+                page = articleCatalogClient.fetchPage(state.getSnapshotAfterId(), pageSize);
+                List<CatalogArticleDTO> items = page.getItems();
+                if (!items.isEmpty()) {
+                    state.setSnapshotAfterId(items.get(items.size() - 1).getId());
+                }
+                if (page.getNextAfterId() == null) {
+                    state.setBootstrappedAt(LocalDateTime.now());
+                }
+                CatalogSyncState progress = state;
+                copied += transactionTemplate.execute(status -> {
+                    int inserted = insertMissing(items);
+                    syncStateRepository.save(progress);
+                    return inserted;
+                });
+            } while (page.getNextAfterId() != null);
+            bootstrapped = true;
+            log.info("Catalog read model bootstrapped: {} articles copied", copied);
+        } catch (RuntimeException e) {
+            log.warn("Catalog read model bootstrap interrupted at article id {}: {}",
+                    state.getSnapshotAfterId(), e.getMessage());
+        }
+    }
+
+    private void requestRefresh(List<Long> ids) {
+        Map<Long, CatalogRefresh> pending = refreshRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CatalogRefresh::getArticleId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : ids) {
+            CatalogRefresh request = pending.get(id);
+            if (request == null) {
+                entityManager.persist(CatalogRefresh.builder().articleId(id).version(1).requestedAt(now).build());
+            } else {
+                // Date de la premiere demande conservee : pas de famine sous un flux continu
+                request.setVersion(request.getVersion() + 1);
+            }
+        }
+    }
+
+    private void refresh(List<CatalogRefresh> requests) {
+        List<Long> ids = requests.stream().map(CatalogRefresh::getArticleId).toList();
+        Map<Long, CatalogArticleDTO> rows = new HashMap<>();
+        articleCatalogClient.fetchByIds(ids).forEach(row -> rows.put(row.getId(), row));
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> missing = new ArrayList<>();
+            for (CatalogRefresh request : requests) {
+                // Demande renouvelee (ou servie par une autre instance) : cette lecture est peut-etre perimee
+                if (refreshRepository.deleteIfUnchanged(request.getArticleId(), request.getVersion()) == 0) {
+                    continue;
+                }
+                CatalogArticleDTO row = rows.get(request.getArticleId());
+                if (row != null) {
+                    upsert(row.getId(), row.getNomArticle(), row.getUnite(), row.getPu());
+                } else {
+                    // Absent d'article-service : supprime
+                    missing.add(request.getArticleId());
+                }
+            }
+            markDeleted(missing);
+        });
+    }
+
+    private void upsert(Long id, String nomArticle, String unite, Double pu) {
+        if (id == null) {
+            return;
+        }
+        CatalogArticle article = catalogArticleRepository.findById(id).orElse(null);
+        if (article == null) {
+            entityManager.persist(CatalogArticle.builder()
+                    .id(id)
+                    .nomArticle(nomArticle)
+                    .unite(unite)
+                    .pu(pu)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            return;
+        }
+        article.setNomArticle(nomArticle);
+        article.setUnite(unite);
+        article.setPu(pu);
+        article.setDeleted(false);
+        article.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private void markDeleted(Collection<Long> ids) {
+        if (ids == null) {
+            return;
+        }
+        Map<Long, CatalogArticle> existing = catalogArticleRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CatalogArticle::getId, Function.identity()));
+        for (Long id : ids) {
+            CatalogArticle article = existing.get(id);
+            if (article == null) {
+                // Marque supprime : la photographie ne le recreera pas
+                entityManager.persist(CatalogArticle.builder()
+                        .id(id)
+                        .deleted(true)
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+            } else if (!article.isDeleted()) {
+                article.setDeleted(true);
+                article.setUpdatedAt(LocalDateTime.now());
+            }
+        }
+    }
+
+    private int insertMissing(List<CatalogArticleDTO> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        Set<Long> known = catalogArticleRepository.findAllById(items.stream().map(CatalogArticleDTO::getId).toList())
+                .stream()
+                .map(CatalogArticle::getId)
+                .collect(Collectors.toSet());
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = 0;
+        for (CatalogArticleDTO item : items) {
+            if (known.contains(item.getId())) {
+                continue;
+            }
+            entityManager.persist(CatalogArticle.builder()
+                    .id(item.getId())
+                    .nomArticle(item.getNomArticle())
+                    .unite(item.getUnite())
+                    .pu(item.getPu())
+                    .updatedAt(now)
+                    .build());
+            inserted++;
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return inserted;
+    }
+
+    private CatalogArticleDTO mapToDTO(CatalogArticle article) {
+        return CatalogArticleDTO.builder()
+                .id(article.getId())
+                .nomArticle(article.getNomArticle())
+                .unite(article.getUnite())
+                .pu(article.getPu())
+                .build();
+    }
+}
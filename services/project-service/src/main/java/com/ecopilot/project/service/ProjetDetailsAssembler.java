@@ -0,0 +1,231 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.BlocDTO;
+import com.ecopilot.project.dto.OuvrageDTO;
+import com.ecopilot.project.dto.ProjetArticleDTO;
+import com.ecopilot.project.dto.ProjetDTO;
+import com.ecopilot.project.dto.ProjetDetailsDTO;
+import com.ecopilot.project.dto.ProjetDetailsNormalizedDTO;
+import com.ecopilot.project.dto.ProjetLotDTO;
+import com.ecopilot.project.dto.ProjetPricingDTO;
+import com.ecopilot.project.dto.StructureDTO;
+import com.ecopilot.project.entity.Bloc;
+import com.ecopilot.project.entity.Ouvrage;
+import com.ecopilot.project.entity.ProjetArticle;
+import com.ecopilot.project.entity.ProjetLot;
+import com.ecopilot.project.entity.Structure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Assemblage en memoire des details d'un projet deja charges niveau par niveau, sous forme
+ * imbriquee ({@link ProjetDetailsDTO}) ou en tables plates ({@link ProjetDetailsNormalizedDTO}).
+ */
+final class ProjetDetailsAssembler {
+
+    private final List<ProjetLot> lots;
+    private final List<Ouvrage> ouvrages;
+    private final List<Bloc> blocs;
+    private final List<Structure> structures;
+    private final List<ProjetArticle> articles;
+
+    // Niveaux indexes par id du parent
+    private final Map<Long, List<Ouvrage>> ouvragesByLot;
+    private final Map<Long, List<Bloc>> blocsByOuvrage;
+    private final Map<Long, List<Structure>> structuresByOuvrage;
+    private final Map<Long, List<Structure>> structuresByBloc;
+    private final Map<Long, List<ProjetArticle>> articlesByStructure;
+
+    ProjetDetailsAssembler(List<ProjetLot> lots, List<Ouvrage> ouvrages, List<Bloc> blocs,
+                           List<Structure> structures, List<ProjetArticle> articles) {
+        this.lots = lots;
+        this.ouvrages = ouvrages;
+        this.blocs = blocs;
+        this.structures = structures;
+        this.articles = articles;
+        // Les parents sont deja charges : getId() sur leurs references ne declenche aucune requete
+        this.ouvragesByLot = groupByParent(ouvrages, o -> o.getProjetLot().getIdProjetLot());
+        this.blocsByOuvrage = groupByParent(blocs, b -> b.getOuvrage().getId());
+        this.structuresByOuvrage = groupByParent(structures, s -> s.getOuvrage() != null ? s.getOuvrage().getId() : null);
+        this.structuresByBloc = groupByParent(structures, s -> s.getBloc() != null ? s.getBloc().getId() : null);
+        this.articlesByStructure = groupByParent(articles, a -> a.getStructure().getIdStructure());
+    }
+
+    /**
+     * Forme historique : les lignes d'un bloc sont repetees sous l'ouvrage et sous le lot.
+     */
+    ProjetDetailsDTO nested(ProjetDTO projet) {
+        projet.setLots(lots.stream().map(this::mapLotWithHierarchy).collect(Collectors.toList()));
+        return ProjetDetailsDTO.builder()
+                .project(projet)
+                .pricing(calculatePricing())
+                .build();
+    }
+
+    /**
+     * Chaque entite une seule fois, dans l'ordre de chargement.
+     */
+    ProjetDetailsNormalizedDTO normalized(ProjetDTO projet) {
+        return ProjetDetailsNormalizedDTO.builder()
+                .project(projet)
+                .pricing(calculatePricing())
+                .lots(indexById(lots, ProjetLot::getIdProjetLot, ProjetDetailsAssembler::mapLotToDTO))
+                .ouvrages(indexById(ouvrages, Ouvrage::getId, ProjetDetailsAssembler::mapOuvrageToDTO))
+                .blocs(indexById(blocs, Bloc::getId, ProjetDetailsAssembler::mapBlocToDTO))
+                .structures(indexById(structures, Structure::getIdStructure, ProjetDetailsAssembler::mapStructureToDTO))
+                .articles(indexById(articles, ProjetArticle::getId, ProjetDetailsAssembler::mapProjetArticleToDTO))
+                .build();
+    }
+
+    private static <T, D> Map<Long, D> indexById(List<T> entities, Function<T, Long> id, Function<T, D> mapper) {
+        Map<Long, D> byId = new LinkedHashMap<>();
+        for (T entity : entities) {
+            byId.put(id.apply(entity), mapper.apply(entity));
+        }
+        return byId;
+    }
+
+    private static <T> Map<Long, List<T>> groupByParent(List<T> children, Function<T, Long> parentId) {
+        Map<Long, List<T>> byParent = new HashMap<>();
+        for (T child : children) {
+            Long id = parentId.apply(child);
+            if (id != null) {
+                byParent.computeIfAbsent(id, key -> new ArrayList<>()).add(child);
+            }
+        }
+        return byParent;
+    }
+
+    private ProjetPricingDTO calculatePricing() {
+        double totalLotTTC = lots.stream()
+                .mapToDouble(l -> l.getPrixTotal() != null ? l.getPrixTotal() : 0.0)
+                .sum();
+        double totalVenteLot = lots.stream()
+                .mapToDouble(l -> l.getPrixVente() != null ? l.getPrixVente() : 0.0)
+                .sum();
+
+        return ProjetPricingDTO.builder()
+                .totalLotTTC(totalLotTTC)
+                .totalVenteLot(totalVenteLot)
+                .totalProjetTTC(totalLotTTC)
+                .totalVenteProjet(totalVenteLot)
+                .build();
+    }
+
+    private ProjetLotDTO mapLotWithHierarchy(ProjetLot lot) {
+        ProjetLotDTO dto = mapLotToDTO(lot);
+
+        List<Ouvrage> lotOuvrages = ouvragesByLot.getOrDefault(lot.getIdProjetLot(), List.of());
+        dto.setOuvrages(lotOuvrages.stream()
+                .map(this::mapOuvrageWithHierarchy)
+                .collect(Collectors.toList()));
+        dto.setBlocs(lotOuvrages.stream()
+                .flatMap(ouv -> blocsByOuvrage.getOrDefault(ouv.getId(), List.of()).stream())
+                .map(this::mapBlocWithHierarchy)
+                .collect(Collectors.toList()));
+
+        return dto;
+    }
+
+    private OuvrageDTO mapOuvrageWithHierarchy(Ouvrage ouvrage) {
+        OuvrageDTO dto = mapOuvrageToDTO(ouvrage);
+        dto.setStructures(structuresByOuvrage.getOrDefault(ouvrage.getId(), List.of()).stream()
+                .map(this::mapStructureWithArticles)
+                .collect(Collectors.toList()));
+        dto.setBlocs(blocsByOuvrage.getOrDefault(ouvrage.getId(), List.of()).stream()
+                .map(this::mapBlocWithHierarchy)
+                .collect(Collectors.toList()));
+        return dto;
+    }
+
+    private BlocDTO mapBlocWithHierarchy(Bloc bloc) {
+        List<Structure> blocStructures = structuresByBloc.getOrDefault(bloc.getId(), List.of());
+
+        BlocDTO dto = mapBlocToDTO(bloc);
+        dto.setStructures(blocStructures.stream()
+                .map(this::mapStructureWithArticles)
+                .collect(Collectors.toList()));
+        dto.setArticles(blocStructures.stream()
+                .flatMap(s -> articlesByStructure.getOrDefault(s.getIdStructure(), List.of()).stream())
+                .map(ProjetDetailsAssembler::mapProjetArticleToDTO)
+                .collect(Collectors.toList()));
+        return dto;
+    }
+
+    private StructureDTO mapStructureWithArticles(Structure structure) {
+        StructureDTO dto = mapStructureToDTO(structure);
+        dto.setArticles(articlesByStructure.getOrDefault(structure.getIdStructure(), List.of()).stream()
+                .map(ProjetDetailsAssembler::mapProjetArticleToDTO)
+                .collect(Collectors.toList()));
+        return dto;
+    }
+
+    private static ProjetLotDTO mapLotToDTO(ProjetLot lot) {
+        return ProjetLotDTO.builder()
+                .idProjetLot(lot.getIdProjetLot())
+                .projetId(lot.getProjet() != null ? lot.getProjet().getId() : null)
+                .idLot(lot.getIdLot())
+                .designationLot(lot.getDesignationLot())
+                .prixTotal(lot.getPrixTotal())
+                .prixVente(lot.getPrixVente())
+                .build();
+    }
+
+    private static OuvrageDTO mapOuvrageToDTO(Ouvrage ouvrage) {
+        return OuvrageDTO.builder()
+                .id(ouvrage.getId())
+                .nomOuvrage(ouvrage.getNomOuvrage())
+                .prixTotal(ouvrage.getPrixTotal())
+                .designation(ouvrage.getDesignation())
+                .projetLotId(ouvrage.getProjetLot() != null ? ouvrage.getProjetLot().getIdProjetLot() : null)
+                .build();
+    }
+
+    private static BlocDTO mapBlocToDTO(Bloc bloc) {
+        return BlocDTO.builder()
+                .id(bloc.getId())
+                .nomBloc(bloc.getNomBloc())
+                .unite(bloc.getUnite())
+                .quantite(bloc.getQuantite())
+                .pu(bloc.getPu())
+                .pt(bloc.getPt())
+                .designation(bloc.getDesignation())
+                .ouvrageId(bloc.getOuvrage() != null ? bloc.getOuvrage().getId() : null)
+                .build();
+    }
+
+    private static StructureDTO mapStructureToDTO(Structure structure) {
+        return StructureDTO.builder()
+                .idStructure(structure.getIdStructure())
+                .ouvrageId(structure.getOuvrage() != null ? structure.getOuvrage().getId() : null)
+                .blocId(structure.getBloc() != null ? structure.getBloc().getId() : null)
+                .action(structure.getAction())
+                .build();
+    }
+
+    private static ProjetArticleDTO mapProjetArticleToDTO(ProjetArticle article) {
+        return ProjetArticleDTO.builder()
+                .id(article.getId())
+                .article(article.getArticle())
+                .quantite(article.getQuantite())
+                .pu(article.getPu())
+                .prixTotalHt(article.getPrixTotalHt())
+                .tva(article.getTva())
+                .totalTtc(article.getTotalTtc())
+                .localisation(article.getLocalisation())
+                .description(article.getDescription())
+                .nouvPrix(article.getNouvPrix())
+                .designationArticle(article.getDesignationArticle())
+                .articleImport(article.getArticleImport())
+                .unite(article.getUnite())
+                .uniteImport(article.getUniteImport())
+                .structureId(article.getStructure() != null ? article.getStructure().getIdStructure() : null)
+                .build();
+    }
+}
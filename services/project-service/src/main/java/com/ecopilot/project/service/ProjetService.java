@@ -2,10 +2,6 @@ package com.ecopilot.project.service;
 
 import com.ecopilot.project.dto.ClientDTO;
 import com.ecopilot.project.dto.ProjetDTO;
-import com.ecopilot.project.dto.OuvrageDTO;
-import com.ecopilot.project.dto.BlocDTO;
-import com.ecopilot.project.dto.StructureDTO;
-import com.ecopilot.project.dto.ProjetArticleDTO;
 import com.ecopilot.project.entity.Projet;
 import com.ecopilot.project.kafka.producer.ProjectEventProducer;
 import com.ecopilot.project.repository.ClientRepository;
@@ -17,13 +13,14 @@ import org.springframework.web.server.ResponseStatusException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import com.ecopilot.project.dto.ProjetDetailsDTO;
-import com.ecopilot.project.dto.ProjetPricingDTO;
-import com.ecopilot.project.dto.ProjetLotDTO;
+import com.ecopilot.project.dto.ProjetDetailsNormalizedDTO;
 import com.ecopilot.project.dto.ProjetImportDTO;
 import com.ecopilot.project.entity.*;
 import com.ecopilot.project.repository.*;
@@ -33,6 +30,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ProjetService {
 
+    private static final int IN_BATCH_SIZE = 10_000;
+
     private final ProjetRepository projetRepository;
     private final ClientRepository clientRepository;
     private final ProjetLotRepository projetLotRepository;
@@ -195,146 +194,60 @@ public class ProjetService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Projet not found"));
     }
 
+    /**
+     * Arborescence complete du projet : une requete par niveau (projet, lots, ouvrages, blocs,
+     * structures, lignes) puis assemblage en memoire. Le nombre de requetes ne depend pas de la
+     * taille du DPGF.
+     */
+    @Transactional(readOnly = true)
     public ProjetDetailsDTO getProjetFullDetails(Long id) {
-        Projet projet = projetRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Projet not found"));
-        
-        List<ProjetLot> lots = projetLotRepository.findByProjetId(id);
-        
-        ProjetDTO projetDTO = mapToDTO(projet);
-        projetDTO.setLots(lots.stream().map(this::mapLotWithHierarchy).collect(Collectors.toList()));
-        
-        return ProjetDetailsDTO.builder()
-                .project(projetDTO)
-                .pricing(calculatePricing(projet, lots))
-                .build();
-    }
-
-    private ProjetPricingDTO calculatePricing(Projet project, List<ProjetLot> lots) {
-        double totalLotTTC = lots.stream()
-                .mapToDouble(l -> l.getPrixTotal() != null ? l.getPrixTotal() : 0.0)
-                .sum();
-        double totalVenteLot = lots.stream()
-                .mapToDouble(l -> l.getPrixVente() != null ? l.getPrixVente() : 0.0)
-                .sum();
-        
-        return ProjetPricingDTO.builder()
-                .totalLotTTC(totalLotTTC)
-                .totalVenteLot(totalVenteLot)
-                .totalProjetTTC(totalLotTTC) 
-                .totalVenteProjet(totalVenteLot)
-                .build();
-    }
-
-    private ProjetLotDTO mapLotToDTO(ProjetLot lot) {
-        return ProjetLotDTO.builder()
-                .idProjetLot(lot.getIdProjetLot())
-                .projetId(lot.getProjet() != null ? lot.getProjet().getId() : null)
-                .idLot(lot.getIdLot())
-                .designationLot(lot.getDesignationLot())
-                .prixTotal(lot.getPrixTotal())
-                .prixVente(lot.getPrixVente())
-                .build();
-    }
-
-    private ProjetLotDTO mapLotWithHierarchy(ProjetLot lot) {
-        ProjetLotDTO dto = mapLotToDTO(lot);
-
-        java.util.List<Ouvrage> ouvrages = ouvrageRepository.findByProjetLotIdProjetLot(lot.getIdProjetLot());
-        java.util.List<OuvrageDTO> ouvrageDTOs = ouvrages.stream()
-                .map(this::mapOuvrageWithHierarchy)
-                .collect(Collectors.toList());
-        dto.setOuvrages(ouvrageDTOs);
-
-        java.util.List<BlocDTO> blocDTOs = ouvrages.stream()
-                .flatMap(ouv -> blocRepository.findByOuvrageId(ouv.getId()).stream())
-                .map(this::mapBlocWithHierarchy)
-                .collect(Collectors.toList());
-        dto.setBlocs(blocDTOs);
-
-        return dto;
+        Projet projet = findProjetWithClientAndEquipe(id);
+        return loadDetails(id).nested(mapToDTO(projet));
     }
 
-    private OuvrageDTO mapOuvrageWithHierarchy(Ouvrage ouvrage) {
-        java.util.List<StructureDTO> structureDTOs = structureRepository.findByOuvrageId(ouvrage.getId()).stream()
-                .map(this::mapStructureWithArticles)
-                .collect(Collectors.toList());
-
-        java.util.List<BlocDTO> blocDTOs = blocRepository.findByOuvrageId(ouvrage.getId()).stream()
-                .map(this::mapBlocWithHierarchy)
-                .collect(Collectors.toList());
-
-        return OuvrageDTO.builder()
-                .id(ouvrage.getId())
-                .nomOuvrage(ouvrage.getNomOuvrage())
-                .prixTotal(ouvrage.getPrixTotal())
-                .designation(ouvrage.getDesignation())
-                .projetLotId(ouvrage.getProjetLot() != null ? ouvrage.getProjetLot().getIdProjetLot() : null)
-                .structures(structureDTOs)
-                .blocs(blocDTOs)
-                .build();
+    /**
+     * Memes donnees que {@link #getProjetFullDetails(Long)}, chaque entite n'etant serialisee
+     * qu'une fois (tables indexees par id).
+     */
+    @Transactional(readOnly = true)
+    public ProjetDetailsNormalizedDTO getProjetNormalizedDetails(Long id) {
+        Projet projet = findProjetWithClientAndEquipe(id);
+        return loadDetails(id).normalized(mapToDTO(projet));
     }
 
-    private BlocDTO mapBlocWithHierarchy(Bloc bloc) {
-        java.util.List<Structure> structuresByBloc = structureRepository.findByBlocId(bloc.getId());
-
-        java.util.List<StructureDTO> structureDTOs = structuresByBloc.stream()
-                .map(this::mapStructureWithArticles)
-                .collect(Collectors.toList());
-
-        java.util.List<ProjetArticleDTO> articleDTOs = structuresByBloc.stream()
-                .flatMap(s -> s.getArticles().stream())
-                .map(this::mapProjetArticleToDTO)
-                .collect(Collectors.toList());
-
-        return BlocDTO.builder()
-                .id(bloc.getId())
-                .nomBloc(bloc.getNomBloc())
-                .unite(bloc.getUnite())
-                .quantite(bloc.getQuantite())
-                .pu(bloc.getPu())
-                .pt(bloc.getPt())
-                .designation(bloc.getDesignation())
-                .ouvrageId(bloc.getOuvrage() != null ? bloc.getOuvrage().getId() : null)
-                .structures(structureDTOs)
-                .articles(articleDTOs)
-                .build();
+    private Projet findProjetWithClientAndEquipe(Long id) {
+        return projetRepository.findWithClientAndEquipeById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Projet not found"));
     }
 
-    private StructureDTO mapStructureWithArticles(Structure structure) {
-        java.util.List<ProjetArticleDTO> articleDTOs = structure.getArticles().stream()
-                .map(this::mapProjetArticleToDTO)
-                .collect(Collectors.toList());
-
-        return StructureDTO.builder()
-                .idStructure(structure.getIdStructure())
-                .ouvrageId(structure.getOuvrage() != null ? structure.getOuvrage().getId() : null)
-                .blocId(structure.getBloc() != null ? structure.getBloc().getId() : null)
-                .action(structure.getAction())
-                .articles(articleDTOs)
-                .build();
+    private ProjetDetailsAssembler loadDetails(Long projetId) {
+        List<ProjetLot> lots = projetLotRepository.findByProjetId(projetId);
+        List<Ouvrage> ouvrages = inBatches(lots.stream().map(ProjetLot::getIdProjetLot).toList(),
+                ouvrageRepository::findByProjetLotIdProjetLotInOrderById);
+        List<Long> ouvrageIds = ouvrages.stream().map(Ouvrage::getId).toList();
+        List<Bloc> blocs = inBatches(ouvrageIds, blocRepository::findByOuvrageIdInOrderById);
+        List<Structure> structures = inBatches(ouvrageIds, structureRepository::findAllUnderOuvrages);
+        List<ProjetArticle> articles = inBatches(structures.stream().map(Structure::getIdStructure).toList(),
+                projetArticleRepository::findByStructureIdStructureInOrderById);
+        return new ProjetDetailsAssembler(lots, ouvrages, blocs, structures, articles);
     }
 
-    private ProjetArticleDTO mapProjetArticleToDTO(ProjetArticle article) {
-        return ProjetArticleDTO.builder()
-                .id(article.getId())
-                .article(article.getArticle())
-                .quantite(article.getQuantite())
-                .pu(article.getPu())
-                .prixTotalHt(article.getPrixTotalHt())
-                .tva(article.getTva())
-                .totalTtc(article.getTotalTtc())
-                .localisation(article.getLocalisation())
-                .description(article.getDescription())
-                .nouvPrix(article.getNouvPrix())
-                .designationArticle(article.getDesignationArticle())
-                .articleImport(article.getArticleImport())
-                .unite(article.getUnite())
-                .uniteImport(article.getUniteImport())
-                .structureId(article.getStructure() != null ? article.getStructure().getIdStructure() : null)
-                .build();
+    // Listes IN bornees : le pilote PostgreSQL refuse plus de 32767 parametres
+    private static <T> List<T> inBatches(List<Long> ids, Function<List<Long>, List<T>> query) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() <= IN_BATCH_SIZE) {
+            return query.apply(ids);
+        }
+        List<T> result = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+            result.addAll(query.apply(ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size()))));
+        }
+        return result;
     }
 
+    @Transactional
     public ProjetDTO createProjet(ProjetDTO dto) {
         Projet projet = mapToEntity(dto);
 
@@ -0,0 +1,63 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.CatalogArticleDTO;
+import com.ecopilot.project.dto.PriceImpactDTO;
+import com.ecopilot.project.repository.ProjetArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticlePriceImpactService Tests")
+class ArticlePriceImpactServiceTest {
+
+    @Mock
+    private ProjetArticleRepository projetArticleRepository;
+
+    @Mock
+    private CatalogReadModelService catalogReadModelService;
+
+    @InjectMocks
+    private ArticlePriceImpactService service;
+
+    @Test
+    @DisplayName("Should compute the delta per project from the aggregated lines")
+    void shouldComputeDeltaPerProject() {
+        when(projetArticleRepository.sumByProjetForArticle(7)).thenReturn(List.of(
+                new Object[]{1L, "Ecole", 2L, 12L, 62.0},
+                new Object[]{2L, "Gymnase", 1L, 100L, 500.0}));
+
+        PriceImpactDTO impact = service.getPriceImpact(7L, 5.5);
+
+        assertThat(impact.getProjetCount()).isEqualTo(2);
+        assertThat(impact.getLineCount()).isEqualTo(3L);
+        assertThat(impact.getTotalDelta()).isEqualTo(54.0);
+        assertThat(impact.getProjets()).extracting(PriceImpactDTO.ProjetImpactDTO::getProjetId).containsExactly(2L, 1L);
+        assertThat(impact.getProjets().get(1).getNewTotal()).isEqualTo(66.0);
+        assertThat(impact.getProjets().get(1).getDelta()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("Should default to the local catalog price and reject unknown prices")
+    void shouldUseCatalogPriceByDefault() {
+        when(catalogReadModelService.findByIds(Set.of(7L)))
+                .thenReturn(Map.of(7L, CatalogArticleDTO.builder().id(7L).pu(4.0).build()));
+        when(projetArticleRepository.sumByProjetForArticle(7)).thenReturn(List.<Object[]>of(new Object[]{1L, "Ecole", 1L, 10L, 50.0}));
+
+        assertThat(service.getPriceImpact(7L, null).getTotalDelta()).isEqualTo(-10.0);
+        assertThatThrownBy(() -> service.getPriceImpact(8L, null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
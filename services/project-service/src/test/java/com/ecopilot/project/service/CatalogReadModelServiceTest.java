@@ -0,0 +1,133 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.CatalogArticleDTO;
+import com.ecopilot.project.dto.CatalogSnapshotPageDTO;
+import com.ecopilot.project.entity.CatalogArticle;
+import com.ecopilot.project.entity.CatalogRefresh;
+import com.ecopilot.project.entity.CatalogSyncState;
+import com.ecopilot.project.kafka.event.ArticleEvent;
+import com.ecopilot.project.repository.CatalogArticleRepository;
+import com.ecopilot.project.repository.CatalogRefreshRepository;
+import com.ecopilot.project.repository.CatalogSyncStateRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogReadModelService Tests")
+class CatalogReadModelServiceTest {
+
+    @Mock
+    private CatalogArticleRepository catalogArticleRepository;
+
+    @Mock
+    private CatalogSyncStateRepository syncStateRepository;
+
+    @Mock
+    private CatalogRefreshRepository refreshRepository;
+
+    @Mock
+    private ArticleCatalogClient articleCatalogClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private CatalogReadModelService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CatalogReadModelService(catalogArticleRepository, syncStateRepository, refreshRepository,
+                articleCatalogClient, transactionManager, true, 2, true, 60000);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("Should only record refresh requests when consuming an event")
+    void shouldRecordRefreshRequests() {
+        CatalogRefresh pending = CatalogRefresh.builder().articleId(1L).version(1).requestedAt(LocalDateTime.now()).build();
+        when(refreshRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(pending));
+
+        service.apply(ArticleEvent.builder().eventType("ARTICLES_REPRICED").articleIds(List.of(1L, 2L, 1L)).build());
+
+        assertThat(pending.getVersion()).isEqualTo(2);
+        ArgumentCaptor<CatalogRefresh> persisted = ArgumentCaptor.forClass(CatalogRefresh.class);
+        verify(entityManager).persist(persisted.capture());
+        assertThat(persisted.getValue().getArticleId()).isEqualTo(2L);
+        verifyNoInteractions(articleCatalogClient);
+    }
+
+    @Test
+    @DisplayName("Should apply a re-read only while its request is unchanged and mark vanished articles as deleted")
+    void shouldRefreshPendingArticles() {
+        CatalogArticle known = CatalogArticle.builder().id(1L).nomArticle("Ancien").pu(10.0).build();
+        when(refreshRepository.findAllByOrderByRequestedAtAsc(any())).thenReturn(List.of(
+                CatalogRefresh.builder().articleId(1L).version(1).build(),
+                CatalogRefresh.builder().articleId(2L).version(1).build(),
+                CatalogRefresh.builder().articleId(3L).version(4).build()));
+        when(articleCatalogClient.fetchByIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                CatalogArticleDTO.builder().id(1L).nomArticle("Béton C25/30").unite("m3").pu(12.5).build(),
+                CatalogArticleDTO.builder().id(3L).nomArticle("Lu trop tot").pu(1.0).build()));
+        when(refreshRepository.deleteIfUnchanged(anyLong(), anyLong())).thenReturn(1);
+        // Article 3 redemande pendant l'appel : une relecture plus recente suivra
+        when(refreshRepository.deleteIfUnchanged(3L, 4L)).thenReturn(0);
+        when(catalogArticleRepository.findById(1L)).thenReturn(Optional.of(known));
+        when(catalogArticleRepository.findAllById(any())).thenReturn(List.of());
+
+        service.refreshPending();
+
+        assertThat(known.getNomArticle()).isEqualTo("Béton C25/30");
+        assertThat(known.getPu()).isEqualTo(12.5);
+        ArgumentCaptor<CatalogArticle> persisted = ArgumentCaptor.forClass(CatalogArticle.class);
+        verify(entityManager).persist(persisted.capture());
+        assertThat(persisted.getValue().getId()).isEqualTo(2L);
+        assertThat(persisted.getValue().isDeleted()).isTrue();
+        verify(catalogArticleRepository, never()).findById(3L);
+    }
+
+    @Test
+    @DisplayName("Should copy only unknown articles from the snapshot and record completion")
+    void shouldBootstrapWithoutOverwritingEvents() {
+        when(syncStateRepository.findById(CatalogSyncState.SINGLETON_ID)).thenReturn(Optional.empty());
+        when(articleCatalogClient.fetchPage(0L, 2)).thenReturn(CatalogSnapshotPageDTO.builder()
+                .items(List.of(CatalogArticleDTO.builder().id(1L).build(), CatalogArticleDTO.builder().id(2L).build()))
+                .nextAfterId(2L)
+                .build());
+        when(articleCatalogClient.fetchPage(2L, 2)).thenReturn(CatalogSnapshotPageDTO.builder()
+                .items(List.of(CatalogArticleDTO.builder().id(3L).build()))
+                .build());
+        // Article 2 deja recu par le flux (ou supprime) : la photographie ne l'ecrase pas
+        when(catalogArticleRepository.findAllById(any())).thenReturn(List.of());
+        when(catalogArticleRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(CatalogArticle.builder().id(2L).deleted(true).build()));
+
+        service.bootstrapIfNeeded();
+        service.bootstrapIfNeeded();
+
+        ArgumentCaptor<CatalogArticle> persisted = ArgumentCaptor.forClass(CatalogArticle.class);
+        verify(entityManager, times(2)).persist(persisted.capture());
+        assertThat(persisted.getAllValues()).extracting(CatalogArticle::getId).containsExactly(1L, 3L);
+        ArgumentCaptor<CatalogSyncState> state = ArgumentCaptor.forClass(CatalogSyncState.class);
+        verify(syncStateRepository, times(2)).save(state.capture());
+        assertThat(state.getValue().getSnapshotAfterId()).isEqualTo(3L);
+        assertThat(state.getValue().getBootstrappedAt()).isNotNull();
+        verify(articleCatalogClient, times(2)).fetchPage(any(), anyInt());
+    }
+}
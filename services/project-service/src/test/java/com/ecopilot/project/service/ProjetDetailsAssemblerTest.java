@@ -0,0 +1,84 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.ProjetDTO;
+import com.ecopilot.project.dto.ProjetDetailsNormalizedDTO;
+import com.ecopilot.project.entity.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProjetDetailsAssembler Tests")
+class ProjetDetailsAssemblerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ProjetDetailsAssembler assembler;
+
+    // Un lot, un ouvrage : 2 lignes directes puis un bloc de 3 lignes, comme a l'import DPGF
+    @BeforeEach
+    void setUp() {
+        Projet projet = Projet.builder().id(1L).nomProjet("Projet").build();
+        ProjetLot lot = ProjetLot.builder().idProjetLot(10L).projet(projet).idLot(2).designationLot("Gros oeuvre").build();
+        Ouvrage ouvrage = Ouvrage.builder().id(100L).projetLot(lot).nomOuvrage("Fondations").build();
+        Structure direct = Structure.builder().idStructure(1000L).ouvrage(ouvrage).action("Imported from DPGF").build();
+        Bloc bloc = Bloc.builder().id(500L).ouvrage(ouvrage).nomBloc("Semelles").build();
+        Structure underBloc = Structure.builder().idStructure(1001L).ouvrage(ouvrage).bloc(bloc).action("bloc").build();
+        List<ProjetArticle> lines = new ArrayList<>();
+        for (long i = 0; i < 5; i++) {
+            lines.add(ProjetArticle.builder()
+                    .id(10_000L + i)
+                    .structure(i < 2 ? direct : underBloc)
+                    .designationArticle("Beton de proprete C16/20 ep. 5 cm")
+                    .uniteImport("m2")
+                    .quantite(12)
+                    .pu(18.5)
+                    .nouvPrix(18.5)
+                    .prixTotalHt(222.0)
+                    .totalTtc(222.0)
+                    .build());
+        }
+        assembler = new ProjetDetailsAssembler(List.of(lot), List.of(ouvrage), List.of(bloc),
+                List.of(direct, underBloc), lines);
+    }
+
+    @Test
+    @DisplayName("Should serialize each entity once with its parent reference")
+    void shouldNormalizeTree() throws Exception {
+        ProjetDetailsNormalizedDTO details = assembler.normalized(ProjetDTO.builder().id(1L).build());
+
+        assertThat(details.getLots()).containsOnlyKeys(10L);
+        assertThat(details.getOuvrages()).containsOnlyKeys(100L);
+        assertThat(details.getBlocs()).containsOnlyKeys(500L);
+        assertThat(details.getStructures()).containsOnlyKeys(1000L, 1001L);
+        assertThat(details.getArticles()).containsOnlyKeys(10_000L, 10_001L, 10_002L, 10_003L, 10_004L);
+        assertThat(details.getArticles().get(10_004L).getStructureId()).isEqualTo(1001L);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(details));
+        assertThat(json.path("project").has("lots")).isFalse();
+        assertThat(json.path("lots").path("10").has("ouvrages")).isFalse();
+        assertThat(json.path("ouvrages").path("100").path("projet_lot").asLong()).isEqualTo(10L);
+        assertThat(json.path("blocs").path("500").has("articles")).isFalse();
+        assertThat(json.path("structures").path("1001").path("bloc").asLong()).isEqualTo(500L);
+        assertThat(json.path("structures").path("1001").has("articles")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should be at most half the size of the nested form")
+    void shouldShrinkPayload() throws Exception {
+        String nested = objectMapper.writeValueAsString(assembler.nested(ProjetDTO.builder().id(1L).build()));
+        String normalized = objectMapper.writeValueAsString(assembler.normalized(ProjetDTO.builder().id(1L).build()));
+
+        // Ligne de bloc : sous l'ouvrage, sous le bloc de l'ouvrage et sous le bloc du lot
+        assertThat(nested.split("\"id\":10004,", -1)).hasSize(6);
+        assertThat(normalized.split("\"id\":10004,", -1)).hasSize(2);
+        assertThat(normalized.length()).isLessThanOrEqualTo(nested.length() / 2);
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecopilot.project.service;
+
+import com.ecopilot.project.dto.BlocDTO;
+import com.ecopilot.project.dto.OuvrageDTO;
+import com.ecopilot.project.dto.ProjetDetailsDTO;
+import com.ecopilot.project.dto.ProjetLotDTO;
+import com.ecopilot.project.entity.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("ProjetService details query count Tests")
+class ProjetDetailsQueryCountTest {
+
+    @Autowired
+    private ProjetService projetService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should load the whole project tree with one query per level, whatever its size")
+    void shouldLoadDetailsWithConstantQueryCount() {
+        Long small = createProjet(1, 1, 1);
+        Long large = createProjet(4, 6, 3);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        projetService.getProjetFullDetails(small);
+        long smallQueries = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+        ProjetDetailsDTO details = projetService.getProjetFullDetails(large);
+        long largeQueries = statistics.getPrepareStatementCount();
+
+        // Projet (client et equipe compris), lots, ouvrages, blocs, structures, lignes
+        assertThat(largeQueries).isEqualTo(6);
+        assertThat(smallQueries).isEqualTo(largeQueries);
+
+        assertThat(details.getProject().getTeamMembers()).containsExactly("user-1");
+        assertThat(details.getProject().getLots()).hasSize(4);
+        ProjetLotDTO lot = details.getProject().getLots().get(0);
+        assertThat(lot.getOuvrages()).hasSize(6);
+        assertThat(lot.getBlocs()).hasSize(6);
+        OuvrageDTO ouvrage = lot.getOuvrages().get(0);
+        assertThat(ouvrage.getStructures()).hasSize(1);
+        assertThat(ouvrage.getStructures().get(0).getArticles()).hasSize(3)
+                .allSatisfy(article -> assertThat(article.getStructureId()).isEqualTo(ouvrage.getStructures().get(0).getIdStructure()));
+        BlocDTO bloc = ouvrage.getBlocs().get(0);
+        assertThat(bloc.getStructures()).hasSize(1);
+        assertThat(bloc.getArticles()).hasSize(3).extracting("designationArticle").containsOnly("Ligne bloc");
+    }
+
+    // Par ouvrage : une structure directe et un bloc avec sa structure, chacune avec ses lignes
+    private Long createProjet(int lotCount, int ouvragesPerLot, int linesPerStructure) {
+        Client client = Client.builder().nomClient("Client").build();
+        entityManager.persist(client);
+        Projet projet = Projet.builder().nomProjet("Projet").client(client).build();
+        projet.getEquipe().add(ProjetEquipe.builder().projet(projet).equipe("user-1").build());
+        entityManager.persist(projet);
+        for (int l = 0; l < lotCount; l++) {
+            ProjetLot lot = ProjetLot.builder().projet(projet).idLot(l + 1).build();
+            entityManager.persist(lot);
+            for (int o = 0; o < ouvragesPerLot; o++) {
+                Ouvrage ouvrage = Ouvrage.builder().projetLot(lot).nomOuvrage("Ouvrage " + o).build();
+                entityManager.persist(ouvrage);
+                Structure direct = Structure.builder().ouvrage(ouvrage).build();
+                entityManager.persist(direct);
+                Bloc bloc = Bloc.builder().ouvrage(ouvrage).nomBloc("Bloc " + o).build();
+                entityManager.persist(bloc);
+                Structure underBloc = Structure.builder().bloc(bloc).build();
+                entityManager.persist(underBloc);
+                for (int i = 0; i < linesPerStructure; i++) {
+                    entityManager.persist(ProjetArticle.builder().structure(direct).designationArticle("Ligne").quantite(i).build());
+                    entityManager.persist(ProjetArticle.builder().structure(underBloc).designationArticle("Ligne bloc").quantite(i).build());
+                }
+            }
+        }
+        return projet.getId();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecopilot.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evenement Kafka ecrit dans la transaction metier, publie ensuite par OutboxRelay.
+ * {@code sentAt} reste null tant que le broker n'a pas acquitte l'envoi ; {@code parkedAt} est
+ * renseigne quand le relais l'ecarte (contenu illisible, tentatives epuisees).
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_sent_at_id", columnList = "sent_at, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    // Cle Kafka : l'ordre est garanti entre evenements de meme cle
+    @Column(name = "aggregate_key", nullable = false)
+    private String aggregateKey;
+
+    @Column(name = "event_type")
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // Ecarte du relais ; a remettre a null (et attempts a 0) pour le republier
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+}
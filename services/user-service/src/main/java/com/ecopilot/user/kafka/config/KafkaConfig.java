@@ -2,6 +2,7 @@ package com.ecopilot.user.kafka.config;
 
 import com.ecopilot.user.kafka.event.ProjectEvent;
 import com.ecopilot.user.kafka.event.UserEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -29,17 +30,20 @@ public class KafkaConfig {
 
     // Producer Configuration
     @Bean
-    public ProducerFactory<String, UserEvent> producerFactory() {
-        Map<String, Object> config = new HashMap<>();
+    public ProducerFactory<String, UserEvent> producerFactory(ProducerProfile producerProfile, MeterRegistry meterRegistry) {
+        Map<String, Object> config = new HashMap<>(producerProfile.properties());
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        return new DefaultKafkaProducerFactory<>(config);
+        DefaultKafkaProducerFactory<String, UserEvent> factory = new DefaultKafkaProducerFactory<>(config);
+        // Metriques natives du client (kafka.producer.*) : taille des lots, erreurs et buffer plein par topic
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, UserEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, UserEvent> kafkaTemplate(ProducerFactory<String, UserEvent> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 
     // Consumer Configuration
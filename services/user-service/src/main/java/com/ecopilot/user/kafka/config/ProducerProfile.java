@@ -0,0 +1,55 @@
+package com.ecopilot.user.kafka.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Profil producteur commun aux services (cles {@code ecopilot.kafka.producer.*} du config-repo) :
+ * envois regroupes et compresses, idempotents, et delai de livraison borne. Le delai de livraison
+ * reste inferieur a {@code outbox.relay.send-timeout-ms} : chaque envoi du relais est acquitte ou
+ * en echec avant que le relais n'abandonne le lot, sans doublon du a un acquittement tardif.
+ */
+@Component
+public class ProducerProfile {
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+    private final long maxBlockMs;
+    private final int requestTimeoutMs;
+    private final int deliveryTimeoutMs;
+
+    public ProducerProfile(@Value("${ecopilot.kafka.producer.linger-ms:20}") int lingerMs,
+                           @Value("${ecopilot.kafka.producer.batch-size:65536}") int batchSize,
+                           @Value("${ecopilot.kafka.producer.compression-type:lz4}") String compressionType,
+                           @Value("${ecopilot.kafka.producer.max-block-ms:5000}") long maxBlockMs,
+                           @Value("${ecopilot.kafka.producer.request-timeout-ms:10000}") int requestTimeoutMs,
+                           @Value("${ecopilot.kafka.producer.delivery-timeout-ms:15000}") int deliveryTimeoutMs) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+        this.maxBlockMs = maxBlockMs;
+        this.requestTimeoutMs = requestTimeoutMs;
+        // Kafka refuse un delai de livraison inferieur a linger.ms + request.timeout.ms
+        this.deliveryTimeoutMs = Math.max(deliveryTimeoutMs, lingerMs + requestTimeoutMs);
+    }
+
+    public Map<String, Object> properties() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        // Idempotence : jusqu'a 5 requetes en vol sans perdre l'ordre par partition
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        config.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, requestTimeoutMs);
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+        return config;
+    }
+}
@@ -0,0 +1,220 @@
+package com.ecopilot.user.kafka.outbox;
+
+import com.ecopilot.user.entity.OutboxEvent;
+import com.ecopilot.user.kafka.event.UserEvent;
+import com.ecopilot.user.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publication en arriere-plan des evenements de la table outbox, par lots dans l'ordre d'ecriture.
+ * Les evenements d'une meme cle partent l'un apres l'autre ; le premier echec arrete la cle pour ce
+ * passage (les suivants attendent, l'ordre est conserve) sans bloquer les autres cles. Un evenement
+ * n'est marque envoye qu'apres acquittement du broker : livraison au moins une fois, les
+ * consommateurs doivent tolerer un doublon.
+ *
+ * <p>Un evenement qui ne peut pas partir est ecarte ({@code parked_at}) pour ne pas bloquer sa cle
+ * ni, en tete de file, tout le relais : aussitot si son contenu est illisible, apres
+ * {@code outbox.relay.max-attempts} echecs sinon. Les echecs d'un passage ou le broker etait
+ * injoignable ne comptent pas. Les evenements suivants de sa cle partent sans lui.
+ *
+ * <p>Metriques : {@code outbox.pending} (evenements en attente), {@code outbox.parked} (evenements
+ * ecartes), {@code outbox.relay.batch} (taille des lots) et {@code outbox.relay.send} (latence
+ * jusqu'a l'acquittement, par topic et resultat).
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, UserEvent> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSizes;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, UserEvent> kafkaTemplate,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.send-timeout-ms:20000}") long sendTimeoutMs,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch")
+                .description("Events read per relay batch")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", outboxEventRepository, OutboxEventRepository::countBySentAtIsNullAndParkedAtIsNull)
+                .description("Outbox events not yet acknowledged by Kafka")
+                .register(meterRegistry);
+        Gauge.builder("outbox.parked", outboxEventRepository, OutboxEventRepository::countByParkedAtIsNotNull)
+                .description("Outbox events set aside by the relay after an unrecoverable failure")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void drain() {
+        // Enchaine les lots tant qu'ils sont pleins et entierement publies
+        Integer sent;
+        do {
+            sent = transactionTemplate.execute(status -> relayBatch());
+        } while (sent != null && sent == batchSize);
+    }
+
+    /**
+     * Publie un lot dans la transaction courante (lignes verrouillees jusqu'au commit).
+     *
+     * @return le nombre d'evenements acquittes
+     */
+    int relayBatch() {
+        List<OutboxEvent> rows = outboxEventRepository.findUnsentForUpdate(batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        batchSizes.record(rows.size());
+        Map<Long, UserEvent> events = new HashMap<>();
+        Map<String, List<OutboxEvent>> byKey = new LinkedHashMap<>();
+        for (OutboxEvent row : rows) {
+            try {
+                events.put(row.getId(), objectMapper.readValue(row.getPayload(), UserEvent.class));
+            } catch (Exception e) {
+                // Ne partira jamais : ecarte tout de suite
+                outboxEventRepository.park(row.getId(), truncate("Unreadable payload: " + e.getMessage()), LocalDateTime.now());
+                log.error("Outbox relay: event {} parked, unreadable payload: {}", row.getId(), e.getMessage());
+                continue;
+            }
+            byKey.computeIfAbsent(row.getAggregateKey(), key -> new ArrayList<>()).add(row);
+        }
+
+        Set<Long> sent = ConcurrentHashMap.newKeySet();
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+        AtomicBoolean brokerDown = new AtomicBoolean();
+        List<CompletableFuture<Void>> chains = new ArrayList<>(byKey.size());
+        for (List<OutboxEvent> keyRows : byKey.values()) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (OutboxEvent row : keyRows) {
+                // Hors du thread d'E/S du producteur, qui complete les envois precedents
+                chain = chain.thenComposeAsync(previous -> send(row, events.get(row.getId()), sent, failures, brokerDown));
+            }
+            chains.add(chain);
+        }
+        try {
+            CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new)).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Echecs deja releves ligne par ligne
+        } catch (TimeoutException e) {
+            log.warn("Outbox relay: broker did not acknowledge {} events within {} ms, retrying later",
+                    rows.size() - sent.size(), sendTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Photographie : un acquittement tardif ne change plus ce lot, l'evenement repartira
+        List<Long> acknowledged = new ArrayList<>(sent);
+        if (!acknowledged.isEmpty()) {
+            outboxEventRepository.markSent(acknowledged, LocalDateTime.now());
+        }
+        int attempt = brokerDown.get() ? 0 : 1;
+        failures.forEach((id, error) -> outboxEventRepository.markFailed(id, error, attempt));
+        if (!failures.isEmpty()) {
+            log.warn("Outbox relay: {} of {} events not published, first error: {}",
+                    rows.size() - acknowledged.size(), rows.size(), failures.values().iterator().next());
+            int parked = attempt > 0 ? outboxEventRepository.parkExhausted(failures.keySet(), maxAttempts, LocalDateTime.now()) : 0;
+            if (parked > 0) {
+                log.error("Outbox relay: {} events parked after {} failed attempts", parked, maxAttempts);
+            }
+        }
+        return acknowledged.size();
+    }
+
+    private CompletableFuture<Void> send(OutboxEvent row, UserEvent event, Set<Long> sent, Map<Long, String> failures,
+                                         AtomicBoolean brokerDown) {
+        if (brokerDown.get()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Kafka unavailable"));
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return kafkaTemplate.send(row.getTopic(), row.getAggregateKey(), event)
+                    .handle((result, error) -> {
+                        sample.stop(sendTimer(row.getTopic(), error == null ? "success" : "failure"));
+                        if (error != null) {
+                            if (NestedExceptionUtils.getMostSpecificCause(error) instanceof org.apache.kafka.common.errors.TimeoutException) {
+                                brokerDown.set(true);
+                            }
+                            failures.put(row.getId(), truncate(error.getMessage()));
+                            throw new IllegalStateException(error);
+                        }
+                        sent.add(row.getId());
+                        return null;
+                    });
+        } catch (Exception e) {
+            // Echec immediat (metadonnees introuvables) : inutile d'essayer les autres cles
+            brokerDown.set(true);
+            sample.stop(sendTimer(row.getTopic(), "failure"));
+            failures.put(row.getId(), truncate(e.getMessage()));
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 15 * * * *}")
+    public void purge() {
+        int deleted = outboxEventRepository.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Outbox purge: {} published events older than {} days deleted", deleted, retentionDays);
+        }
+    }
+
+    private Timer sendTimer(String topic, String result) {
+        return Timer.builder("outbox.relay.send")
+                .description("Time from relay send to broker acknowledgement")
+                .tag("topic", topic)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String truncate(String message) {
+        String text = String.valueOf(message);
+        return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+    }
+}
@@ -1,19 +1,23 @@
 package com.ecopilot.user.kafka.producer;
 
 import com.ecopilot.user.kafka.event.UserEvent;
+import com.ecopilot.user.kafka.outbox.EventOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
+/**
+ * Evenements des utilisateurs, ecrits dans la table outbox de la transaction en cours ;
+ * OutboxRelay les publie sur Kafka apres le commit.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserEventProducer {
 
-    private final KafkaTemplate<String, UserEvent> kafkaTemplate;
+    private final EventOutbox eventOutbox;
     private static final String USER_EVENTS_TOPIC = "user.events";
 
     public void sendUserCreatedEvent(Long userId, String email, String nomUtilisateur, String titrePoste, String keycloakId) {
@@ -58,10 +62,6 @@ public class UserEventProducer {
     }
 
     private void sendEvent(UserEvent event) {
-        try {
-            kafkaTemplate.send(USER_EVENTS_TOPIC, event.getUserId().toString(), event);
-        } catch (Exception e) {
-            log.error("Failed to send user event: {}", event, e);
-        }
+        eventOutbox.append(USER_EVENTS_TOPIC, String.valueOf(event.getUserId()), event.getEventType(), event);
     }
 }
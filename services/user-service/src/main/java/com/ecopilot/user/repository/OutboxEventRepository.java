@@ -0,0 +1,57 @@
+package com.ecopilot.user.repository;
+
+import com.ecopilot.user.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Plus anciens evenements non publies et non ecartes, verrouilles : deux relais (plusieurs
+     * instances) publient l'un apres l'autre, jamais le meme evenement ni dans le desordre.
+     */
+    @Query(value = "SELECT * FROM outbox_events WHERE sent_at IS NULL AND parked_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<OutboxEvent> findUnsentForUpdate(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.sentAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Echec d'envoi ; {@code attempt} vaut 0 quand le broker etait injoignable (l'evenement n'y est pour rien).
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + :attempt, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("attempt") int attempt);
+
+    /**
+     * Ecarte du relais les evenements de {@code ids} qui ont epuise leurs tentatives.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.parkedAt = :parkedAt WHERE e.id IN :ids AND e.attempts >= :maxAttempts")
+    int parkExhausted(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts,
+                      @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.parkedAt = :parkedAt WHERE e.id = :id")
+    int park(@Param("id") Long id, @Param("error") String error, @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent e WHERE e.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+
+    long countBySentAtIsNullAndParkedAtIsNull();
+
+    long countByParkedAtIsNotNull();
+}
@@ -18,6 +18,7 @@ import org.keycloak.admin.client.CreatedResponseUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
 import java.util.Map;
@@ -81,6 +82,8 @@ public class AuthService {
     }
 
     // ================= SIGNUP =================
+    // Utilisateur local et evenement USER_CREATED valides ensemble
+    @Transactional
     public UserDTO signup(SignupRequest request) {
         log.info("Starting signup process for: {}", request.getEmail());
 